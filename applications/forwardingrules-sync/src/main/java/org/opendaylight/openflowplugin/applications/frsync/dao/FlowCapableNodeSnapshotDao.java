@@ -7,30 +7,218 @@
  */
 package org.opendaylight.openflowplugin.applications.frsync.dao;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.mdsal.binding.api.DataObjectModification.ModificationType;
+import org.opendaylight.openflowplugin.applications.frsync.util.FlowCapableNodeDelta;
+import org.opendaylight.openflowplugin.applications.frsync.util.FlowCapableNodeLookups;
+import org.opendaylight.openflowplugin.applications.frsync.util.FlowDescriptor;
+import org.opendaylight.openflowplugin.applications.frsync.util.ReconcileUtil;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.meters.Meter;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.Group;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.meter.types.rev130918.MeterId;
 
 /**
- * Adding cache to data access object of {@link FlowCapableNode}.
+ * Adding cache to data access object of {@link FlowCapableNode}. Along with each cached node, an index of its flows,
+ * groups and meters is kept, which is built on first use and shared by all synchronizations of the same snapshot.
+ * Once built, the index is maintained incrementally by applying subtree modifications of the node.
  */
 public class FlowCapableNodeSnapshotDao implements FlowCapableNodeDao {
 
-    private final ConcurrentHashMap<String, FlowCapableNode> cache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Snapshot> cache = new ConcurrentHashMap<>();
 
     public void updateCache(@Nonnull NodeId nodeId, Optional<FlowCapableNode> dataAfter) {
         if (dataAfter.isPresent()) {
-            cache.put(nodeId.getValue(), dataAfter.get());
+            cache.put(nodeId.getValue(), new Snapshot(dataAfter.get(), null));
         } else {
             cache.remove(nodeId.getValue());
         }
     }
 
+    /**
+     * Updates cache with a modified node. Changes of a subtree modification are applied to the index of the previous
+     * snapshot, if it was built already, instead of indexing the whole node again. Modifications of a node have to be
+     * applied in the order they were done.
+     *
+     * @param nodeId       target node
+     * @param dataAfter    node after the modification
+     * @param modification modification of the node, if known
+     * @return items changed by the modification, or empty if the node was written or deleted as a whole,
+     *         or its previous snapshot is not cached
+     */
+    public Optional<FlowCapableNodeDelta> applyModification(
+            @Nonnull NodeId nodeId, @Nullable FlowCapableNode dataAfter,
+            @Nullable DataObjectModification<FlowCapableNode> modification) {
+        if (dataAfter == null) {
+            cache.remove(nodeId.getValue());
+            return Optional.empty();
+        }
+
+        final Snapshot previous = cache.get(nodeId.getValue());
+        if (previous == null || modification == null
+                || modification.getModificationType() != ModificationType.SUBTREE_MODIFIED) {
+            cache.put(nodeId.getValue(), new Snapshot(dataAfter, null));
+            return Optional.empty();
+        }
+
+        final FlowCapableNodeDelta delta = FlowCapableNodeDelta.create(modification);
+        final NodeIndex previousIndex = previous.index;
+        final NodeIndex index = previousIndex != null ? previousIndex.apply(delta) : null;
+        cache.put(nodeId.getValue(), new Snapshot(dataAfter, index));
+        return Optional.of(delta);
+    }
+
     @Override
     public Optional<FlowCapableNode> loadByNodeId(@Nonnull NodeId nodeId) {
-        final FlowCapableNode node = cache.get(nodeId.getValue());
-        return Optional.ofNullable(node);
+        final Snapshot snapshot = cache.get(nodeId.getValue());
+        return Optional.ofNullable(snapshot != null ? snapshot.node : null);
+    }
+
+    /**
+     * Loads flows of a cached node indexed by table ID and {@link FlowDescriptor}.
+     *
+     * @param nodeId target node
+     * @param node node the index is requested for
+     * @return flow index, or empty if the given node is not the cached snapshot of the node
+     */
+    public Optional<Map<Short, Map<FlowDescriptor, Flow>>> loadFlowIndex(@Nonnull NodeId nodeId,
+                                                                          @Nonnull FlowCapableNode node) {
+        return loadIndex(nodeId, node).map(index -> index.flows);
+    }
+
+    /**
+     * Loads groups of a cached node indexed by group ID.
+     *
+     * @param nodeId target node
+     * @param node node the index is requested for
+     * @return group index, or empty if the given node is not the cached snapshot of the node
+     */
+    public Optional<Map<Long, Group>> loadGroupIndex(@Nonnull NodeId nodeId, @Nonnull FlowCapableNode node) {
+        return loadIndex(nodeId, node).map(index -> index.groups);
+    }
+
+    /**
+     * Loads meters of a cached node indexed by meter ID.
+     *
+     * @param nodeId target node
+     * @param node node the index is requested for
+     * @return meter index, or empty if the given node is not the cached snapshot of the node
+     */
+    public Optional<Map<MeterId, Meter>> loadMeterIndex(@Nonnull NodeId nodeId, @Nonnull FlowCapableNode node) {
+        return loadIndex(nodeId, node).map(index -> index.meters);
+    }
+
+    private Optional<NodeIndex> loadIndex(final NodeId nodeId, final FlowCapableNode node) {
+        final Snapshot snapshot = cache.get(nodeId.getValue());
+        return snapshot != null && snapshot.node == node ? Optional.of(snapshot.getIndex()) : Optional.empty();
+    }
+
+    private static final class Snapshot {
+        private final FlowCapableNode node;
+        private volatile NodeIndex index;
+
+        Snapshot(final FlowCapableNode node, @Nullable final NodeIndex index) {
+            this.node = node;
+            this.index = index;
+        }
+
+        NodeIndex getIndex() {
+            NodeIndex result = index;
+            if (result == null) {
+                synchronized (this) {
+                    result = index;
+                    if (result == null) {
+                        result = NodeIndex.of(node);
+                        index = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Read-only index of a node. Applying changes copies only the maps holding changed items.
+     */
+    private static final class NodeIndex {
+        private final Map<Short, Map<FlowDescriptor, Flow>> flows;
+        private final Map<Long, Group> groups;
+        private final Map<MeterId, Meter> meters;
+
+        private NodeIndex(final Map<Short, Map<FlowDescriptor, Flow>> flows, final Map<Long, Group> groups,
+                          final Map<MeterId, Meter> meters) {
+            this.flows = flows;
+            this.groups = groups;
+            this.meters = meters;
+        }
+
+        static NodeIndex of(final FlowCapableNode node) {
+            return new NodeIndex(FlowCapableNodeLookups.wrapFlowsToTableMap(ReconcileUtil.safeTables(node)),
+                    FlowCapableNodeLookups.wrapGroupsToMap(ReconcileUtil.safeGroups(node)),
+                    FlowCapableNodeLookups.wrapMetersToMap(ReconcileUtil.safeMeters(node)));
+        }
+
+        NodeIndex apply(final FlowCapableNodeDelta delta) {
+            Map<Short, Map<FlowDescriptor, Flow>> newFlows = flows;
+            if (!delta.getFlows().isEmpty()) {
+                newFlows = new HashMap<>(flows);
+                final Map<Short, Map<FlowDescriptor, Flow>> copiedTables = new HashMap<>();
+                for (final Map.Entry<FlowDescriptor, FlowCapableNodeDelta.Change<Flow>> entry
+                        : delta.getFlows().entrySet()) {
+                    final Map<FlowDescriptor, Flow> tableFlows = copiedTables.computeIfAbsent(
+                            entry.getKey().getTableId(),
+                            tableId -> new HashMap<>(flows.getOrDefault(tableId, Collections.emptyMap())));
+                    final FlowCapableNodeDelta.Change<Flow> change = entry.getValue();
+                    final Flow before = change.getBefore();
+                    if (before != null) {
+                        // Evict the indexed flow only if it is the one removed from the table
+                        final FlowDescriptor beforeDescriptor = new FlowDescriptor(before);
+                        final Flow indexed = tableFlows.get(beforeDescriptor);
+                        if (indexed != null && Objects.equals(indexed.getId(), before.getId())) {
+                            tableFlows.remove(beforeDescriptor);
+                        }
+                    }
+                    if (change.getAfter() != null) {
+                        tableFlows.put(new FlowDescriptor(change.getAfter()), change.getAfter());
+                    }
+                }
+                newFlows.putAll(copiedTables);
+            }
+
+            Map<Long, Group> newGroups = groups;
+            if (!delta.getGroups().isEmpty()) {
+                newGroups = new HashMap<>(groups);
+                applyChanges(newGroups, delta.getGroups());
+            }
+
+            Map<MeterId, Meter> newMeters = meters;
+            if (!delta.getMeters().isEmpty()) {
+                newMeters = new HashMap<>(meters);
+                applyChanges(newMeters, delta.getMeters());
+            }
+
+            return new NodeIndex(newFlows, newGroups, newMeters);
+        }
+
+        private static <K, T> void applyChanges(final Map<K, T> map,
+                                                final Map<K, FlowCapableNodeDelta.Change<T>> changes) {
+            changes.forEach((key, change) -> {
+                if (change.getAfter() != null) {
+                    map.put(key, change.getAfter());
+                } else {
+                    map.remove(key);
+                }
+            });
+        }
     }
 }
@@ -11,12 +11,14 @@ import com.google.common.util.concurrent.ListenableFuture;
 import java.util.Collection;
 import java.util.Optional;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.DataObjectModification;
 import org.opendaylight.mdsal.binding.api.DataTreeModification;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.openflowplugin.applications.frsync.SyncReactor;
 import org.opendaylight.openflowplugin.applications.frsync.dao.FlowCapableNodeDao;
 import org.opendaylight.openflowplugin.applications.frsync.dao.FlowCapableNodeSnapshotDao;
+import org.opendaylight.openflowplugin.applications.frsync.util.FlowCapableNodeDelta;
 import org.opendaylight.openflowplugin.applications.frsync.util.PathUtil;
 import org.opendaylight.openflowplugin.applications.frsync.util.SyncupEntry;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
@@ -58,7 +60,11 @@ public class SimplifiedConfigListener extends AbstractFrmSyncListener<FlowCapabl
         final InstanceIdentifier<FlowCapableNode> nodePath = modification.getRootPath().getRootIdentifier();
         final NodeId nodeId = PathUtil.digNodeId(nodePath);
 
-        configSnapshot.updateCache(nodeId, Optional.ofNullable(modification.getRootNode().getDataAfter()));
+        final DataObjectModification<FlowCapableNode> configModification = modification.getRootNode();
+        final FlowCapableNode dataBefore = configModification.getDataBefore();
+        final FlowCapableNode dataAfter = configModification.getDataAfter();
+        final Optional<FlowCapableNodeDelta> delta =
+                configSnapshot.applyModification(nodeId, dataAfter, configModification);
 
         final Optional<FlowCapableNode> operationalNode = operationalDao.loadByNodeId(nodeId);
         if (!operationalNode.isPresent()) {
@@ -66,16 +72,13 @@ public class SimplifiedConfigListener extends AbstractFrmSyncListener<FlowCapabl
             return Optional.empty();
         }
 
-        final DataObjectModification<FlowCapableNode> configModification = modification.getRootNode();
-        final FlowCapableNode dataBefore = configModification.getDataBefore();
-        final FlowCapableNode dataAfter = configModification.getDataAfter();
         final ListenableFuture<Boolean> endResult;
         if (dataBefore == null && dataAfter != null) {
             endResult = onNodeAdded(nodePath, dataAfter, operationalNode.get());
         } else if (dataBefore != null && dataAfter == null) {
             endResult = onNodeDeleted(nodePath, dataBefore);
         } else {
-            endResult = onNodeUpdated(nodePath, dataBefore, dataAfter);
+            endResult = onNodeUpdated(nodePath, dataBefore, dataAfter, delta.orElse(null));
         }
 
         return Optional.of(endResult);
@@ -99,12 +102,14 @@ public class SimplifiedConfigListener extends AbstractFrmSyncListener<FlowCapabl
      * after+before. Config listener should not be dependent on operational flows/groups/meters while
      * updating config because operational store is highly async and it depends on another module in
      * system which is updating operational store (that components is also trying to solve
-     * scale/performance issues on several layers).
+     * scale/performance issues on several layers). If items changed by the modification are known, only they are
+     * compared.
      */
     private ListenableFuture<Boolean> onNodeUpdated(final InstanceIdentifier<FlowCapableNode> nodePath,
                                                     final FlowCapableNode dataBefore,
-                                                    final FlowCapableNode dataAfter) {
-        final SyncupEntry syncupEntry = new SyncupEntry(dataAfter, dsType(), dataBefore, dsType());
+                                                    final FlowCapableNode dataAfter,
+                                                    @Nullable final FlowCapableNodeDelta delta) {
+        final SyncupEntry syncupEntry = new SyncupEntry(dataAfter, dsType(), dataBefore, dsType(), delta);
         return reactor.syncup(nodePath, syncupEntry);
     }
 
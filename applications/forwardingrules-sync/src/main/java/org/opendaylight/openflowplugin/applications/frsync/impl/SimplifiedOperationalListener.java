@@ -84,8 +84,9 @@ public class SimplifiedOperationalListener extends AbstractFrmSyncListener<Node>
             deviceMastershipManager.onDeviceDisconnected(nodeId);
             result = skipModification(modification);
         } else {
-            operationalSnapshot.updateCache(nodeId, Optional.ofNullable(
-                    ModificationUtil.flowCapableNodeAfter(modification)));
+            // Changes only maintain the snapshot index, reconciliation always compares whole nodes
+            operationalSnapshot.applyModification(nodeId, ModificationUtil.flowCapableNodeAfter(modification),
+                    nodeModification.getModifiedAugmentation(FlowCapableNode.class));
 
             final boolean isAdd = isAdd(nodeModification) || isAddLogical(nodeModification);
 
@@ -15,6 +15,7 @@ import java.util.Map;
 import java.util.concurrent.Semaphore;
 import org.opendaylight.openflowplugin.applications.frsync.SemaphoreKeeper;
 import org.opendaylight.openflowplugin.applications.frsync.SyncReactor;
+import org.opendaylight.openflowplugin.applications.frsync.util.FlowCapableNodeDelta;
 import org.opendaylight.openflowplugin.applications.frsync.util.SemaphoreKeeperGuavaImpl;
 import org.opendaylight.openflowplugin.applications.frsync.util.SyncupEntry;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
@@ -84,8 +85,11 @@ public class SyncReactorFutureZipDecorator extends SyncReactorFutureDecorator {
     private void updateOptimizedConfigDelta(final InstanceIdentifier<FlowCapableNode> flowcapableNodePath,
                                             final SyncupEntry actual,
                                             final SyncupEntry previous) {
+        final FlowCapableNodeDelta delta = actual.getDelta() != null && previous.getDelta() != null
+                ? FlowCapableNodeDelta.merge(previous.getDelta(), actual.getDelta())
+                : null;
         final SyncupEntry updatedEntry = new SyncupEntry(actual.getAfter(), actual.getDsTypeAfter(),
-                                                         previous.getBefore(), previous.getDsTypeBefore());
+                                                         previous.getBefore(), previous.getDsTypeBefore(), delta);
         compressionQueue.put(flowcapableNodePath, updatedEntry);
     }
 
@@ -18,15 +18,22 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import org.opendaylight.openflowplugin.applications.frsync.SyncPlanPushStrategy;
 import org.opendaylight.openflowplugin.applications.frsync.SyncReactor;
+import org.opendaylight.openflowplugin.applications.frsync.dao.FlowCapableNodeSnapshotDao;
 import org.opendaylight.openflowplugin.applications.frsync.impl.strategy.SynchronizationDiffInput;
 import org.opendaylight.openflowplugin.applications.frsync.util.CrudCounts;
+import org.opendaylight.openflowplugin.applications.frsync.util.FlowCapableNodeDelta;
 import org.opendaylight.openflowplugin.applications.frsync.util.FlowCapableNodeLookups;
+import org.opendaylight.openflowplugin.applications.frsync.util.FlowDescriptor;
 import org.opendaylight.openflowplugin.applications.frsync.util.ItemSyncBox;
 import org.opendaylight.openflowplugin.applications.frsync.util.PathUtil;
 import org.opendaylight.openflowplugin.applications.frsync.util.ReconcileUtil;
 import org.opendaylight.openflowplugin.applications.frsync.util.SyncCrudCounters;
+import org.opendaylight.openflowplugin.applications.frsync.util.SyncCrudCounters.SyncPhase;
 import org.opendaylight.openflowplugin.applications.frsync.util.SyncupEntry;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.meters.Meter;
@@ -49,9 +56,26 @@ public class SyncReactorImpl implements SyncReactor {
 
     private static final Logger LOG = LoggerFactory.getLogger(SyncReactorImpl.class);
     private final SyncPlanPushStrategy syncPlanPushStrategy;
+    private final FlowCapableNodeSnapshotDao configSnapshot;
+    private final FlowCapableNodeSnapshotDao operationalSnapshot;
 
     public SyncReactorImpl(final SyncPlanPushStrategy syncPlanPushStrategy) {
+        this(syncPlanPushStrategy, null, null);
+    }
+
+    /**
+     * Creates reactor which reuses flow indexes of node snapshots, when synchronizing the snapshot.
+     *
+     * @param syncPlanPushStrategy execution strategy
+     * @param configSnapshot snapshots of configured nodes
+     * @param operationalSnapshot snapshots of operational nodes
+     */
+    public SyncReactorImpl(final SyncPlanPushStrategy syncPlanPushStrategy,
+                           @Nullable final FlowCapableNodeSnapshotDao configSnapshot,
+                           @Nullable final FlowCapableNodeSnapshotDao operationalSnapshot) {
         this.syncPlanPushStrategy = Preconditions.checkNotNull(syncPlanPushStrategy, "execution strategy is mandatory");
+        this.configSnapshot = configSnapshot;
+        this.operationalSnapshot = operationalSnapshot;
     }
 
     @Override
@@ -74,16 +98,33 @@ public class SyncReactorImpl implements SyncReactor {
          *  - flows - meters - groups (reordered)
          **/
 
-        final List<ItemSyncBox<Group>> groupsToAddOrUpdate =
-                extractGroupsToAddOrUpdate(nodeId, configTree, operationalTree);
-        final ItemSyncBox<Meter> metersToAddOrUpdate = extractMetersToAddOrUpdate(nodeId, configTree, operationalTree);
-        final Map<TableKey, ItemSyncBox<Flow>> flowsToAddOrUpdate =
-                extractFlowsToAddOrUpdate(nodeId, configTree, operationalTree);
+        // Items not changed by a config delta are the same before and after, so only the changed items are compared
+        final FlowCapableNodeDelta delta = syncupEntry.getDelta();
+        final FlowCapableNode configItems = delta != null ? delta.buildAfter() : configTree;
+        final FlowCapableNode operationalItems = delta != null ? delta.buildBefore() : operationalTree;
+        if (delta != null) {
+            LOG.debug("Syncup {} limited to {} changed items", nodeId.getValue(), delta.size());
+        }
+
+        long phaseStart = System.nanoTime();
+        // Group preconditions are checked against all groups, not only the changed ones
+        final List<ItemSyncBox<Group>> groupsToAddOrUpdate = extractGroupsToAddOrUpdate(nodeId,
+                ReconcileUtil.safeGroups(configItems), loadGroupIndex(operationalSnapshot, nodeId, operationalTree));
+        final List<ItemSyncBox<Group>> groupsToRemove = extractGroupsToRemove(nodeId,
+                loadGroupIndex(configSnapshot, nodeId, configTree), ReconcileUtil.safeGroups(operationalItems));
+        phaseStart = finishPhase(counters, SyncPhase.GROUP_DIFF, phaseStart);
 
-        final Map<TableKey, ItemSyncBox<Flow>> flowsToRemove =
-                extractFlowsToRemove(nodeId, configTree, operationalTree);
-        final ItemSyncBox<Meter> metersToRemove = extractMetersToRemove(nodeId, configTree, operationalTree);
-        final List<ItemSyncBox<Group>> groupsToRemove = extractGroupsToRemove(nodeId, configTree, operationalTree);
+        final ItemSyncBox<Meter> metersToAddOrUpdate = extractMetersToAddOrUpdate(nodeId,
+                ReconcileUtil.safeMeters(configItems), loadMeterIndex(operationalSnapshot, nodeId, operationalItems));
+        final ItemSyncBox<Meter> metersToRemove = extractMetersToRemove(nodeId,
+                loadMeterIndex(configSnapshot, nodeId, configItems), ReconcileUtil.safeMeters(operationalItems));
+        phaseStart = finishPhase(counters, SyncPhase.METER_DIFF, phaseStart);
+
+        final Map<TableKey, ItemSyncBox<Flow>> flowsToAddOrUpdate = extractFlowsToAddOrUpdate(nodeId, configItems,
+                operationalItems, loadFlowIndex(operationalSnapshot, nodeId, operationalItems));
+        final Map<TableKey, ItemSyncBox<Flow>> flowsToRemove = extractFlowsToRemove(nodeId, configItems,
+                operationalItems, loadFlowIndex(configSnapshot, nodeId, configItems));
+        final long pushStart = finishPhase(counters, SyncPhase.FLOW_DIFF, phaseStart);
 
         final SynchronizationDiffInput input = new SynchronizationDiffInput(nodeIdent,
                 groupsToAddOrUpdate, metersToAddOrUpdate, flowsToAddOrUpdate,
@@ -97,6 +138,7 @@ public class SyncReactorImpl implements SyncReactor {
             if (input1 == null) {
                 return false;
             }
+            finishPhase(counters, SyncPhase.PUSH, pushStart);
             if (LOG.isDebugEnabled()) {
                 final CrudCounts flowCrudCounts = counters.getFlowCrudCounts();
                 final CrudCounts meterCrudCounts = counters.getMeterCrudCounts();
@@ -108,18 +150,63 @@ public class SyncReactorImpl implements SyncReactor {
                         groupCrudCounts.getAdded(), groupCrudCounts.getUpdated(), groupCrudCounts.getRemoved(),
                         meterCrudCounts.getAdded(), meterCrudCounts.getUpdated(), meterCrudCounts.getRemoved(),
                         Arrays.toString(input1.getErrors().toArray()));
+                LOG.debug("Syncup phases[{}] (ms): group-diff={}, meter-diff={}, flow-diff={}, push={}",
+                        nodeId.getValue(),
+                        TimeUnit.NANOSECONDS.toMillis(counters.getPhaseTime(SyncPhase.GROUP_DIFF)),
+                        TimeUnit.NANOSECONDS.toMillis(counters.getPhaseTime(SyncPhase.METER_DIFF)),
+                        TimeUnit.NANOSECONDS.toMillis(counters.getPhaseTime(SyncPhase.FLOW_DIFF)),
+                        TimeUnit.NANOSECONDS.toMillis(counters.getPhaseTime(SyncPhase.PUSH)));
             }
             return input1.isSuccessful();
         }, MoreExecutors.directExecutor());
     }
 
+    private static long finishPhase(final SyncCrudCounters counters, final SyncPhase phase, final long phaseStart) {
+        final long now = System.nanoTime();
+        counters.addPhaseTime(phase, now - phaseStart);
+        return now;
+    }
+
+    @Nullable
+    private static Map<Short, Map<FlowDescriptor, Flow>> loadFlowIndex(
+            @Nullable final FlowCapableNodeSnapshotDao snapshot, final NodeId nodeId,
+            @Nullable final FlowCapableNode flowCapableNode) {
+        if (snapshot == null || flowCapableNode == null) {
+            return null;
+        }
+
+        return snapshot.loadFlowIndex(nodeId, flowCapableNode).orElse(null);
+    }
+
+    private static Map<Long, Group> loadGroupIndex(@Nullable final FlowCapableNodeSnapshotDao snapshot,
+                                                   final NodeId nodeId,
+                                                   @Nullable final FlowCapableNode flowCapableNode) {
+        if (snapshot != null && flowCapableNode != null) {
+            final Optional<Map<Long, Group>> groupIndex = snapshot.loadGroupIndex(nodeId, flowCapableNode);
+            if (groupIndex.isPresent()) {
+                return groupIndex.get();
+            }
+        }
+
+        return FlowCapableNodeLookups.wrapGroupsToMap(ReconcileUtil.safeGroups(flowCapableNode));
+    }
+
+    private static Map<MeterId, Meter> loadMeterIndex(@Nullable final FlowCapableNodeSnapshotDao snapshot,
+                                                      final NodeId nodeId,
+                                                      @Nullable final FlowCapableNode flowCapableNode) {
+        if (snapshot != null && flowCapableNode != null) {
+            final Optional<Map<MeterId, Meter>> meterIndex = snapshot.loadMeterIndex(nodeId, flowCapableNode);
+            if (meterIndex.isPresent()) {
+                return meterIndex.get();
+            }
+        }
+
+        return FlowCapableNodeLookups.wrapMetersToMap(ReconcileUtil.safeMeters(flowCapableNode));
+    }
+
     @VisibleForTesting
     private static List<ItemSyncBox<Group>> extractGroupsToAddOrUpdate(final NodeId nodeId,
-            final FlowCapableNode flowCapableNodeConfigured, final FlowCapableNode flowCapableNodeOperational) {
-        final List<Group> groupsConfigured = ReconcileUtil.safeGroups(flowCapableNodeConfigured);
-        final List<Group> groupsOperational = ReconcileUtil.safeGroups(flowCapableNodeOperational);
-        final Map<Long, Group> groupOperationalMap = FlowCapableNodeLookups.wrapGroupsToMap(groupsOperational);
-
+            final List<Group> groupsConfigured, final Map<Long, Group> groupOperationalMap) {
         final List<Group> pendingGroups = new ArrayList<>();
         pendingGroups.addAll(groupsConfigured);
 
@@ -128,18 +215,15 @@ public class SyncReactorImpl implements SyncReactor {
 
     @VisibleForTesting
     private static ItemSyncBox<Meter> extractMetersToAddOrUpdate(final NodeId nodeId,
-                                                                 final FlowCapableNode flowCapableNodeConfigured,
-                                                                 final FlowCapableNode flowCapableNodeOperational) {
-        final List<Meter> metersConfigured = ReconcileUtil.safeMeters(flowCapableNodeConfigured);
-        final List<Meter> metersOperational = ReconcileUtil.safeMeters(flowCapableNodeOperational);
-        final Map<MeterId, Meter> meterOperationalMap = FlowCapableNodeLookups.wrapMetersToMap(metersOperational);
-
+                                                                 final List<Meter> metersConfigured,
+                                                                 final Map<MeterId, Meter> meterOperationalMap) {
         return ReconcileUtil.resolveMeterDiffs(nodeId, meterOperationalMap, metersConfigured, true);
     }
 
     @VisibleForTesting
     private static Map<TableKey, ItemSyncBox<Flow>> extractFlowsToAddOrUpdate(final NodeId nodeId,
-            final FlowCapableNode flowCapableNodeConfigured, final FlowCapableNode flowCapableNodeOperational) {
+            final FlowCapableNode flowCapableNodeConfigured, final FlowCapableNode flowCapableNodeOperational,
+            @Nullable final Map<Short, Map<FlowDescriptor, Flow>> flowOperationalIndex) {
         final List<Table> tablesConfigured = ReconcileUtil.safeTables(flowCapableNodeConfigured);
         if (tablesConfigured.isEmpty()) {
             return Collections.emptyMap();
@@ -148,12 +232,14 @@ public class SyncReactorImpl implements SyncReactor {
         final List<Table> tablesOperational = ReconcileUtil.safeTables(flowCapableNodeOperational);
         final Map<Short, Table> tableOperationalMap = FlowCapableNodeLookups.wrapTablesToMap(tablesOperational);
 
-        return ReconcileUtil.resolveFlowDiffsInAllTables(nodeId, tableOperationalMap, tablesConfigured, true);
+        return ReconcileUtil.resolveFlowDiffsInAllTables(nodeId, tableOperationalMap, flowOperationalIndex,
+                tablesConfigured, true);
     }
 
     @VisibleForTesting
     private static Map<TableKey, ItemSyncBox<Flow>> extractFlowsToRemove(final NodeId nodeId,
-            final FlowCapableNode flowCapableNodeConfigured, final FlowCapableNode flowCapableNodeOperational) {
+            final FlowCapableNode flowCapableNodeConfigured, final FlowCapableNode flowCapableNodeOperational,
+            @Nullable final Map<Short, Map<FlowDescriptor, Flow>> flowConfiguredIndex) {
         final List<Table> tablesOperational = ReconcileUtil.safeTables(flowCapableNodeOperational);
         if (tablesOperational.isEmpty()) {
             return Collections.emptyMap();
@@ -162,28 +248,21 @@ public class SyncReactorImpl implements SyncReactor {
         final List<Table> tablesConfigured = ReconcileUtil.safeTables(flowCapableNodeConfigured);
         final Map<Short, Table> tableConfiguredMap = FlowCapableNodeLookups.wrapTablesToMap(tablesConfigured);
 
-        return ReconcileUtil.resolveFlowDiffsInAllTables(nodeId, tableConfiguredMap, tablesOperational, false);
+        return ReconcileUtil.resolveFlowDiffsInAllTables(nodeId, tableConfiguredMap, flowConfiguredIndex,
+                tablesOperational, false);
     }
 
     @VisibleForTesting
     private static ItemSyncBox<Meter> extractMetersToRemove(final NodeId nodeId,
-                                                            final FlowCapableNode flowCapableNodeConfigured,
-                                                            final FlowCapableNode flowCapableNodeOperational) {
-        final List<Meter> metersConfigured = ReconcileUtil.safeMeters(flowCapableNodeConfigured);
-        final List<Meter> metersOperational = ReconcileUtil.safeMeters(flowCapableNodeOperational);
-        final Map<MeterId, Meter> meterConfiguredMap = FlowCapableNodeLookups.wrapMetersToMap(metersConfigured);
-
+                                                            final Map<MeterId, Meter> meterConfiguredMap,
+                                                            final List<Meter> metersOperational) {
         return ReconcileUtil.resolveMeterDiffs(nodeId, meterConfiguredMap, metersOperational, false);
     }
 
     @VisibleForTesting
     private static List<ItemSyncBox<Group>> extractGroupsToRemove(final NodeId nodeId,
-                                                                  final FlowCapableNode flowCapableNodeConfigured,
-                                                                  final FlowCapableNode flowCapableNodeOperational) {
-        final List<Group> groupsConfigured = ReconcileUtil.safeGroups(flowCapableNodeConfigured);
-        final List<Group> groupsOperational = ReconcileUtil.safeGroups(flowCapableNodeOperational);
-        final Map<Long, Group> groupConfiguredMap = FlowCapableNodeLookups.wrapGroupsToMap(groupsConfigured);
-
+                                                                  final Map<Long, Group> groupConfiguredMap,
+                                                                  final List<Group> groupsOperational) {
         final List<Group> pendingGroups = new ArrayList<>();
         pendingGroups.addAll(groupsOperational);
 
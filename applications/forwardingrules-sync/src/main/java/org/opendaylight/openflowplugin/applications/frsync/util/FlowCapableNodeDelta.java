@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.applications.frsync.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.mdsal.binding.api.DataObjectModification.ModificationType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.meters.Meter;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.Group;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.meter.types.rev130918.MeterId;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * Dirty set of a {@link FlowCapableNode} - flows, groups and meters changed by data tree modifications, along with
+ * their data before and after the changes. Flows are identified by the table they are listed in and their ID, groups
+ * and meters by their IDs. Other items of the node are not tracked.
+ */
+public final class FlowCapableNodeDelta {
+
+    private final Map<FlowDescriptor, Change<Flow>> flows = new LinkedHashMap<>();
+    private final Map<Long, Change<Group>> groups = new LinkedHashMap<>();
+    private final Map<MeterId, Change<Meter>> meters = new LinkedHashMap<>();
+
+    private FlowCapableNodeDelta() {
+    }
+
+    /**
+     * Collects items changed by a subtree modification of a node.
+     *
+     * @param modification subtree modification of a node
+     * @return changed items
+     */
+    @SuppressWarnings("unchecked")
+    public static FlowCapableNodeDelta create(@Nonnull final DataObjectModification<FlowCapableNode> modification) {
+        final FlowCapableNodeDelta delta = new FlowCapableNodeDelta();
+        for (final DataObjectModification<? extends DataObject> child : modification.getModifiedChildren()) {
+            final Class<? extends DataObject> dataType = child.getDataType();
+            if (Table.class.equals(dataType)) {
+                delta.addTable((DataObjectModification<Table>) child);
+            } else if (Group.class.equals(dataType)) {
+                addChange(delta.groups, (DataObjectModification<Group>) child, group -> group.getGroupId().getValue());
+            } else if (Meter.class.equals(dataType)) {
+                addChange(delta.meters, (DataObjectModification<Meter>) child, Meter::getMeterId);
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Merges changes of two consecutive modifications of a node. Items changed by both keep data before
+     * the earlier change and data after the later change.
+     *
+     * @param earlier changes of the earlier modification
+     * @param later   changes of the later modification
+     * @return changes of both modifications
+     */
+    public static FlowCapableNodeDelta merge(@Nonnull final FlowCapableNodeDelta earlier,
+                                             @Nonnull final FlowCapableNodeDelta later) {
+        final FlowCapableNodeDelta delta = new FlowCapableNodeDelta();
+        delta.flows.putAll(earlier.flows);
+        delta.groups.putAll(earlier.groups);
+        delta.meters.putAll(earlier.meters);
+        later.flows.forEach((key, change) -> addChange(delta.flows, key, change));
+        later.groups.forEach((key, change) -> addChange(delta.groups, key, change));
+        later.meters.forEach((key, change) -> addChange(delta.meters, key, change));
+        return delta;
+    }
+
+    public Map<FlowDescriptor, Change<Flow>> getFlows() {
+        return Collections.unmodifiableMap(flows);
+    }
+
+    public Map<Long, Change<Group>> getGroups() {
+        return Collections.unmodifiableMap(groups);
+    }
+
+    public Map<MeterId, Change<Meter>> getMeters() {
+        return Collections.unmodifiableMap(meters);
+    }
+
+    public int size() {
+        return flows.size() + groups.size() + meters.size();
+    }
+
+    /**
+     * Builds node holding the changed items as they were before the changes.
+     *
+     * @return node holding items present before the changes
+     */
+    public FlowCapableNode buildBefore() {
+        return buildNode(false);
+    }
+
+    /**
+     * Builds node holding the changed items as they are after the changes.
+     *
+     * @return node holding items present after the changes
+     */
+    public FlowCapableNode buildAfter() {
+        return buildNode(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addTable(final DataObjectModification<Table> modification) {
+        final Table table = modification.getDataAfter() != null
+                ? modification.getDataAfter()
+                : modification.getDataBefore();
+        final Short tableId = table.getId();
+
+        if (modification.getModificationType() == ModificationType.SUBTREE_MODIFIED) {
+            for (final DataObjectModification<? extends DataObject> child : modification.getModifiedChildren()) {
+                if (Flow.class.equals(child.getDataType())) {
+                    addChange(flows, (DataObjectModification<Flow>) child,
+                            flow -> new FlowDescriptor(flow.getId(), tableId));
+                }
+            }
+        } else {
+            // Whole table was written or deleted, all flows listed before or after may have changed
+            final Table tableBefore = modification.getDataBefore();
+            if (tableBefore != null && tableBefore.getFlow() != null) {
+                tableBefore.getFlow().forEach(flow ->
+                        addChange(flows, new FlowDescriptor(flow.getId(), tableId), new Change<>(flow, null)));
+            }
+            final Table tableAfter = modification.getDataAfter();
+            if (tableAfter != null && tableAfter.getFlow() != null) {
+                tableAfter.getFlow().forEach(flow ->
+                        addChange(flows, new FlowDescriptor(flow.getId(), tableId), new Change<>(null, flow)));
+            }
+        }
+    }
+
+    private FlowCapableNode buildNode(final boolean after) {
+        final Map<Short, List<Flow>> tableFlows = new LinkedHashMap<>();
+        flows.forEach((descriptor, change) -> {
+            final Flow flow = change.get(after);
+            if (flow != null) {
+                tableFlows.computeIfAbsent(descriptor.getTableId(), tableId -> new ArrayList<>()).add(flow);
+            }
+        });
+
+        final List<Table> tables = new ArrayList<>(tableFlows.size());
+        tableFlows.forEach((tableId, tableFlowList) ->
+                tables.add(new TableBuilder().setId(tableId).setFlow(tableFlowList).build()));
+
+        final List<Group> groupList = new ArrayList<>();
+        groups.values().forEach(change -> {
+            final Group group = change.get(after);
+            if (group != null) {
+                groupList.add(group);
+            }
+        });
+
+        final List<Meter> meterList = new ArrayList<>();
+        meters.values().forEach(change -> {
+            final Meter meter = change.get(after);
+            if (meter != null) {
+                meterList.add(meter);
+            }
+        });
+
+        return new FlowCapableNodeBuilder()
+                .setTable(tables)
+                .setGroup(groupList)
+                .setMeter(meterList)
+                .build();
+    }
+
+    private static <K, T extends DataObject> void addChange(final Map<K, Change<T>> changes,
+                                                            final DataObjectModification<T> modification,
+                                                            final Function<T, K> keyFunction) {
+        final T before = modification.getDataBefore();
+        final T after = modification.getDataAfter();
+        addChange(changes, keyFunction.apply(after != null ? after : before), new Change<>(before, after));
+    }
+
+    private static <K, T> void addChange(final Map<K, Change<T>> changes, final K key, final Change<T> change) {
+        changes.merge(key, change, (earlier, later) -> new Change<>(earlier.getBefore(), later.getAfter()));
+    }
+
+    /**
+     * Data of a changed item before and after the change.
+     *
+     * @param <T> type of the item
+     */
+    public static final class Change<T> {
+        private final T before;
+        private final T after;
+
+        Change(@Nullable final T before, @Nullable final T after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        /**
+         * Returns the item before the change.
+         *
+         * @return item, or null if the item was created
+         */
+        @Nullable
+        public T getBefore() {
+            return before;
+        }
+
+        /**
+         * Returns the item after the change.
+         *
+         * @return item, or null if the item was removed
+         */
+        @Nullable
+        public T getAfter() {
+            return after;
+        }
+
+        T get(final boolean afterChange) {
+            return afterChange ? after : before;
+        }
+    }
+}
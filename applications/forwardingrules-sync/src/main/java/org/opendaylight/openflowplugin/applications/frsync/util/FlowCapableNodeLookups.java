@@ -68,6 +68,16 @@ public final class FlowCapableNodeLookups {
         return flowMap;
     }
 
+    @Nonnull
+    public static Map<Short, Map<FlowDescriptor, Flow>> wrapFlowsToTableMap(@Nonnull final List<Table> tables) {
+        final Map<Short, Map<FlowDescriptor, Flow>> flowTableMap = new HashMap<>();
+        for (Table table : tables) {
+            flowTableMap.put(table.getId(), wrapFlowsToMap(table.getFlow()));
+        }
+
+        return flowTableMap;
+    }
+
     public static Flow flowMapLookupExisting(Flow flow, Map<FlowDescriptor, Flow> flowConfigMap) {
         return flowConfigMap.get(new FlowDescriptor(flow));
     }
@@ -24,6 +24,15 @@ public class FlowDescriptor {
         this.tableId = flow.getTableId();
     }
 
+    public FlowDescriptor(FlowId flowId, Short tableId) {
+        this.flowId = flowId;
+        this.tableId = tableId;
+    }
+
+    public Short getTableId() {
+        return tableId;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -16,6 +16,7 @@ import com.google.common.util.concurrent.AsyncFunction;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -23,8 +24,12 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.GroupActionCase;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.list.Action;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
@@ -54,6 +59,9 @@ import org.slf4j.LoggerFactory;
  */
 public final class ReconcileUtil {
 
+    // Number of configured flows from which flow-tables are resolved in parallel
+    public static final int PARALLEL_FLOW_DIFF_THRESHOLD = 10000;
+
     private static final Logger LOG = LoggerFactory.getLogger(ReconcileUtil.class);
 
     private ReconcileUtil() {
@@ -330,30 +338,56 @@ public final class ReconcileUtil {
     public static Map<TableKey, ItemSyncBox<Flow>> resolveFlowDiffsInAllTables(final NodeId nodeId,
             final Map<Short, Table> tableOperationalMap, final List<Table> tablesConfigured,
             final boolean gatherUpdates) {
+        return resolveFlowDiffsInAllTables(nodeId, tableOperationalMap, null, tablesConfigured, gatherUpdates);
+    }
+
+    /**
+     * Resolves flow differences in all tables. Tables are resolved in parallel in the common fork-join pool once
+     * the configured tables hold at least {@link #PARALLEL_FLOW_DIFF_THRESHOLD} flows.
+     *
+     * @param nodeId               target node
+     * @param tableOperationalMap  flow-tables resent on device
+     * @param flowOperationalIndex flows resent on device indexed by table, built from tableOperationalMap if null
+     * @param tablesConfigured     flow-tables configured for device
+     * @param gatherUpdates        check content of pending item if present on device (and create update task
+     *                             eventually)
+     * @return map : key={@link TableKey}, value={@link ItemSyncBox} of safe synchronization steps
+     */
+    public static Map<TableKey, ItemSyncBox<Flow>> resolveFlowDiffsInAllTables(final NodeId nodeId,
+            final Map<Short, Table> tableOperationalMap,
+            @Nullable final Map<Short, Map<FlowDescriptor, Flow>> flowOperationalIndex,
+            final List<Table> tablesConfigured, final boolean gatherUpdates) {
         LOG.trace("resolving flows in tables for {}", nodeId.getValue());
-        final Map<TableKey, ItemSyncBox<Flow>> tableFlowSyncBoxes = new HashMap<>();
+        int flowCount = 0;
         for (final Table tableConfigured : tablesConfigured) {
-            final List<Flow> flowsConfigured = tableConfigured.getFlow();
-            if (flowsConfigured == null || flowsConfigured.isEmpty()) {
-                continue;
-            }
-
-            // lookup table (on device)
-            final Table tableOperational = tableOperationalMap.get(tableConfigured.getId());
-            // wrap existing (on device) flows in current table into map
-            final Map<FlowDescriptor, Flow> flowOperationalMap = FlowCapableNodeLookups.wrapFlowsToMap(
-                    tableOperational != null
-                            ? tableOperational.getFlow()
-                            : null);
+            flowCount += tableConfigured.getFlow() != null ? tableConfigured.getFlow().size() : 0;
+        }
 
+        final Stream<Table> tables = flowCount >= PARALLEL_FLOW_DIFF_THRESHOLD
+                ? tablesConfigured.parallelStream()
+                : tablesConfigured.stream();
+
+        return tables
+                .filter(tableConfigured -> tableConfigured.getFlow() != null && !tableConfigured.getFlow().isEmpty())
+                .map(tableConfigured -> new SimpleImmutableEntry<>(tableConfigured.key(), resolveFlowDiffsInTable(
+                        tableConfigured.getFlow(),
+                        lookupFlowOperationalMap(tableConfigured.getId(), tableOperationalMap, flowOperationalIndex),
+                        gatherUpdates)))
+                .filter(tableFlowSyncBox -> !tableFlowSyncBox.getValue().isEmpty())
+                .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (first, second) -> second));
+    }
 
-            final ItemSyncBox<Flow> flowsSyncBox = resolveFlowDiffsInTable(
-                    flowsConfigured, flowOperationalMap, gatherUpdates);
-            if (!flowsSyncBox.isEmpty()) {
-                tableFlowSyncBoxes.put(tableConfigured.key(), flowsSyncBox);
-            }
+    private static Map<FlowDescriptor, Flow> lookupFlowOperationalMap(final Short tableId,
+            final Map<Short, Table> tableOperationalMap,
+            @Nullable final Map<Short, Map<FlowDescriptor, Flow>> flowOperationalIndex) {
+        if (flowOperationalIndex != null) {
+            return flowOperationalIndex.getOrDefault(tableId, Collections.emptyMap());
         }
-        return tableFlowSyncBoxes;
+
+        // lookup table (on device)
+        final Table tableOperational = tableOperationalMap.get(tableId);
+        // wrap existing (on device) flows in current table into map
+        return FlowCapableNodeLookups.wrapFlowsToMap(tableOperational != null ? tableOperational.getFlow() : null);
     }
 
     public static List<Group> safeGroups(FlowCapableNode node) {
@@ -7,14 +7,27 @@
  */
 package org.opendaylight.openflowplugin.applications.frsync.util;
 
+import java.util.Arrays;
+
 /**
  * One-shot (per sync) placeholder for counts of added/updated/removed flows/groups/meters.
  */
 public class SyncCrudCounters {
 
+    /**
+     * Phases of a synchronization, which are timed separately.
+     */
+    public enum SyncPhase {
+        GROUP_DIFF,
+        METER_DIFF,
+        FLOW_DIFF,
+        PUSH
+    }
+
     private final CrudCounts flowCrudCounts;
     private final CrudCounts groupCrudCounts;
     private final CrudCounts meterCrudCounts;
+    private final long[] phaseNanos = new long[SyncPhase.values().length];
 
     public SyncCrudCounters() {
         flowCrudCounts = new CrudCounts();
@@ -34,6 +47,26 @@ public class SyncCrudCounters {
         return meterCrudCounts;
     }
 
+    /**
+     * Adds time spent in a synchronization phase.
+     *
+     * @param phase synchronization phase
+     * @param nanos elapsed time in nanoseconds
+     */
+    public void addPhaseTime(final SyncPhase phase, final long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    /**
+     * Returns time spent in a synchronization phase.
+     *
+     * @param phase synchronization phase
+     * @return elapsed time in nanoseconds
+     */
+    public long getPhaseTime(final SyncPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
     public void resetAll() {
         getGroupCrudCounts().setUpdated(0);
         getGroupCrudCounts().setAdded(0);
@@ -46,5 +79,7 @@ public class SyncCrudCounters {
         getMeterCrudCounts().setUpdated(0);
         getMeterCrudCounts().setAdded(0);
         getMeterCrudCounts().setRemoved(0);
+
+        Arrays.fill(phaseNanos, 0);
     }
 }
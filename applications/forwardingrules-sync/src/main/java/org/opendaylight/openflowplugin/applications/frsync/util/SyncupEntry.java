@@ -7,6 +7,7 @@
  */
 package org.opendaylight.openflowplugin.applications.frsync.util;
 
+import javax.annotation.Nullable;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 
@@ -19,13 +20,31 @@ public class SyncupEntry {
     private final LogicalDatastoreType dsTypeAfter;
     private final FlowCapableNode before;
     private final LogicalDatastoreType dsTypeBefore;
+    private final FlowCapableNodeDelta delta;
 
     public SyncupEntry(final FlowCapableNode after, final LogicalDatastoreType dsTypeAfter,
                        final FlowCapableNode before, final LogicalDatastoreType dsTypeBefore) {
+        this(after, dsTypeAfter, before, dsTypeBefore, null);
+    }
+
+    /**
+     * Creates entry of a config delta, which knows the items changed between before and after data. The delta is
+     * derived from the data, so it is not considered by {@link #equals(Object)}.
+     *
+     * @param after data after the change
+     * @param dsTypeAfter datastore of data after the change
+     * @param before data before the change
+     * @param dsTypeBefore datastore of data before the change
+     * @param delta items changed between before and after data
+     */
+    public SyncupEntry(final FlowCapableNode after, final LogicalDatastoreType dsTypeAfter,
+                       final FlowCapableNode before, final LogicalDatastoreType dsTypeBefore,
+                       @Nullable final FlowCapableNodeDelta delta) {
         this.after = after;
         this.dsTypeAfter = dsTypeAfter;
         this.before = before;
         this.dsTypeBefore = dsTypeBefore;
+        this.delta = delta;
     }
 
     public FlowCapableNode getAfter() {
@@ -44,6 +63,16 @@ public class SyncupEntry {
         return dsTypeBefore;
     }
 
+    /**
+     * Returns items changed between before and after data.
+     *
+     * @return changed items, or null if all items have to be compared
+     */
+    @Nullable
+    public FlowCapableNodeDelta getDelta() {
+        return delta;
+    }
+
     public boolean isOptimizedConfigDelta() {
         return dsTypeAfter == LogicalDatastoreType.CONFIGURATION && dsTypeBefore == LogicalDatastoreType.CONFIGURATION;
     }
@@ -8,6 +8,7 @@
 package org.opendaylight.openflowplugin.applications.frsync.impl;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
@@ -21,14 +22,18 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.mdsal.binding.api.DataObjectModification.ModificationType;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.openflowplugin.applications.frsync.SyncPlanPushStrategy;
 import org.opendaylight.openflowplugin.applications.frsync.impl.strategy.SynchronizationDiffInput;
+import org.opendaylight.openflowplugin.applications.frsync.util.FlowCapableNodeDelta;
 import org.opendaylight.openflowplugin.applications.frsync.util.ReconcileUtil;
 import org.opendaylight.openflowplugin.applications.frsync.util.SyncupEntry;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.meters.Meter;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.Group;
@@ -37,6 +42,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.table.features.TableFeatures;
+import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
 import org.slf4j.Logger;
@@ -131,4 +137,62 @@ public class SyncReactorImplTest {
         Assert.assertEquals(0, diffInput.getMetersToAddOrUpdate().getItemsToUpdate().size());
         Assert.assertEquals(1, diffInput.getMetersToRemove().getItemsToPush().size());
     }
+
+    @Test
+    public void testSyncupDelta() throws Exception {
+        final Flow flowBefore = DSInputFactory.createFlow("f1", 1);
+        final Flow flowAfter = DSInputFactory.createFlowWithInstruction("f1", 1);
+        final FlowCapableNode configBefore = new FlowCapableNodeBuilder()
+                .setTable(Collections.singletonList(new TableBuilder()
+                        .setId((short) 42)
+                        .setFlow(Collections.singletonList(flowBefore))
+                        .build()))
+                .build();
+        // Flow f2 is not changed by the delta, so it is not compared
+        final FlowCapableNode configAfter = new FlowCapableNodeBuilder()
+                .setTable(Collections.singletonList(new TableBuilder()
+                        .setId((short) 42)
+                        .setFlow(Arrays.asList(flowAfter, DSInputFactory.createFlow("f2", 2)))
+                        .build()))
+                .build();
+
+        final DataObjectModification<Flow> flowModification = mockModification(Flow.class);
+        Mockito.when(flowModification.getDataBefore()).thenReturn(flowBefore);
+        Mockito.when(flowModification.getDataAfter()).thenReturn(flowAfter);
+        final DataObjectModification<Table> tableModification = mockModification(Table.class);
+        Mockito.when(tableModification.getDataAfter()).thenReturn(configAfter.getTable().get(0));
+        Mockito.when(tableModification.getModificationType()).thenReturn(ModificationType.SUBTREE_MODIFIED);
+        Mockito.doReturn(Collections.singletonList(flowModification)).when(tableModification).getModifiedChildren();
+        @SuppressWarnings("unchecked")
+        final DataObjectModification<FlowCapableNode> nodeModification = Mockito.mock(DataObjectModification.class);
+        Mockito.doReturn(Collections.singletonList(tableModification)).when(nodeModification).getModifiedChildren();
+
+        final SyncupEntry syncupEntry = new SyncupEntry(configAfter, LogicalDatastoreType.CONFIGURATION,
+                configBefore, LogicalDatastoreType.CONFIGURATION, FlowCapableNodeDelta.create(nodeModification));
+
+        Mockito.when(syncPlanPushStrategy.executeSyncStrategy(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any()))
+                .thenReturn(RpcResultBuilder.<Void>success().buildFuture());
+
+        Assert.assertTrue(reactor.syncup(NODE_IDENT, syncupEntry).get(2, TimeUnit.SECONDS));
+
+        Mockito.verify(syncPlanPushStrategy).executeSyncStrategy(
+                ArgumentMatchers.any(),
+                syncDiffInputCaptor.capture(),
+                ArgumentMatchers.any());
+
+        final SynchronizationDiffInput diffInput = syncDiffInputCaptor.getValue();
+        Assert.assertEquals(0, ReconcileUtil.countTotalPushed(diffInput.getFlowsToAddOrUpdate().values()));
+        Assert.assertEquals(1, ReconcileUtil.countTotalUpdated(diffInput.getFlowsToAddOrUpdate().values()));
+        Assert.assertEquals(0, ReconcileUtil.countTotalPushed(diffInput.getFlowsToRemove().values()));
+    }
+
+    private static <T extends DataObject> DataObjectModification<T> mockModification(final Class<T> dataType) {
+        @SuppressWarnings("unchecked")
+        final DataObjectModification<T> modification = Mockito.mock(DataObjectModification.class);
+        Mockito.when(modification.getDataType()).thenReturn(dataType);
+        return modification;
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.applications.frsync.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.mdsal.binding.api.DataObjectModification.ModificationType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.meters.Meter;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.meters.MeterBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.Group;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.GroupBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.meter.types.rev130918.MeterId;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * Test for {@link FlowCapableNodeDelta}.
+ */
+public class FlowCapableNodeDeltaTest {
+
+    private static final Short TABLE_ID = 1;
+
+    private final Flow flow1 = createFlow("f1", 1);
+    private final Flow flow1Changed = createFlow("f1", 10);
+    private final Flow flow2 = createFlow("f2", 2);
+    private final Group group = new GroupBuilder().setGroupId(new GroupId(1L)).build();
+    private final Meter meter = new MeterBuilder().setMeterId(new MeterId(1L)).build();
+
+    @Test
+    public void testCreate() {
+        final DataObjectModification<FlowCapableNode> nodeModification = mockModification(FlowCapableNode.class,
+                ModificationType.SUBTREE_MODIFIED, null, null,
+                mockModification(Table.class, ModificationType.SUBTREE_MODIFIED, createTable(flow1), createTable(),
+                        mockModification(Flow.class, ModificationType.DELETE, flow1, null)),
+                mockModification(Group.class, ModificationType.WRITE, null, group),
+                mockModification(Meter.class, ModificationType.DELETE, meter, null));
+
+        final FlowCapableNodeDelta delta = FlowCapableNodeDelta.create(nodeModification);
+        Assert.assertEquals(3, delta.size());
+        Assert.assertNull(delta.getFlows().get(new FlowDescriptor(flow1)).getAfter());
+        Assert.assertNull(delta.getGroups().get(1L).getBefore());
+        Assert.assertEquals(group, delta.getGroups().get(1L).getAfter());
+        Assert.assertNull(delta.getMeters().get(new MeterId(1L)).getAfter());
+
+        final FlowCapableNode before = delta.buildBefore();
+        Assert.assertEquals(Collections.singletonList(createTable(flow1)), before.getTable());
+        Assert.assertTrue(before.getGroup().isEmpty());
+        Assert.assertEquals(Collections.singletonList(meter), before.getMeter());
+
+        final FlowCapableNode after = delta.buildAfter();
+        Assert.assertTrue(after.getTable().isEmpty());
+        Assert.assertEquals(Collections.singletonList(group), after.getGroup());
+        Assert.assertTrue(after.getMeter().isEmpty());
+    }
+
+    @Test
+    public void testCreateTableWrite() {
+        final DataObjectModification<FlowCapableNode> nodeModification = mockModification(FlowCapableNode.class,
+                ModificationType.SUBTREE_MODIFIED, null, null,
+                mockModification(Table.class, ModificationType.WRITE, createTable(flow1), createTable(flow1Changed,
+                        flow2)));
+
+        final FlowCapableNodeDelta delta = FlowCapableNodeDelta.create(nodeModification);
+        Assert.assertEquals(2, delta.size());
+        Assert.assertEquals(flow1, delta.getFlows().get(new FlowDescriptor(flow1)).getBefore());
+        Assert.assertEquals(flow1Changed, delta.getFlows().get(new FlowDescriptor(flow1)).getAfter());
+        Assert.assertNull(delta.getFlows().get(new FlowDescriptor(flow2)).getBefore());
+    }
+
+    @Test
+    public void testMerge() {
+        final FlowCapableNodeDelta earlier = FlowCapableNodeDelta.create(mockModification(FlowCapableNode.class,
+                ModificationType.SUBTREE_MODIFIED, null, null,
+                mockModification(Table.class, ModificationType.SUBTREE_MODIFIED, createTable(flow1),
+                        createTable(flow1Changed),
+                        mockModification(Flow.class, ModificationType.WRITE, flow1, flow1Changed))));
+        final FlowCapableNodeDelta later = FlowCapableNodeDelta.create(mockModification(FlowCapableNode.class,
+                ModificationType.SUBTREE_MODIFIED, null, null,
+                mockModification(Table.class, ModificationType.SUBTREE_MODIFIED, createTable(flow1Changed),
+                        createTable(flow2),
+                        mockModification(Flow.class, ModificationType.DELETE, flow1Changed, null),
+                        mockModification(Flow.class, ModificationType.WRITE, null, flow2))));
+
+        final FlowCapableNodeDelta delta = FlowCapableNodeDelta.merge(earlier, later);
+        Assert.assertEquals(2, delta.size());
+        Assert.assertEquals(flow1, delta.getFlows().get(new FlowDescriptor(flow1)).getBefore());
+        Assert.assertNull(delta.getFlows().get(new FlowDescriptor(flow1)).getAfter());
+        Assert.assertEquals(flow2, delta.getFlows().get(new FlowDescriptor(flow2)).getAfter());
+        Assert.assertEquals(1, earlier.size());
+    }
+
+    @SafeVarargs
+    private static <T extends DataObject> DataObjectModification<T> mockModification(final Class<T> dataType,
+            final ModificationType type, final T before, final T after,
+            final DataObjectModification<? extends DataObject>... children) {
+        @SuppressWarnings("unchecked")
+        final DataObjectModification<T> modification = Mockito.mock(DataObjectModification.class);
+        Mockito.when(modification.getDataType()).thenReturn(dataType);
+        Mockito.when(modification.getModificationType()).thenReturn(type);
+        Mockito.when(modification.getDataBefore()).thenReturn(before);
+        Mockito.when(modification.getDataAfter()).thenReturn(after);
+        Mockito.doReturn(Arrays.asList(children)).when(modification).getModifiedChildren();
+        return modification;
+    }
+
+    private static Table createTable(final Flow... flows) {
+        return new TableBuilder().setId(TABLE_ID).setFlow(Arrays.asList(flows)).build();
+    }
+
+    private static Flow createFlow(final String flowId, final int priority) {
+        return new FlowBuilder().setId(new FlowId(flowId)).setTableId(TABLE_ID).setPriority(priority).build();
+    }
+}
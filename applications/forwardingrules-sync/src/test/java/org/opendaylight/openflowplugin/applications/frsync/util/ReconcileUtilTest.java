@@ -38,9 +38,17 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.acti
 import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.group.action._case.GroupActionBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.list.Action;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.list.ActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.transaction.rev150304.FlowCapableTransactionService;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.transaction.rev150304.SendBarrierInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.transaction.rev150304.SendBarrierOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.InstructionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.MatchBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.group.Buckets;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.group.BucketsBuilder;
@@ -301,6 +309,67 @@ public class ReconcileUtilTest {
                 .build();
     }
 
+    /**
+     * resolve flows of many tables in parallel, with and without flow index.
+     */
+    @Test
+    public void testResolveFlowDiffsInAllTablesParallel() {
+        final int tableCount = 4;
+        final int flowsPerTable = ReconcileUtil.PARALLEL_FLOW_DIFF_THRESHOLD / tableCount;
+        final List<Table> tablesConfigured = new ArrayList<>();
+        final List<Table> tablesOperational = new ArrayList<>();
+        int expectedUpdates = 0;
+        for (short tableId = 0; tableId < tableCount; tableId++) {
+            final List<Flow> flowsConfigured = new ArrayList<>();
+            final List<Flow> flowsOperational = new ArrayList<>();
+            for (int i = 0; i < flowsPerTable; i++) {
+                // odd flows are missing on device, some of the present ones differ in instructions
+                final boolean differs = i % 3 == 0;
+                flowsConfigured.add(createFlow(tableId, i, differs));
+                if (i % 2 == 0) {
+                    flowsOperational.add(createFlow(tableId, i, false));
+                    expectedUpdates += differs ? 1 : 0;
+                }
+            }
+            tablesConfigured.add(new TableBuilder().setId(tableId).setFlow(flowsConfigured).build());
+            tablesOperational.add(new TableBuilder().setId(tableId).setFlow(flowsOperational).build());
+        }
+
+        final Map<TableKey, ItemSyncBox<Flow>> diffs = ReconcileUtil.resolveFlowDiffsInAllTables(NODE_ID,
+                FlowCapableNodeLookups.wrapTablesToMap(tablesOperational), tablesConfigured, true);
+        Assert.assertEquals(tableCount, diffs.size());
+        int pushes = 0;
+        int updates = 0;
+        for (ItemSyncBox<Flow> syncBox : diffs.values()) {
+            pushes += syncBox.getItemsToPush().size();
+            updates += syncBox.getItemsToUpdate().size();
+        }
+        Assert.assertEquals(tableCount * flowsPerTable / 2, pushes);
+        Assert.assertEquals(expectedUpdates, updates);
+
+        final Map<TableKey, ItemSyncBox<Flow>> indexedDiffs = ReconcileUtil.resolveFlowDiffsInAllTables(NODE_ID,
+                Collections.emptyMap(), FlowCapableNodeLookups.wrapFlowsToTableMap(tablesOperational),
+                tablesConfigured, true);
+        Assert.assertEquals(diffs.keySet(), indexedDiffs.keySet());
+        for (Map.Entry<TableKey, ItemSyncBox<Flow>> entry : diffs.entrySet()) {
+            Assert.assertEquals(entry.getValue().getItemsToPush(), indexedDiffs.get(entry.getKey()).getItemsToPush());
+            Assert.assertEquals(entry.getValue().getItemsToUpdate().size(),
+                    indexedDiffs.get(entry.getKey()).getItemsToUpdate().size());
+        }
+    }
+
+    private static Flow createFlow(final short tableId, final int index, final boolean withInstructions) {
+        return new FlowBuilder()
+                .setId(new FlowId("ut-flow-" + index))
+                .setTableId(tableId)
+                .setPriority(index)
+                .setMatch(new MatchBuilder().build())
+                .setInstructions(withInstructions
+                        ? new InstructionsBuilder().setInstruction(Collections.emptyList()).build()
+                        : null)
+                .build();
+    }
+
     /**
      * covers {@link ReconcileUtil#countTotalUpdated(Iterable)} too.
      */
@@ -10,6 +10,7 @@ package org.opendaylight.openflowplugin.applications.lldpspeaker;
 
 import static org.opendaylight.infrautils.utils.concurrent.LoggingFutures.addErrorLogging;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.Map;
@@ -20,7 +21,6 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import org.opendaylight.infrautils.utils.concurrent.JdkFutures;
 import org.opendaylight.openflowplugin.applications.deviceownershipservice.DeviceOwnershipService;
 import org.opendaylight.openflowplugin.libraries.liblldp.PacketException;
@@ -46,20 +46,27 @@ import org.slf4j.LoggerFactory;
 /**
  * Objects of this class send LLDP frames over all flow-capable ports that can
  * be discovered through inventory.
+ *
+ * <p>
+ * The flood period is divided into slices and each switch is assigned to one of them, so LLDP frames of
+ * all switches are not sent at the same instant. Frames of all ports of a switch are sent together in its slice.
  */
 public class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable, AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(LLDPSpeaker.class);
 
     private static final long LLDP_FLOOD_PERIOD = 5;
+    private static final long LLDP_FLOOD_SLICE_MILLIS = 100;
     private static final ThreadFactory THREAD_FACTORY = new ThreadFactoryBuilder()
             .setNameFormat("lldp-speaker-%d").setDaemon(true).build();
     private final PacketProcessingService packetProcessingService;
     private final ScheduledExecutorService scheduledExecutorService;
     private final DeviceOwnershipService deviceOwnershipService;
-    private final Map<InstanceIdentifier<NodeConnector>, TransmitPacketInput> nodeConnectorMap =
-            new ConcurrentHashMap<>();
+    private final Map<InstanceIdentifier<Node>, Map<InstanceIdentifier<NodeConnector>, TransmitPacketInput>>
+            nodeConnectorMap = new ConcurrentHashMap<>();
     private final MacAddress addressDestination;
     private long currentFloodPeriod = LLDP_FLOOD_PERIOD;
+    private volatile int floodSlices;
+    private int currentSlice;
     private ScheduledFuture<?> scheduledSpeakerTask;
     private volatile OperStatus operationalStatus = OperStatus.RUN;
 
@@ -76,8 +83,7 @@ public class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable, AutoC
         this.addressDestination = lldpSpeakerConfig.getAddressDestination();
         this.scheduledExecutorService = scheduledExecutorService;
         this.deviceOwnershipService = deviceOwnershipStatusService;
-        scheduledSpeakerTask = this.scheduledExecutorService
-                .scheduleAtFixedRate(this, LLDP_FLOOD_PERIOD,LLDP_FLOOD_PERIOD, TimeUnit.SECONDS);
+        scheduledSpeakerTask = scheduleFlood(LLDP_FLOOD_PERIOD);
         this.packetProcessingService = packetProcessingService;
         LOG.info("LLDPSpeaker started, it will send LLDP frames each {} seconds", LLDP_FLOOD_PERIOD);
     }
@@ -95,10 +101,10 @@ public class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable, AutoC
     }
 
     public void setLldpFloodInterval(long time) {
+        Preconditions.checkArgument(time > 0, "LLDP flood interval %s is not positive", time);
         this.currentFloodPeriod = time;
         scheduledSpeakerTask.cancel(false);
-        scheduledSpeakerTask = this.scheduledExecutorService
-                     .scheduleAtFixedRate(this, time, time, TimeUnit.SECONDS);
+        scheduledSpeakerTask = scheduleFlood(time);
         LOG.info("LLDPSpeaker restarted, it will send LLDP frames each {} seconds", time);
     }
 
@@ -106,6 +112,11 @@ public class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable, AutoC
         return currentFloodPeriod;
     }
 
+    @VisibleForTesting
+    int getLldpFloodSlices() {
+        return floodSlices;
+    }
+
     /**
      * Closes this resource, relinquishing any underlying resources.
      */
@@ -122,23 +133,30 @@ public class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable, AutoC
     }
 
     /**
-     * Send LLDPDU frames to all known openflow switch ports.
+     * Send LLDPDU frames to all known openflow switch ports of switches assigned to the current slice
+     * of the flood period.
      */
     @Override
     public void run() {
+        final int slices = floodSlices;
+        final int slice = currentSlice % slices;
+        currentSlice = (slice + 1) % slices;
+
         if (OperStatus.RUN.equals(operationalStatus)) {
-            LOG.debug("Sending LLDP frames to total {} ports", getOwnedPorts());
-            nodeConnectorMap.keySet().forEach(ncIID -> {
-                NodeConnectorId nodeConnectorId = InstanceIdentifier.keyOf(ncIID).getId();
-                NodeId nodeId = ncIID.firstKeyOf(Node.class).getId();
+            nodeConnectorMap.forEach((nodeIID, ports) -> {
+                if (getSlice(nodeIID, slices) != slice) {
+                    return;
+                }
+                NodeId nodeId = InstanceIdentifier.keyOf(nodeIID).getId();
                 if (deviceOwnershipService.isEntityOwned(nodeId.getValue())) {
-                    LOG.debug("Node is owned by this controller, sending LLDP packet through port {}",
-                            nodeConnectorId.getValue());
-                    addErrorLogging(packetProcessingService.transmitPacket(nodeConnectorMap.get(ncIID)), LOG,
-                            "transmitPacket() failed");
+                    LOG.debug("Node {} is owned by this controller, sending LLDP frames to total {} ports",
+                            nodeId.getValue(), ports.size());
+                    // Packets of a switch are submitted back to back, so they are flushed to it together
+                    ports.values().forEach(packet -> addErrorLogging(packetProcessingService.transmitPacket(packet),
+                            LOG, "transmitPacket() failed"));
                 } else {
-                    LOG.debug("Node {} is not owned by this controller, so skip sending LLDP packet on port {}",
-                            nodeId.getValue(), nodeConnectorId.getValue());
+                    LOG.debug("Node {} is not owned by this controller, so skip sending LLDP packets on its {} ports",
+                            nodeId.getValue(), ports.size());
                 }
             });
         }
@@ -152,13 +170,14 @@ public class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable, AutoC
         // nodeConnectorAdded can be called even if we already sending LLDP
         // frames to
         // port, so first we check if we actually need to perform any action
-        if (nodeConnectorMap.containsKey(nodeConnectorInstanceId)) {
+        InstanceIdentifier<Node> nodeInstanceId = nodeConnectorInstanceId.firstIdentifierOf(Node.class);
+        Map<InstanceIdentifier<NodeConnector>, TransmitPacketInput> ports = nodeConnectorMap.get(nodeInstanceId);
+        if (ports != null && ports.containsKey(nodeConnectorInstanceId)) {
             LOG.debug("Port {} already in LLDPSpeaker.nodeConnectorMap, no need for additional processing",
                     nodeConnectorId.getValue());
             return;
         }
         // Prepare to build LLDP payload
-        InstanceIdentifier<Node> nodeInstanceId = nodeConnectorInstanceId.firstIdentifierOf(Node.class);
         NodeId nodeId = InstanceIdentifier.keyOf(nodeInstanceId).getId();
         if (!deviceOwnershipService.isEntityOwned(nodeId.getValue())) {
             LOG.debug("Node {} is not owned by this controller, so skip sending LLDP packet on port {}",
@@ -187,7 +206,13 @@ public class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable, AutoC
         }
 
         // Save packet to node connector id -> packet map to transmit it periodically on the configured interval.
-        nodeConnectorMap.put(nodeConnectorInstanceId, packet);
+        // The port is added while holding the node entry, so a concurrent removal cannot drop the node map under it
+        nodeConnectorMap.compute(nodeInstanceId, (key, existing) -> {
+            final Map<InstanceIdentifier<NodeConnector>, TransmitPacketInput> nodePorts =
+                    existing != null ? existing : new ConcurrentHashMap<>();
+            nodePorts.put(nodeConnectorInstanceId, packet);
+            return nodePorts;
+        });
         LOG.debug("Port {} added to LLDPSpeaker.nodeConnectorMap", nodeConnectorId.getValue());
 
         // Transmit packet for first time immediately
@@ -199,19 +224,22 @@ public class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable, AutoC
     public void nodeConnectorRemoved(final InstanceIdentifier<NodeConnector> nodeConnectorInstanceId) {
         Preconditions.checkNotNull(nodeConnectorInstanceId);
 
-        nodeConnectorMap.remove(nodeConnectorInstanceId);
+        nodeConnectorMap.computeIfPresent(nodeConnectorInstanceId.firstIdentifierOf(Node.class), (key, ports) -> {
+            ports.remove(nodeConnectorInstanceId);
+            return ports.isEmpty() ? null : ports;
+        });
         NodeConnectorId nodeConnectorId = InstanceIdentifier.keyOf(nodeConnectorInstanceId).getId();
         LOG.trace("Port removed from node-connector map : {}", nodeConnectorId.getValue());
     }
 
-    private int getOwnedPorts() {
-        AtomicInteger ownedPorts = new AtomicInteger();
-        nodeConnectorMap.keySet().forEach(ncIID -> {
-            NodeId nodeId = ncIID.firstKeyOf(Node.class).getId();
-            if (deviceOwnershipService.isEntityOwned(nodeId.getValue())) {
-                ownedPorts.incrementAndGet();
-            }
-        });
-        return ownedPorts.get();
+    private ScheduledFuture<?> scheduleFlood(final long period) {
+        final long periodMillis = TimeUnit.SECONDS.toMillis(period);
+        floodSlices = (int) Math.max(1, Math.min(Integer.MAX_VALUE, periodMillis / LLDP_FLOOD_SLICE_MILLIS));
+        final long sliceMillis = Math.max(1, periodMillis / floodSlices);
+        return scheduledExecutorService.scheduleAtFixedRate(this, sliceMillis, sliceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static int getSlice(final InstanceIdentifier<Node> nodeInstanceId, final int slices) {
+        return Math.floorMod(nodeInstanceId.hashCode(), slices);
     }
 }
@@ -8,7 +8,10 @@
 
 package org.opendaylight.openflowplugin.applications.lldpspeaker;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
@@ -163,6 +166,48 @@ public class LLDPSpeakerTest {
         verifyNoMoreInteractions(packetProcessingService);
     }
 
+    /**
+     * Test that LLDP frames of all ports are transmitted once per flood period, which is divided into slices.
+     */
+    @Test
+    public void testFloodSlices() throws PacketException {
+        final InstanceIdentifier<NodeConnector> secondId = TestUtils.createNodeConnectorId("openflow:2",
+                "openflow:2:1");
+        final TransmitPacketInput secondPacketInput = new TransmitPacketInputBuilder()
+                .setEgress(new NodeConnectorRef(secondId))
+                .setNode(new NodeRef(secondId.firstIdentifierOf(Node.class)))
+                .setPayload(LLDPUtil.buildLldpFrame(new NodeId("openflow:2"), new NodeConnectorId("openflow:2:1"),
+                        MAC_ADDRESS, 1L))
+                .build();
+        lldpSpeaker.nodeConnectorAdded(ID, FLOW_CAPABLE_NODE_CONNECTOR);
+        lldpSpeaker.nodeConnectorAdded(secondId, FLOW_CAPABLE_NODE_CONNECTOR);
+
+        // Run all slices of one flood period
+        for (int i = 0; i < lldpSpeaker.getLldpFloodSlices(); i++) {
+            lldpSpeaker.run();
+        }
+
+        // Each port was sent to once when added and once during the flood period
+        verify(packetProcessingService, times(2)).transmitPacket(packetInput);
+        verify(packetProcessingService, times(2)).transmitPacket(secondPacketInput);
+        verifyNoMoreInteractions(packetProcessingService);
+    }
+
+    /**
+     * Test that a non-positive flood interval is rejected and the flood keeps its schedule.
+     */
+    @Test
+    public void testNonPositiveFloodInterval() {
+        final long floodInterval = lldpSpeaker.getLldpFloodInterval();
+        try {
+            lldpSpeaker.setLldpFloodInterval(0);
+            fail("Non-positive flood interval accepted");
+        } catch (IllegalArgumentException e) {
+            verify(scheduledSpeakerTask, never()).cancel(anyBoolean());
+            assertEquals(floodInterval, lldpSpeaker.getLldpFloodInterval());
+        }
+    }
+
     /**
      * Test that checks if LLDPSpeaker working fine with local ports.
      */
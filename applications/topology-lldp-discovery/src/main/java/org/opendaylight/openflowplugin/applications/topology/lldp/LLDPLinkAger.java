@@ -8,13 +8,16 @@
 package org.opendaylight.openflowplugin.applications.topology.lldp;
 
 import com.google.common.annotations.VisibleForTesting;
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
@@ -34,11 +37,21 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.topology
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Removes links no LLDP frame was received for during the link expiration time.
+ *
+ * <p>
+ * Links are kept in a timer wheel with a slot per topology LLDP interval. Refreshing a known link only updates its
+ * expiration time. The aging task visits just the slots that came due, expires links whose time passed and moves
+ * refreshed ones to the slot of their new expiration time, so each link is visited about once per expiration time.
+ */
 @Singleton
 public class LLDPLinkAger implements ConfigurationListener, AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(LLDPLinkAger.class);
     private final long linkExpirationTime;
-    private final Map<LinkDiscovered, Date> linkToDate;
+    private final long tickInterval;
+    private final Map<LinkDiscovered, LinkEntry> linkToDate;
+    private final List<Queue<LinkEntry>> wheel;
     private final Timer timer;
     private final NotificationPublishService notificationService;
     private final AutoCloseable configurationServiceRegistration;
@@ -56,15 +69,31 @@ public class LLDPLinkAger implements ConfigurationListener, AutoCloseable {
         this.notificationService = notificationService;
         this.configurationServiceRegistration = configurationService.registerListener(this);
         this.eos = entityOwnershipService;
+        this.tickInterval = topologyLldpDiscoveryConfig.getTopologyLldpInterval().getValue();
         linkToDate = new ConcurrentHashMap<>();
+        final int slots = (int) (linkExpirationTime / tickInterval) + 2;
+        wheel = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            wheel.add(new ConcurrentLinkedQueue<>());
+        }
         timer = new Timer();
-        timer.schedule(new LLDPAgingTask(), 0, topologyLldpDiscoveryConfig.getTopologyLldpInterval().getValue());
+        timer.schedule(new LLDPAgingTask(Math.floorDiv(now(), tickInterval)), 0, tickInterval);
     }
 
     public void put(LinkDiscovered link) {
-        Date expires = new Date();
-        expires.setTime(expires.getTime() + linkExpirationTime);
-        linkToDate.put(link, expires);
+        final long expires = now() + linkExpirationTime;
+        final LinkEntry entry = linkToDate.get(link);
+        if (entry != null) {
+            entry.expires = expires;
+            return;
+        }
+
+        final LinkEntry newEntry = new LinkEntry(link, expires);
+        if (linkToDate.putIfAbsent(link, newEntry) == null) {
+            schedule(newEntry, Math.floorDiv(now(), tickInterval));
+        } else {
+            put(link);
+        }
     }
 
     @Override
@@ -72,40 +101,80 @@ public class LLDPLinkAger implements ConfigurationListener, AutoCloseable {
     public void close() throws Exception {
         timer.cancel();
         linkToDate.clear();
+        wheel.forEach(Queue::clear);
         configurationServiceRegistration.close();
     }
 
+    private void schedule(final LinkEntry entry, final long currentTick) {
+        // Slots of past and current ticks may have been visited already
+        final long tick = Math.max(Math.floorDiv(entry.expires, tickInterval), currentTick + 1);
+        wheel.get((int) Math.floorMod(tick, wheel.size())).add(entry);
+    }
+
+    private void expire(final LinkDiscovered link) {
+        if (notificationService != null) {
+            LinkRemovedBuilder lrb = new LinkRemovedBuilder(link);
+
+            NodeKey nodeKey = link.getDestination().getValue().firstKeyOf(Node.class);
+            LOG.info("No update received for link {} from last {} milliseconds. Removing link from cache.",
+                    link, linkExpirationTime);
+            if (nodeKey != null && LLDPDiscoveryUtils.isEntityOwned(eos, nodeKey.getId().getValue())) {
+                LOG.info("Publish Link Remove event for the link {}", link);
+                final LinkRemoved lr = lrb.build();
+                try {
+                    notificationService.putNotification(lr);
+                } catch (InterruptedException e) {
+                    LOG.warn("Interrupted while publishing notification {}", lr, e);
+                }
+            } else {
+                LOG.trace("Skip publishing Link Remove event for the link {} because link destination "
+                        + "node is not owned by the controller", link);
+            }
+        }
+    }
+
+    private static long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private static final class LinkEntry {
+        private final LinkDiscovered link;
+        private volatile long expires;
+
+        LinkEntry(final LinkDiscovered link, final long expires) {
+            this.link = link;
+            this.expires = expires;
+        }
+    }
+
     private class LLDPAgingTask extends TimerTask {
+        private long lastTick;
+
+        LLDPAgingTask(final long lastTick) {
+            this.lastTick = lastTick;
+        }
 
         @Override
         public void run() {
-            for (Entry<LinkDiscovered, Date> entry : linkToDate.entrySet()) {
-                LinkDiscovered link = entry.getKey();
-                Date expires = entry.getValue();
-                Date now = new Date();
-                if (now.after(expires)) {
-                    if (notificationService != null) {
-                        LinkRemovedBuilder lrb = new LinkRemovedBuilder(link);
-
-                        NodeKey nodeKey = link.getDestination().getValue().firstKeyOf(Node.class);
-                        LOG.info("No update received for link {} from last {} milliseconds. Removing link from cache.",
-                                link, linkExpirationTime);
-                        linkToDate.remove(link);
-                        if (nodeKey != null && LLDPDiscoveryUtils.isEntityOwned(eos, nodeKey.getId().getValue())) {
-                            LOG.info("Publish Link Remove event for the link {}", link);
-                            final LinkRemoved lr = lrb.build();
-                            try {
-                                notificationService.putNotification(lr);
-                            } catch (InterruptedException e) {
-                                LOG.warn("Interrupted while publishing notification {}", lr, e);
-                            }
-                        } else {
-                            LOG.trace("Skip publishing Link Remove event for the link {} because link destination "
-                                    + "node is not owned by the controller", link);
-                        }
+            final long now = now();
+            final long currentTick = Math.floorDiv(now, tickInterval);
+            // Visit each slot at most once, even if the timer was delayed for a whole turn of the wheel
+            final long firstTick = Math.max(lastTick + 1, currentTick - wheel.size() + 1);
+            for (long tick = firstTick; tick <= currentTick; tick++) {
+                final Queue<LinkEntry> slot = wheel.get((int) Math.floorMod(tick, wheel.size()));
+                for (int i = slot.size(); i > 0; i--) {
+                    final LinkEntry entry = slot.poll();
+                    if (entry == null) {
+                        break;
+                    }
+                    if (entry.expires > now) {
+                        schedule(entry, currentTick);
+                    } else if (linkToDate.remove(entry.link, entry)) {
+                        expire(entry.link);
                     }
                 }
             }
+            lastTick = currentTick;
         }
     }
 
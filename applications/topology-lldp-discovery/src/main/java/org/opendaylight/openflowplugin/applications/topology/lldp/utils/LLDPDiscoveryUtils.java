@@ -8,26 +8,18 @@
 package org.opendaylight.openflowplugin.applications.topology.lldp.utils;
 
 import com.google.common.base.Preconditions;
-import com.google.common.hash.HashCode;
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import java.lang.management.ManagementFactory;
-import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
-import org.apache.commons.lang3.ArrayUtils;
+import java.util.concurrent.ConcurrentHashMap;
 import org.opendaylight.mdsal.eos.binding.api.Entity;
 import org.opendaylight.mdsal.eos.binding.api.EntityOwnershipService;
 import org.opendaylight.mdsal.eos.common.api.EntityOwnershipState;
 import org.opendaylight.openflowplugin.applications.topology.lldp.LLDPActivator;
-import org.opendaylight.openflowplugin.libraries.liblldp.Ethernet;
-import org.opendaylight.openflowplugin.libraries.liblldp.LLDP;
 import org.opendaylight.openflowplugin.libraries.liblldp.LLDPTLV;
-import org.opendaylight.openflowplugin.libraries.liblldp.NetUtils;
-import org.opendaylight.openflowplugin.libraries.liblldp.PacketException;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorRef;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
@@ -50,6 +42,17 @@ public final class LLDPDiscoveryUtils {
     private static final short ETHERNET_VLAN_OFFSET = ETHERNET_TYPE_OFFSET + 4;
     private static final String SERVICE_ENTITY_TYPE = "org.opendaylight.mdsal.ServiceEntityType";
 
+    private static final int TLV_HEADER_LENGTH = 2;
+    private static final byte[] CUSTOM_TLV_OUI = new byte[] { (byte) 0x00, (byte) 0x26, (byte) 0xe1 };
+    private static final byte CUSTOM_TLV_SUB_TYPE_NODE_CONNECTOR_ID = 0;
+    private static final byte CUSTOM_TLV_SUB_TYPE_CUSTOM_SEC = 1;
+    private static final int CUSTOM_TLV_OFFSET = CUSTOM_TLV_OUI.length + 1;
+    private static final int MAX_CACHED_AUTHENTICATORS = 65536;
+    private static final String RUNTIME_NAME = ManagementFactory.getRuntimeMXBean().getName();
+
+    private static final Map<NodeConnectorId, byte[]> AUTHENTICATORS = new ConcurrentHashMap<>();
+    private static volatile String authenticatorKey;
+
     private LLDPDiscoveryUtils() {
     }
 
@@ -74,66 +77,88 @@ public final class LLDPDiscoveryUtils {
     }
 
     /**
-     * Returns the encoded in custom TLV for the given lldp.
+     * Returns the encoded in custom TLV for the given lldp. TLVs are read from the payload in place, without
+     * decoding the whole packet.
      *
      * @param payload lldp payload
      * @param useExtraAuthenticatorCheck make it more secure (CVE-2015-1611 CVE-2015-1612)
      * @return nodeConnectorId - encoded in custom TLV of given lldp
      */
-    @SuppressWarnings("checkstyle:IllegalCatch")
     public static NodeConnectorRef lldpToNodeConnectorRef(byte[] payload, boolean useExtraAuthenticatorCheck)  {
-        NodeConnectorRef nodeConnectorRef = null;
-
-        if (isLLDP(payload)) {
-            Ethernet ethPkt = new Ethernet();
-            try {
-                ethPkt.deserialize(payload, 0, payload.length * NetUtils.NUM_BITS_IN_A_BYTE);
-            } catch (PacketException e) {
-                LOG.warn("Failed to decode LLDP packet", e);
-                return nodeConnectorRef;
-            }
+        final int lldpOffset = getLLDPOffset(payload);
+        if (lldpOffset < 0) {
+            return null;
+        }
 
-            LLDP lldp = (LLDP) ethPkt.getPayload();
+        int systemNameOffset = -1;
+        int systemNameLength = 0;
+        int portOffset = -1;
+        int portLength = 0;
+        int secOffset = -1;
+        int secLength = 0;
 
-            try {
-                NodeId srcNodeId = null;
-                NodeConnectorId srcNodeConnectorId = null;
+        int offset = lldpOffset;
+        while (offset + TLV_HEADER_LENGTH <= payload.length) {
+            final int type = (payload[offset] & 0xff) >>> 1;
+            final int length = (payload[offset] & 0x01) << 8 | payload[offset + 1] & 0xff;
+            final int valueOffset = offset + TLV_HEADER_LENGTH;
+            if (type == 0) {
+                break;
+            }
+            if (valueOffset + length > payload.length) {
+                LOG.warn("Failed to decode LLDP packet, TLV of type {} exceeds the packet", type);
+                return null;
+            }
 
-                final LLDPTLV systemIdTLV = lldp.getSystemNameId();
-                if (systemIdTLV != null) {
-                    String srcNodeIdString = new String(systemIdTLV.getValue(), Charset.defaultCharset());
-                    srcNodeId = new NodeId(srcNodeIdString);
-                } else {
-                    throw new Exception("Node id wasn't specified via systemNameId in LLDP packet.");
+            if (type == LLDPTLV.TLVType.SystemName.getValue()) {
+                systemNameOffset = valueOffset;
+                systemNameLength = length;
+            } else if (type == LLDPTLV.TLVType.Custom.getValue() && isCustomTLV(payload, valueOffset, length)) {
+                final byte subType = payload[valueOffset + CUSTOM_TLV_OUI.length];
+                if (subType == CUSTOM_TLV_SUB_TYPE_NODE_CONNECTOR_ID) {
+                    portOffset = valueOffset + CUSTOM_TLV_OFFSET;
+                    portLength = length - CUSTOM_TLV_OFFSET;
+                } else if (subType == CUSTOM_TLV_SUB_TYPE_CUSTOM_SEC) {
+                    secOffset = valueOffset + CUSTOM_TLV_OFFSET;
+                    secLength = length - CUSTOM_TLV_OFFSET;
                 }
+            }
+            offset = valueOffset + length;
+        }
 
-                final LLDPTLV nodeConnectorIdLldptlv = lldp.getCustomTLV(LLDPTLV.createPortSubTypeCustomTLVKey());
-                if (nodeConnectorIdLldptlv != null) {
-                    srcNodeConnectorId = new NodeConnectorId(LLDPTLV.getCustomString(
-                            nodeConnectorIdLldptlv.getValue(), nodeConnectorIdLldptlv.getLength()));
-                } else {
-                    throw new Exception("Node connector wasn't specified via Custom TLV in LLDP packet.");
-                }
+        if (systemNameOffset < 0) {
+            LOG.debug("Node id wasn't specified via systemNameId in LLDP packet.");
+            return null;
+        }
+        if (portOffset < 0) {
+            LOG.debug("Node connector wasn't specified via Custom TLV in LLDP packet.");
+            return null;
+        }
 
-                if (useExtraAuthenticatorCheck) {
-                    boolean secure = checkExtraAuthenticator(lldp, srcNodeConnectorId);
-                    if (!secure) {
-                        LOG.warn("SECURITY ALERT: there is probably a LLDP spoofing attack in progress.");
-                        throw new Exception(
-                                "Attack. LLDP packet with inconsistent extra authenticator field was received.");
-                    }
-                }
+        try {
+            final NodeId srcNodeId = new NodeId(new String(payload, systemNameOffset, systemNameLength,
+                    Charset.defaultCharset()));
+            final NodeConnectorId srcNodeConnectorId = new NodeConnectorId(new String(payload, portOffset, portLength,
+                    StandardCharsets.UTF_8));
 
-                InstanceIdentifier<NodeConnector> srcInstanceId = InstanceIdentifier.builder(Nodes.class)
-                        .child(Node.class, new NodeKey(srcNodeId))
-                        .child(NodeConnector.class, new NodeConnectorKey(srcNodeConnectorId))
-                        .build();
-                nodeConnectorRef = new NodeConnectorRef(srcInstanceId);
-            } catch (Exception e) {
-                LOG.debug("Caught exception while parsing out lldp optional and custom fields", e);
+            if (useExtraAuthenticatorCheck) {
+                boolean secure = checkExtraAuthenticator(payload, secOffset, secLength, srcNodeConnectorId);
+                if (!secure) {
+                    LOG.warn("SECURITY ALERT: there is probably a LLDP spoofing attack in progress.");
+                    LOG.debug("Attack. LLDP packet with inconsistent extra authenticator field was received.");
+                    return null;
+                }
             }
+
+            InstanceIdentifier<NodeConnector> srcInstanceId = InstanceIdentifier.builder(Nodes.class)
+                    .child(Node.class, new NodeKey(srcNodeId))
+                    .child(NodeConnector.class, new NodeConnectorKey(srcNodeConnectorId))
+                    .build();
+            return new NodeConnectorRef(srcInstanceId);
+        } catch (IllegalArgumentException e) {
+            LOG.debug("Caught exception while parsing out lldp optional and custom fields", e);
+            return null;
         }
-        return nodeConnectorRef;
     }
 
     /**
@@ -143,50 +168,79 @@ public final class LLDPDiscoveryUtils {
      * @return extra authenticator for lldp security
      */
     public static byte[] getValueForLLDPPacketIntegrityEnsuring(final NodeConnectorId nodeConnectorId) {
-        String finalKey;
+        return getAuthenticator(nodeConnectorId).clone();
+    }
+
+    /**
+     * Gets a cached extra authenticator, the returned array must not be modified. Authenticators are computed again
+     * once the secure key changes.
+     */
+    private static byte[] getAuthenticator(final NodeConnectorId nodeConnectorId) {
+        final String finalKey;
         if (LLDPActivator.getLldpSecureKey() != null && !LLDPActivator.getLldpSecureKey().isEmpty()) {
             finalKey = LLDPActivator.getLldpSecureKey();
         } else {
-            finalKey = ManagementFactory.getRuntimeMXBean().getName();
+            finalKey = RUNTIME_NAME;
         }
-        final String pureValue = nodeConnectorId + finalKey;
 
-        final byte[] pureBytes = pureValue.getBytes(StandardCharsets.UTF_8);
-        HashFunction hashFunction = Hashing.md5();
-        Hasher hasher = hashFunction.newHasher();
-        HashCode hashedValue = hasher.putBytes(pureBytes).hash();
-        return hashedValue.asBytes();
+        if (!finalKey.equals(authenticatorKey) || AUTHENTICATORS.size() >= MAX_CACHED_AUTHENTICATORS) {
+            AUTHENTICATORS.clear();
+            authenticatorKey = finalKey;
+        }
+        return AUTHENTICATORS.computeIfAbsent(nodeConnectorId, key -> Hashing.md5()
+                .hashBytes((key + finalKey).getBytes(StandardCharsets.UTF_8))
+                .asBytes());
     }
 
-    private static boolean checkExtraAuthenticator(LLDP lldp, NodeConnectorId srcNodeConnectorId) {
-        final LLDPTLV hashLldptlv = lldp.getCustomTLV(LLDPTLV.createSecSubTypeCustomTLVKey());
-        boolean secAuthenticatorOk = false;
-        if (hashLldptlv != null) {
-            byte[] rawTlvValue = hashLldptlv.getValue();
-            byte[] lldpCustomSecurityHash = ArrayUtils.subarray(rawTlvValue, 4, rawTlvValue.length);
-            byte[] calculatedHash = getValueForLLDPPacketIntegrityEnsuring(srcNodeConnectorId);
-            secAuthenticatorOk = Arrays.equals(calculatedHash, lldpCustomSecurityHash);
-        } else {
+    private static boolean checkExtraAuthenticator(final byte[] payload, final int secOffset, final int secLength,
+                                                   final NodeConnectorId srcNodeConnectorId) {
+        if (secOffset < 0) {
             LOG.debug("Custom security hint wasn't specified via Custom TLV in LLDP packet.");
+            return false;
         }
 
-        return secAuthenticatorOk;
+        final byte[] calculatedHash = getAuthenticator(srcNodeConnectorId);
+        if (calculatedHash.length != secLength) {
+            return false;
+        }
+        for (int i = 0; i < secLength; i++) {
+            if (calculatedHash[i] != payload[secOffset + i]) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private static boolean isLLDP(final byte[] packet) {
+    private static boolean isCustomTLV(final byte[] payload, final int valueOffset, final int length) {
+        return length >= CUSTOM_TLV_OFFSET
+                && payload[valueOffset] == CUSTOM_TLV_OUI[0]
+                && payload[valueOffset + 1] == CUSTOM_TLV_OUI[1]
+                && payload[valueOffset + 2] == CUSTOM_TLV_OUI[2];
+    }
+
+    /**
+     * Gets offset of the first LLDP TLV in an ethernet frame.
+     *
+     * @return offset of the first TLV, or -1 if the packet is not LLDP
+     */
+    private static int getLLDPOffset(final byte[] packet) {
         if (packet == null || packet.length < MINIMUM_LLDP_SIZE) {
-            return false;
+            return -1;
         }
 
-        final ByteBuffer bb = ByteBuffer.wrap(packet);
-
-        short ethernetType = bb.getShort(ETHERNET_TYPE_OFFSET);
+        short ethernetType = getShort(packet, ETHERNET_TYPE_OFFSET);
+        int offset = ETHERNET_TYPE_OFFSET + 2;
 
         if (ethernetType == ETHERNET_TYPE_VLAN) {
-            ethernetType = bb.getShort(ETHERNET_VLAN_OFFSET);
+            ethernetType = getShort(packet, ETHERNET_VLAN_OFFSET);
+            offset = ETHERNET_VLAN_OFFSET + 2;
         }
 
-        return ethernetType == ETHERNET_TYPE_LLDP;
+        return ethernetType == ETHERNET_TYPE_LLDP ? offset : -1;
+    }
+
+    private static short getShort(final byte[] packet, final int offset) {
+        return (short) ((packet[offset] & 0xff) << 8 | packet[offset + 1] & 0xff);
     }
 
     public static boolean isEntityOwned(final EntityOwnershipService eos, final String nodeId) {
@@ -11,6 +11,7 @@ package org.opendaylight.openflowplugin.applications.topology.lldp;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
@@ -98,6 +99,23 @@ public class LLDPLinkAgerTest {
         verify(notificationService).putNotification(any(LinkRemoved.class));
     }
 
+    /**
+     * Links refreshed within the expiration time are kept, they expire once they are not refreshed anymore.
+     */
+    @Test
+    public void testLLDPAgingTaskRefresh() throws InterruptedException {
+        for (int i = 0; i < SLEEP / 2; i++) {
+            lldpLinkAger.put(link);
+            Thread.sleep(2);
+        }
+        verify(notificationService, never()).putNotification(any(LinkRemoved.class));
+        assertFalse(lldpLinkAger.isLinkToDateEmpty());
+
+        Thread.sleep(SLEEP);
+        verify(notificationService).putNotification(any(LinkRemoved.class));
+        assertTrue(lldpLinkAger.isLinkToDateEmpty());
+    }
+
     private TopologyLldpDiscoveryConfig getConfig() {
         TopologyLldpDiscoveryConfigBuilder cfgBuilder = new TopologyLldpDiscoveryConfigBuilder();
         cfgBuilder.setTopologyLldpInterval(new NonZeroUint32Type(LLDP_INTERVAL));
@@ -9,11 +9,15 @@
 package org.opendaylight.openflowplugin.applications.topology.lldp.utils;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorRef;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.node.NodeConnector;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.node.NodeConnectorKey;
@@ -29,6 +33,16 @@ import org.slf4j.LoggerFactory;
 public class LLDPDiscoveryUtilsTest {
 
     private static final Logger LOG = LoggerFactory.getLogger(LLDPDiscoveryUtilsTest.class);
+    private static final byte[] ETHERNET_HEADER = {
+        0x01, 0x23, 0x00, 0x00, 0x00, 0x01, (byte) 0x8a, (byte) 0x8e, (byte) 0xcc, (byte) 0x85, (byte) 0xeb, 0x27
+    };
+    private static final byte[] VLAN_TAG = { (byte) 0x81, 0x00, 0x00, 0x0a };
+    private static final byte[] LLDP_TYPE = { (byte) 0x88, (byte) 0xcc };
+    private static final byte[] MANDATORY_TLVS = {
+        0x02, 0x07, 0x04, 0x00, 0x00, 0x00, 0x00, 0x00, 0x02,
+        0x04, 0x02, 0x07, 0x32,
+        0x06, 0x02, 0x13, 0x37
+    };
 
     @Test
     public void testLldpToNodeConnectorRefLLDP() {
@@ -76,4 +90,68 @@ public class LLDPDiscoveryUtilsTest {
 
         assertNull(nodeConnectorRef);
     }
+
+    @Test
+    public void testLldpToNodeConnectorRefAuthenticated() {
+        final byte[] authenticator = LLDPDiscoveryUtils.getValueForLLDPPacketIntegrityEnsuring(
+                new NodeConnectorId("openflow:2:2"));
+        final NodeConnectorRef nodeConnectorRef = LLDPDiscoveryUtils.lldpToNodeConnectorRef(
+                createPacket(false, authenticator), true);
+
+        assertNotNull(nodeConnectorRef);
+        assertEquals("openflow:2:2",
+                nodeConnectorRef.getValue().firstKeyOf(NodeConnector.class).getId().getValue());
+    }
+
+    @Test
+    public void testLldpToNodeConnectorRefVlan() {
+        final NodeConnectorRef nodeConnectorRef = LLDPDiscoveryUtils.lldpToNodeConnectorRef(
+                createPacket(true, new byte[16]), false);
+
+        assertEquals("openflow:2", nodeConnectorRef.getValue().firstKeyOf(Node.class).getId().getValue());
+    }
+
+    @Test
+    public void testLldpToNodeConnectorRefWrongAuthenticator() {
+        assertNull(LLDPDiscoveryUtils.lldpToNodeConnectorRef(createPacket(false, new byte[16]), true));
+    }
+
+    @Test
+    public void testLldpToNodeConnectorRefTruncated() {
+        final byte[] packet = createPacket(false, new byte[16]);
+        // Custom TLV with the authenticator claims more data than the packet holds
+        packet[packet.length - 23] = (byte) 0x40;
+
+        assertNull(LLDPDiscoveryUtils.lldpToNodeConnectorRef(packet, false));
+    }
+
+    private static byte[] createPacket(final boolean vlan, final byte[] authenticator) {
+        final ByteArrayOutputStream packet = new ByteArrayOutputStream();
+        packet.write(ETHERNET_HEADER, 0, ETHERNET_HEADER.length);
+        if (vlan) {
+            packet.write(VLAN_TAG, 0, VLAN_TAG.length);
+        }
+        packet.write(LLDP_TYPE, 0, LLDP_TYPE.length);
+        packet.write(MANDATORY_TLVS, 0, MANDATORY_TLVS.length);
+        writeTlv(packet, 5, "openflow:2".getBytes(StandardCharsets.UTF_8));
+        writeTlv(packet, 127, concat(new byte[] { 0x00, 0x26, (byte) 0xe1, 0x00 },
+                "openflow:2:2".getBytes(StandardCharsets.UTF_8)));
+        writeTlv(packet, 127, concat(new byte[] { 0x00, 0x26, (byte) 0xe1, 0x01 }, authenticator));
+        packet.write(0);
+        packet.write(0);
+        return packet.toByteArray();
+    }
+
+    private static void writeTlv(final ByteArrayOutputStream packet, final int type, final byte[] value) {
+        packet.write(type << 1 | value.length >>> 8);
+        packet.write(value.length);
+        packet.write(value, 0, value.length);
+    }
+
+    private static byte[] concat(final byte[] first, final byte[] second) {
+        final byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
 }
@@ -115,4 +115,14 @@ public interface ConnectionAdapter extends OpenflowProtocolService {
      */
     @Beta
     void setPacketInFiltering(boolean enabled);
+
+    /**
+     * Sets the listener for PACKET_IN messages received through the fast path. Messages it does not consume are
+     * delivered to the message listener as usual.
+     *
+     * @param packetInListener here will be pushed all PACKET_IN views, null to deliver all of them to the message
+     *                         listener
+     */
+    @Beta
+    void setPacketInFastPathListener(PacketInFastPathListener packetInListener);
 }
@@ -8,6 +8,8 @@
 package org.opendaylight.openflowjava.protocol.api.connection;
 
 import java.net.InetAddress;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.ConnectionPlacement;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.NativeTransport;
 
 /**
  * Configuration for a switch connection.
@@ -86,4 +88,60 @@ public interface ConnectionConfiguration {
      * @return Configurable queue size
      */
     int getChannelOutboundQueueSize();
+
+    /**
+     * Checks if inbound frames should be decoded in batches.
+     *
+     * @return true if all complete frames of a channel read are passed down the pipeline as a single batch
+     */
+    boolean isFrameBatchingEnabled();
+
+    /**
+     * Checks if PACKET_IN messages should be delivered through the fast path.
+     *
+     * @return true if PACKET_IN messages are passed to {@link PacketInFastPathListener} as {@link PacketInView}s
+     */
+    boolean isPacketInFastPathEnabled();
+
+    /**
+     * Returns the maximum delay of a channel flush.
+     *
+     * @return time in microseconds a flush may be delayed to coalesce it with subsequent writes, 0 if disabled
+     */
+    long getFlushCoalescingDelay();
+
+    /**
+     * Returns the number of unflushed bytes triggering an immediate flush.
+     *
+     * @return byte threshold, only used when flush coalescing is enabled
+     */
+    int getFlushCoalescingThreshold();
+
+    /**
+     * Returns the number of outbound queue segments pooled per event loop.
+     *
+     * @return maximum number of pooled segments, 0 if segments are cached through soft references
+     */
+    int getSegmentPoolSize();
+
+    /**
+     * Returns the requested Netty transport.
+     *
+     * @return transport to use, AUTO to select the most efficient available one
+     */
+    NativeTransport getNativeTransport();
+
+    /**
+     * Returns the policy assigning switch connections to worker event loops.
+     *
+     * @return connection placement policy
+     */
+    ConnectionPlacement getConnectionPlacement();
+
+    /**
+     * Returns the socket configuration.
+     *
+     * @return socket tuning options, if null, defaults are used
+     */
+    SocketConfiguration getSocketConfiguration();
 }
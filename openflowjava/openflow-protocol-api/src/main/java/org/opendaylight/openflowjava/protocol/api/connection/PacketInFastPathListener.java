@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.api.connection;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * Listener for PACKET_IN messages delivered as {@link PacketInView}s, without creating their binding objects.
+ * Views are only produced when the PACKET_IN fast path is enabled in the connection configuration.
+ */
+@Beta
+public interface PacketInFastPathListener {
+
+    /**
+     * Handles a received PACKET_IN message. The view is released after this method returns.
+     *
+     * @param packetIn view of the received message
+     * @return true if the message was consumed, false if it should be delivered to the message listener
+     */
+    boolean onPacketIn(PacketInView packetIn);
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.api.connection;
+
+import com.google.common.annotations.Beta;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.PacketInReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * Read-only view of a received OpenFlow 1.3 PACKET_IN message, backed by the inbound buffer. Views are pooled
+ * and reference counted: the library releases a view once {@link PacketInFastPathListener#onPacketIn(PacketInView)}
+ * returns, a listener which needs it for longer has to {@link #retain()} it and {@link #release()} it when done.
+ * Buffers returned by this view are only valid while the view is referenced.
+ */
+@Beta
+public interface PacketInView extends ReferenceCounted {
+
+    /**
+     * Returns the protocol version.
+     *
+     * @return OpenFlow wire version
+     */
+    short getVersion();
+
+    /**
+     * Returns the transaction id.
+     *
+     * @return xid
+     */
+    long getXid();
+
+    /**
+     * Returns the buffer id.
+     *
+     * @return buffer_id
+     */
+    long getBufferId();
+
+    /**
+     * Returns the full length of the packet.
+     *
+     * @return total_len
+     */
+    int getTotalLen();
+
+    /**
+     * Returns the reason the packet is being sent.
+     *
+     * @return reason
+     */
+    PacketInReason getReason();
+
+    /**
+     * Returns the id of the table that was looked up.
+     *
+     * @return table_id
+     */
+    short getTableId();
+
+    /**
+     * Returns the cookie of the flow entry that was looked up.
+     *
+     * @return cookie as an unsigned 64-bit value
+     */
+    long getCookie();
+
+    /**
+     * Returns the ingress port, read from the match without deserializing it.
+     *
+     * @return value of the OXM_OF_IN_PORT entry, or -1 if the match does not carry one
+     */
+    long getInPort();
+
+    /**
+     * Returns the raw match structure, starting at its type field and including padding.
+     *
+     * @return buffer holding the match, must not be modified
+     */
+    ByteBuf getMatchBuffer();
+
+    /**
+     * Returns the packet payload.
+     *
+     * @return buffer holding the payload, must not be modified
+     */
+    ByteBuf getPayload();
+
+    /**
+     * Deserializes the match structure.
+     *
+     * @return match
+     */
+    Match getMatch();
+
+    /**
+     * Deserializes the whole message into the binding representation PACKET_IN is mapped to by the registered
+     * deserializers.
+     *
+     * @return packet in message, null if the message cannot be deserialized
+     */
+    DataObject toMessage();
+
+    @Override
+    PacketInView retain();
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.api.connection;
+
+/**
+ * Socket tuning configuration of switch connections.
+ */
+public interface SocketConfiguration {
+
+    /**
+     * Returns the socket receive buffer size (SO_RCVBUF).
+     *
+     * @return receive buffer size in bytes, 0 to keep the system default
+     */
+    int getReceiveBufferSize();
+
+    /**
+     * Returns the socket send buffer size (SO_SNDBUF).
+     *
+     * @return send buffer size in bytes, 0 to keep the system default
+     */
+    int getSendBufferSize();
+
+    /**
+     * Checks if Nagle's algorithm should be disabled (TCP_NODELAY).
+     *
+     * @return true if segments are sent as soon as possible
+     */
+    boolean isTcpNoDelay();
+
+    /**
+     * Returns the busy poll timeout (SO_BUSY_POLL). Only supported by the epoll transport.
+     *
+     * @return time in microseconds to busy poll the device queue on blocking receive, 0 if disabled
+     */
+    int getBusyPoll();
+
+    /**
+     * Returns the low write buffer watermark.
+     *
+     * @return number of outbound bytes below which an unwritable channel becomes writable again
+     */
+    int getWriteBufferLowWatermark();
+
+    /**
+     * Returns the high write buffer watermark.
+     *
+     * @return number of outbound bytes above which a channel becomes unwritable
+     */
+    int getWriteBufferHighWatermark();
+}
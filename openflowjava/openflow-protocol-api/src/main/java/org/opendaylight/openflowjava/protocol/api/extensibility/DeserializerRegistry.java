@@ -7,6 +7,9 @@
  */
 package org.opendaylight.openflowjava.protocol.api.extensibility;
 
+import org.opendaylight.openflowjava.protocol.api.keys.ActionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
 
 /**
@@ -31,6 +34,61 @@ public interface DeserializerRegistry {
     <T extends OFGeneralDeserializer>
             T getDeserializer(MessageCodeKey key);
 
+    /**
+     * Gets the deserializer registered under a plain {@link MessageCodeKey}. Implementations may resolve
+     * the deserializer without allocating a key.
+     *
+     * @param <T> type of particular deserializer
+     * @param version protocol wire version
+     * @param value distinguisher read from the buffer
+     * @param clazz class of object that is going to be deserialized
+     * @return deserializer found
+     */
+    default <T extends OFGeneralDeserializer> T getDeserializer(short version, int value, Class<?> clazz) {
+        return getDeserializer(new MessageCodeKey(version, value, clazz));
+    }
+
+    /**
+     * Gets the deserializer of a non-experimenter match entry. Implementations may resolve the deserializer
+     * without allocating a key.
+     *
+     * @param <T> type of particular deserializer
+     * @param version protocol wire version
+     * @param oxmClass oxm_class
+     * @param oxmField oxm_field
+     * @return deserializer found
+     */
+    default <T extends OFGeneralDeserializer> T getMatchEntryDeserializer(short version, int oxmClass,
+            int oxmField) {
+        return getDeserializer(new MatchEntryDeserializerKey(version, oxmClass, oxmField));
+    }
+
+    /**
+     * Gets the deserializer of a non-experimenter action. Implementations may resolve the deserializer
+     * without allocating a key.
+     *
+     * @param <T> type of particular deserializer
+     * @param version protocol wire version
+     * @param type action type
+     * @return deserializer found
+     */
+    default <T extends OFGeneralDeserializer> T getActionDeserializer(short version, int type) {
+        return getDeserializer(new ActionDeserializerKey(version, type, null));
+    }
+
+    /**
+     * Gets the deserializer of a non-experimenter instruction. Implementations may resolve the deserializer
+     * without allocating a key.
+     *
+     * @param <T> type of particular deserializer
+     * @param version protocol wire version
+     * @param type instruction type
+     * @return deserializer found
+     */
+    default <T extends OFGeneralDeserializer> T getInstructionDeserializer(short version, int type) {
+        return getDeserializer(new InstructionDeserializerKey(version, type, null));
+    }
+
     /**
      * Registers a deserializer.
      * Throws IllegalStateException when there is
@@ -7,7 +7,14 @@
  */
 package org.opendaylight.openflowjava.protocol.api.extensibility;
 
+import org.opendaylight.openflowjava.protocol.api.keys.ActionSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntrySerializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.action.grouping.ActionChoice;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instruction.grouping.InstructionChoice;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.MatchField;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.OxmClassBase;
 
 /**
  * Stores and handles serializers. <br>
@@ -31,6 +38,67 @@ public interface SerializerRegistry {
      */
     <K, S extends OFGeneralSerializer> S getSerializer(MessageTypeKey<K> msgTypeKey);
 
+    /**
+     * Gets the serializer registered under a plain {@link MessageTypeKey}. Implementations may resolve
+     * the serializer without allocating a key.
+     *
+     * @param <K> serialized object type
+     * @param <S> type of resulting serializer
+     * @param version protocol wire version
+     * @param msgType class of serialized object
+     * @return serializer or NullPointerException if no serializer was found
+     */
+    default <K, S extends OFGeneralSerializer> S getMessageSerializer(short version, Class<K> msgType) {
+        return getSerializer(new MessageTypeKey<>(version, msgType));
+    }
+
+    /**
+     * Gets the serializer of a non-experimenter match entry. Implementations may resolve the serializer
+     * without allocating a key.
+     *
+     * @param <C> oxm_class type
+     * @param <F> oxm_field type
+     * @param <S> type of resulting serializer
+     * @param version protocol wire version
+     * @param oxmClass oxm_class
+     * @param oxmField oxm_field
+     * @return serializer or NullPointerException if no serializer was found
+     */
+    default <C extends OxmClassBase, F extends MatchField, S extends OFGeneralSerializer> S getMatchEntrySerializer(
+            short version, Class<C> oxmClass, Class<F> oxmField) {
+        return getSerializer(new MatchEntrySerializerKey<>(version, oxmClass, oxmField));
+    }
+
+    /**
+     * Gets the serializer of a non-experimenter action. Implementations may resolve the serializer
+     * without allocating a key.
+     *
+     * @param <T> action choice type
+     * @param <S> type of resulting serializer
+     * @param version protocol wire version
+     * @param actionType type of action
+     * @return serializer or NullPointerException if no serializer was found
+     */
+    default <T extends ActionChoice, S extends OFGeneralSerializer> S getActionSerializer(short version,
+            Class<T> actionType) {
+        return getSerializer(new ActionSerializerKey<>(version, actionType, null));
+    }
+
+    /**
+     * Gets the serializer of a non-experimenter instruction. Implementations may resolve the serializer
+     * without allocating a key.
+     *
+     * @param <T> instruction choice type
+     * @param <S> type of resulting serializer
+     * @param version protocol wire version
+     * @param instructionType type of instruction
+     * @return serializer or NullPointerException if no serializer was found
+     */
+    default <T extends InstructionChoice, S extends OFGeneralSerializer> S getInstructionSerializer(short version,
+            Class<T> instructionType) {
+        return getSerializer(new InstructionSerializerKey<>(version, instructionType, null));
+    }
+
     /**
      * Registers a serializer.
      *
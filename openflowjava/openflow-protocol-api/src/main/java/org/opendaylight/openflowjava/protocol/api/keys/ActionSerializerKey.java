@@ -37,6 +37,14 @@ public class ActionSerializerKey<T extends ActionChoice> extends MessageTypeKey<
         this.experimenterId = experimenterId;
     }
 
+    public Class<T> getActionType() {
+        return actionType;
+    }
+
+    public Long getExperimenterId() {
+        return experimenterId;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -37,6 +37,14 @@ public class InstructionSerializerKey<T extends InstructionChoice>
         this.experimenterId = experimenterId;
     }
 
+    public Class<T> getInstructionType() {
+        return instructionType;
+    }
+
+    public Long getExperimenterId() {
+        return experimenterId;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
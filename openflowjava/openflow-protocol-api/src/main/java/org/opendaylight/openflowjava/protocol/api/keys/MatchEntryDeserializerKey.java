@@ -43,6 +43,14 @@ public final class MatchEntryDeserializerKey extends MessageCodeKey
         this.experimenterId = experimenterId;
     }
 
+    public int getOxmField() {
+        return oxmField;
+    }
+
+    public Long getExperimenterId() {
+        return experimenterId;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -49,6 +49,18 @@ public final class MatchEntrySerializerKey<C extends OxmClassBase, F extends Mat
         this.experimenterId = experimenterId;
     }
 
+    public Class<C> getOxmClass() {
+        return oxmClass;
+    }
+
+    public Class<F> getOxmField() {
+        return oxmField;
+    }
+
+    public Long getExperimenterId() {
+        return experimenterId;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -31,6 +31,10 @@ public class MessageCodeKey {
         this.clazz = clazz;
     }
 
+    public short getMsgVersion() {
+        return this.msgVersion;
+    }
+
     public int getMsgType() {
         return this.msgType;
     }
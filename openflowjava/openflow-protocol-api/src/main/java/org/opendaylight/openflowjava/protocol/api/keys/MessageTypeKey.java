@@ -30,6 +30,14 @@ public class MessageTypeKey<E> {
         this.msgVersion = msgVersion;
     }
 
+    public short getMsgVersion() {
+        return msgVersion;
+    }
+
+    public Class<? extends E> getMsgType() {
+        return msgType;
+    }
+
     @Override
     public String toString() {
         return "msgVersion: " + msgVersion + " objectType: " + msgType.getName();
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowjava.protocol.impl.core.OFDecoder;
+import org.opendaylight.openflowjava.protocol.impl.core.OFVersionDetector;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializerRegistryImpl;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures decode throughput of recorded wire messages, both through {@link DeserializationFactory} alone and
+ * through the {@link OFVersionDetector} and {@link OFDecoder} channel handlers. Run with {@code -prof gc} to get
+ * the allocation rate per message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class DecodeBenchmark {
+
+    @Param
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    public Fixture fixture;
+
+    private DeserializationFactory factory;
+    private EmbeddedChannel channel;
+    private ByteBuf wire;
+    private short version;
+
+    @Setup
+    public void setup() {
+        final DeserializerRegistryImpl registry = new DeserializerRegistryImpl();
+        registry.init();
+        factory = new DeserializationFactory(registry);
+
+        final OFDecoder decoder = new OFDecoder();
+        decoder.setDeserializationFactory(factory);
+        channel = new EmbeddedChannel(new OFVersionDetector(), decoder);
+
+        wire = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(fixture.bytes()));
+        version = wire.getUnsignedByte(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public DataObject deserialize() {
+        // OFVersionDetector consumes the version byte before handing the message to OFDecoder
+        wire.readerIndex(1);
+        return factory.deserialize(wire, version);
+    }
+
+    @Benchmark
+    public Object pipeline() {
+        channel.writeInbound(wire.duplicate().readerIndex(0));
+        return channel.readInbound();
+    }
+}
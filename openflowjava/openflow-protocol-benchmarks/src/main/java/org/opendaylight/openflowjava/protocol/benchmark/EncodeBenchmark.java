@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowjava.protocol.impl.core.OFEncoder;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.MessageListenerWrapper;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializerRegistryImpl;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFactory;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializerRegistryImpl;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encode throughput of the messages obtained by decoding the recorded fixtures, both through
+ * {@link SerializationFactory} alone and through the {@link OFEncoder} channel handler. Run with {@code -prof gc}
+ * to get the allocation rate per message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class EncodeBenchmark {
+
+    @Param
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    public Fixture fixture;
+
+    private SerializationFactory factory;
+    private EmbeddedChannel channel;
+    private DataObject message;
+    private ByteBuf out;
+    private short version;
+
+    @Setup
+    public void setup() {
+        final DeserializerRegistryImpl deserializerRegistry = new DeserializerRegistryImpl();
+        deserializerRegistry.init();
+        final ByteBuf wire = Unpooled.wrappedBuffer(fixture.bytes());
+        version = wire.readUnsignedByte();
+        message = new DeserializationFactory(deserializerRegistry).deserialize(wire, version);
+        wire.release();
+
+        final SerializerRegistryImpl serializerRegistry = new SerializerRegistryImpl();
+        serializerRegistry.init();
+        factory = new SerializationFactory(serializerRegistry);
+
+        final OFEncoder encoder = new OFEncoder();
+        encoder.setSerializationFactory(factory);
+        channel = new EmbeddedChannel(encoder);
+
+        out = Unpooled.buffer(fixture.bytes().length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        out.release();
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public ByteBuf serialize() {
+        out.clear();
+        factory.messageToBuffer(version, out, message);
+        return out;
+    }
+
+    @Benchmark
+    public int pipeline() {
+        channel.writeOutbound(new MessageListenerWrapper(message, null));
+        final ByteBuf encoded = channel.readOutbound();
+        final int length = encoded.readableBytes();
+        encoded.release();
+        return length;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmark;
+
+import com.google.common.io.Resources;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.util.ByteBufUtils;
+
+/**
+ * Recorded OpenFlow 1.3 wire messages used as benchmark input. Fixtures are stored as commented hex dumps
+ * in {@code /fixtures}, multipart flow-stats replies are assembled from a single recorded entry.
+ */
+public enum Fixture {
+    ECHO_REQUEST("echo-request"),
+    PACKET_IN("packet-in"),
+    FLOW_MOD("flow-mod"),
+    FLOW_STATS_1(1),
+    FLOW_STATS_100(100),
+    // ofp_header length is 16 bits, 500 entries of 104 bytes is close to the largest reply a switch can send
+    FLOW_STATS_500(500);
+
+    private static final byte MULTIPART_REPLY_TYPE = 19;
+    private static final int MULTIPART_TYPE_FLOW = 1;
+    private static final int MULTIPART_HEADER_LENGTH = 16;
+
+    private final String resource;
+    private final int flowStatsEntries;
+
+    Fixture(final String resource) {
+        this.resource = resource;
+        this.flowStatsEntries = 0;
+    }
+
+    Fixture(final int flowStatsEntries) {
+        this.resource = null;
+        this.flowStatsEntries = flowStatsEntries;
+    }
+
+    /**
+     * Returns the complete message, including the ofp_header.
+     *
+     * @return wire bytes of this fixture
+     */
+    public byte[] bytes() {
+        if (resource != null) {
+            return load(resource);
+        }
+
+        final byte[] entry = load("flow-stats-entry");
+        final ByteBuf out = Unpooled.buffer(MULTIPART_HEADER_LENGTH + entry.length * flowStatsEntries);
+        out.writeByte(EncodeConstants.OF13_VERSION_ID);
+        out.writeByte(MULTIPART_REPLY_TYPE);
+        out.writeShort(EncodeConstants.EMPTY_LENGTH);
+        out.writeInt(ordinal());
+        out.writeShort(MULTIPART_TYPE_FLOW);
+        out.writeShort(0);
+        out.writeZero(4);
+        for (int i = 0; i < flowStatsEntries; i++) {
+            out.writeBytes(entry);
+        }
+        ByteBufUtils.updateOFHeaderLength(out);
+
+        final byte[] ret = new byte[out.readableBytes()];
+        out.readBytes(ret);
+        return ret;
+    }
+
+    private static byte[] load(final String name) {
+        final String dump;
+        try {
+            dump = Resources.toString(Resources.getResource(Fixture.class, "/fixtures/" + name + ".hex"),
+                StandardCharsets.US_ASCII);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load fixture " + name, e);
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        for (String line : dump.split("\n")) {
+            final String trimmed = line.trim();
+            if (!trimmed.isEmpty() && trimmed.charAt(0) != '#') {
+                sb.append(trimmed).append(' ');
+            }
+        }
+        return ByteBufUtils.hexStringToBytes(sb.toString().trim());
+    }
+}
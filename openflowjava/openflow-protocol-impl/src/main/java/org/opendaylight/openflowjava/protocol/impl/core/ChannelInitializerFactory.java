@@ -8,6 +8,7 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core;
 
+import org.opendaylight.openflowjava.protocol.api.connection.SocketConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.SwitchConnectionHandler;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
@@ -27,6 +28,12 @@ public class ChannelInitializerFactory {
     private SwitchConnectionHandler switchConnectionHandler;
     private boolean useBarrier;
     private int channelOutboundQueueSize;
+    private boolean frameBatchingEnabled;
+    private boolean packetInFastPathEnabled;
+    private long flushCoalescingDelay;
+    private int flushCoalescingThreshold;
+    private int segmentPoolSize;
+    private SocketConfiguration socketConfig;
 
     /**
      * Creates a TCP publishing channel initializer.
@@ -42,6 +49,12 @@ public class ChannelInitializerFactory {
         initializer.setSwitchConnectionHandler(switchConnectionHandler);
         initializer.setUseBarrier(useBarrier);
         initializer.setChannelOutboundQueueSize(channelOutboundQueueSize);
+        initializer.setFrameBatchingEnabled(frameBatchingEnabled);
+        initializer.setPacketInFastPathEnabled(packetInFastPathEnabled);
+        initializer.setFlushCoalescingDelay(flushCoalescingDelay);
+        initializer.setFlushCoalescingThreshold(flushCoalescingThreshold);
+        initializer.setSegmentPoolSize(segmentPoolSize);
+        initializer.setSocketConfig(socketConfig);
         return initializer;
     }
 
@@ -119,4 +132,58 @@ public class ChannelInitializerFactory {
     public void setChannelOutboundQueueSize(final int channelOutboundQueueSize) {
         this.channelOutboundQueueSize = channelOutboundQueueSize;
     }
+
+    /**
+     * Sets whether inbound frames are decoded in batches.
+     *
+     * @param frameBatchingEnabled true to pass all complete frames of a read as a single batch
+     */
+    public void setFrameBatchingEnabled(final boolean frameBatchingEnabled) {
+        this.frameBatchingEnabled = frameBatchingEnabled;
+    }
+
+    /**
+     * Sets whether PACKET_IN messages are delivered through the fast path.
+     *
+     * @param packetInFastPathEnabled true to decode PACKET_IN messages into pooled views
+     */
+    public void setPacketInFastPathEnabled(final boolean packetInFastPathEnabled) {
+        this.packetInFastPathEnabled = packetInFastPathEnabled;
+    }
+
+    /**
+     * Sets the maximum delay of outbound channel flushes.
+     *
+     * @param flushCoalescingDelay delay in microseconds, 0 to flush immediately
+     */
+    public void setFlushCoalescingDelay(final long flushCoalescingDelay) {
+        this.flushCoalescingDelay = flushCoalescingDelay;
+    }
+
+    /**
+     * Sets the number of unflushed outbound bytes triggering an immediate flush.
+     *
+     * @param flushCoalescingThreshold byte threshold
+     */
+    public void setFlushCoalescingThreshold(final int flushCoalescingThreshold) {
+        this.flushCoalescingThreshold = flushCoalescingThreshold;
+    }
+
+    /**
+     * Sets the number of outbound queue segments pooled per event loop.
+     *
+     * @param segmentPoolSize maximum number of pooled segments, 0 to use the soft-reference cache
+     */
+    public void setSegmentPoolSize(final int segmentPoolSize) {
+        this.segmentPoolSize = segmentPoolSize;
+    }
+
+    /**
+     * Sets the socket configuration.
+     *
+     * @param socketConfig socket tuning options, null to use defaults
+     */
+    public void setSocketConfig(final SocketConfiguration socketConfig) {
+        this.socketConfig = socketConfig;
+    }
 }
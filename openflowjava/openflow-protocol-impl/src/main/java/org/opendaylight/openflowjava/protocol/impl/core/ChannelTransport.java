@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.opendaylight.openflowjava.protocol.api.connection.SocketConfiguration;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.NativeTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Netty transports usable for switch connections, declared in order of preference. A transport which is not
+ * available on the running platform falls back to the next one, NIO being always available.
+ */
+public enum ChannelTransport {
+    /**
+     * Linux native epoll transport.
+     */
+    EPOLL {
+        @Override
+        boolean isAvailable() {
+            return Epoll.isAvailable();
+        }
+
+        @Override
+        EventLoopGroup newEventLoopGroup(final int threadCount, final int ioRatio) {
+            final EpollEventLoopGroup group = new EpollEventLoopGroup(threadCount);
+            group.setIoRatio(ioRatio);
+            return group;
+        }
+
+        @Override
+        Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+
+        @Override
+        Class<? extends SocketChannel> getSocketChannelClass() {
+            return EpollSocketChannel.class;
+        }
+
+        @Override
+        Class<? extends DatagramChannel> getDatagramChannelClass() {
+            return EpollDatagramChannel.class;
+        }
+
+        @Override
+        ChannelOption<Integer> getBusyPollOption() {
+            return EpollChannelOption.SO_BUSY_POLL;
+        }
+    },
+    /**
+     * Java NIO transport.
+     */
+    NIO {
+        @Override
+        boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        EventLoopGroup newEventLoopGroup(final int threadCount, final int ioRatio) {
+            final NioEventLoopGroup group = new NioEventLoopGroup(threadCount);
+            group.setIoRatio(ioRatio);
+            return group;
+        }
+
+        @Override
+        Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+
+        @Override
+        Class<? extends SocketChannel> getSocketChannelClass() {
+            return NioSocketChannel.class;
+        }
+
+        @Override
+        Class<? extends DatagramChannel> getDatagramChannelClass() {
+            return NioDatagramChannel.class;
+        }
+
+        @Override
+        ChannelOption<Integer> getBusyPollOption() {
+            return null;
+        }
+    };
+
+    /**
+     * Default ratio of time event loops spend on I/O.
+     */
+    static final int DEFAULT_IO_RATIO = 50;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChannelTransport.class);
+
+    /**
+     * Selects the transport to use. The requested transport is used if it is available on this platform, otherwise
+     * the next available transport in order of preference is used.
+     *
+     * @param requested requested transport, null or AUTO to select the most efficient available one
+     * @return selected transport
+     */
+    public static ChannelTransport select(final NativeTransport requested) {
+        if (requested == null || requested == NativeTransport.AUTO) {
+            return values()[0].orFallback();
+        }
+        return valueOf(requested.name()).orFallback();
+    }
+
+    /**
+     * Returns this transport if it is available, otherwise the next available transport in order of preference.
+     *
+     * @return available transport
+     */
+    public ChannelTransport orFallback() {
+        final ChannelTransport[] transports = values();
+        for (int i = ordinal(); i < transports.length; ++i) {
+            final ChannelTransport transport = transports[i];
+            if (transport.isAvailable()) {
+                if (transport != this) {
+                    LOG.info("Transport {} is not available, falling back to {}", this, transport);
+                }
+                return transport;
+            }
+        }
+        throw new IllegalStateException("No transport available instead of " + this);
+    }
+
+    /**
+     * Checks if the transport can be used on the running platform.
+     *
+     * @return true if the transport is available
+     */
+    abstract boolean isAvailable();
+
+    /**
+     * Creates a new event loop group.
+     *
+     * @param threadCount number of threads, 0 to use the Netty default
+     * @param ioRatio percentage of time the event loops spend on I/O
+     * @return event loop group
+     */
+    abstract EventLoopGroup newEventLoopGroup(int threadCount, int ioRatio);
+
+    abstract Class<? extends ServerSocketChannel> getServerSocketChannelClass();
+
+    abstract Class<? extends SocketChannel> getSocketChannelClass();
+
+    abstract Class<? extends DatagramChannel> getDatagramChannelClass();
+
+    /**
+     * Returns the busy poll socket option.
+     *
+     * @return busy poll option, or null if the transport does not support it
+     */
+    abstract ChannelOption<Integer> getBusyPollOption();
+
+    /**
+     * Applies socket options to a bootstrap. Options not supported by the transport are skipped.
+     *
+     * @param socketConfig socket configuration, null to use defaults
+     * @param tcp true if the options are applied to TCP channels
+     * @param setter sets an option on the bootstrap
+     */
+    void applySocketOptions(final SocketConfiguration socketConfig, final boolean tcp, final OptionSetter setter) {
+        if (tcp) {
+            setter.set(ChannelOption.TCP_NODELAY, socketConfig == null || socketConfig.isTcpNoDelay());
+        }
+        if (socketConfig == null) {
+            return;
+        }
+        if (socketConfig.getReceiveBufferSize() > 0) {
+            setter.set(ChannelOption.SO_RCVBUF, socketConfig.getReceiveBufferSize());
+        }
+        if (socketConfig.getSendBufferSize() > 0) {
+            setter.set(ChannelOption.SO_SNDBUF, socketConfig.getSendBufferSize());
+        }
+        if (socketConfig.getBusyPoll() > 0) {
+            final ChannelOption<Integer> busyPoll = getBusyPollOption();
+            if (busyPoll != null) {
+                setter.set(busyPoll, socketConfig.getBusyPoll());
+            } else {
+                LOG.warn("Busy polling is not supported by transport {}, ignoring it", this);
+            }
+        }
+    }
+
+    /**
+     * Sets a channel option on a bootstrap, implemented by {@code Bootstrap::option} or
+     * {@code ServerBootstrap::childOption}.
+     */
+    @FunctionalInterface
+    interface OptionSetter {
+        <T> void set(ChannelOption<T> option, T value);
+    }
+}
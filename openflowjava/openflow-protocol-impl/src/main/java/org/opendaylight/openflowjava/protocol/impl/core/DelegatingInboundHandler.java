@@ -11,6 +11,7 @@ package org.opendaylight.openflowjava.protocol.impl.core;
 import com.google.common.base.Preconditions;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import org.opendaylight.openflowjava.protocol.api.connection.PacketInView;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionAdapterImpl;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.MessageConsumer;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.system.rev130927.DisconnectEventBuilder;
@@ -40,7 +41,11 @@ public class DelegatingInboundHandler extends ChannelInboundHandlerAdapter {
 
     @Override
     public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
-        consumer.consume((DataObject) msg);
+        if (msg instanceof PacketInView) {
+            consumer.consumePacketIn((PacketInView) msg);
+        } else {
+            consumer.consume((DataObject) msg);
+        }
     }
 
     @Override
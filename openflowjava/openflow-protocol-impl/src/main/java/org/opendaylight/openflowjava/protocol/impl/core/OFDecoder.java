@@ -8,13 +8,19 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageDecoder;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.statistics.ConnectionLatencies;
 import org.opendaylight.openflowjava.statistics.CounterEventTypes;
+import org.opendaylight.openflowjava.statistics.LatencyEventTypes;
 import org.opendaylight.openflowjava.statistics.StatisticsCounters;
 import org.opendaylight.openflowjava.util.ByteBufUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +37,9 @@ public class OFDecoder extends MessageToMessageDecoder<VersionMessageWrapper> {
 
     // TODO: make this final?
     private DeserializationFactory deserializationFactory;
+    private boolean packetInFastPathEnabled;
+    private ConnectionLatencies connectionLatencies;
+    private LongAdder eventLoopMessageCounter;
 
     public OFDecoder() {
         LOG.trace("Creating OFDecoder");
@@ -39,28 +48,109 @@ public class OFDecoder extends MessageToMessageDecoder<VersionMessageWrapper> {
     }
 
     @Override
-    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+        if (msg instanceof OFFrameBatch) {
+            final OFFrameBatch batch = (OFFrameBatch) msg;
+            try {
+                for (int i = 0; i < batch.size(); i++) {
+                    final ByteBuf messageBuffer = batch.getMessageBuffer(i);
+                    final short version = batch.getVersion(i);
+                    final PooledPacketInView packetIn = packetInView(messageBuffer, version);
+                    if (packetIn != null) {
+                        ctx.fireChannelRead(packetIn);
+                        continue;
+                    }
+                    final DataObject dataObject = deserialize(messageBuffer, version);
+                    if (dataObject != null) {
+                        ctx.fireChannelRead(dataObject);
+                    }
+                }
+            } finally {
+                batch.recycle();
+            }
+        } else {
+            super.channelRead(ctx, msg);
+        }
+    }
+
+    @Override
     protected void decode(ChannelHandlerContext ctx, VersionMessageWrapper msg, List<Object> out) {
-        statisticsCounter.incrementCounter(CounterEventTypes.US_RECEIVED_IN_OFJAVA);
         if (LOG.isDebugEnabled()) {
             LOG.debug("VersionMessageWrapper received: {}", ByteBufUtils.byteBufToHexString(msg.getMessageBuffer()));
         }
 
         try {
-            final DataObject dataObject = deserializationFactory.deserialize(msg.getMessageBuffer(),
-                    msg.getVersion());
+            final PooledPacketInView packetIn = packetInView(msg.getMessageBuffer(), msg.getVersion());
+            if (packetIn != null) {
+                out.add(packetIn);
+                return;
+            }
+            final DataObject dataObject = deserialize(msg.getMessageBuffer(), msg.getVersion());
+            if (dataObject != null) {
+                out.add(dataObject);
+            }
+        } finally {
+            msg.getMessageBuffer().release();
+        }
+    }
+
+    private PooledPacketInView packetInView(final ByteBuf messageBuffer, final short version) {
+        if (!packetInFastPathEnabled || !PooledPacketInView.isPacketIn(version, messageBuffer)
+                || deserializationFactory.getMessageClass(version, EncodeConstants.OF_PACKETIN_MESSAGE_TYPE_VALUE)
+                    != PacketInMessage.class) {
+            // PACKET_IN is remapped to another binding representation, such as by single-layer deserializers,
+            // which the view does not know of
+            return null;
+        }
+        final ByteBuf frame = messageBuffer.retainedSlice();
+        final PooledPacketInView packetIn = PooledPacketInView.newInstance(frame, deserializationFactory);
+        if (packetIn == null) {
+            // Malformed, let the deserializer report it
+            frame.release();
+            return null;
+        }
+        // Decoding is counted when the view is materialized, if ever
+        messageReceived();
+        return packetIn;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private DataObject deserialize(final ByteBuf messageBuffer, final short version) {
+        messageReceived();
+        final long start = connectionLatencies != null ? connectionLatencies.timestamp()
+                : statisticsCounter.timestamp();
+        try {
+            final DataObject dataObject = deserializationFactory.deserialize(messageBuffer, version);
             if (dataObject == null) {
                 LOG.warn("Translated POJO is null");
                 statisticsCounter.incrementCounter(CounterEventTypes.US_DECODE_FAIL);
             } else {
-                out.add(dataObject);
                 statisticsCounter.incrementCounter(CounterEventTypes.US_DECODE_SUCCESS);
+                if (start != 0) {
+                    recordDecodeLatency(dataObject, start);
+                }
             }
+            return dataObject;
         } catch (RuntimeException e) {
             LOG.warn("Message deserialization failed", e);
             statisticsCounter.incrementCounter(CounterEventTypes.US_DECODE_FAIL);
-        } finally {
-            msg.getMessageBuffer().release();
+            return null;
+        }
+    }
+
+    private void messageReceived() {
+        statisticsCounter.incrementCounter(CounterEventTypes.US_RECEIVED_IN_OFJAVA);
+        if (eventLoopMessageCounter != null) {
+            eventLoopMessageCounter.increment();
+        }
+    }
+
+    private void recordDecodeLatency(final DataObject dataObject, final long start) {
+        final Class<?> messageType = dataObject.implementedInterface();
+        if (connectionLatencies != null) {
+            connectionLatencies.recordSince(LatencyEventTypes.US_DECODE, messageType, start);
+        } else {
+            statisticsCounter.recordLatencySince(LatencyEventTypes.US_DECODE, messageType, start);
         }
     }
 
@@ -68,4 +158,32 @@ public class OFDecoder extends MessageToMessageDecoder<VersionMessageWrapper> {
         this.deserializationFactory = deserializationFactory;
     }
 
+    /**
+     * Sets whether OpenFlow 1.3 PACKET_IN messages are decoded into {@link PooledPacketInView}s.
+     *
+     * @param packetInFastPathEnabled true to enable the PACKET_IN fast path
+     */
+    public void setPacketInFastPathEnabled(final boolean packetInFastPathEnabled) {
+        this.packetInFastPathEnabled = packetInFastPathEnabled;
+    }
+
+    /**
+     * Sets the latencies of the connection decoded by this decoder.
+     *
+     * @param connectionLatencies connection latencies, null to record aggregated latencies only
+     */
+    public void setConnectionLatencies(final ConnectionLatencies connectionLatencies) {
+        this.connectionLatencies = connectionLatencies;
+    }
+
+    /**
+     * Sets the counter of messages received by the event loop serving the decoded connection, used to place
+     * connections by load.
+     *
+     * @param eventLoopMessageCounter message counter, null if messages are not counted
+     */
+    public void setEventLoopMessageCounter(final LongAdder eventLoopMessageCounter) {
+        this.eventLoopMessageCounter = eventLoopMessageCounter;
+    }
+
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.Recycler;
+import java.util.Arrays;
+
+/**
+ * All complete OpenFlow frames received in a single channel read, passed down the pipeline as one event. Frames
+ * are not copied, the batch holds a single retained slice of the inbound buffer and the offset and length of each
+ * frame within it. Instances are recycled, see {@link #recycle()}.
+ */
+public final class OFFrameBatch {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Recycler<OFFrameBatch> RECYCLER = new Recycler<OFFrameBatch>() {
+        @Override
+        protected OFFrameBatch newObject(final Handle<OFFrameBatch> handle) {
+            return new OFFrameBatch(handle);
+        }
+    };
+
+    private final Recycler.Handle<OFFrameBatch> handle;
+    private int[] offsets = new int[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private ByteBuf buffer;
+    private int size;
+
+    private OFFrameBatch(final Recycler.Handle<OFFrameBatch> handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * Returns an empty batch, either recycled or newly created.
+     *
+     * @return empty batch
+     */
+    static OFFrameBatch newInstance() {
+        return RECYCLER.get();
+    }
+
+    /**
+     * Appends a frame.
+     *
+     * @param offset frame offset within the buffer later passed to {@link #setBuffer(ByteBuf)}
+     * @param length frame length, including the OpenFlow header
+     */
+    void addFrame(final int offset, final int length) {
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+            lengths = Arrays.copyOf(lengths, size * 2);
+        }
+        offsets[size] = offset;
+        lengths[size] = length;
+        size++;
+    }
+
+    /**
+     * Sets the buffer holding the frames, the batch takes over its ownership.
+     *
+     * @param frames retained buffer holding all frames of this batch
+     */
+    void setBuffer(final ByteBuf frames) {
+        Preconditions.checkState(buffer == null, "Batch buffer already set");
+        this.buffer = Preconditions.checkNotNull(frames);
+    }
+
+    /**
+     * Keeps only the frames matching the filter, preserving their order.
+     *
+     * @param filter frame filter
+     */
+    void retainFrames(final FrameFilter filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.accept(getVersion(i), getMessageType(i))) {
+                offsets[kept] = offsets[i];
+                lengths[kept] = lengths[i];
+                kept++;
+            }
+        }
+        size = kept;
+    }
+
+    /**
+     * Returns the number of frames in this batch.
+     *
+     * @return number of frames
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the OpenFlow version of a frame.
+     *
+     * @param index frame index
+     * @return protocol version from the frame header
+     */
+    public short getVersion(final int index) {
+        return buffer.getUnsignedByte(offsets[index]);
+    }
+
+    /**
+     * Returns the OpenFlow message type of a frame.
+     *
+     * @param index frame index
+     * @return message type from the frame header
+     */
+    public short getMessageType(final int index) {
+        return buffer.getUnsignedByte(offsets[index] + 1);
+    }
+
+    /**
+     * Positions the batch buffer on a frame, just past its version byte, the same way {@link OFVersionDetector}
+     * hands frames to {@link OFDecoder}. The returned buffer is shared by all frames and is only valid until
+     * the next call.
+     *
+     * @param index frame index
+     * @return buffer readable from the message type to the end of the frame
+     */
+    public ByteBuf getMessageBuffer(final int index) {
+        final int offset = offsets[index];
+        return buffer.setIndex(offset + 1, offset + lengths[index]);
+    }
+
+    /**
+     * Releases the frames buffer and returns this batch to the pool. The batch must not be used afterwards.
+     */
+    public void recycle() {
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+        size = 0;
+        handle.recycle(this);
+    }
+
+    /**
+     * Decides which frames are kept in a batch.
+     */
+    @FunctionalInterface
+    interface FrameFilter {
+        boolean accept(short version, short messageType);
+    }
+}
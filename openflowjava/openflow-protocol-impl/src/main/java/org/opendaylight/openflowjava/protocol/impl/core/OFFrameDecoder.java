@@ -12,6 +12,7 @@ package org.opendaylight.openflowjava.protocol.impl.core;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.DecoderException;
 import java.util.List;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionFacade;
 import org.opendaylight.openflowjava.util.ByteBufUtils;
@@ -30,6 +31,7 @@ public class OFFrameDecoder extends ByteToMessageDecoder {
     private static final byte LENGTH_INDEX_IN_HEADER = 2;
     private static final Logger LOG = LoggerFactory.getLogger(OFFrameDecoder.class);
     private final ConnectionFacade connectionFacade;
+    private final boolean batchFrames;
     private boolean firstTlsPass = false;
 
     /**
@@ -39,11 +41,24 @@ public class OFFrameDecoder extends ByteToMessageDecoder {
      * @param tlsPresent true is TLS is required, false otherwise
      */
     public OFFrameDecoder(ConnectionFacade connectionFacade, boolean tlsPresent) {
+        this(connectionFacade, tlsPresent, false);
+    }
+
+    /**
+     * Constructor of class.
+     * @param connectionFacade  ConnectionFacade that will be notified
+     *                          with ConnectionReadyNotification after TLS has been successfully set up.
+     * @param tlsPresent true is TLS is required, false otherwise
+     * @param batchFrames true if all complete frames of a read should be passed down as a single
+     *                    {@link OFFrameBatch}, false to emit one buffer per frame
+     */
+    public OFFrameDecoder(ConnectionFacade connectionFacade, boolean tlsPresent, boolean batchFrames) {
         LOG.trace("Creating OFFrameDecoder");
         if (tlsPresent) {
             firstTlsPass = true;
         }
         this.connectionFacade = connectionFacade;
+        this.batchFrames = batchFrames;
     }
 
     @Override
@@ -63,6 +78,10 @@ public class OFFrameDecoder extends ByteToMessageDecoder {
             connectionFacade.fireConnectionReadyNotification();
             firstTlsPass = false;
         }
+        if (batchFrames) {
+            decodeBatch(bb, list);
+            return;
+        }
         int readableBytes = bb.readableBytes();
         if (readableBytes < LENGTH_OF_HEADER) {
             if (LOG.isDebugEnabled()) {
@@ -90,4 +109,33 @@ public class OFFrameDecoder extends ByteToMessageDecoder {
         bb.skipBytes(length);
     }
 
+    private static void decodeBatch(ByteBuf bb, List<Object> list) {
+        final int start = bb.readerIndex();
+        final int end = bb.writerIndex();
+        int offset = start;
+        OFFrameBatch batch = null;
+        while (end - offset >= LENGTH_OF_HEADER) {
+            final int length = bb.getUnsignedShort(offset + LENGTH_INDEX_IN_HEADER);
+            if (length < LENGTH_OF_HEADER) {
+                if (batch != null) {
+                    batch.recycle();
+                }
+                throw new DecoderException("Invalid OpenFlow message length " + length);
+            }
+            if (end - offset < length) {
+                break;
+            }
+            if (batch == null) {
+                batch = OFFrameBatch.newInstance();
+            }
+            batch.addFrame(offset - start, length);
+            offset += length;
+        }
+
+        if (batch != null) {
+            batch.setBuffer(bb.retainedSlice(start, offset - start));
+            bb.skipBytes(offset - start);
+            list.add(batch);
+        }
+    }
 }
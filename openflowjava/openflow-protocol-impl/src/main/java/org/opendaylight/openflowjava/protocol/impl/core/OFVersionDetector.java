@@ -34,6 +34,7 @@ public class OFVersionDetector extends ByteToMessageDecoder {
             EncodeConstants.OF13_VERSION_ID
     ));
     private final StatisticsCounters statisticsCounters;
+    private final OFFrameBatch.FrameFilter batchFilter = this::acceptFrame;
     private volatile boolean filterPacketIns;
 
     public OFVersionDetector() {
@@ -45,6 +46,33 @@ public class OFVersionDetector extends ByteToMessageDecoder {
         filterPacketIns = enabled;
     }
 
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+        if (msg instanceof OFFrameBatch) {
+            final OFFrameBatch batch = (OFFrameBatch) msg;
+            batch.retainFrames(batchFilter);
+            if (batch.size() != 0) {
+                ctx.fireChannelRead(batch);
+            } else {
+                batch.recycle();
+            }
+        } else {
+            super.channelRead(ctx, msg);
+        }
+    }
+
+    private boolean acceptFrame(final short version, final short messageType) {
+        if (messageType == EncodeConstants.OF_HELLO_MESSAGE_TYPE_VALUE || OF_VERSIONS.contains((byte) version)) {
+            if (!filterPacketIns || EncodeConstants.OF_PACKETIN_MESSAGE_TYPE_VALUE != messageType) {
+                return true;
+            }
+            statisticsCounters.incrementCounter(CounterEventTypes.US_DROPPED_PACKET_IN);
+        } else {
+            LOG.warn("detected version: {} - currently not supported", version);
+        }
+        return false;
+    }
+
     @Override
     protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
         if (!in.isReadable()) {
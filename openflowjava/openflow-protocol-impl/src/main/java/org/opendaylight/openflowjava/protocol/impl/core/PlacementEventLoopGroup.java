@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import com.google.common.base.Preconditions;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.AbstractEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.ConnectionPlacement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Event loop group assigning switch connections to the event loops of a delegate group according to
+ * a {@link ConnectionPlacement} policy. Netty registers every accepted or connected channel through
+ * {@link #register(Channel)}, which is the only place the policy is applied; tasks submitted to the group itself
+ * are handed to the delegate.
+ */
+final class PlacementEventLoopGroup extends AbstractEventExecutorGroup implements EventLoopGroup {
+    private static final Logger LOG = LoggerFactory.getLogger(PlacementEventLoopGroup.class);
+    private static final AttributeKey<LongAdder> MESSAGE_COUNTER =
+            AttributeKey.valueOf(PlacementEventLoopGroup.class, "messageCounter");
+    // Message rates are resampled at most once per second
+    private static final long SAMPLE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final EventLoopGroup delegate;
+    private final ConnectionPlacement placement;
+    private final EventLoop[] eventLoops;
+    private final LongAdder[] messages;
+    private final AtomicInteger[] channels;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    // Guarded by this
+    private final long[] sampledMessages;
+    private final double[] rates;
+    private long sampleNanos;
+
+    PlacementEventLoopGroup(final EventLoopGroup delegate, final ConnectionPlacement placement) {
+        this.delegate = Preconditions.checkNotNull(delegate);
+        this.placement = Preconditions.checkNotNull(placement);
+
+        final List<EventLoop> loops = new ArrayList<>();
+        delegate.forEach(executor -> loops.add((EventLoop) executor));
+        eventLoops = loops.toArray(new EventLoop[0]);
+        messages = new LongAdder[eventLoops.length];
+        channels = new AtomicInteger[eventLoops.length];
+        for (int i = 0; i < eventLoops.length; ++i) {
+            messages[i] = new LongAdder();
+            channels[i] = new AtomicInteger();
+        }
+        sampledMessages = new long[eventLoops.length];
+        rates = new double[eventLoops.length];
+        sampleNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the counter of inbound messages to be incremented for each message received by a channel.
+     *
+     * @param channel channel
+     * @return message counter, or null if the channel was not placed by a {@link PlacementEventLoopGroup}
+     */
+    static LongAdder messageCounterOf(final Channel channel) {
+        return channel.hasAttr(MESSAGE_COUNTER) ? channel.attr(MESSAGE_COUNTER).get() : null;
+    }
+
+    @Override
+    public EventLoop next() {
+        return delegate.next();
+    }
+
+    @Override
+    public Iterator<EventExecutor> iterator() {
+        return delegate.iterator();
+    }
+
+    @Override
+    public ChannelFuture register(final Channel channel) {
+        return eventLoops[place(channel)].register(channel);
+    }
+
+    @Override
+    public ChannelFuture register(final ChannelPromise promise) {
+        return eventLoops[place(promise.channel())].register(promise);
+    }
+
+    @Override
+    @Deprecated
+    public ChannelFuture register(final Channel channel, final ChannelPromise promise) {
+        return eventLoops[place(channel)].register(channel, promise);
+    }
+
+    @Override
+    public boolean isShuttingDown() {
+        return delegate.isShuttingDown();
+    }
+
+    @Override
+    public Future<?> shutdownGracefully(final long quietPeriod, final long timeout, final TimeUnit unit) {
+        return delegate.shutdownGracefully(quietPeriod, timeout, unit);
+    }
+
+    @Override
+    public Future<?> terminationFuture() {
+        return delegate.terminationFuture();
+    }
+
+    @Override
+    @Deprecated
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    private int place(final Channel channel) {
+        final int index = select(channel.remoteAddress());
+        channels[index].incrementAndGet();
+        channel.closeFuture().addListener(future -> channels[index].decrementAndGet());
+        channel.attr(MESSAGE_COUNTER).set(messages[index]);
+        LOG.debug("Channel {} placed on event loop {} by {} policy", channel, index, placement);
+        return index;
+    }
+
+    int select(final SocketAddress remoteAddress) {
+        switch (placement) {
+            case HASH:
+                if (remoteAddress instanceof InetSocketAddress
+                        && ((InetSocketAddress) remoteAddress).getAddress() != null) {
+                    return Math.floorMod(((InetSocketAddress) remoteAddress).getAddress().hashCode(),
+                            eventLoops.length);
+                }
+                // Outbound connections are registered before they are connected, place them by load instead
+                return selectLeastLoaded();
+            case LEASTLOADED:
+                return selectLeastLoaded();
+            default:
+                return Math.floorMod(nextIndex.getAndIncrement(), eventLoops.length);
+        }
+    }
+
+    private synchronized int selectLeastLoaded() {
+        final long now = System.nanoTime();
+        final long elapsed = now - sampleNanos;
+        if (elapsed >= SAMPLE_INTERVAL_NANOS) {
+            for (int i = 0; i < eventLoops.length; ++i) {
+                final long count = messages[i].sum();
+                rates[i] = (count - sampledMessages[i]) * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+                sampledMessages[i] = count;
+            }
+            sampleNanos = now;
+        }
+
+        double totalRate = 0;
+        int totalChannels = 0;
+        int selected = 0;
+        for (int i = 0; i < eventLoops.length; ++i) {
+            totalRate += rates[i];
+            totalChannels += channels[i].get();
+            if (rates[i] < rates[selected]
+                    || rates[i] == rates[selected] && channels[i].get() < channels[selected].get()) {
+                selected = i;
+            }
+        }
+
+        // Account for the new connection until the next sample, so connections placed in a burst are spread
+        if (totalChannels != 0) {
+            rates[selected] += totalRate / totalChannels;
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.Recycler;
+import org.opendaylight.openflowjava.protocol.api.connection.PacketInView;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.api.util.OxmMatchConstants;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.statistics.CounterEventTypes;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.PacketInReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pooled {@link PacketInView} over a retained slice of an OpenFlow 1.3 PACKET_IN frame. The slice starts at the
+ * message type, the same way {@link OFVersionDetector} hands frames to {@link OFDecoder}. Header fields are read
+ * eagerly, match and payload are only located. The slice is released and the view recycled once the last
+ * reference is released.
+ */
+public final class PooledPacketInView extends AbstractReferenceCounted implements PacketInView {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PooledPacketInView.class);
+
+    // Offsets relative to the message type byte
+    private static final int XID_OFFSET = 3;
+    private static final int BUFFER_ID_OFFSET = 7;
+    private static final int TOTAL_LEN_OFFSET = 11;
+    private static final int REASON_OFFSET = 13;
+    private static final int TABLE_ID_OFFSET = 14;
+    private static final int COOKIE_OFFSET = 15;
+    private static final int MATCH_OFFSET = 23;
+    private static final int MATCH_HEADER_LENGTH = 4;
+    private static final int OXM_HEADER_LENGTH = 4;
+    private static final int PADDING_IN_PACKET_IN_HEADER = 2;
+
+    private static final Recycler<PooledPacketInView> RECYCLER = new Recycler<PooledPacketInView>() {
+        @Override
+        protected PooledPacketInView newObject(final Handle<PooledPacketInView> handle) {
+            return new PooledPacketInView(handle);
+        }
+    };
+
+    private final Recycler.Handle<PooledPacketInView> handle;
+    private DeserializationFactory deserializationFactory;
+    private ByteBuf frame;
+    private long xid;
+    private long bufferId;
+    private int totalLen;
+    private short reason;
+    private short tableId;
+    private long cookie;
+    private int matchLength;
+    private int payloadOffset;
+
+    private PooledPacketInView(final Recycler.Handle<PooledPacketInView> handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * Checks whether a frame is an OpenFlow 1.3 PACKET_IN message.
+     *
+     * @param version protocol version of the frame
+     * @param messageBuffer frame buffer positioned at the message type
+     * @return true if the frame can be wrapped by {@link #newInstance(ByteBuf, DeserializationFactory)}
+     */
+    static boolean isPacketIn(final short version, final ByteBuf messageBuffer) {
+        return version == EncodeConstants.OF13_VERSION_ID
+                && messageBuffer.readableBytes() >= MATCH_OFFSET + MATCH_HEADER_LENGTH
+                && messageBuffer.getUnsignedByte(messageBuffer.readerIndex())
+                    == EncodeConstants.OF_PACKETIN_MESSAGE_TYPE_VALUE;
+    }
+
+    /**
+     * Wraps a PACKET_IN frame. On success the view takes over the ownership of the frame buffer.
+     *
+     * @param messageBuffer retained frame buffer, readable from the message type to the end of the frame
+     * @param deserializationFactory factory used for deserializing the match and the whole message
+     * @return view, or null if the frame is malformed and was left untouched
+     */
+    static PooledPacketInView newInstance(final ByteBuf messageBuffer,
+            final DeserializationFactory deserializationFactory) {
+        final int start = messageBuffer.readerIndex();
+        final int matchLength = messageBuffer.getUnsignedShort(start + MATCH_OFFSET + 2);
+        final int paddedMatchLength = (matchLength + EncodeConstants.PADDING - 1) & ~(EncodeConstants.PADDING - 1);
+        final int payloadOffset = MATCH_OFFSET + paddedMatchLength + PADDING_IN_PACKET_IN_HEADER;
+        if (matchLength < MATCH_HEADER_LENGTH || payloadOffset > messageBuffer.readableBytes()) {
+            return null;
+        }
+
+        final PooledPacketInView view = RECYCLER.get();
+        view.setRefCnt(1);
+        view.frame = messageBuffer;
+        view.deserializationFactory = deserializationFactory;
+        view.xid = messageBuffer.getUnsignedInt(start + XID_OFFSET);
+        view.bufferId = messageBuffer.getUnsignedInt(start + BUFFER_ID_OFFSET);
+        view.totalLen = messageBuffer.getUnsignedShort(start + TOTAL_LEN_OFFSET);
+        view.reason = messageBuffer.getUnsignedByte(start + REASON_OFFSET);
+        view.tableId = messageBuffer.getUnsignedByte(start + TABLE_ID_OFFSET);
+        view.cookie = messageBuffer.getLong(start + COOKIE_OFFSET);
+        view.matchLength = matchLength;
+        view.payloadOffset = payloadOffset;
+        return view;
+    }
+
+    @Override
+    public short getVersion() {
+        return EncodeConstants.OF13_VERSION_ID;
+    }
+
+    @Override
+    public long getXid() {
+        return xid;
+    }
+
+    @Override
+    public long getBufferId() {
+        return bufferId;
+    }
+
+    @Override
+    public int getTotalLen() {
+        return totalLen;
+    }
+
+    @Override
+    public PacketInReason getReason() {
+        return PacketInReason.forValue(reason);
+    }
+
+    @Override
+    public short getTableId() {
+        return tableId;
+    }
+
+    @Override
+    public long getCookie() {
+        return cookie;
+    }
+
+    @Override
+    public long getInPort() {
+        final int matchStart = frame.readerIndex() + MATCH_OFFSET;
+        final int matchEnd = matchStart + matchLength;
+        int entry = matchStart + MATCH_HEADER_LENGTH;
+        while (entry + OXM_HEADER_LENGTH <= matchEnd) {
+            final int entryLength = frame.getUnsignedByte(entry + 3);
+            if (frame.getUnsignedShort(entry) == OxmMatchConstants.OPENFLOW_BASIC_CLASS
+                    && frame.getUnsignedByte(entry + 2) >>> 1 == OxmMatchConstants.IN_PORT
+                    && entryLength >= EncodeConstants.SIZE_OF_INT_IN_BYTES) {
+                return frame.getUnsignedInt(entry + OXM_HEADER_LENGTH);
+            }
+            entry += OXM_HEADER_LENGTH + entryLength;
+        }
+        return -1;
+    }
+
+    @Override
+    public ByteBuf getMatchBuffer() {
+        return frame.slice(frame.readerIndex() + MATCH_OFFSET, payloadOffset - MATCH_OFFSET
+                - PADDING_IN_PACKET_IN_HEADER);
+    }
+
+    @Override
+    public ByteBuf getPayload() {
+        return frame.slice(frame.readerIndex() + payloadOffset, frame.readableBytes() - payloadOffset);
+    }
+
+    @Override
+    public Match getMatch() {
+        return deserializationFactory.deserializeMatch(getMatchBuffer());
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public DataObject toMessage() {
+        final StatisticsCounters statisticsCounters = StatisticsCounters.getInstance();
+        try {
+            final DataObject message = deserializationFactory.deserialize(frame.duplicate(),
+                    EncodeConstants.OF13_VERSION_ID);
+            if (message == null) {
+                LOG.warn("Translated POJO is null");
+                statisticsCounters.incrementCounter(CounterEventTypes.US_DECODE_FAIL);
+            } else {
+                statisticsCounters.incrementCounter(CounterEventTypes.US_DECODE_SUCCESS);
+            }
+            return message;
+        } catch (RuntimeException e) {
+            LOG.warn("Message deserialization failed", e);
+            statisticsCounters.incrementCounter(CounterEventTypes.US_DECODE_FAIL);
+            return null;
+        }
+    }
+
+    @Override
+    public PooledPacketInView retain() {
+        super.retain();
+        return this;
+    }
+
+    @Override
+    public PooledPacketInView touch(final Object hint) {
+        frame.touch(hint);
+        return this;
+    }
+
+    @Override
+    protected void deallocate() {
+        frame.release();
+        frame = null;
+        deserializationFactory = null;
+        handle.recycle(this);
+    }
+}
@@ -10,6 +10,7 @@ package org.opendaylight.openflowjava.protocol.impl.core;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
+import org.opendaylight.openflowjava.protocol.api.connection.SocketConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.SwitchConnectionHandler;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
@@ -31,6 +32,12 @@ public abstract class ProtocolChannelInitializer<C extends Channel>
     private TlsConfiguration tlsConfiguration;
     private boolean useBarrier;
     private int channelOutboundQueueSize;
+    private boolean frameBatchingEnabled;
+    private boolean packetInFastPathEnabled;
+    private long flushCoalescingDelay;
+    private int flushCoalescingThreshold;
+    private int segmentPoolSize;
+    private SocketConfiguration socketConfig;
 
     /**
      * Sets the SwitchConnectionHandler.
@@ -107,4 +114,112 @@ public abstract class ProtocolChannelInitializer<C extends Channel>
     public int getChannelOutboundQueueSize()  {
         return channelOutboundQueueSize;
     }
+
+    /**
+     * Sets whether inbound frames are decoded in batches.
+     *
+     * @param frameBatchingEnabled true to pass all complete frames of a read as a single batch
+     */
+    public void setFrameBatchingEnabled(final boolean frameBatchingEnabled) {
+        this.frameBatchingEnabled = frameBatchingEnabled;
+    }
+
+    /**
+     * Returns whether inbound frames are decoded in batches.
+     *
+     * @return true if all complete frames of a read are passed as a single batch
+     */
+    public boolean isFrameBatchingEnabled() {
+        return frameBatchingEnabled;
+    }
+
+    /**
+     * Sets whether PACKET_IN messages are delivered through the fast path.
+     *
+     * @param packetInFastPathEnabled true to decode PACKET_IN messages into pooled views
+     */
+    public void setPacketInFastPathEnabled(final boolean packetInFastPathEnabled) {
+        this.packetInFastPathEnabled = packetInFastPathEnabled;
+    }
+
+    /**
+     * Returns whether PACKET_IN messages are delivered through the fast path.
+     *
+     * @return true if PACKET_IN messages are decoded into pooled views
+     */
+    public boolean isPacketInFastPathEnabled() {
+        return packetInFastPathEnabled;
+    }
+
+    /**
+     * Sets the maximum delay of outbound channel flushes.
+     *
+     * @param flushCoalescingDelay delay in microseconds, 0 to flush immediately
+     */
+    public void setFlushCoalescingDelay(final long flushCoalescingDelay) {
+        this.flushCoalescingDelay = flushCoalescingDelay;
+    }
+
+    /**
+     * Returns the maximum delay of outbound channel flushes.
+     *
+     * @return delay in microseconds, 0 if flushes are not delayed
+     */
+    public long getFlushCoalescingDelay() {
+        return flushCoalescingDelay;
+    }
+
+    /**
+     * Sets the number of unflushed outbound bytes triggering an immediate flush.
+     *
+     * @param flushCoalescingThreshold byte threshold
+     */
+    public void setFlushCoalescingThreshold(final int flushCoalescingThreshold) {
+        this.flushCoalescingThreshold = flushCoalescingThreshold;
+    }
+
+    /**
+     * Returns the number of unflushed outbound bytes triggering an immediate flush.
+     *
+     * @return byte threshold
+     */
+    public int getFlushCoalescingThreshold() {
+        return flushCoalescingThreshold;
+    }
+
+    /**
+     * Sets the number of outbound queue segments pooled per event loop.
+     *
+     * @param segmentPoolSize maximum number of pooled segments, 0 to use the soft-reference cache
+     */
+    public void setSegmentPoolSize(final int segmentPoolSize) {
+        this.segmentPoolSize = segmentPoolSize;
+    }
+
+    /**
+     * Returns the number of outbound queue segments pooled per event loop.
+     *
+     * @return maximum number of pooled segments, 0 if the soft-reference cache is used
+     */
+    public int getSegmentPoolSize() {
+        return segmentPoolSize;
+    }
+
+    /**
+     * Sets the socket configuration.
+     *
+     * @param socketConfig socket tuning options, null to use defaults
+     */
+    public void setSocketConfig(final SocketConfiguration socketConfig) {
+        this.socketConfig = socketConfig;
+    }
+
+    /**
+     * Returns the socket configuration.
+     *
+     * @return socket tuning options, null if defaults are used
+     */
+    public SocketConfiguration getSocketConfig() {
+        return socketConfig;
+    }
 }
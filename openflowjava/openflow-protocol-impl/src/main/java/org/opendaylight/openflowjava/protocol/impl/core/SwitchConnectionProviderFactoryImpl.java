@@ -15,14 +15,18 @@ import javax.inject.Singleton;
 import org.apache.aries.blueprint.annotation.service.Service;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.OpenflowDiagStatusProvider;
+import org.opendaylight.openflowjava.protocol.api.connection.SocketConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
 import org.opendaylight.openflowjava.protocol.spi.connection.SwitchConnectionProvider;
 import org.opendaylight.openflowjava.protocol.spi.connection.SwitchConnectionProviderFactory;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.ConnectionPlacement;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.KeystoreType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.NativeTransport;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.TransportProtocol;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow._switch.connection.config.rev160506.SwitchConnectionConfig;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow._switch.connection.config.rev160506._switch.connection.config.Socket;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow._switch.connection.config.rev160506._switch.connection.config.Threads;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow._switch.connection.config.rev160506._switch.connection.config.Tls;
 
@@ -186,5 +190,80 @@ public class SwitchConnectionProviderFactoryImpl implements SwitchConnectionProv
         public boolean isGroupAddModEnabled() {
             return config.isGroupAddModEnabled();
         }
+
+        @Override
+        public boolean isFrameBatchingEnabled() {
+            return config.isFrameBatchingEnabled();
+        }
+
+        @Override
+        public boolean isPacketInFastPathEnabled() {
+            return config.isPacketInFastPathEnabled();
+        }
+
+        @Override
+        public long getFlushCoalescingDelay() {
+            return config.getFlushCoalescingDelay();
+        }
+
+        @Override
+        public int getFlushCoalescingThreshold() {
+            return config.getFlushCoalescingThreshold().intValue();
+        }
+
+        @Override
+        public int getSegmentPoolSize() {
+            return config.getSegmentPoolSize();
+        }
+
+        @Override
+        public NativeTransport getNativeTransport() {
+            return config.getNativeTransport();
+        }
+
+        @Override
+        public ConnectionPlacement getConnectionPlacement() {
+            return config.getConnectionPlacement();
+        }
+
+        @Override
+        public SocketConfiguration getSocketConfiguration() {
+            final Socket socket = config.getSocket();
+            if (socket == null) {
+                return null;
+            }
+
+            return new SocketConfiguration() {
+                @Override
+                public int getReceiveBufferSize() {
+                    return socket.getReceiveBufferSize().intValue();
+                }
+
+                @Override
+                public int getSendBufferSize() {
+                    return socket.getSendBufferSize().intValue();
+                }
+
+                @Override
+                public boolean isTcpNoDelay() {
+                    return socket.isTcpNoDelay();
+                }
+
+                @Override
+                public int getBusyPoll() {
+                    return socket.getBusyPoll().intValue();
+                }
+
+                @Override
+                public int getWriteBufferLowWatermark() {
+                    return socket.getWriteBufferLowWatermark().intValue();
+                }
+
+                @Override
+                public int getWriteBufferHighWatermark() {
+                    return socket.getWriteBufferHighWatermark().intValue();
+                }
+            };
+        }
     }
 }
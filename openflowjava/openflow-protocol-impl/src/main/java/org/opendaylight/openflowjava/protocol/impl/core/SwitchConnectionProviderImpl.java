@@ -15,7 +15,6 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.epoll.Epoll;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.opendaylight.infrautils.diagstatus.ServiceState;
 import org.opendaylight.infrautils.utils.concurrent.Executors;
@@ -169,25 +168,34 @@ public class SwitchConnectionProviderImpl implements SwitchConnectionProvider, C
         factory.setDeserializationFactory(deserializationFactory);
         factory.setUseBarrier(connConfig.useBarrier());
         factory.setChannelOutboundQueueSize(connConfig.getChannelOutboundQueueSize());
+        factory.setFrameBatchingEnabled(connConfig.isFrameBatchingEnabled());
+        factory.setPacketInFastPathEnabled(connConfig.isPacketInFastPathEnabled());
+        factory.setFlushCoalescingDelay(connConfig.getFlushCoalescingDelay());
+        factory.setFlushCoalescingThreshold(connConfig.getFlushCoalescingThreshold());
+        factory.setSegmentPoolSize(connConfig.getSegmentPoolSize());
+        factory.setSocketConfig(connConfig.getSocketConfiguration());
         final TransportProtocol transportProtocol = (TransportProtocol) connConfig.getTransferProtocol();
-        // Check if Epoll native transport is available.
-        // TODO : Add option to disable Epoll.
-        boolean isEpollEnabled = Epoll.isAvailable();
+        final ChannelTransport channelTransport = ChannelTransport.select(connConfig.getNativeTransport());
 
         if (TransportProtocol.TCP.equals(transportProtocol) || TransportProtocol.TLS.equals(transportProtocol)) {
             server = new TcpHandler(connConfig.getAddress(), connConfig.getPort(), () ->
                     openflowDiagStatusProvider.reportStatus(diagStatusIdentifier, ServiceState.OPERATIONAL));
             final TcpChannelInitializer channelInitializer = factory.createPublishingChannelInitializer();
             ((TcpHandler) server).setChannelInitializer(channelInitializer);
-            ((TcpHandler) server).initiateEventLoopGroups(connConfig.getThreadConfiguration(), isEpollEnabled);
+            ((TcpHandler) server).setSocketConfig(connConfig.getSocketConfiguration());
+            ((TcpHandler) server).setConnectionPlacement(connConfig.getConnectionPlacement());
+            ((TcpHandler) server).initiateEventLoopGroups(connConfig.getThreadConfiguration(), channelTransport);
             final EventLoopGroup workerGroupFromTcpHandler = ((TcpHandler) server).getWorkerGroup();
-            connectionInitializer = new TcpConnectionInitializer(workerGroupFromTcpHandler, isEpollEnabled);
+            connectionInitializer = new TcpConnectionInitializer(workerGroupFromTcpHandler,
+                    ((TcpHandler) server).getTransport());
             connectionInitializer.setChannelInitializer(channelInitializer);
+            connectionInitializer.setSocketConfig(connConfig.getSocketConfiguration());
             connectionInitializer.run();
         } else if (TransportProtocol.UDP.equals(transportProtocol)) {
             server = new UdpHandler(connConfig.getAddress(), connConfig.getPort(), () ->
                     openflowDiagStatusProvider.reportStatus(diagStatusIdentifier, ServiceState.OPERATIONAL));
-            ((UdpHandler) server).initiateEventLoopGroups(connConfig.getThreadConfiguration(), isEpollEnabled);
+            ((UdpHandler) server).setSocketConfig(connConfig.getSocketConfiguration());
+            ((UdpHandler) server).initiateEventLoopGroups(connConfig.getThreadConfiguration(), channelTransport);
             ((UdpHandler) server).setChannelInitializer(factory.createUdpChannelInitializer());
         } else {
             throw new IllegalStateException("Unknown transport protocol received: " + transportProtocol);
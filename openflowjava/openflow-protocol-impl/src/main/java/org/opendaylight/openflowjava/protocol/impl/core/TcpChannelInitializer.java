@@ -72,6 +72,12 @@ public class TcpChannelInitializer extends ProtocolChannelInitializer<SocketChan
         ConnectionFacade connectionFacade = null;
         connectionFacade = connectionAdapterFactory.createConnectionFacade(ch, null, useBarrier(),
                 getChannelOutboundQueueSize());
+        connectionFacade.setFlushCoalescing(getFlushCoalescingDelay(), getFlushCoalescingThreshold());
+        connectionFacade.setSegmentPoolSize(getSegmentPoolSize());
+        if (getSocketConfig() != null) {
+            connectionFacade.setWriteBufferWatermarks(getSocketConfig().getWriteBufferLowWatermark(),
+                    getSocketConfig().getWriteBufferHighWatermark());
+        }
         try {
             LOG.debug("Calling OF plugin: {}", getSwitchConnectionHandler());
             getSwitchConnectionHandler().onSwitchConnected(connectionFacade);
@@ -100,10 +106,13 @@ public class TcpChannelInitializer extends ProtocolChannelInitializer<SocketChan
                 ch.pipeline().addLast(PipelineHandlers.SSL_HANDLER.name(), ssl);
             }
             ch.pipeline().addLast(PipelineHandlers.OF_FRAME_DECODER.name(),
-                    new OFFrameDecoder(connectionFacade, tlsPresent));
+                    new OFFrameDecoder(connectionFacade, tlsPresent, isFrameBatchingEnabled()));
             ch.pipeline().addLast(PipelineHandlers.OF_VERSION_DETECTOR.name(), new OFVersionDetector());
             final OFDecoder ofDecoder = new OFDecoder();
             ofDecoder.setDeserializationFactory(getDeserializationFactory());
+            ofDecoder.setPacketInFastPathEnabled(isPacketInFastPathEnabled());
+            ofDecoder.setConnectionLatencies(connectionFacade.getConnectionLatencies());
+            ofDecoder.setEventLoopMessageCounter(PlacementEventLoopGroup.messageCounterOf(ch));
             ch.pipeline().addLast(PipelineHandlers.OF_DECODER.name(), ofDecoder);
             final OFEncoder ofEncoder = new OFEncoder();
             ofEncoder.setSerializationFactory(getSerializationFactory());
@@ -13,8 +13,7 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.epoll.EpollSocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import org.opendaylight.openflowjava.protocol.api.connection.SocketConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,31 +28,40 @@ public class TcpConnectionInitializer implements ServerFacade, ConnectionInitial
     private static final Logger LOG = LoggerFactory.getLogger(TcpConnectionInitializer.class);
 
     private final EventLoopGroup workerGroup;
-    private final boolean isEpollEnabled;
+    private final ChannelTransport transport;
     private final SettableFuture<Boolean> hasRun = SettableFuture.create();
 
     private TcpChannelInitializer channelInitializer;
+    private SocketConfiguration socketConfig;
     private Bootstrap bootstrap;
 
     /**
      * Constructor.
      *
      * @param workerGroup - shared worker group
+     * @param isEpollEnabled - true if the worker group uses the epoll transport
      */
     public TcpConnectionInitializer(EventLoopGroup workerGroup, boolean isEpollEnabled) {
+        this(workerGroup, isEpollEnabled ? ChannelTransport.EPOLL : ChannelTransport.NIO);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param workerGroup - shared worker group
+     * @param transport - transport of the worker group
+     */
+    public TcpConnectionInitializer(EventLoopGroup workerGroup, ChannelTransport transport) {
         Preconditions.checkNotNull(workerGroup, "WorkerGroup can't be null");
         this.workerGroup = workerGroup;
-        this.isEpollEnabled = isEpollEnabled;
+        this.transport = Preconditions.checkNotNull(transport, "Transport can't be null");
     }
 
     @Override
     public void run() {
         bootstrap = new Bootstrap();
-        if (isEpollEnabled) {
-            bootstrap.group(workerGroup).channel(EpollSocketChannel.class).handler(channelInitializer);
-        } else {
-            bootstrap.group(workerGroup).channel(NioSocketChannel.class).handler(channelInitializer);
-        }
+        bootstrap.group(workerGroup).channel(transport.getSocketChannelClass()).handler(channelInitializer);
+        transport.applySocketOptions(socketConfig, true, bootstrap::option);
         hasRun.set(true);
     }
 
@@ -86,4 +94,8 @@ public class TcpConnectionInitializer implements ServerFacade, ConnectionInitial
     public void setChannelInitializer(TcpChannelInitializer channelInitializer) {
         this.channelInitializer = channelInitializer;
     }
+
+    public void setSocketConfig(SocketConfiguration socketConfig) {
+        this.socketConfig = socketConfig;
+    }
 }
@@ -15,17 +15,13 @@ import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.WriteBufferWaterMark;
-import io.netty.channel.epoll.EpollEventLoopGroup;
-import io.netty.channel.epoll.EpollServerSocketChannel;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.ServerSocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import org.opendaylight.openflowjava.protocol.api.connection.SocketConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.ConnectionPlacement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,11 +31,6 @@ import org.slf4j.LoggerFactory;
  * @author michal.polkorab
  */
 public class TcpHandler implements ServerFacade {
-    /*
-     * High/low write watermarks
-     */
-    private static final int DEFAULT_WRITE_HIGH_WATERMARK = 64 * 1024;
-    private static final int DEFAULT_WRITE_LOW_WATERMARK = 32 * 1024;
     /*
      * Write spin count. This tells netty to immediately retry a non-blocking
      * write this many times before moving on to selecting.
@@ -56,10 +47,12 @@ public class TcpHandler implements ServerFacade {
     private EventLoopGroup bossGroup;
     private final SettableFuture<Boolean> isOnlineFuture = SettableFuture.create();
     private ThreadConfiguration threadConfig;
+    private SocketConfiguration socketConfig;
+    private ConnectionPlacement connectionPlacement = ConnectionPlacement.ROUNDROBIN;
 
     private TcpChannelInitializer channelInitializer;
 
-    private Class<? extends ServerSocketChannel> socketChannelClass;
+    private ChannelTransport transport;
 
     /**
      * Constructor of TCPHandler that listens on selected port.
@@ -101,17 +94,15 @@ public class TcpHandler implements ServerFacade {
         try {
             ServerBootstrap bootstrap = new ServerBootstrap();
             bootstrap.group(bossGroup, workerGroup)
-                    .channel(socketChannelClass)
+                    .channel(transport.getServerSocketChannelClass())
                     .handler(new LoggingHandler(LogLevel.DEBUG))
                     .childHandler(channelInitializer)
                     .option(ChannelOption.SO_BACKLOG, 128)
                     .option(ChannelOption.SO_REUSEADDR, true)
                     .childOption(ChannelOption.SO_KEEPALIVE, true)
-                    .childOption(ChannelOption.TCP_NODELAY , true)
                     .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
-                    .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK,
-                            new WriteBufferWaterMark(DEFAULT_WRITE_LOW_WATERMARK, DEFAULT_WRITE_HIGH_WATERMARK))
                     .childOption(ChannelOption.WRITE_SPIN_COUNT, DEFAULT_WRITE_SPIN_COUNT);
+            transport.applySocketOptions(socketConfig, true, bootstrap::childOption);
 
             if (startupAddress != null) {
                 f = bootstrap.bind(startupAddress.getHostAddress(), port).sync();
@@ -196,60 +187,89 @@ public class TcpHandler implements ServerFacade {
         this.threadConfig = threadConfig;
     }
 
+    /**
+     * Sets the socket configuration of accepted connections.
+     *
+     * @param socketConfig socket tuning options, null to use defaults
+     */
+    public void setSocketConfig(final SocketConfiguration socketConfig) {
+        this.socketConfig = socketConfig;
+    }
+
+    /**
+     * Sets the policy assigning connections to worker event loops. Must be called before the event loop groups
+     * are initiated.
+     *
+     * @param connectionPlacement connection placement policy
+     */
+    public void setConnectionPlacement(final ConnectionPlacement connectionPlacement) {
+        this.connectionPlacement = connectionPlacement;
+    }
+
     /**
      * Initiate event loop groups.
      *
      * @param threadConfiguration number of threads to be created, if not specified in threadConfig
+     * @param isEpollEnabled true to use the epoll transport if it is available
      */
     public void initiateEventLoopGroups(ThreadConfiguration threadConfiguration, boolean isEpollEnabled) {
-        if (isEpollEnabled) {
-            initiateEpollEventLoopGroups(threadConfiguration);
-        } else {
-            initiateNioEventLoopGroups(threadConfiguration);
-        }
+        initiateEventLoopGroups(threadConfiguration, isEpollEnabled ? ChannelTransport.EPOLL : ChannelTransport.NIO);
     }
 
     /**
      * Initiate Nio event loop groups.
      *
      * @param threadConfiguration number of threads to be created, if not specified in threadConfig
+     * @deprecated Use {@link #initiateEventLoopGroups(ThreadConfiguration, ChannelTransport)} instead.
      */
+    @Deprecated
     public void initiateNioEventLoopGroups(ThreadConfiguration threadConfiguration) {
-        socketChannelClass = NioServerSocketChannel.class;
-        if (threadConfiguration != null) {
-            bossGroup = new NioEventLoopGroup(threadConfiguration.getBossThreadCount());
-            workerGroup = new NioEventLoopGroup(threadConfiguration.getWorkerThreadCount());
-        } else {
-            bossGroup = new NioEventLoopGroup();
-            workerGroup = new NioEventLoopGroup();
-        }
-        ((NioEventLoopGroup)workerGroup).setIoRatio(100);
+        initiateEventLoopGroups(threadConfiguration, ChannelTransport.NIO);
     }
 
     /**
      * Initiate Epoll event loop groups with Nio as fall back.
      *
      * @param threadConfiguration the ThreadConfiguration
+     * @deprecated Use {@link #initiateEventLoopGroups(ThreadConfiguration, ChannelTransport)} instead.
      */
-    @SuppressWarnings("checkstyle:IllegalCatch")
+    @Deprecated
     protected void initiateEpollEventLoopGroups(ThreadConfiguration threadConfiguration) {
-        try {
-            socketChannelClass = EpollServerSocketChannel.class;
-            if (threadConfiguration != null) {
-                bossGroup = new EpollEventLoopGroup(threadConfiguration.getBossThreadCount());
-                workerGroup = new EpollEventLoopGroup(threadConfiguration.getWorkerThreadCount());
-            } else {
-                bossGroup = new EpollEventLoopGroup();
-                workerGroup = new EpollEventLoopGroup();
-            }
-            ((EpollEventLoopGroup)workerGroup).setIoRatio(100);
-            return;
-        } catch (RuntimeException ex) {
-            LOG.debug("Epoll initiation failed");
+        initiateEventLoopGroups(threadConfiguration, ChannelTransport.EPOLL);
+    }
+
+    /**
+     * Initiate event loop groups.
+     *
+     * @param threadConfiguration number of threads to be created, if not specified in threadConfig
+     * @param channelTransport transport to use, falls back to the next available one if it is not available
+     */
+    public void initiateEventLoopGroups(ThreadConfiguration threadConfiguration, ChannelTransport channelTransport) {
+        transport = channelTransport.orFallback();
+        // Workers generally do not perform IO-unrelated tasks, see run()
+        if (threadConfiguration != null) {
+            bossGroup = transport.newEventLoopGroup(threadConfiguration.getBossThreadCount(),
+                    ChannelTransport.DEFAULT_IO_RATIO);
+            workerGroup = transport.newEventLoopGroup(threadConfiguration.getWorkerThreadCount(), 100);
+        } else {
+            bossGroup = transport.newEventLoopGroup(0, ChannelTransport.DEFAULT_IO_RATIO);
+            workerGroup = transport.newEventLoopGroup(0, 100);
+        }
+        if (connectionPlacement != null && connectionPlacement != ConnectionPlacement.ROUNDROBIN) {
+            // Netty assigns channels round-robin by itself
+            workerGroup = new PlacementEventLoopGroup(workerGroup, connectionPlacement);
         }
+        LOG.debug("Event loop groups initiated with transport {} and {} connection placement", transport,
+                connectionPlacement);
+    }
 
-        //Fallback mechanism
-        initiateNioEventLoopGroups(threadConfiguration);
+    /**
+     * Returns the transport used by this handler.
+     *
+     * @return transport, null if event loop groups were not initiated yet
+     */
+    public ChannelTransport getTransport() {
+        return transport;
     }
 
     public EventLoopGroup getWorkerGroup() {
@@ -14,13 +14,9 @@ import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.epoll.EpollDatagramChannel;
-import io.netty.channel.epoll.EpollEventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.DatagramChannel;
-import io.netty.channel.socket.nio.NioDatagramChannel;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import org.opendaylight.openflowjava.protocol.api.connection.SocketConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,7 +37,8 @@ public final class UdpHandler implements ServerFacade {
     private final SettableFuture<Boolean> isOnlineFuture = SettableFuture.create();
     private UdpChannelInitializer channelInitializer;
     private ThreadConfiguration threadConfig;
-    private Class<? extends DatagramChannel> datagramChannelClass;
+    private SocketConfiguration socketConfig;
+    private ChannelTransport transport;
 
     /**
      * Constructor of UdpHandler that listens on selected port.
@@ -69,8 +66,9 @@ public final class UdpHandler implements ServerFacade {
         final ChannelFuture f;
         try {
             Bootstrap bootstrap = new Bootstrap();
-            bootstrap.group(group).channel(datagramChannelClass).option(ChannelOption.SO_BROADCAST, false)
-                .handler(channelInitializer);
+            bootstrap.group(group).channel(transport.getDatagramChannelClass())
+                .option(ChannelOption.SO_BROADCAST, false).handler(channelInitializer);
+            transport.applySocketOptions(socketConfig, false, bootstrap::option);
 
             if (startupAddress != null) {
                 f = bootstrap.bind(startupAddress.getHostAddress(), port).sync();
@@ -137,53 +135,57 @@ public final class UdpHandler implements ServerFacade {
         this.threadConfig = threadConfig;
     }
 
+    /**
+     * Sets the socket configuration of the datagram channel.
+     *
+     * @param socketConfig socket tuning options, null to use defaults
+     */
+    public void setSocketConfig(final SocketConfiguration socketConfig) {
+        this.socketConfig = socketConfig;
+    }
+
     /**
      * Initiate event loop groups.
      *
      * @param threadConfiguration number of threads to be created, if not specified in threadConfig
+     * @param isEpollEnabled true to use the epoll transport if it is available
      */
     public void initiateEventLoopGroups(ThreadConfiguration threadConfiguration, boolean isEpollEnabled) {
-        if (isEpollEnabled) {
-            initiateEpollEventLoopGroups(threadConfiguration);
-        } else {
-            initiateNioEventLoopGroups(threadConfiguration);
-        }
+        initiateEventLoopGroups(threadConfiguration, isEpollEnabled ? ChannelTransport.EPOLL : ChannelTransport.NIO);
     }
 
     /**
      * Initiate Nio event loop groups.
      *
      * @param threadConfiguration number of threads to be created, if not specified in threadConfig
+     * @deprecated Use {@link #initiateEventLoopGroups(ThreadConfiguration, ChannelTransport)} instead.
      */
+    @Deprecated
     public void initiateNioEventLoopGroups(ThreadConfiguration threadConfiguration) {
-        datagramChannelClass = NioDatagramChannel.class;
-        if (threadConfiguration != null) {
-            group = new NioEventLoopGroup(threadConfiguration.getWorkerThreadCount());
-        } else {
-            group = new NioEventLoopGroup();
-        }
+        initiateEventLoopGroups(threadConfiguration, ChannelTransport.NIO);
     }
 
     /**
      * Initiate Epoll event loop groups with Nio as fall back.
      *
      * @param threadConfiguration the ThreadConfiguration
+     * @deprecated Use {@link #initiateEventLoopGroups(ThreadConfiguration, ChannelTransport)} instead.
      */
-    @SuppressWarnings("checkstyle:IllegalCatch")
+    @Deprecated
     protected void initiateEpollEventLoopGroups(ThreadConfiguration threadConfiguration) {
-        try {
-            datagramChannelClass = EpollDatagramChannel.class;
-            if (threadConfiguration != null) {
-                group = new EpollEventLoopGroup(threadConfiguration.getWorkerThreadCount());
-            } else {
-                group = new EpollEventLoopGroup();
-            }
-            return;
-        } catch (RuntimeException ex) {
-            LOG.debug("Epoll initiation failed");
-        }
+        initiateEventLoopGroups(threadConfiguration, ChannelTransport.EPOLL);
+    }
 
-        //Fallback mechanism
-        initiateNioEventLoopGroups(threadConfiguration);
+    /**
+     * Initiate event loop groups.
+     *
+     * @param threadConfiguration number of threads to be created, if not specified in threadConfig
+     * @param channelTransport transport to use, falls back to the next available one if it is not available
+     */
+    public void initiateEventLoopGroups(ThreadConfiguration threadConfiguration, ChannelTransport channelTransport) {
+        transport = channelTransport.orFallback();
+        group = transport.newEventLoopGroup(threadConfiguration != null ? threadConfiguration.getWorkerThreadCount()
+                : 0, ChannelTransport.DEFAULT_IO_RATIO);
+        LOG.debug("Event loop group initiated with transport {}", transport);
     }
 }
@@ -10,10 +10,6 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalCause;
-import com.google.common.cache.RemovalListener;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import io.netty.channel.Channel;
@@ -21,7 +17,6 @@ import io.netty.channel.ChannelFuture;
 import java.net.InetSocketAddress;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
@@ -78,25 +73,15 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractConnectionAdapter.class);
 
-    /** after this time, RPC future response objects will be thrown away (in minutes). */
-    private static final int RPC_RESPONSE_EXPIRATION = 1;
-
     private static final Exception QUEUE_FULL_EXCEPTION = new RejectedExecutionException("Output queue is full");
 
-    protected static final RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>> REMOVAL_LISTENER =
-        notification -> {
-            if (!notification.getCause().equals(RemovalCause.EXPLICIT)) {
-                notification.getValue().discard();
-            }
-        };
-
     protected final Channel channel;
     protected final InetSocketAddress address;
     protected boolean disconnectOccured = false;
     protected final ChannelOutboundQueue output;
 
-    /** expiring cache for future rpcResponses. */
-    protected Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> responseCache;
+    /** expiring table of future rpcResponses. */
+    protected RpcResponseTable responseTable;
 
 
     AbstractConnectionAdapter(@Nonnull final Channel channel, @Nullable final InetSocketAddress address,
@@ -104,8 +89,7 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
         this.channel = Preconditions.checkNotNull(channel);
         this.address = address;
 
-        responseCache = CacheBuilder.newBuilder().concurrencyLevel(1)
-                .expireAfterWrite(RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES).removalListener(REMOVAL_LISTENER).build();
+        responseTable = new RpcResponseTable(channel.eventLoop());
         LOG.debug("The channel outbound queue size:{}", channelOutboundQueueSize);
         this.output = new ChannelOutboundQueue(channel, channelOutboundQueueSize, address);
         channel.pipeline().addLast(output);
@@ -114,7 +98,7 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
     @Override
     public Future<Boolean> disconnect() {
         final ChannelFuture disconnectResult = channel.disconnect();
-        responseCache.invalidateAll();
+        responseTable.clear();
         disconnectOccured = true;
 
         return handleTransportChannelFuture(disconnectResult);
@@ -240,18 +224,36 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
     /**
      * Used only for testing purposes.
      *
-     * @param cache replacement
+     * @param table replacement
      */
     @VisibleForTesting
-    void setResponseCache(final Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> cache) {
-        this.responseCache = cache;
+    void setResponseTable(final RpcResponseTable table) {
+        this.responseTable = table;
+    }
+
+    /**
+     * Returns the number of RPCs waiting for a response from the switch.
+     *
+     * @return number of outstanding requests
+     */
+    long getOutstandingRpcs() {
+        return responseTable.getOutstanding();
+    }
+
+    /**
+     * Returns the number of RPCs which did not receive a response from the switch in time.
+     *
+     * @return number of timed out requests
+     */
+    long getTimedOutRpcs() {
+        return responseTable.getTimeouts();
     }
 
     /**
-     * Return cached RpcListener or {@code null} if not cached.
+     * Remove and return the RpcListener waiting for a response, or {@code null} if there is none.
      */
-    protected ResponseExpectedRpcListener<?> findRpcResponse(final RpcResponseKey key) {
-        return responseCache.getIfPresent(key);
+    protected ResponseExpectedRpcListener<?> removeRpcResponse(final long xid, final String outputClazz) {
+        return responseTable.remove(xid, outputClazz);
     }
 
     /**
@@ -263,12 +265,12 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
      * @return future object,
      *         <ul>
      *         <li>if send fails, {@link RpcResult} will contain errors and failed status</li>
-     *         <li>else {@link RpcResult} will be stored in responseCache and wait for particular timeout (
-     *         {@link ConnectionAdapterImpl#RPC_RESPONSE_EXPIRATION}),
+     *         <li>else {@link RpcResult} will be stored in responseTable and wait for particular timeout (
+     *         {@link RpcResponseTable#RPC_RESPONSE_EXPIRATION}),
      *         <ul>
      *         <li>either switch will manage to answer and then corresponding response message will be set into returned
      *         future</li>
-     *         <li>or response in cache will expire and returned future will be cancelled</li>
+     *         <li>or response in table will expire and returned future will be cancelled</li>
      *         </ul>
      *         </li>
      *         </ul>
@@ -278,7 +280,7 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
                     final String failureInfo) {
         final RpcResponseKey key = new RpcResponseKey(input.getXid(), responseClazz.getName());
         final ResponseExpectedRpcListener<O> listener = new ResponseExpectedRpcListener<>(input, failureInfo,
-                responseCache, key);
+                responseTable, key);
         return enqueueMessage(listener);
     }
 
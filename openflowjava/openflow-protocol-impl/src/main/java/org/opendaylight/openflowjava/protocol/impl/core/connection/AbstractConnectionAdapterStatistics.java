@@ -11,6 +11,8 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 import com.google.common.util.concurrent.ListenableFuture;
 import io.netty.channel.Channel;
 import java.net.InetSocketAddress;
+import org.opendaylight.openflowjava.protocol.api.connection.PacketInView;
+import org.opendaylight.openflowjava.statistics.ConnectionLatencies;
 import org.opendaylight.openflowjava.statistics.CounterEventTypes;
 import org.opendaylight.openflowjava.statistics.StatisticsCounters;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInput;
@@ -29,11 +31,21 @@ import org.opendaylight.yangtools.yang.common.RpcResult;
 abstract class AbstractConnectionAdapterStatistics extends AbstractConnectionAdapter implements MessageConsumer {
 
     private final StatisticsCounters statisticsCounters;
+    private final ConnectionLatencies connectionLatencies;
 
     AbstractConnectionAdapterStatistics(final Channel channel, final InetSocketAddress address,
                                         final int channelOutboundQueueSize) {
         super(channel, address, channelOutboundQueueSize);
         statisticsCounters = StatisticsCounters.getInstance();
+        connectionLatencies = statisticsCounters.registerConnection(
+                String.valueOf(address != null ? address : channel.remoteAddress()));
+        connectionLatencies.registerGauge("RPC_OUTSTANDING", this::getOutstandingRpcs);
+        connectionLatencies.registerGauge("RPC_TIMED_OUT", this::getTimedOutRpcs);
+    }
+
+    @Override
+    public ConnectionLatencies getConnectionLatencies() {
+        return connectionLatencies;
     }
 
     @Override
@@ -59,7 +71,9 @@ abstract class AbstractConnectionAdapterStatistics extends AbstractConnectionAda
     @Override
     public void consume(final DataObject message) {
         if (message instanceof Notification) {
-            if (!(message instanceof DisconnectEvent || message instanceof SwitchIdleEvent)) {
+            if (message instanceof DisconnectEvent) {
+                connectionLatencies.close();
+            } else if (!(message instanceof SwitchIdleEvent)) {
                 statisticsCounters.incrementCounter(CounterEventTypes.US_MESSAGE_PASS);
             }
         } else if (message instanceof OfHeader) {
@@ -76,4 +90,18 @@ abstract class AbstractConnectionAdapterStatistics extends AbstractConnectionAda
      * @param message from device to processing
      */
     protected abstract void consumeDeviceMessage(DataObject message);
+
+    @Override
+    public void consumePacketIn(final PacketInView packetIn) {
+        statisticsCounters.incrementCounter(CounterEventTypes.US_MESSAGE_PASS);
+        consumeDevicePacketIn(packetIn);
+    }
+
+    /**
+     * Method is equivalent to {@link MessageConsumer#consumePacketIn(PacketInView)}, see
+     * {@link #consumeDeviceMessage(DataObject)}.
+     *
+     * @param packetIn view of the PACKET_IN message to process, to be released by the implementation
+     */
+    protected abstract void consumeDevicePacketIn(PacketInView packetIn);
 }
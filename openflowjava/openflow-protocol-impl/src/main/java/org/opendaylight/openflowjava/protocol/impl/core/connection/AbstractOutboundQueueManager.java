@@ -9,8 +9,10 @@
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import com.google.common.base.Preconditions;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import java.net.InetSocketAddress;
@@ -18,6 +20,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nonnull;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
+import org.opendaylight.openflowjava.statistics.ConnectionLatencies;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoReplyInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoReplyInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoRequestMessage;
@@ -57,15 +60,19 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
      * Default low write watermark. Channel will become writable when number of outstanding
      * bytes dips below this value.
      */
-    private static final int DEFAULT_LOW_WATERMARK = 128 * 1024;
+    static final int DEFAULT_LOW_WATERMARK = 128 * 1024;
 
     /**
      * Default write high watermark. Channel will become un-writable when number of
      * outstanding bytes hits this value.
      */
-    private static final int DEFAULT_HIGH_WATERMARK = DEFAULT_LOW_WATERMARK * 2;
+    static final int DEFAULT_HIGH_WATERMARK = DEFAULT_LOW_WATERMARK * 2;
 
     private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final FlushStatistics flushStatistics = new FlushStatistics();
+    private final StackedSegmentPool segmentPool;
+    private final long flushCoalescingNanos;
+    private final int flushCoalescingThreshold;
     protected final ConnectionAdapterImpl parent;
     protected final InetSocketAddress address;
     protected final O currentQueue;
@@ -76,18 +83,33 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
 
     // Updated from netty only
     private boolean alreadyReading;
+    private boolean coalescedFlushScheduled;
+    private int unflushedEntries;
+    private long unflushedBytes;
     protected boolean shuttingDown;
 
     // Passed to executor to request triggering of flush
     protected final Runnable flushRunnable = this::flush;
 
+    // Passed to executor to request a delayed channel flush
+    private final Runnable coalescedFlushRunnable = this::coalescedFlush;
+
     AbstractOutboundQueueManager(final ConnectionAdapterImpl parent, final InetSocketAddress address, final T handler) {
         this.parent = Preconditions.checkNotNull(parent);
         this.handler = Preconditions.checkNotNull(handler);
         this.address = address;
+        flushCoalescingNanos = parent.getFlushCoalescingNanos();
+        flushCoalescingThreshold = parent.getFlushCoalescingThreshold();
+        final int segmentPoolSize = parent.getSegmentPoolSize();
+        segmentPool = segmentPoolSize > 0
+                ? StackedSegmentPool.forEventLoop(parent.getChannel().eventLoop(), segmentPoolSize) : null;
+        flushStatistics.registerGauges(parent.getConnectionLatencies());
+        if (segmentPool != null) {
+            segmentPool.registerGauges(parent.getConnectionLatencies());
+        }
         /* Note: don't wish to use reflection here */
         currentQueue = initializeStackedOutboudnqueue();
-        LOG.debug("Queue manager instantiated with queue {}", currentQueue);
+        LOG.debug("Queue manager instantiated with queue {} and segment pool {}", currentQueue, segmentPool);
 
         handler.onConnectionQueueChanged(currentQueue);
     }
@@ -106,7 +128,8 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
 
     @Override
     public String toString() {
-        return String.format("Channel %s queue [flushing=%s]", parent.getChannel(), flushScheduled.get());
+        return String.format("Channel %s queue [flushing=%s, %s]", parent.getChannel(), flushScheduled.get(),
+                flushStatistics);
     }
 
     @Override
@@ -115,10 +138,11 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
          * Tune channel write buffering. We increase the writability window
          * to ensure we can flush an entire queue segment in one go. We definitely
          * want to keep the difference above 64k, as that will ensure we use jam-packed
-         * TCP packets. UDP will fragment as appropriate.
+         * TCP packets. UDP will fragment as appropriate. The defaults may be overridden
+         * by the socket configuration.
          */
-        ctx.channel().config().setWriteBufferHighWaterMark(DEFAULT_HIGH_WATERMARK);
-        ctx.channel().config().setWriteBufferLowWaterMark(DEFAULT_LOW_WATERMARK);
+        ctx.channel().config().setWriteBufferWaterMark(new WriteBufferWaterMark(parent.getWriteBufferLowWatermark(),
+                parent.getWriteBufferHighWatermark()));
 
         super.handlerAdded(ctx);
     }
@@ -163,7 +187,7 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
         // in the queue.
         super.channelInactive(ctx);
 
-        LOG.debug("Channel {} initiating shutdown...", ctx.channel());
+        LOG.debug("Channel {} initiating shutdown, {}", ctx.channel(), flushStatistics);
 
         // Then we start queue shutdown, start counting written messages (so that we don't keep sending messages
         // indefinitely) and failing not completed entries.
@@ -207,6 +231,24 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
         return handler;
     }
 
+    /**
+     * Returns the pool queue segments are allocated from.
+     *
+     * @return segment pool of the channel's event loop, or null if segments are cached through soft references
+     */
+    StackedSegmentPool getSegmentPool() {
+        return segmentPool;
+    }
+
+    /**
+     * Returns latency histograms of the connection.
+     *
+     * @return connection latencies
+     */
+    ConnectionLatencies getConnectionLatencies() {
+        return parent.getConnectionLatencies();
+    }
+
     void ensureFlushing() {
         // If the channel is not writable, there's no point in waking up,
         // once we become writable, we will run a full flush
@@ -307,22 +349,61 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
         state = PipelineState.WRITING;
 
         final long start = System.nanoTime();
+        final Channel channel = parent.getChannel();
 
-        final int entries = currentQueue.writeEntries(parent.getChannel(), start);
+        final long pendingBefore = pendingWriteBytes(channel);
+        final int entries = currentQueue.writeEntries(channel, start);
         if (entries > 0) {
-            LOG.trace("Flushing channel {}", parent.getChannel());
-            parent.getChannel().flush();
+            unflushedEntries += entries;
+            unflushedBytes += Math.max(0, pendingWriteBytes(channel) - pendingBefore);
+
+            // Flush right away unless coalescing is enabled and we are still below the threshold. Once the channel
+            // is not writable there is nothing to wait for, as no more entries can be written until we flush.
+            if (flushCoalescingNanos == 0 || shuttingDown || unflushedBytes >= flushCoalescingThreshold
+                    || !channel.isWritable()) {
+                flushChannel(channel);
+            } else if (!coalescedFlushScheduled) {
+                LOG.trace("Delaying flush of channel {} by {}ns", channel, flushCoalescingNanos);
+                coalescedFlushScheduled = true;
+                channel.eventLoop().schedule(coalescedFlushRunnable, flushCoalescingNanos, TimeUnit.NANOSECONDS);
+            }
         }
 
         if (LOG.isDebugEnabled()) {
             final long stop = System.nanoTime();
-            LOG.debug("Flushed {} messages to channel {} in {}us", entries, parent.getChannel(),
+            LOG.debug("Wrote {} messages to channel {} in {}us", entries, channel,
                     TimeUnit.NANOSECONDS.toMicros(stop - start));
         }
 
         state = PipelineState.IDLE;
     }
 
+    /**
+     * Delayed flush of entries written while coalescing. Runs in Netty context.
+     */
+    private void coalescedFlush() {
+        coalescedFlushScheduled = false;
+        if (unflushedEntries > 0) {
+            flushChannel(parent.getChannel());
+        }
+    }
+
+    private void flushChannel(final Channel channel) {
+        LOG.trace("Flushing channel {}", channel);
+        channel.flush();
+        flushStatistics.onFlush(unflushedEntries, unflushedBytes);
+        unflushedEntries = 0;
+        unflushedBytes = 0;
+    }
+
+    /**
+     * Estimate the number of bytes queued in the channel, be it flushed or not. Writes are encoded synchronously
+     * in Netty context, hence the difference before and after writing entries is the size of their encoded form.
+     */
+    private static long pendingWriteBytes(final Channel channel) {
+        return Math.max(0, channel.config().getWriteBufferHighWaterMark() - channel.bytesBeforeUnwritable());
+    }
+
     private void rescheduleFlush() {
         /*
          * We are almost ready to terminate. This is a bit tricky, because
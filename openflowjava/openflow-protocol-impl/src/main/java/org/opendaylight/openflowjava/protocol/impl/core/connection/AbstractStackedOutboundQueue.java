@@ -16,10 +16,13 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Function;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueException;
+import org.opendaylight.openflowjava.statistics.ConnectionLatencies;
+import org.opendaylight.openflowjava.statistics.LatencyEventTypes;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,10 +50,14 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
     protected int flushOffset;
 
     protected final AbstractOutboundQueueManager<?, ?> manager;
+    private final StackedSegmentPool segmentPool;
+    private final ConnectionLatencies latencies;
 
     AbstractStackedOutboundQueue(final AbstractOutboundQueueManager<?, ?> manager) {
         this.manager = Preconditions.checkNotNull(manager);
-        firstSegment = StackedSegment.create(0L);
+        segmentPool = manager.getSegmentPool();
+        latencies = manager.getConnectionLatencies();
+        firstSegment = StackedSegment.create(0L, segmentPool);
         uncompletedSegments.add(firstSegment);
         unflushedSegments.add(firstSegment);
     }
@@ -68,7 +75,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
 
         for (int i = unflushedSegments.size(); i <= segmentOffset; ++i) {
             final StackedSegment newSegment = StackedSegment.create(first.getBaseXid()
-                    + StackedSegment.SEGMENT_SIZE * (long)i);
+                    + StackedSegment.SEGMENT_SIZE * (long)i, segmentPool);
             LOG.debug("Adding segment {}", newSegment);
             unflushedSegments.add(newSegment);
         }
@@ -145,6 +152,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
 
             if (message != null) {
                 manager.writeMessage(message, now);
+                recordWriteLatency(entry, message);
             } else {
                 entry.complete(null);
             }
@@ -192,16 +200,39 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
         return entries;
     }
 
+    /**
+     * Commits an entry, stamping it with the commit time if latencies are being recorded.
+     */
+    final void commit(final OutboundQueueEntry entry, final OfHeader message,
+            final FutureCallback<OfHeader> callback, final Function<OfHeader, Boolean> isCompletedFunction) {
+        entry.setCommitNanos(latencies != null ? latencies.timestamp() : 0);
+        entry.commit(message, callback, isCompletedFunction);
+    }
+
+    /**
+     * Records the time an entry spent in the queue before its message was written into the channel.
+     */
+    final void recordWriteLatency(final OutboundQueueEntry entry, final OfHeader message) {
+        if (entry.getCommitNanos() != 0) {
+            latencies.recordSince(LatencyEventTypes.DS_QUEUE_TO_WRITE, message.implementedInterface(),
+                    entry.getCommitNanos());
+        }
+    }
+
     boolean pairRequest(final OfHeader message) {
         Iterator<StackedSegment> it = uncompletedSegments.iterator();
         while (it.hasNext()) {
             final StackedSegment queue = it.next();
-            final OutboundQueueEntry entry = queue.pairRequest(message);
+            final OutboundQueueEntry entry = queue.pairRequest(message, latencies);
             if (entry == null) {
                 continue;
             }
 
             LOG.trace("Queue {} accepted response {}", queue, message);
+            if (entry.isCompleted() && entry.getCommitNanos() != 0) {
+                latencies.recordSince(LatencyEventTypes.DS_ROUND_TRIP, message.implementedInterface(),
+                        entry.getCommitNanos());
+            }
 
             // This has been a barrier request, we need to flush all
             // previous queues
@@ -216,7 +247,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
                     // complete the current queue below
                     if (!queue.equals(q)) {
                         LOG.trace("Queue {} is implied finished", q);
-                        q.completeAll();
+                        q.completeAll(latencies);
                         it.remove();
                         q.recycle();
                     } else {
@@ -12,9 +12,12 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 import com.google.common.base.Preconditions;
 import io.netty.channel.Channel;
 import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionReadyListener;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandlerRegistration;
+import org.opendaylight.openflowjava.protocol.api.connection.PacketInFastPathListener;
+import org.opendaylight.openflowjava.protocol.api.connection.PacketInView;
 import org.opendaylight.openflowjava.protocol.api.extensibility.AlienMessageListener;
 import org.opendaylight.openflowjava.protocol.impl.core.OFVersionDetector;
 import org.opendaylight.openflowjava.protocol.impl.core.PipelineHandlers;
@@ -50,10 +53,16 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
     private OpenflowProtocolListener messageListener;
     private SystemNotificationsListener systemListener;
     private AlienMessageListener alienMessageListener;
+    private volatile PacketInFastPathListener packetInFastPathListener;
     private AbstractOutboundQueueManager<?, ?> outputManager;
     private OFVersionDetector versionDetector;
 
     private final boolean useBarrier;
+    private long flushCoalescingNanos;
+    private int flushCoalescingThreshold = AbstractOutboundQueueManager.DEFAULT_LOW_WATERMARK;
+    private int segmentPoolSize = StackedSegmentPool.DEFAULT_CAPACITY;
+    private int writeBufferLowWatermark = AbstractOutboundQueueManager.DEFAULT_LOW_WATERMARK;
+    private int writeBufferHighWatermark = AbstractOutboundQueueManager.DEFAULT_HIGH_WATERMARK;
 
     /**
      * Default constructor.
@@ -100,7 +109,7 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
             // System events
             if (message instanceof DisconnectEvent) {
                 systemListener.onDisconnectEvent((DisconnectEvent) message);
-                responseCache.invalidateAll();
+                responseTable.clear();
                 disconnectOccured = true;
             } else if (message instanceof SwitchIdleEvent) {
                 systemListener.onSwitchIdleEvent((SwitchIdleEvent) message);
@@ -145,13 +154,13 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
                 LOG.debug("Alien message {} received", message.implementedInterface());
             } else if (outputManager == null || !outputManager.onMessage((OfHeader) message)
                     || message instanceof EchoOutput) {
-                final RpcResponseKey key = createRpcResponseKey((OfHeader) message);
-                final ResponseExpectedRpcListener<?> listener = findRpcResponse(key);
+                final OfHeader header = (OfHeader) message;
+                final ResponseExpectedRpcListener<?> listener = removeRpcResponse(header.getXid(),
+                        header.implementedInterface().getName());
                 if (listener != null) {
                     LOG.debug("Corresponding rpcFuture found");
-                    listener.completed((OfHeader) message);
+                    listener.completed(header);
                     LOG.debug("After setting rpcFuture");
-                    responseCache.invalidate(key);
                 }
             }
         } else {
@@ -159,8 +168,22 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
         }
     }
 
-    private static RpcResponseKey createRpcResponseKey(final OfHeader message) {
-        return new RpcResponseKey(message.getXid(), message.implementedInterface().getName());
+    @Override
+    protected void consumeDevicePacketIn(final PacketInView packetIn) {
+        try {
+            if (disconnectOccured) {
+                return;
+            }
+            final PacketInFastPathListener listener = packetInFastPathListener;
+            if (listener == null || !listener.onPacketIn(packetIn)) {
+                final DataObject message = packetIn.toMessage();
+                if (message != null) {
+                    consumeDeviceMessage(message);
+                }
+            }
+        } finally {
+            packetIn.release();
+        }
     }
 
     @Override
@@ -223,9 +246,60 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
         return channel;
     }
 
+    @Override
+    public void setFlushCoalescing(final long delayMicros, final int thresholdBytes) {
+        Preconditions.checkArgument(delayMicros >= 0, "Flush coalescing delay %s is negative", delayMicros);
+        Preconditions.checkArgument(thresholdBytes > 0, "Flush coalescing threshold %s is not positive",
+                thresholdBytes);
+        flushCoalescingNanos = TimeUnit.MICROSECONDS.toNanos(delayMicros);
+        flushCoalescingThreshold = thresholdBytes;
+        LOG.debug("Flush coalescing set to {}us / {} bytes", delayMicros, thresholdBytes);
+    }
+
+    @Override
+    public void setSegmentPoolSize(final int segmentPoolSize) {
+        Preconditions.checkArgument(segmentPoolSize >= 0, "Segment pool size %s is negative", segmentPoolSize);
+        this.segmentPoolSize = segmentPoolSize;
+    }
+
+    @Override
+    public void setWriteBufferWatermarks(final int lowWatermark, final int highWatermark) {
+        Preconditions.checkArgument(lowWatermark > 0, "Low write buffer watermark %s is not positive", lowWatermark);
+        Preconditions.checkArgument(highWatermark >= lowWatermark,
+                "High write buffer watermark %s is lower than low watermark %s", highWatermark, lowWatermark);
+        writeBufferLowWatermark = lowWatermark;
+        writeBufferHighWatermark = highWatermark;
+    }
+
+    long getFlushCoalescingNanos() {
+        return flushCoalescingNanos;
+    }
+
+    int getFlushCoalescingThreshold() {
+        // Flush before the channel becomes unwritable
+        return Math.min(flushCoalescingThreshold, writeBufferHighWatermark);
+    }
+
+    int getWriteBufferLowWatermark() {
+        return writeBufferLowWatermark;
+    }
+
+    int getWriteBufferHighWatermark() {
+        return writeBufferHighWatermark;
+    }
+
+    int getSegmentPoolSize() {
+        return segmentPoolSize;
+    }
+
     @Override
     public void setPacketInFiltering(final boolean enabled) {
         versionDetector.setFilterPacketIns(enabled);
         LOG.debug("PacketIn filtering {}abled", enabled ? "en" : "dis");
     }
+
+    @Override
+    public void setPacketInFastPathListener(final PacketInFastPathListener packetInListener) {
+        this.packetInFastPathListener = packetInListener;
+    }
 }
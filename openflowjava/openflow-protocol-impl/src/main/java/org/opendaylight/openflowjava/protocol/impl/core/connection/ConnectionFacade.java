@@ -10,6 +10,7 @@
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+import org.opendaylight.openflowjava.statistics.ConnectionLatencies;
 
 /**
  * Unifying super interface for a connection.
@@ -18,5 +19,36 @@ import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
  */
 public interface ConnectionFacade extends MessageConsumer, ConnectionAdapter {
 
- // empty unifying superinterface
+    /**
+     * Configures coalescing of channel flushes performed by the outbound queue manager. Has to be invoked before
+     * an outbound queue handler is registered.
+     *
+     * @param delayMicros maximum time in microseconds a flush may be delayed, 0 to flush immediately
+     * @param thresholdBytes number of unflushed bytes which triggers an immediate flush
+     */
+    void setFlushCoalescing(long delayMicros, int thresholdBytes);
+
+    /**
+     * Configures the number of outbound queue segments retained by the pool of the connection's event loop. Has to
+     * be invoked before an outbound queue handler is registered.
+     *
+     * @param segmentPoolSize maximum number of pooled segments, 0 to use the global soft-reference cache instead
+     */
+    void setSegmentPoolSize(int segmentPoolSize);
+
+    /**
+     * Configures the write buffer watermarks applied to the channel by the outbound queue manager. Has to be
+     * invoked before an outbound queue handler is registered.
+     *
+     * @param lowWatermark number of outbound bytes below which an unwritable channel becomes writable again
+     * @param highWatermark number of outbound bytes above which the channel becomes unwritable
+     */
+    void setWriteBufferWatermarks(int lowWatermark, int highWatermark);
+
+    /**
+     * Returns latency histograms of this connection.
+     *
+     * @return connection latencies
+     */
+    ConnectionLatencies getConnectionLatencies();
 }
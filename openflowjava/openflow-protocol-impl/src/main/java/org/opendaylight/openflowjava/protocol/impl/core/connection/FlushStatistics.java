@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import org.opendaylight.openflowjava.statistics.ConnectionLatencies;
+
+/**
+ * Per-connection counters of channel writes and flushes performed by an {@link AbstractOutboundQueueManager}.
+ * Counters are updated from Netty context only and may be read from any thread.
+ */
+final class FlushStatistics {
+
+    private volatile long writes;
+    private volatile long flushes;
+    private volatile long flushedBytes;
+
+    /**
+     * Records a channel flush.
+     *
+     * @param entries number of messages written since the previous flush
+     * @param bytes number of bytes written since the previous flush
+     */
+    void onFlush(final int entries, final long bytes) {
+        // Single writer, no need for atomic updates
+        writes += entries;
+        flushedBytes += bytes;
+        flushes++;
+    }
+
+    /**
+     * Registers the counters as gauges of a connection, so they are reported through
+     * {@link org.opendaylight.openflowjava.statistics.StatisticsCountersMXBean#printConnectionStatistics()}.
+     *
+     * @param latencies statistics of the connection
+     */
+    void registerGauges(final ConnectionLatencies latencies) {
+        latencies.registerGauge("FLUSH_WRITES", this::getWrites);
+        latencies.registerGauge("FLUSH_COUNT", this::getFlushes);
+        latencies.registerGauge("FLUSH_BYTES", this::getFlushedBytes);
+        latencies.registerGauge("FLUSH_BYTES_PER_FLUSH", this::getBytesPerFlush);
+    }
+
+    /**
+     * Returns the number of messages written to the channel.
+     *
+     * @return number of written messages
+     */
+    long getWrites() {
+        return writes;
+    }
+
+    /**
+     * Returns the number of channel flushes.
+     *
+     * @return number of flushes
+     */
+    long getFlushes() {
+        return flushes;
+    }
+
+    /**
+     * Returns the number of bytes written to the channel.
+     *
+     * @return number of flushed bytes
+     */
+    long getFlushedBytes() {
+        return flushedBytes;
+    }
+
+    /**
+     * Returns the average number of bytes per channel flush.
+     *
+     * @return bytes per flush, 0 if there was no flush yet
+     */
+    long getBytesPerFlush() {
+        final long localFlushes = flushes;
+        return localFlushes == 0 ? 0 : flushedBytes / localFlushes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("writes=%s, flushes=%s, bytesPerFlush=%s", writes, flushes, getBytesPerFlush());
+    }
+}
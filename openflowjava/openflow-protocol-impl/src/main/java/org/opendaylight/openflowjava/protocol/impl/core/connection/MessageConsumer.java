@@ -9,6 +9,7 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
+import org.opendaylight.openflowjava.protocol.api.connection.PacketInView;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 
 /**
@@ -25,4 +26,12 @@ public interface MessageConsumer {
      */
     void consume(DataObject message);
 
+    /**
+     * Invoked to consume a PACKET_IN message received through the fast path. The consumer takes over the
+     * ownership of the view and has to release it.
+     *
+     * @param packetIn view of the message to process
+     */
+    void consumePacketIn(PacketInView packetIn);
+
 }
@@ -34,9 +34,11 @@ final class OutboundQueueEntry {
 
     private FutureCallback<OfHeader> callback;
     private OfHeader message;
+    private Class<?> messageType;
     private boolean completed;
     private boolean barrier;
     private volatile boolean committed;
+    private long commitNanos;
     private Function<OfHeader, Boolean> isCompletedFunction = DEFAULT_IS_COMPLETE;
 
     void commit(final OfHeader messageToCommit, final FutureCallback<OfHeader> commitCallback) {
@@ -52,6 +54,7 @@ final class OutboundQueueEntry {
             }
         } else {
             this.message = messageToCommit;
+            this.messageType = messageToCommit.implementedInterface();
             this.callback = commitCallback;
             this.barrier = messageToCommit instanceof BarrierInput;
             this.isCompletedFunction = isCommitCompletedFunction;
@@ -61,11 +64,35 @@ final class OutboundQueueEntry {
         }
     }
 
+    /**
+     * Sets the time stamp of the commit. Has to be invoked before the entry is committed.
+     *
+     * @param timestamp commit time stamp, 0 if latencies are not recorded
+     */
+    void setCommitNanos(final long timestamp) {
+        this.commitNanos = timestamp;
+    }
+
+    long getCommitNanos() {
+        return commitNanos;
+    }
+
+    /**
+     * Returns the type of the committed message, which is retained after the message is written.
+     *
+     * @return message type, or null if the entry has not been committed
+     */
+    Class<?> getMessageType() {
+        return messageType;
+    }
+
     void reset() {
         barrier = false;
+        commitNanos = 0;
         callback = null;
         completed = false;
         message = null;
+        messageType = null;
 
         // Volatile write, needs to be last
         committed = false;
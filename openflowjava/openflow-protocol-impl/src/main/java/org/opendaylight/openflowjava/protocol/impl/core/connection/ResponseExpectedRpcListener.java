@@ -8,7 +8,6 @@
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
 import java.util.concurrent.TimeoutException;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.slf4j.Logger;
@@ -16,13 +15,13 @@ import org.slf4j.LoggerFactory;
 
 final class ResponseExpectedRpcListener<T extends OfHeader> extends AbstractRpcListener<T> {
     private static final Logger LOG = LoggerFactory.getLogger(ResponseExpectedRpcListener.class);
-    private final Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> cache;
+    private final RpcResponseTable responseTable;
     private final RpcResponseKey key;
 
     ResponseExpectedRpcListener(final Object message, final String failureInfo,
-            final Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> cache, final RpcResponseKey key) {
+            final RpcResponseTable responseTable, final RpcResponseKey key) {
         super(message, failureInfo);
-        this.cache = Preconditions.checkNotNull(cache);
+        this.responseTable = Preconditions.checkNotNull(responseTable);
         this.key = Preconditions.checkNotNull(key);
     }
 
@@ -39,6 +38,6 @@ final class ResponseExpectedRpcListener<T extends OfHeader> extends AbstractRpcL
     @Override
     protected void operationSuccessful() {
         LOG.debug("Request for {} sent successfully", key);
-        cache.put(key, this);
+        responseTable.put(key, this);
     }
 }
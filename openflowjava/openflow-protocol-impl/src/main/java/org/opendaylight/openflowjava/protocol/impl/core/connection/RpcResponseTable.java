@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Correlation table of RPCs waiting for a response from the switch. Requests are stored in a slot array indexed
+ * by their XID, so registering and completing a request is a single compare-and-set. Requests whose slot is taken
+ * by an outstanding request with a colliding XID are kept in an overflow map.
+ *
+ * <p>
+ * Requests which do not receive a response in time are discarded by a timer wheel. Each bucket of the wheel links
+ * the requests registered during one tick, and a single periodic task, scheduled on an executor owned by the caller,
+ * normally the event loop of the connection, sweeps one bucket per tick. A request therefore expires between
+ * the expiration and the expiration plus one tick after it was registered.
+ */
+class RpcResponseTable {
+    /**
+     * After this time, RPC future response objects will be thrown away (in minutes).
+     */
+    static final int RPC_RESPONSE_EXPIRATION = 1;
+
+    private static final Logger LOG = LoggerFactory.getLogger(RpcResponseTable.class);
+    private static final int SLOTS = 1024;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int TICKS_PER_EXPIRATION = 8;
+    // One bucket for the tick being swept, one for the tick requests are being registered in
+    private static final int WHEEL_SIZE = TICKS_PER_EXPIRATION + 2;
+
+    private final AtomicReferenceArray<Pending> slots = new AtomicReferenceArray<>(SLOTS);
+    private final ConcurrentMap<RpcResponseKey, Pending> overflow = new ConcurrentHashMap<>();
+    private final Bucket[] wheel = new Bucket[WHEEL_SIZE];
+    private final LongAdder outstanding = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final ScheduledExecutorService scheduler;
+    private final long tickNanos;
+
+    // Written only by the sweeping task
+    private volatile long tick;
+    // Read without the lock on every registration, written under the lock along with the sweeper
+    private volatile boolean sweeping;
+    @GuardedBy("this")
+    private ScheduledFuture<?> sweeper;
+
+    RpcResponseTable(final ScheduledExecutorService scheduler) {
+        this(scheduler, RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES);
+    }
+
+    RpcResponseTable(final ScheduledExecutorService scheduler, final long expiration, final TimeUnit unit) {
+        Preconditions.checkArgument(expiration > 0, "Expiration %s is not positive", expiration);
+        this.scheduler = scheduler;
+        this.tickNanos = Math.max(1, unit.toNanos(expiration) / TICKS_PER_EXPIRATION);
+        for (int i = 0; i < WHEEL_SIZE; ++i) {
+            wheel[i] = new Bucket();
+        }
+    }
+
+    /**
+     * Registers a request waiting for a response. A previous request with the same key is discarded. If the executor
+     * no longer accepts tasks, the request is discarded right away, as it could never expire.
+     *
+     * @param key request key
+     * @param listener listener to be completed by the response
+     */
+    void put(final RpcResponseKey key, final ResponseExpectedRpcListener<?> listener) {
+        if (!sweeping && !startSweeping()) {
+            LOG.debug("Executor {} is shut down, discarding request for {}", scheduler, key);
+            listener.discard();
+            return;
+        }
+
+        final Pending pending = new Pending(key, listener);
+        outstanding.increment();
+        wheel[(int) ((tick + TICKS_PER_EXPIRATION + 1) % WHEEL_SIZE)].add(pending);
+
+        final int slot = slotOf(key.getXid());
+        while (true) {
+            final Pending current = slots.get(slot);
+            if (current == null) {
+                if (slots.compareAndSet(slot, null, pending)) {
+                    // The request may have been registered while its slot was taken by a colliding request
+                    if (!overflow.isEmpty()) {
+                        final Pending previous = overflow.remove(key);
+                        if (previous != null) {
+                            replaced(previous);
+                        }
+                    }
+                    return;
+                }
+            } else if (current.key.equals(key)) {
+                if (slots.compareAndSet(slot, current, pending)) {
+                    replaced(current);
+                    return;
+                }
+            } else {
+                // Slot is taken by an outstanding request with a colliding XID
+                final Pending previous = overflow.put(key, pending);
+                if (previous != null) {
+                    replaced(previous);
+                }
+                return;
+            }
+        }
+    }
+    /**
+     * Removes the request a response belongs to.
+     *
+     * @param xid response XID
+     * @param outputClazz name of the response type
+     * @return listener of the request, or null if there is no such outstanding request
+     */
+    @Nullable
+    ResponseExpectedRpcListener<?> remove(final long xid, final String outputClazz) {
+        final int slot = slotOf(xid);
+        final Pending pending = slots.get(slot);
+        if (pending != null && pending.matches(xid, outputClazz) && slots.compareAndSet(slot, pending, null)) {
+            return removed(pending);
+        }
+        if (!overflow.isEmpty()) {
+            final Pending overflowed = overflow.remove(new RpcResponseKey(xid, outputClazz));
+            if (overflowed != null) {
+                return removed(overflowed);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes all outstanding requests without completing them and stops sweeping the timer wheel until another
+     * request is registered.
+     */
+    void clear() {
+        stopSweeping();
+        for (int i = 0; i < SLOTS; ++i) {
+            final Pending pending = slots.getAndSet(i, null);
+            if (pending != null) {
+                removed(pending);
+            }
+        }
+        for (Pending pending : overflow.values()) {
+            if (overflow.remove(pending.key, pending)) {
+                removed(pending);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of requests waiting for a response.
+     *
+     * @return number of outstanding requests
+     */
+    long getOutstanding() {
+        return outstanding.sum();
+    }
+
+    /**
+     * Returns the number of requests discarded because they did not receive a response in time.
+     *
+     * @return number of timed out requests
+     */
+    long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("outstanding", getOutstanding()).add("timeouts", getTimeouts())
+                .toString();
+    }
+
+    private synchronized boolean startSweeping() {
+        if (!sweeping) {
+            try {
+                sweeper = scheduler.scheduleAtFixedRate(this::sweep, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                LOG.trace("Failed to schedule expiry of requests on {}", scheduler, e);
+                return false;
+            }
+            sweeping = true;
+        }
+        return true;
+    }
+
+    private synchronized void stopSweeping() {
+        if (sweeper != null) {
+            sweeper.cancel(false);
+            sweeper = null;
+        }
+        sweeping = false;
+    }
+
+    private void sweep() {
+        final long next = tick + 1;
+        tick = next;
+
+        Pending pending = wheel[(int) (next % WHEEL_SIZE)].detach();
+        while (pending != null) {
+            final Pending following = pending.next;
+            expire(pending);
+            pending = following;
+        }
+    }
+
+    private ResponseExpectedRpcListener<?> removed(final Pending pending) {
+        final Bucket bucket = pending.bucket;
+        if (bucket != null) {
+            bucket.remove(pending);
+        }
+        outstanding.decrement();
+        return pending.listener;
+    }
+
+    private void replaced(final Pending pending) {
+        removed(pending).discard();
+    }
+
+    private void expire(final Pending pending) {
+        final int slot = slotOf(pending.key.getXid());
+        if (slots.compareAndSet(slot, pending, null) || overflow.remove(pending.key, pending)) {
+            outstanding.decrement();
+            timeouts.increment();
+            pending.listener.discard();
+        }
+    }
+
+    private static int slotOf(final long xid) {
+        return (int) xid & SLOT_MASK;
+    }
+
+    private static final class Pending {
+        final RpcResponseKey key;
+        final ResponseExpectedRpcListener<?> listener;
+        // Links of the bucket the request expires in, written under the lock of that bucket
+        volatile Bucket bucket;
+        Pending prev;
+        Pending next;
+
+        Pending(final RpcResponseKey key, final ResponseExpectedRpcListener<?> listener) {
+            this.key = key;
+            this.listener = listener;
+        }
+
+        boolean matches(final long xid, final String outputClazz) {
+            return key.getXid() == xid && key.getOutputClazz().equals(outputClazz);
+        }
+    }
+
+    /**
+     * Bucket of the timer wheel, a doubly linked list of the requests expiring in one tick.
+     */
+    private static final class Bucket {
+        @GuardedBy("this")
+        private Pending head;
+
+        synchronized void add(final Pending pending) {
+            pending.bucket = this;
+            pending.next = head;
+            if (head != null) {
+                head.prev = pending;
+            }
+            head = pending;
+        }
+
+        synchronized void remove(final Pending pending) {
+            if (pending.bucket != this) {
+                // Already detached by the sweeping task
+                return;
+            }
+            pending.bucket = null;
+            if (pending.prev != null) {
+                pending.prev.next = pending.next;
+            } else {
+                head = pending.next;
+            }
+            if (pending.next != null) {
+                pending.next.prev = pending.prev;
+            }
+            pending.prev = null;
+            pending.next = null;
+        }
+
+        /**
+         * Empties the bucket. Detached requests keep their links, so the caller can walk them.
+         *
+         * @return first of the detached requests, or null if the bucket was empty
+         */
+        synchronized Pending detach() {
+            final Pending detached = head;
+            head = null;
+            for (Pending pending = detached; pending != null; pending = pending.next) {
+                pending.bucket = null;
+            }
+            return detached;
+        }
+    }
+}
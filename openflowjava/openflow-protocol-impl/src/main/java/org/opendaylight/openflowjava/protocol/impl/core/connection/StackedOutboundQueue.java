@@ -33,7 +33,7 @@ final class StackedOutboundQueue extends AbstractStackedOutboundQueue {
             final Function<OfHeader, Boolean> isCompletedFunction) {
         final OutboundQueueEntry entry = getEntry(xid);
 
-        entry.commit(message, callback, isCompletedFunction);
+        commit(entry, message, callback, isCompletedFunction);
         if (entry.isBarrier()) {
             long my = xid;
             for (;;) {
@@ -39,9 +39,9 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
 
         if (message instanceof FlowModInput) {
             callback.onSuccess(null);
-            entry.commit(message, null, isCompletedFunction);
+            commit(entry, message, null, isCompletedFunction);
         } else {
-            entry.commit(message, callback, isCompletedFunction);
+            commit(entry, message, callback, isCompletedFunction);
         }
 
         LOG.trace("Queue {} committed XID {}", this, xid);
@@ -69,6 +69,7 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
 
             if (message != null) {
                 manager.writeMessage(message, now);
+                recordWriteLatency(entry, message);
             } else {
                 entry.complete(null);
             }
@@ -89,7 +90,7 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
 
                     // Remove the segment, update the firstSegment and reset flushOffset
                     final StackedSegment oldSegment = unflushedSegments.remove(0);
-                    oldSegment.completeAll();
+                    oldSegment.completeAll(null);
                     uncompletedSegments.remove(oldSegment);
                     oldSegment.recycle();
 
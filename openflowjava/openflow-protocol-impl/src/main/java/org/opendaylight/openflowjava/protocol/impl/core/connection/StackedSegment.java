@@ -14,8 +14,11 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Verify;
 import java.lang.ref.Reference;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import javax.annotation.Nullable;
 import org.opendaylight.openflowjava.protocol.api.connection.DeviceRequestFailedException;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueException;
+import org.opendaylight.openflowjava.statistics.ConnectionLatencies;
+import org.opendaylight.openflowjava.statistics.LatencyEventTypes;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.Error;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.slf4j.Logger;
@@ -43,6 +46,7 @@ final class StackedSegment {
     private static final ConcurrentLinkedDeque<QueueRef> CACHE = new ConcurrentLinkedDeque<>();
 
     private final OutboundQueueEntry[] entries;
+    private final StackedSegmentPool pool;
     private final long baseXid;
     private final long endXid;
 
@@ -50,26 +54,27 @@ final class StackedSegment {
     private int lastBarrierOffset = -1;
     private int completeCount;
 
-    StackedSegment(final long baseXid, final OutboundQueueEntry[] entries) {
+    StackedSegment(final long baseXid, final OutboundQueueEntry[] entries, @Nullable final StackedSegmentPool pool) {
         this.baseXid = baseXid;
         this.endXid = baseXid + SEGMENT_SIZE;
         this.entries = Preconditions.checkNotNull(entries);
+        this.pool = pool;
     }
 
-    static StackedSegment create(final long baseXid) {
+    /**
+     * Creates a segment, reusing an entry array if one is available.
+     *
+     * @param baseXid first XID of the segment
+     * @param pool pool to take the array from and return it to, null to use the global soft-reference cache
+     * @return new segment
+     */
+    static StackedSegment create(final long baseXid, @Nullable final StackedSegmentPool pool) {
         final StackedSegment ret;
-        for (;;) {
-            final Reference<OutboundQueueEntry[]> item = CACHE.pollLast();
-            if (item == null) {
-                break;
-            }
-
-            final OutboundQueueEntry[] cached = item.get();
-            if (cached != null) {
-                ret = new StackedSegment(baseXid, cached);
-                LOG.trace("Reusing array {} in segment {}", cached, ret);
-                return ret;
-            }
+        final OutboundQueueEntry[] cached = pool != null ? pool.poll() : pollCache();
+        if (cached != null) {
+            ret = new StackedSegment(baseXid, cached, pool);
+            LOG.trace("Reusing array {} in segment {}", cached, ret);
+            return ret;
         }
 
         final OutboundQueueEntry[] entries = new OutboundQueueEntry[SEGMENT_SIZE];
@@ -77,11 +82,25 @@ final class StackedSegment {
             entries[i] = new OutboundQueueEntry();
         }
 
-        ret = new StackedSegment(baseXid, entries);
+        ret = new StackedSegment(baseXid, entries, pool);
         LOG.trace("Allocated new segment {}", ret);
         return ret;
     }
 
+    private static OutboundQueueEntry[] pollCache() {
+        for (;;) {
+            final Reference<OutboundQueueEntry[]> item = CACHE.pollLast();
+            if (item == null) {
+                return null;
+            }
+
+            final OutboundQueueEntry[] cached = item.get();
+            if (cached != null) {
+                return cached;
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this).add("baseXid", baseXid).add("endXid", endXid)
@@ -124,7 +143,14 @@ final class StackedSegment {
         return entries[offset];
     }
 
-    OutboundQueueEntry pairRequest(final OfHeader response) {
+    /**
+     * Pairs a response with its request. A barrier response also completes all requests preceding the barrier.
+     *
+     * @param response response from the switch
+     * @param latencies statistics recording round trips of requests completed by a barrier, may be null
+     * @return paired entry, or null if the response does not belong to this segment
+     */
+    OutboundQueueEntry pairRequest(final OfHeader response, @Nullable final ConnectionLatencies latencies) {
         // Explicitly 'long' to force unboxing before performing operations
         final long xid = response.getXid();
         if (!xidInRange(xid)) {
@@ -147,7 +173,7 @@ final class StackedSegment {
             //      completed *after* the barrier.
             LOG.trace("Barrier XID {} completed, cascading completion to XIDs {} to {}", xid,
                     baseXid + lastBarrierOffset + 1, xid - 1);
-            completeRequests(offset);
+            completeRequests(offset, latencies);
             lastBarrierOffset = offset;
 
             final boolean success = completeEntry(entry, response);
@@ -160,17 +186,28 @@ final class StackedSegment {
         return entry;
     }
 
-    private void completeRequests(final int toOffset) {
+    private void completeRequests(final int toOffset, @Nullable final ConnectionLatencies latencies) {
         for (int i = lastBarrierOffset + 1; i < toOffset; ++i) {
             final OutboundQueueEntry entry = entries[i];
             if (!entry.isCompleted() && entry.complete(null)) {
                 completeCount++;
+                if (latencies != null) {
+                    // Implied by a barrier, recorded under the type of the request as there is no response
+                    latencies.recordSince(LatencyEventTypes.DS_ROUND_TRIP, entry.getMessageType(),
+                            entry.getCommitNanos());
+                }
             }
         }
     }
 
-    void completeAll() {
-        completeRequests(entries.length);
+    /**
+     * Completes all requests which have not been completed yet.
+     *
+     * @param latencies statistics recording round trips of completed requests, null if the requests are not
+     *                  completed by a response
+     */
+    void completeAll(@Nullable final ConnectionLatencies latencies) {
+        completeRequests(entries.length, latencies);
     }
 
     int failAll(final OutboundQueueException cause) {
@@ -200,6 +237,10 @@ final class StackedSegment {
             e.reset();
         }
 
-        CACHE.offer(new QueueRef(REF_QUEUE, entries));
+        if (pool == null) {
+            CACHE.offer(new QueueRef(REF_QUEUE, entries));
+        } else if (!pool.offer(entries)) {
+            LOG.trace("Pool {} is full, dropping array {}", pool, entries);
+        }
     }
 }
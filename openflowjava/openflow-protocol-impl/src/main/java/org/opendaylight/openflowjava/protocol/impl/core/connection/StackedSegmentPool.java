@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.MapMaker;
+import io.netty.channel.EventLoop;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.openflowjava.statistics.ConnectionLatencies;
+
+/**
+ * Bounded pool of {@link StackedSegment} entry arrays. One pool is shared by all connections served by a Netty
+ * event loop, so recycling does not contend across cores and the retained memory is bounded by the pool capacity
+ * rather than left for the garbage collector to reclaim under memory pressure. Arrays returned to a full pool are
+ * dropped.
+ */
+final class StackedSegmentPool {
+    /**
+     * Default number of segments retained per event loop.
+     */
+    static final int DEFAULT_CAPACITY = 16;
+
+    // Weak keys, so pools go away together with their event loop group
+    private static final ConcurrentMap<EventLoop, StackedSegmentPool> POOLS = new MapMaker().weakKeys().makeMap();
+
+    @GuardedBy("this")
+    private final ArrayDeque<OutboundQueueEntry[]> segments;
+    private final int capacity;
+
+    // Updated under lock only
+    private volatile long hits;
+    private volatile long misses;
+    private volatile int resident;
+
+    StackedSegmentPool(final int capacity) {
+        Preconditions.checkArgument(capacity > 0, "Pool capacity %s is not positive", capacity);
+        this.capacity = capacity;
+        this.segments = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Returns the pool of an event loop, creating it if it does not exist yet. The capacity of an existing pool
+     * is not changed.
+     *
+     * @param eventLoop event loop serving the connection
+     * @param capacity maximum number of segments to retain, used when the pool is created
+     * @return segment pool
+     */
+    static StackedSegmentPool forEventLoop(final EventLoop eventLoop, final int capacity) {
+        return POOLS.computeIfAbsent(eventLoop, key -> new StackedSegmentPool(capacity));
+    }
+
+    /**
+     * Takes an array from the pool.
+     *
+     * @return reset entry array, or null if the pool is empty
+     */
+    synchronized OutboundQueueEntry[] poll() {
+        final OutboundQueueEntry[] ret = segments.pollLast();
+        if (ret != null) {
+            hits++;
+            resident = segments.size();
+        } else {
+            misses++;
+        }
+        return ret;
+    }
+
+    /**
+     * Returns an array into the pool.
+     *
+     * @param entries reset entry array
+     * @return true if the array was retained, false if the pool is full
+     */
+    synchronized boolean offer(final OutboundQueueEntry[] entries) {
+        if (segments.size() >= capacity) {
+            return false;
+        }
+        segments.offerLast(entries);
+        resident = segments.size();
+        return true;
+    }
+
+    /**
+     * Registers the pool counters as gauges of a connection allocating from this pool. As the pool is shared by
+     * the event loop, every connection it serves reports the same values.
+     *
+     * @param latencies statistics of the connection
+     */
+    void registerGauges(final ConnectionLatencies latencies) {
+        latencies.registerGauge("SEGMENT_POOL_HITS", this::getHits);
+        latencies.registerGauge("SEGMENT_POOL_MISSES", this::getMisses);
+        latencies.registerGauge("SEGMENT_POOL_RESIDENT", this::getResidentSegments);
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    long getHits() {
+        return hits;
+    }
+
+    long getMisses() {
+        return misses;
+    }
+
+    int getResidentSegments() {
+        return resident;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("capacity", capacity).add("resident", resident)
+                .add("hits", hits).add("misses", misses).toString();
+    }
+}
@@ -13,9 +13,9 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
-import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
 import org.opendaylight.openflowjava.protocol.api.keys.TypeToClassKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 
 /**
@@ -27,8 +27,14 @@ import org.opendaylight.yangtools.yang.binding.DataObject;
  */
 public class DeserializationFactory {
 
+    private static final int VERSIONS = EncodeConstants.OF15_VERSION_ID + 1;
+    private static final int MESSAGE_TYPES = 256;
+
     private final Map<TypeToClassKey, Class<?>> messageClassMap = new ConcurrentHashMap<>();
     private final DeserializerRegistry registry;
+    // Dense [version][type] copy of messageClassMap, compiled lazily and reset on every mapping change, both under
+    // the lock of the factory, so a table compiled before a change is never published after it
+    private volatile Class<?>[][] messageClassTable;
 
     public DeserializationFactory(final DeserializerRegistry registry) {
         this.registry = registry;
@@ -50,21 +56,70 @@ public class DeserializationFactory {
     public DataObject deserialize(final ByteBuf rawMessage, final short version) {
         DataObject dataObject = null;
         int type = rawMessage.readUnsignedByte();
-        Class<?> clazz = messageClassMap.get(new TypeToClassKey(version, type));
+        Class<?> clazz = getMessageClass(version, type);
         rawMessage.skipBytes(EncodeConstants.SIZE_OF_SHORT_IN_BYTES);
-        OFDeserializer<DataObject> deserializer = registry.getDeserializer(new MessageCodeKey(version, type, clazz));
+        OFDeserializer<DataObject> deserializer = registry.getDeserializer(version, type, clazz);
         dataObject = deserializer.deserialize(rawMessage);
         return dataObject;
     }
 
+    /**
+     * Transforms ByteBuf into an OpenFlow 1.3 match structure.
+     *
+     * @param rawMatch buffer positioned at the match type field
+     * @return deserialized match
+     */
+    public Match deserializeMatch(final ByteBuf rawMatch) {
+        OFDeserializer<Match> deserializer = registry.getDeserializer(EncodeConstants.OF13_VERSION_ID,
+                EncodeConstants.EMPTY_VALUE, Match.class);
+        return deserializer.deserialize(rawMatch);
+    }
+
+    /**
+     * Returns the binding class a message type deserializes to, as mapped by the registered type to class
+     * mappings.
+     *
+     * @param version OpenFlow wire version
+     * @param type message type
+     * @return mapped class, null if the message type is not mapped
+     */
+    public Class<?> getMessageClass(final short version, final int type) {
+        if (version < 0 || version >= VERSIONS) {
+            return messageClassMap.get(new TypeToClassKey(version, type));
+        }
+
+        Class<?>[][] table = messageClassTable;
+        if (table == null) {
+            table = compileMessageClassTable();
+        }
+        return table[version][type];
+    }
+
+    private synchronized Class<?>[][] compileMessageClassTable() {
+        Class<?>[][] table = messageClassTable;
+        if (table == null) {
+            table = new Class<?>[VERSIONS][MESSAGE_TYPES];
+            for (Map.Entry<TypeToClassKey, Class<?>> entry : messageClassMap.entrySet()) {
+                final TypeToClassKey key = entry.getKey();
+                if (key.getVersion() >= 0 && key.getVersion() < VERSIONS
+                        && key.getType() >= 0 && key.getType() < MESSAGE_TYPES) {
+                    table[key.getVersion()][key.getType()] = entry.getValue();
+                }
+            }
+            messageClassTable = table;
+        }
+        return table;
+    }
+
     /**
      * Register new type to class mapping used to assign return type when deserializing message.
      *
      * @param key type to class key
      * @param clazz return class
      */
-    public void registerMapping(final TypeToClassKey key, final Class<?> clazz) {
+    public synchronized void registerMapping(final TypeToClassKey key, final Class<?> clazz) {
         messageClassMap.put(key, clazz);
+        messageClassTable = null;
     }
 
     /**
@@ -78,6 +133,10 @@ public class DeserializationFactory {
             throw new IllegalArgumentException("TypeToClassKey is null");
         }
 
-        return messageClassMap.remove(key) != null;
+        synchronized (this) {
+            final boolean removed = messageClassMap.remove(key) != null;
+            messageClassTable = null;
+            return removed;
+        }
     }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.deserialization;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralDeserializer;
+import org.opendaylight.openflowjava.protocol.api.keys.ActionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.api.util.OxmMatchConstants;
+
+/**
+ * Immutable snapshot of a deserializer registry, compiled into dense arrays indexed by wire version and
+ * type code (or OXM class and field). Only keys without an experimenter ID are covered, a lookup returning
+ * null means the key has to be resolved through the registry map.
+ */
+final class DeserializerDispatchTable {
+
+    private static final int VERSIONS = EncodeConstants.OF15_VERSION_ID + 1;
+    private static final int MESSAGE_TYPES = 256;
+    private static final int ACTION_TYPES = 64;
+    private static final int INSTRUCTION_TYPES = 16;
+    private static final int OXM_CLASSES = 3;
+    private static final int OXM_FIELDS = 128;
+
+    private final Class<?>[][] messageClasses = new Class<?>[VERSIONS][];
+    private final OFGeneralDeserializer[][] messages = new OFGeneralDeserializer[VERSIONS][];
+    private final OFGeneralDeserializer[][][] matchEntries = new OFGeneralDeserializer[VERSIONS][][];
+    private final OFGeneralDeserializer[][] actions = new OFGeneralDeserializer[VERSIONS][];
+    private final OFGeneralDeserializer[][] instructions = new OFGeneralDeserializer[VERSIONS][];
+
+    DeserializerDispatchTable(final Map<MessageCodeKey, OFGeneralDeserializer> registry) {
+        for (Entry<MessageCodeKey, OFGeneralDeserializer> entry : registry.entrySet()) {
+            final MessageCodeKey key = entry.getKey();
+            final int version = key.getMsgVersion();
+            final int type = key.getMsgType();
+            if (version < 0 || version >= VERSIONS || type < 0) {
+                continue;
+            }
+
+            final Class<?> keyClass = key.getClass();
+            if (keyClass == MessageCodeKey.class) {
+                if (type < MESSAGE_TYPES) {
+                    if (messages[version] == null) {
+                        messages[version] = new OFGeneralDeserializer[MESSAGE_TYPES];
+                        messageClasses[version] = new Class<?>[MESSAGE_TYPES];
+                    }
+                    // Types shared by several classes keep only one of them here, the rest resolve via the map
+                    if (messages[version][type] == null) {
+                        messages[version][type] = entry.getValue();
+                        messageClasses[version][type] = key.getClazz();
+                    }
+                }
+            } else if (keyClass == MatchEntryDeserializerKey.class) {
+                final MatchEntryDeserializerKey matchKey = (MatchEntryDeserializerKey) key;
+                final int oxmClass = oxmClassIndex(type);
+                final int oxmField = matchKey.getOxmField();
+                if (matchKey.getExperimenterId() == null && oxmClass >= 0 && oxmField >= 0
+                        && oxmField < OXM_FIELDS) {
+                    if (matchEntries[version] == null) {
+                        matchEntries[version] = new OFGeneralDeserializer[OXM_CLASSES][OXM_FIELDS];
+                    }
+                    matchEntries[version][oxmClass][oxmField] = entry.getValue();
+                }
+            } else if (keyClass == ActionDeserializerKey.class) {
+                if (((ActionDeserializerKey) key).getExperimenterId() == null && type < ACTION_TYPES) {
+                    if (actions[version] == null) {
+                        actions[version] = new OFGeneralDeserializer[ACTION_TYPES];
+                    }
+                    actions[version][type] = entry.getValue();
+                }
+            } else if (keyClass == InstructionDeserializerKey.class) {
+                if (((InstructionDeserializerKey) key).getExperimenterId() == null && type < INSTRUCTION_TYPES) {
+                    if (instructions[version] == null) {
+                        instructions[version] = new OFGeneralDeserializer[INSTRUCTION_TYPES];
+                    }
+                    instructions[version][type] = entry.getValue();
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolves a key through the dense tables.
+     *
+     * @param key lookup key
+     * @return deserializer, or null if the key is not covered by this table
+     */
+    OFGeneralDeserializer get(final MessageCodeKey key) {
+        final Class<?> keyClass = key.getClass();
+        if (keyClass == MessageCodeKey.class) {
+            return getMessage(key.getMsgVersion(), key.getMsgType(), key.getClazz());
+        } else if (keyClass == MatchEntryDeserializerKey.class) {
+            final MatchEntryDeserializerKey matchKey = (MatchEntryDeserializerKey) key;
+            return matchKey.getExperimenterId() != null ? null
+                    : getMatchEntry(key.getMsgVersion(), key.getMsgType(), matchKey.getOxmField());
+        } else if (keyClass == ActionDeserializerKey.class) {
+            return ((ActionDeserializerKey) key).getExperimenterId() != null ? null
+                    : getAction(key.getMsgVersion(), key.getMsgType());
+        } else if (keyClass == InstructionDeserializerKey.class) {
+            return ((InstructionDeserializerKey) key).getExperimenterId() != null ? null
+                    : getInstruction(key.getMsgVersion(), key.getMsgType());
+        }
+        return null;
+    }
+
+    OFGeneralDeserializer getMessage(final short version, final int type, final Class<?> clazz) {
+        if (version < 0 || version >= VERSIONS || type < 0 || type >= MESSAGE_TYPES) {
+            return null;
+        }
+        final Class<?>[] classes = messageClasses[version];
+        return classes != null && classes[type] == clazz ? messages[version][type] : null;
+    }
+
+    OFGeneralDeserializer getMatchEntry(final short version, final int oxmClass, final int oxmField) {
+        final int classIndex = oxmClassIndex(oxmClass);
+        if (version < 0 || version >= VERSIONS || classIndex < 0 || oxmField < 0 || oxmField >= OXM_FIELDS) {
+            return null;
+        }
+        final OFGeneralDeserializer[][] table = matchEntries[version];
+        return table != null ? table[classIndex][oxmField] : null;
+    }
+
+    OFGeneralDeserializer getAction(final short version, final int type) {
+        return lookup(actions, version, type);
+    }
+
+    OFGeneralDeserializer getInstruction(final short version, final int type) {
+        return lookup(instructions, version, type);
+    }
+
+    private static OFGeneralDeserializer lookup(final OFGeneralDeserializer[][] tables, final short version,
+            final int type) {
+        if (version < 0 || version >= VERSIONS || type < 0) {
+            return null;
+        }
+        final OFGeneralDeserializer[] table = tables[version];
+        return table != null && type < table.length ? table[type] : null;
+    }
+
+    private static int oxmClassIndex(final int oxmClass) {
+        switch (oxmClass) {
+            case OxmMatchConstants.OPENFLOW_BASIC_CLASS:
+                return 0;
+            case OxmMatchConstants.NXM_0_CLASS:
+                return 1;
+            case OxmMatchConstants.NXM_1_CLASS:
+                return 2;
+            default:
+                return -1;
+        }
+    }
+}
@@ -8,11 +8,14 @@
 
 package org.opendaylight.openflowjava.protocol.impl.deserialization;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistryInjector;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralDeserializer;
+import org.opendaylight.openflowjava.protocol.api.keys.ActionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.util.MatchDeserializer;
@@ -31,13 +34,19 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
 
     private static final Logger LOG = LoggerFactory.getLogger(DeserializerRegistryImpl.class);
     private Map<MessageCodeKey, OFGeneralDeserializer> registry;
+    // Compiled lazily from registry and reset on every registration change, both under the lock of the
+    // registry, so a table compiled before a change is never published after it
+    private volatile DeserializerDispatchTable dispatchTable;
 
     /**
      * Decoder table provisioning.
      */
     @Override
     public void init() {
-        registry = new HashMap<>();
+        synchronized (this) {
+            registry = new ConcurrentHashMap<>();
+            dispatchTable = null;
+        }
 
         // register message deserializers
         MessageDeserializerInitializer.registerMessageDeserializers(this);
@@ -64,7 +73,10 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
     @Override
     @SuppressWarnings("unchecked")
     public <T extends OFGeneralDeserializer> T getDeserializer(MessageCodeKey key) {
-        OFGeneralDeserializer deserializer = registry.get(key);
+        OFGeneralDeserializer deserializer = getDispatchTable().get(key);
+        if (deserializer == null) {
+            deserializer = registry.get(key);
+        }
         if (deserializer == null) {
             throw new IllegalStateException("Deserializer for key: " + key
                     + " was not found - please verify that all needed deserializers ale loaded correctly");
@@ -72,12 +84,59 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
         return (T) deserializer;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OFGeneralDeserializer> T getDeserializer(short version, int value, Class<?> clazz) {
+        final OFGeneralDeserializer deserializer = getDispatchTable().getMessage(version, value, clazz);
+        return deserializer != null ? (T) deserializer : getDeserializer(new MessageCodeKey(version, value, clazz));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OFGeneralDeserializer> T getMatchEntryDeserializer(short version, int oxmClass, int oxmField) {
+        final OFGeneralDeserializer deserializer = getDispatchTable().getMatchEntry(version, oxmClass, oxmField);
+        return deserializer != null ? (T) deserializer
+                : getDeserializer(new MatchEntryDeserializerKey(version, oxmClass, oxmField));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OFGeneralDeserializer> T getActionDeserializer(short version, int type) {
+        final OFGeneralDeserializer deserializer = getDispatchTable().getAction(version, type);
+        return deserializer != null ? (T) deserializer
+                : getDeserializer(new ActionDeserializerKey(version, type, null));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OFGeneralDeserializer> T getInstructionDeserializer(short version, int type) {
+        final OFGeneralDeserializer deserializer = getDispatchTable().getInstruction(version, type);
+        return deserializer != null ? (T) deserializer
+                : getDeserializer(new InstructionDeserializerKey(version, type, null));
+    }
+
+    private DeserializerDispatchTable getDispatchTable() {
+        final DeserializerDispatchTable table = dispatchTable;
+        return table != null ? table : compileDispatchTable();
+    }
+
+    private synchronized DeserializerDispatchTable compileDispatchTable() {
+        if (dispatchTable == null) {
+            dispatchTable = new DeserializerDispatchTable(registry);
+        }
+        return dispatchTable;
+    }
+
     @Override
     public void registerDeserializer(MessageCodeKey key, OFGeneralDeserializer deserializer) {
         if (key == null || deserializer == null) {
             throw new IllegalArgumentException("MessageCodeKey or Deserializer is null");
         }
-        OFGeneralDeserializer desInRegistry = registry.put(key, deserializer);
+        final OFGeneralDeserializer desInRegistry;
+        synchronized (this) {
+            desInRegistry = registry.put(key, deserializer);
+            dispatchTable = null;
+        }
         if (desInRegistry != null) {
             LOG.debug("Deserializer for key {} overwritten. Old deserializer: {}, new deserializer: {}", key,
                     desInRegistry.getClass().getName(), deserializer.getClass().getName());
@@ -92,7 +151,11 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
         if (key == null) {
             throw new IllegalArgumentException("MessageCodeKey is null");
         }
-        OFGeneralDeserializer deserializer = registry.remove(key);
+        final OFGeneralDeserializer deserializer;
+        synchronized (this) {
+            deserializer = registry.remove(key);
+            dispatchTable = null;
+        }
         if (deserializer == null) {
             return false;
         }
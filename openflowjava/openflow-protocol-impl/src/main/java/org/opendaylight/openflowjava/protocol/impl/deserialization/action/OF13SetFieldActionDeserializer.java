@@ -50,14 +50,18 @@ public class OF13SetFieldActionDeserializer extends AbstractActionDeserializer
         // get oxm_field & hasMask byte and extract the field value
         int oxmField = input.getUnsignedByte(input.readerIndex()
                 + EncodeConstants.SIZE_OF_SHORT_IN_BYTES) >>> 1;
-        MatchEntryDeserializerKey key = new MatchEntryDeserializerKey(EncodeConstants.OF13_VERSION_ID,
-                oxmClass, oxmField);
+        final OFDeserializer<MatchEntry> matchDeserializer;
         if (oxmClass == EncodeConstants.EXPERIMENTER_VALUE) {
+            MatchEntryDeserializerKey key = new MatchEntryDeserializerKey(EncodeConstants.OF13_VERSION_ID,
+                    oxmClass, oxmField);
             long expId = input.getUnsignedInt(input.readerIndex() + EncodeConstants.SIZE_OF_SHORT_IN_BYTES
                     + 2 * EncodeConstants.SIZE_OF_BYTE_IN_BYTES);
             key.setExperimenterId(expId);
+            matchDeserializer = registry.getDeserializer(key);
+        } else {
+            matchDeserializer = registry.getMatchEntryDeserializer(EncodeConstants.OF13_VERSION_ID, oxmClass,
+                    oxmField);
         }
-        OFDeserializer<MatchEntry> matchDeserializer = registry.getDeserializer(key);
         List<MatchEntry> entry = new ArrayList<>();
         entry.add(matchDeserializer.deserialize(input));
         actionBuilder.setMatchEntry(entry);
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.serialization;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralSerializer;
+import org.opendaylight.openflowjava.protocol.api.keys.ActionSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntrySerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+
+/**
+ * Immutable snapshot of a serializer registry, compiled into per-version identity maps keyed by the classes
+ * carried in the lookup keys. Only keys without an experimenter ID are covered, a lookup returning null means
+ * the key has to be resolved through the registry map.
+ */
+final class SerializerDispatchTable {
+
+    private static final int VERSIONS = EncodeConstants.OF15_VERSION_ID + 1;
+
+    private final IdentityMap[] messages = new IdentityMap[VERSIONS];
+    private final IdentityMap[] actions = new IdentityMap[VERSIONS];
+    private final IdentityMap[] instructions = new IdentityMap[VERSIONS];
+    private final MatchEntryMap[] matchEntries = new MatchEntryMap[VERSIONS];
+
+    SerializerDispatchTable(final Map<MessageTypeKey<?>, OFGeneralSerializer> registry) {
+        for (Entry<MessageTypeKey<?>, OFGeneralSerializer> entry : registry.entrySet()) {
+            final MessageTypeKey<?> key = entry.getKey();
+            final int version = key.getMsgVersion();
+            if (version < 0 || version >= VERSIONS) {
+                continue;
+            }
+
+            final Class<?> keyClass = key.getClass();
+            if (keyClass == MessageTypeKey.class) {
+                put(messages, version, key.getMsgType(), entry.getValue());
+            } else if (keyClass == MatchEntrySerializerKey.class) {
+                final MatchEntrySerializerKey<?, ?> matchKey = (MatchEntrySerializerKey<?, ?>) key;
+                if (matchKey.getExperimenterId() == null) {
+                    if (matchEntries[version] == null) {
+                        matchEntries[version] = new MatchEntryMap();
+                    }
+                    matchEntries[version].computeIfAbsent(matchKey.getOxmClass(), k -> new IdentityMap())
+                        .put(matchKey.getOxmField(), entry.getValue());
+                }
+            } else if (keyClass == ActionSerializerKey.class) {
+                final ActionSerializerKey<?> actionKey = (ActionSerializerKey<?>) key;
+                if (actionKey.getExperimenterId() == null) {
+                    put(actions, version, actionKey.getActionType(), entry.getValue());
+                }
+            } else if (keyClass == InstructionSerializerKey.class) {
+                final InstructionSerializerKey<?> instructionKey = (InstructionSerializerKey<?>) key;
+                if (instructionKey.getExperimenterId() == null) {
+                    put(instructions, version, instructionKey.getInstructionType(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolves a key through the compiled maps.
+     *
+     * @param key lookup key
+     * @return serializer, or null if the key is not covered by this table
+     */
+    OFGeneralSerializer get(final MessageTypeKey<?> key) {
+        final Class<?> keyClass = key.getClass();
+        if (keyClass == MessageTypeKey.class) {
+            return getMessage(key.getMsgVersion(), key.getMsgType());
+        } else if (keyClass == MatchEntrySerializerKey.class) {
+            final MatchEntrySerializerKey<?, ?> matchKey = (MatchEntrySerializerKey<?, ?>) key;
+            return matchKey.getExperimenterId() != null ? null
+                    : getMatchEntry(key.getMsgVersion(), matchKey.getOxmClass(), matchKey.getOxmField());
+        } else if (keyClass == ActionSerializerKey.class) {
+            final ActionSerializerKey<?> actionKey = (ActionSerializerKey<?>) key;
+            return actionKey.getExperimenterId() != null ? null
+                    : getAction(key.getMsgVersion(), actionKey.getActionType());
+        } else if (keyClass == InstructionSerializerKey.class) {
+            final InstructionSerializerKey<?> instructionKey = (InstructionSerializerKey<?>) key;
+            return instructionKey.getExperimenterId() != null ? null
+                    : getInstruction(key.getMsgVersion(), instructionKey.getInstructionType());
+        }
+        return null;
+    }
+
+    OFGeneralSerializer getMessage(final short version, final Class<?> messageType) {
+        return lookup(messages, version, messageType);
+    }
+
+    OFGeneralSerializer getMatchEntry(final short version, final Class<?> oxmClass, final Class<?> oxmField) {
+        if (version < 0 || version >= VERSIONS || matchEntries[version] == null) {
+            return null;
+        }
+        final IdentityMap fields = matchEntries[version].get(oxmClass);
+        return fields != null ? fields.get(oxmField) : null;
+    }
+
+    OFGeneralSerializer getAction(final short version, final Class<?> actionType) {
+        return lookup(actions, version, actionType);
+    }
+
+    OFGeneralSerializer getInstruction(final short version, final Class<?> instructionType) {
+        return lookup(instructions, version, instructionType);
+    }
+
+    private static void put(final IdentityMap[] tables, final int version, final Class<?> type,
+            final OFGeneralSerializer serializer) {
+        if (tables[version] == null) {
+            tables[version] = new IdentityMap();
+        }
+        tables[version].put(type, serializer);
+    }
+
+    private static OFGeneralSerializer lookup(final IdentityMap[] tables, final short version,
+            final Class<?> type) {
+        if (version < 0 || version >= VERSIONS) {
+            return null;
+        }
+        final IdentityMap table = tables[version];
+        return table != null ? table.get(type) : null;
+    }
+
+    private static final class IdentityMap extends IdentityHashMap<Class<?>, OFGeneralSerializer> {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class MatchEntryMap extends IdentityHashMap<Class<?>, IdentityMap> {
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -8,15 +8,22 @@
 
 package org.opendaylight.openflowjava.protocol.impl.serialization;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistryInjector;
+import org.opendaylight.openflowjava.protocol.api.keys.ActionSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntrySerializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.util.OF10MatchSerializer;
 import org.opendaylight.openflowjava.protocol.impl.util.OF13MatchSerializer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.action.grouping.ActionChoice;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instruction.grouping.InstructionChoice;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.MatchField;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.OxmClassBase;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.v10.grouping.MatchV10;
 import org.slf4j.Logger;
@@ -38,12 +45,18 @@ public class SerializerRegistryImpl implements SerializerRegistry {
     private static final short OF10 = EncodeConstants.OF10_VERSION_ID;
     private static final short OF13 = EncodeConstants.OF13_VERSION_ID;
     private Map<MessageTypeKey<?>, OFGeneralSerializer> registry;
+    // Compiled lazily from registry and reset on every registration change, both under the lock of the
+    // registry, so a table compiled before a change is never published after it
+    private volatile SerializerDispatchTable dispatchTable;
 
     private boolean isGroupAddModEnabled = false;
 
     @Override
     public void init() {
-        registry = new HashMap<>();
+        synchronized (this) {
+            registry = new ConcurrentHashMap<>();
+            dispatchTable = null;
+        }
         // Openflow message type serializers
         MessageFactoryInitializer.registerMessageSerializers(this);
 
@@ -80,7 +93,10 @@ public class SerializerRegistryImpl implements SerializerRegistry {
     @Override
     @SuppressWarnings("unchecked")
     public <K, S extends OFGeneralSerializer> S getSerializer(MessageTypeKey<K> msgTypeKey) {
-        OFGeneralSerializer serializer = registry.get(msgTypeKey);
+        OFGeneralSerializer serializer = getDispatchTable().get(msgTypeKey);
+        if (serializer == null) {
+            serializer = registry.get(msgTypeKey);
+        }
         if (serializer == null) {
             throw new IllegalStateException("Serializer for key: " + msgTypeKey
                     + " was not found - please verify that you are using correct message"
@@ -89,12 +105,62 @@ public class SerializerRegistryImpl implements SerializerRegistry {
         return (S) serializer;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, S extends OFGeneralSerializer> S getMessageSerializer(short version, Class<K> msgType) {
+        final OFGeneralSerializer serializer = getDispatchTable().getMessage(version, msgType);
+        return serializer != null ? (S) serializer : getSerializer(new MessageTypeKey<>(version, msgType));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <C extends OxmClassBase, F extends MatchField, S extends OFGeneralSerializer> S getMatchEntrySerializer(
+            short version, Class<C> oxmClass, Class<F> oxmField) {
+        final OFGeneralSerializer serializer = getDispatchTable().getMatchEntry(version, oxmClass, oxmField);
+        return serializer != null ? (S) serializer
+                : getSerializer(new MatchEntrySerializerKey<>(version, oxmClass, oxmField));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends ActionChoice, S extends OFGeneralSerializer> S getActionSerializer(short version,
+            Class<T> actionType) {
+        final OFGeneralSerializer serializer = getDispatchTable().getAction(version, actionType);
+        return serializer != null ? (S) serializer
+                : getSerializer(new ActionSerializerKey<>(version, actionType, null));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends InstructionChoice, S extends OFGeneralSerializer> S getInstructionSerializer(short version,
+            Class<T> instructionType) {
+        final OFGeneralSerializer serializer = getDispatchTable().getInstruction(version, instructionType);
+        return serializer != null ? (S) serializer
+                : getSerializer(new InstructionSerializerKey<>(version, instructionType, null));
+    }
+
+    private SerializerDispatchTable getDispatchTable() {
+        final SerializerDispatchTable table = dispatchTable;
+        return table != null ? table : compileDispatchTable();
+    }
+
+    private synchronized SerializerDispatchTable compileDispatchTable() {
+        if (dispatchTable == null) {
+            dispatchTable = new SerializerDispatchTable(registry);
+        }
+        return dispatchTable;
+    }
+
     @Override
     public <K> void registerSerializer(MessageTypeKey<K> msgTypeKey, OFGeneralSerializer serializer) {
         if (msgTypeKey == null || serializer == null) {
             throw new IllegalArgumentException("MessageTypeKey or Serializer is null");
         }
-        OFGeneralSerializer serInRegistry = registry.put(msgTypeKey, serializer);
+        final OFGeneralSerializer serInRegistry;
+        synchronized (this) {
+            serInRegistry = registry.put(msgTypeKey, serializer);
+            dispatchTable = null;
+        }
         if (serInRegistry != null) {
             LOG.debug("Serializer for key {} overwritten. Old serializer: {}, new serializer: {}", msgTypeKey,
                     serInRegistry.getClass().getName(), serializer.getClass().getName());
@@ -109,7 +175,11 @@ public class SerializerRegistryImpl implements SerializerRegistry {
         if (msgTypeKey == null) {
             throw new IllegalArgumentException("MessageTypeKey is null");
         }
-        OFGeneralSerializer serializer = registry.remove(msgTypeKey);
+        final OFGeneralSerializer serializer;
+        synchronized (this) {
+            serializer = registry.remove(msgTypeKey);
+            dispatchTable = null;
+        }
         if (serializer == null) {
             return false;
         }
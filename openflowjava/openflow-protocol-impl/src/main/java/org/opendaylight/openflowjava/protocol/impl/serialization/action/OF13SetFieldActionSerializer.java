@@ -45,15 +45,17 @@ public class OF13SetFieldActionSerializer implements OFSerializer<Action>,
         outBuffer.writeShort(EncodeConstants.EMPTY_LENGTH);
         MatchEntry entry = ((SetFieldCase) action.getActionChoice()).getSetFieldAction()
                 .getMatchEntry().get(0);
-        MatchEntrySerializerKey<?, ?> key = new MatchEntrySerializerKey<>(
-                EncodeConstants.OF13_VERSION_ID, entry.getOxmClass(), entry.getOxmMatchField());
+        final OFSerializer<MatchEntry> serializer;
         if (entry.getOxmClass().equals(ExperimenterClass.class)) {
+            MatchEntrySerializerKey<?, ?> key = new MatchEntrySerializerKey<>(
+                    EncodeConstants.OF13_VERSION_ID, entry.getOxmClass(), entry.getOxmMatchField());
             ExperimenterIdCase experimenterIdCase = (ExperimenterIdCase) entry.getMatchEntryValue();
             key.setExperimenterId(experimenterIdCase.getExperimenter().getExperimenter().getValue());
+            serializer = registry.getSerializer(key);
         } else {
-            key.setExperimenterId(null);
+            serializer = registry.getMatchEntrySerializer(EncodeConstants.OF13_VERSION_ID, entry.getOxmClass(),
+                    entry.getOxmMatchField());
         }
-        OFSerializer<MatchEntry> serializer = registry.getSerializer(key);
         serializer.serialize(entry, outBuffer);
         int paddingRemainder = (outBuffer.writerIndex() - startIndex) % EncodeConstants.PADDING;
         if (paddingRemainder != 0) {
@@ -9,6 +9,8 @@
 package org.opendaylight.openflowjava.protocol.impl.util;
 
 import io.netty.buffer.ByteBuf;
+import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralDeserializer;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
 
 /**
@@ -25,4 +27,17 @@ public interface CodeKeyMaker {
      * @return key for deserializer lookup
      */
     MessageCodeKey make(ByteBuf input);
+
+    /**
+     * Looks up the deserializer for the item at the reader index of input. Key makers for standard items
+     * override this to skip key allocation.
+     *
+     * @param <T> type of particular deserializer
+     * @param input buffer that will be the needed data gathered from
+     * @param registry registry to look the deserializer up in
+     * @return deserializer found
+     */
+    default <T extends OFGeneralDeserializer> T lookup(ByteBuf input, DeserializerRegistry registry) {
+        return registry.getDeserializer(make(input));
+    }
 }
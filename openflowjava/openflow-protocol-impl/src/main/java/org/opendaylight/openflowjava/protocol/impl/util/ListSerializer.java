@@ -38,7 +38,7 @@ public final class ListSerializer {
             TypeKeyMaker<E> keyMaker, SerializerRegistry registry, ByteBuf outBuffer) {
         if (list != null) {
             for (E item : list) {
-                OFSerializer<E> serializer = registry.getSerializer(keyMaker.make(item));
+                OFSerializer<E> serializer = keyMaker.lookup(item, registry);
                 serializer.serialize(item, outBuffer);
             }
         }
@@ -77,15 +77,17 @@ public class OF13MatchSerializer implements OFSerializer<Match>, SerializerRegis
         }
         for (MatchEntry entry : matchEntries) {
 
-            MatchEntrySerializerKey<?, ?> key = new MatchEntrySerializerKey<>(
-                    EncodeConstants.OF13_VERSION_ID, entry.getOxmClass(), entry.getOxmMatchField());
+            final OFSerializer<MatchEntry> entrySerializer;
             if (entry.getOxmClass().equals(ExperimenterClass.class)) {
+                MatchEntrySerializerKey<?, ?> key = new MatchEntrySerializerKey<>(
+                        EncodeConstants.OF13_VERSION_ID, entry.getOxmClass(), entry.getOxmMatchField());
                 ExperimenterIdCase entryValue = (ExperimenterIdCase) entry.getMatchEntryValue();
                 key.setExperimenterId(entryValue.getExperimenter().getExperimenter().getValue());
+                entrySerializer = registry.getSerializer(key);
             } else {
-                key.setExperimenterId(null);
+                entrySerializer = registry.getMatchEntrySerializer(EncodeConstants.OF13_VERSION_ID,
+                        entry.getOxmClass(), entry.getOxmMatchField());
             }
-            OFSerializer<MatchEntry> entrySerializer = registry.getSerializer(key);
             entrySerializer.serialize(entry, out);
         }
     }
@@ -8,6 +8,8 @@
 
 package org.opendaylight.openflowjava.protocol.impl.util;
 
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralSerializer;
+import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 
 /**
@@ -25,4 +27,17 @@ public interface TypeKeyMaker<T> {
      * @return key that will be used for serializer lookup in the serializer registry
      */
     MessageTypeKey<?> make(T entry);
+
+    /**
+     * Looks up the serializer for an entry. Key makers for standard entries override this to skip key
+     * allocation.
+     *
+     * @param <S> type of resulting serializer
+     * @param entry the entry to be serialized
+     * @param registry registry to look the serializer up in
+     * @return serializer found
+     */
+    default <S extends OFGeneralSerializer> S lookup(T entry, SerializerRegistry registry) {
+        return registry.getSerializer(make(entry));
+    }
 }
@@ -8,6 +8,8 @@
 
 package org.opendaylight.openflowjava.protocol.impl.util;
 
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralSerializer;
+import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.keys.ActionSerializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.InstructionSerializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MatchEntrySerializerKey;
@@ -52,6 +54,14 @@ public final class TypeKeyMakerFactory {
                 key.setExperimenterId(null);
                 return key;
             }
+
+            @Override
+            public <S extends OFGeneralSerializer> S lookup(MatchEntry entry, SerializerRegistry registry) {
+                if (entry.getOxmClass().equals(ExperimenterClass.class)) {
+                    return registry.getSerializer(make(entry));
+                }
+                return registry.getMatchEntrySerializer(getVersion(), entry.getOxmClass(), entry.getOxmMatchField());
+            }
         };
     }
 
@@ -73,6 +83,15 @@ public final class TypeKeyMakerFactory {
                 return new ActionSerializerKey<>(getVersion(),
                         (Class<ActionChoice>) entry.getActionChoice().implementedInterface(), null);
             }
+
+            @Override
+            public <S extends OFGeneralSerializer> S lookup(Action entry, SerializerRegistry registry) {
+                if (entry.getExperimenterId() != null) {
+                    return registry.getSerializer(make(entry));
+                }
+                return registry.getActionSerializer(getVersion(),
+                        (Class<ActionChoice>) entry.getActionChoice().implementedInterface());
+            }
         };
     }
 
@@ -94,6 +113,15 @@ public final class TypeKeyMakerFactory {
                 return new InstructionSerializerKey<>(getVersion(),
                         (Class<InstructionChoice>) entry.getInstructionChoice().implementedInterface(), null);
             }
+
+            @Override
+            public <S extends OFGeneralSerializer> S lookup(Instruction entry, SerializerRegistry registry) {
+                if (entry.getExperimenterId() != null) {
+                    return registry.getSerializer(make(entry));
+                }
+                return registry.getInstructionSerializer(getVersion(),
+                        (Class<InstructionChoice>) entry.getInstructionChoice().implementedInterface());
+            }
         };
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.statistics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Latency histograms and gauges of a single switch connection. Every recorded latency is also recorded into
+ * the aggregated histogram of its message type held by {@link StatisticsCounters}. Histograms are allocated on first
+ * use, so idle connections and connections created while counting is stopped do not retain any. Gauges are read only
+ * when they are reported, whether counting is running or not.
+ */
+public final class ConnectionLatencies implements AutoCloseable {
+    private static final LatencyEventTypes[] EVENT_TYPES = LatencyEventTypes.values();
+
+    private final AtomicReferenceArray<LatencyHistogram> histograms =
+            new AtomicReferenceArray<>(EVENT_TYPES.length);
+    private final Map<String, LongSupplier> gauges = new ConcurrentSkipListMap<>();
+    private final StatisticsCounters statisticsCounters;
+    private final String connectionId;
+
+    ConnectionLatencies(final StatisticsCounters statisticsCounters, final String connectionId) {
+        this.statisticsCounters = statisticsCounters;
+        this.connectionId = connectionId;
+    }
+
+    /**
+     * Returns a start time stamp for a latency measurement.
+     *
+     * @return current {@link System#nanoTime()}, or 0 if latencies are not being recorded
+     */
+    public long timestamp() {
+        return statisticsCounters.timestamp();
+    }
+
+    /**
+     * Records a latency which started at a time stamp returned by {@link #timestamp()}.
+     *
+     * @param eventType type of the latency
+     * @param messageType message type the latency is attributed to
+     * @param startNanos start time stamp, 0 if the latency was not measured
+     */
+    public void recordSince(final LatencyEventTypes eventType, final Class<?> messageType, final long startNanos) {
+        if (startNanos != 0) {
+            final long latency = System.nanoTime() - startNanos;
+            getOrCreate(eventType).recordValue(latency);
+            statisticsCounters.recordLatency(eventType, messageType, latency);
+        }
+    }
+
+    /**
+     * Returns the histogram of a latency type.
+     *
+     * @param eventType type of the latency
+     * @return histogram, or null if no latency of this type has been recorded yet
+     */
+    public LatencyHistogram getHistogram(final LatencyEventTypes eventType) {
+        return histograms.get(eventType.ordinal());
+    }
+
+    /**
+     * Registers a gauge reporting a current value of the connection, such as a queue depth. A gauge registered
+     * under the name of another one replaces it.
+     *
+     * @param name name of the gauge used in reports
+     * @param gauge supplier of the current value, must be cheap and thread-safe
+     */
+    public void registerGauge(final String name, final LongSupplier gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * Returns the identifier of the connection.
+     *
+     * @return connection identifier
+     */
+    public String getConnectionId() {
+        return connectionId;
+    }
+
+    /**
+     * Stops reporting latencies of this connection. Latencies of the connection are kept in aggregated histograms.
+     */
+    @Override
+    public void close() {
+        statisticsCounters.unregisterConnection(this);
+    }
+
+    void reset() {
+        for (int i = 0; i < histograms.length(); ++i) {
+            final LatencyHistogram histogram = histograms.get(i);
+            if (histogram != null) {
+                histogram.reset();
+            }
+        }
+    }
+
+    void appendTo(final StringBuilder sb) {
+        for (LatencyEventTypes eventType : EVENT_TYPES) {
+            final LatencyHistogram histogram = getHistogram(eventType);
+            if (histogram != null) {
+                sb.append(connectionId).append(' ').append(eventType.name()).append(": ").append(histogram)
+                    .append('\n');
+            }
+        }
+    }
+
+    void appendGaugesTo(final StringBuilder sb) {
+        gauges.forEach((name, gauge) -> sb.append(connectionId).append(' ').append(name).append(": ")
+            .append(gauge.getAsLong()).append('\n'));
+    }
+
+    private LatencyHistogram getOrCreate(final LatencyEventTypes eventType) {
+        final int index = eventType.ordinal();
+        final LatencyHistogram existing = histograms.get(index);
+        if (existing != null) {
+            return existing;
+        }
+        final LatencyHistogram created = new LatencyHistogram();
+        return histograms.compareAndSet(index, null, created) ? created : histograms.get(index);
+    }
+}
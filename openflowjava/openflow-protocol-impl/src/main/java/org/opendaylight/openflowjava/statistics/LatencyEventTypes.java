@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.statistics;
+
+/**
+ * Enumeration of latencies to be recorded with StatisticsCounters.
+ */
+public enum LatencyEventTypes {
+    /**
+     * message deserialization, per received message type.
+     */
+    US_DECODE,
+
+    /**
+     * message committed to the outbound queue until written into the channel, per sent message type.
+     */
+    DS_QUEUE_TO_WRITE,
+
+    /**
+     * request committed to the outbound queue until its final reply is received, per reply message type.
+     */
+    DS_ROUND_TRIP;
+}
@@ -7,20 +7,30 @@
  */
 package org.opendaylight.openflowjava.statistics;
 
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import org.opendaylight.openflowjava.protocol.spi.statistics.StatisticsHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Singleton class to hold and process counters.
+ * Singleton class to hold and process counters and latency histograms. Latencies are recorded per connection and
+ * aggregated per message type while counting is running, they are never reported to logs. Counters and latencies
+ * can be read on demand through JMX.
  *
  * @author madamjak
  */
-public final class StatisticsCounters implements StatisticsHandler {
+public final class StatisticsCounters implements StatisticsHandler, StatisticsCountersMXBean {
 
     /**
      * Default delay between two writings into log (milliseconds).
@@ -32,6 +42,12 @@ public final class StatisticsCounters implements StatisticsHandler {
      */
     public static final int MINIMAL_LOG_REPORT_PERIOD = 500;
 
+    /**
+     * Name under which the statistics are registered in the platform MBean server.
+     */
+    public static final String MX_BEAN_NAME = String.format("%s:type=%s",
+            StatisticsCounters.class.getPackage().getName(), StatisticsCounters.class.getSimpleName());
+
     private static StatisticsCounters instanceHolder;
     private static final Logger LOG = LoggerFactory.getLogger(StatisticsCounters.class);
 
@@ -39,6 +55,8 @@ public final class StatisticsCounters implements StatisticsHandler {
     private int logReportPeriod;
     private boolean runLogReport;
     private final Map<CounterEventTypes, Counter> countersMap;
+    private final Map<LatencyEventTypes, ConcurrentMap<Class<?>, LatencyHistogram>> latenciesMap;
+    private final Set<ConnectionLatencies> connectionLatencies = ConcurrentHashMap.newKeySet();
     private boolean runCounting;
     // array to hold enabled counter types
     private final CounterEventTypes[] enabledCounters = { CounterEventTypes.DS_ENCODE_FAIL,
@@ -65,12 +83,31 @@ public final class StatisticsCounters implements StatisticsHandler {
         for (CounterEventTypes cet : enabledCounters) {
             countersMap.put(cet, new Counter());
         }
+        latenciesMap = new EnumMap<>(LatencyEventTypes.class);
+        for (LatencyEventTypes let : LatencyEventTypes.values()) {
+            latenciesMap.put(let, new ConcurrentHashMap<>());
+        }
         runCounting = false;
         this.logReportPeriod = 0;
         this.runLogReport = false;
+        registerMXBean();
         LOG.debug("StaticsCounters has been created");
     }
 
+    private void registerMXBean() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(MX_BEAN_NAME);
+            if (server.isRegistered(name)) {
+                // Left behind by a previous instance of this bundle
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+        } catch (JMException e) {
+            LOG.warn("Failed to register statistics MXBean {}", MX_BEAN_NAME, e);
+        }
+    }
+
     /**
      * Start counting (counters are set to 0 before counting starts).
      *
@@ -89,9 +126,15 @@ public final class StatisticsCounters implements StatisticsHandler {
         runCounting = true;
     }
 
+    @Override
+    public void startCounting() {
+        startCounting(false, 0);
+    }
+
     /**
      * Stop counting, values in counters are untouched, log reporter is stopped.
      */
+    @Override
     public void stopCounting() {
         runCounting = false;
         LOG.debug("Stop counting...");
@@ -103,6 +146,7 @@ public final class StatisticsCounters implements StatisticsHandler {
      *
      * @return true, if counting is running, otherwise false
      */
+    @Override
     public boolean isRunCounting() {
         return runCounting;
     }
@@ -213,11 +257,75 @@ public final class StatisticsCounters implements StatisticsHandler {
         }
     }
 
+    /**
+     * Registers a connection whose latencies are to be recorded.
+     *
+     * @param connectionId identifier of the connection used in reports
+     * @return latencies of the connection, to be closed when the connection goes down
+     */
+    public ConnectionLatencies registerConnection(final String connectionId) {
+        final ConnectionLatencies latencies = new ConnectionLatencies(this, connectionId);
+        connectionLatencies.add(latencies);
+        return latencies;
+    }
+
+    void unregisterConnection(final ConnectionLatencies latencies) {
+        connectionLatencies.remove(latencies);
+    }
+
+    /**
+     * Returns a start time stamp for a latency measurement.
+     *
+     * @return current {@link System#nanoTime()}, or 0 if counting is not running
+     */
+    public long timestamp() {
+        return runCounting ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records a latency which started at a time stamp returned by {@link #timestamp()} into the aggregated
+     * histogram of a message type.
+     *
+     * @param latencyEventKey type of the latency
+     * @param messageType message type the latency is attributed to
+     * @param startNanos start time stamp, 0 if the latency was not measured
+     */
+    public void recordLatencySince(final LatencyEventTypes latencyEventKey, final Class<?> messageType,
+            final long startNanos) {
+        if (startNanos != 0) {
+            recordLatency(latencyEventKey, messageType, System.nanoTime() - startNanos);
+        }
+    }
+
+    void recordLatency(final LatencyEventTypes latencyEventKey, final Class<?> messageType, final long nanos) {
+        final ConcurrentMap<Class<?>, LatencyHistogram> histograms = latenciesMap.get(latencyEventKey);
+        LatencyHistogram histogram = histograms.get(messageType);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(messageType, key -> new LatencyHistogram());
+        }
+        histogram.recordValue(nanos);
+    }
+
+    /**
+     * Get aggregated latency histogram.
+     *
+     * @param latencyEventKey type of the latency
+     * @param messageType message type the latency is attributed to
+     * @return histogram, or null if no such latency has been recorded
+     */
+    public LatencyHistogram getLatencyHistogram(final LatencyEventTypes latencyEventKey, final Class<?> messageType) {
+        return latenciesMap.get(latencyEventKey).get(messageType);
+    }
+
     @Override
     public void resetCounters() {
         for (CounterEventTypes cet : enabledCounters) {
             countersMap.get(cet).reset();
         }
+        for (Map<Class<?>, LatencyHistogram> histograms : latenciesMap.values()) {
+            histograms.values().forEach(LatencyHistogram::reset);
+        }
+        connectionLatencies.forEach(ConnectionLatencies::reset);
         LOG.debug("StaticsCounters has been reset");
     }
 
@@ -230,6 +338,35 @@ public final class StatisticsCounters implements StatisticsHandler {
         return strBuilder.toString();
     }
 
+    @Override
+    public String printLatencies() {
+        final StringBuilder strBuilder = new StringBuilder();
+        for (Map.Entry<LatencyEventTypes, ConcurrentMap<Class<?>, LatencyHistogram>> entry : latenciesMap.entrySet()) {
+            entry.getValue().entrySet().stream()
+                .sorted(Comparator.comparing(histogram -> histogram.getKey().getSimpleName()))
+                .forEach(histogram -> strBuilder.append(entry.getKey().name()).append(' ')
+                    .append(histogram.getKey().getSimpleName()).append(": ").append(histogram.getValue())
+                    .append('\n'));
+        }
+        return strBuilder.toString();
+    }
+
+    @Override
+    public String printConnectionLatencies() {
+        final StringBuilder strBuilder = new StringBuilder();
+        connectionLatencies.stream().sorted(Comparator.comparing(ConnectionLatencies::getConnectionId))
+            .forEach(latencies -> latencies.appendTo(strBuilder));
+        return strBuilder.toString();
+    }
+
+    @Override
+    public String printConnectionStatistics() {
+        final StringBuilder strBuilder = new StringBuilder();
+        connectionLatencies.stream().sorted(Comparator.comparing(ConnectionLatencies::getConnectionId))
+            .forEach(latencies -> latencies.appendGaugesTo(strBuilder));
+        return strBuilder.toString();
+    }
+
     /**
      * internal class to process logReporter.
      *
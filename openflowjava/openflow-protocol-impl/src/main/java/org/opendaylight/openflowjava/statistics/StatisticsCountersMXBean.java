@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.statistics;
+
+/**
+ * JMX interface of {@link StatisticsCounters}.
+ */
+public interface StatisticsCountersMXBean {
+
+    /**
+     * Give an information if counting is running.
+     *
+     * @return true, if counting and latency recording is running, otherwise false
+     */
+    boolean isRunCounting();
+
+    /**
+     * Start counting and latency recording, without periodic log reports.
+     */
+    void startCounting();
+
+    /**
+     * Stop counting and latency recording.
+     */
+    void stopCounting();
+
+    /**
+     * Resets all counters and latency histograms.
+     */
+    void resetCounters();
+
+    /**
+     * Returns counter values.
+     *
+     * @return one line per counter
+     */
+    String printStatistics();
+
+    /**
+     * Returns aggregated latency histograms.
+     *
+     * @return one line per latency type and message type
+     */
+    String printLatencies();
+
+    /**
+     * Returns latency histograms of individual connections.
+     *
+     * @return one line per connection and latency type
+     */
+    String printConnectionLatencies();
+
+    /**
+     * Returns current values of gauges of individual connections, such as outstanding requests.
+     *
+     * @return one line per connection and gauge
+     */
+    String printConnectionStatistics();
+}
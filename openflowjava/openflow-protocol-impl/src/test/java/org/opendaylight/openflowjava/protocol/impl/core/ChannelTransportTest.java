@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.openflowjava.protocol.api.connection.SocketConfiguration;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.NativeTransport;
+
+/**
+ * Unit tests for ChannelTransport.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ChannelTransportTest {
+
+    @Mock
+    SocketConfiguration socketConfig;
+
+    private final Map<ChannelOption<?>, Object> options = new HashMap<>();
+
+    /**
+     * Tests transport selection and fallback.
+     */
+    @Test
+    public void testSelect() {
+        final ChannelTransport expected = Epoll.isAvailable() ? ChannelTransport.EPOLL : ChannelTransport.NIO;
+        Assert.assertEquals("Wrong transport", expected, ChannelTransport.select(NativeTransport.AUTO));
+        Assert.assertEquals("Wrong transport", expected, ChannelTransport.select(null));
+        Assert.assertEquals("Wrong transport", expected, ChannelTransport.select(NativeTransport.EPOLL));
+        Assert.assertEquals("Wrong transport", ChannelTransport.NIO, ChannelTransport.select(NativeTransport.NIO));
+    }
+
+    /**
+     * Tests options applied without a socket configuration.
+     */
+    @Test
+    public void testDefaultSocketOptions() {
+        ChannelTransport.NIO.applySocketOptions(null, true, this::setOption);
+        Assert.assertEquals("Wrong options", 1, options.size());
+        Assert.assertEquals("Wrong TCP_NODELAY", Boolean.TRUE, options.get(ChannelOption.TCP_NODELAY));
+
+        options.clear();
+        ChannelTransport.NIO.applySocketOptions(null, false, this::setOption);
+        Assert.assertTrue("Wrong options", options.isEmpty());
+    }
+
+    /**
+     * Tests options applied from a socket configuration.
+     */
+    @Test
+    public void testSocketOptions() {
+        Mockito.when(socketConfig.getReceiveBufferSize()).thenReturn(1024);
+        Mockito.when(socketConfig.getSendBufferSize()).thenReturn(2048);
+        Mockito.when(socketConfig.getBusyPoll()).thenReturn(50);
+
+        ChannelTransport.EPOLL.applySocketOptions(socketConfig, true, this::setOption);
+        Assert.assertEquals("Wrong TCP_NODELAY", Boolean.FALSE, options.get(ChannelOption.TCP_NODELAY));
+        Assert.assertEquals("Wrong SO_RCVBUF", 1024, options.get(ChannelOption.SO_RCVBUF));
+        Assert.assertEquals("Wrong SO_SNDBUF", 2048, options.get(ChannelOption.SO_SNDBUF));
+        Assert.assertEquals("Wrong SO_BUSY_POLL", 50, options.get(EpollChannelOption.SO_BUSY_POLL));
+
+        options.clear();
+        ChannelTransport.NIO.applySocketOptions(socketConfig, true, this::setOption);
+        Assert.assertEquals("Wrong options", 3, options.size());
+        Assert.assertFalse("Wrong - busy poll set on NIO", options.containsKey(EpollChannelOption.SO_BUSY_POLL));
+    }
+
+    private <T> void setOption(final ChannelOption<T> option, final T value) {
+        options.put(option, value);
+    }
+}
@@ -9,8 +9,12 @@
 package org.opendaylight.openflowjava.protocol.impl.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.netty.buffer.ByteBuf;
@@ -21,8 +25,14 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
+import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
+import org.opendaylight.openflowjava.protocol.api.keys.TypeToClassKey;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializerRegistryImpl;
 import org.opendaylight.openflowjava.util.ByteBufUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 
 /**
@@ -35,6 +45,7 @@ public class OFDecoderTest {
     @Mock ChannelHandlerContext mockChHndlrCtx ;
     @Mock DeserializationFactory mockDeserializationFactory ;
     @Mock DataObject mockDataObject ;
+    @Mock OFDeserializer<DataObject> mockPacketInDeserializer ;
 
     OFDecoder ofDecoder ;
     private ByteBuf writeObj;
@@ -87,4 +98,46 @@ public class OFDecoderTest {
         assertEquals(0, outList.size());
         assertEquals(0, writeObj.refCnt());
     }
+
+    @Test
+    public void testDecodePacketInFastPath() {
+        final ByteBuf packetIn = ByteBufUtils.hexStringToByteBuf(PooledPacketInViewTest.PACKET_IN);
+        doReturn(PacketInMessage.class).when(mockDeserializationFactory).getMessageClass(
+                EncodeConstants.OF13_VERSION_ID, EncodeConstants.OF_PACKETIN_MESSAGE_TYPE_VALUE);
+        ofDecoder.setPacketInFastPathEnabled(true);
+
+        ofDecoder.decode(mockChHndlrCtx, new VersionMessageWrapper(EncodeConstants.OF13_VERSION_ID, packetIn),
+                outList);
+
+        // Verify that the message buf is held by the view only
+        verify(mockDeserializationFactory, never()).deserialize(any(ByteBuf.class), anyShort());
+        assertTrue(outList.get(0) instanceof PooledPacketInView);
+        assertEquals(1, packetIn.refCnt());
+        ((PooledPacketInView) outList.get(0)).release();
+        assertEquals(0, packetIn.refCnt());
+    }
+
+    @Test
+    public void testDecodePacketInSingleLayer() {
+        final DeserializerRegistryImpl registry = new DeserializerRegistryImpl();
+        registry.init();
+        final DeserializationFactory deserializationFactory = new DeserializationFactory(registry);
+        // PACKET_IN remapped the way single-layer deserializers do it
+        deserializationFactory.registerMapping(new TypeToClassKey(EncodeConstants.OF13_VERSION_ID,
+                EncodeConstants.OF_PACKETIN_MESSAGE_TYPE_VALUE), DataObject.class);
+        registry.registerDeserializer(new MessageCodeKey(EncodeConstants.OF13_VERSION_ID,
+                EncodeConstants.OF_PACKETIN_MESSAGE_TYPE_VALUE, DataObject.class), mockPacketInDeserializer);
+        when(mockPacketInDeserializer.deserialize(any(ByteBuf.class))).thenReturn(mockDataObject);
+
+        final ByteBuf packetIn = ByteBufUtils.hexStringToByteBuf(PooledPacketInViewTest.PACKET_IN);
+        ofDecoder.setDeserializationFactory(deserializationFactory);
+        ofDecoder.setPacketInFastPathEnabled(true);
+
+        ofDecoder.decode(mockChHndlrCtx, new VersionMessageWrapper(EncodeConstants.OF13_VERSION_ID, packetIn),
+                outList);
+
+        // Verify that the message went through the regular deserialization and the buf was released
+        assertEquals(mockDataObject, outList.get(0));
+        assertEquals(0, packetIn.refCnt());
+    }
 }
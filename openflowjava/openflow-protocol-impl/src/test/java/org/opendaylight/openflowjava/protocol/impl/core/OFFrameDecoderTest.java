@@ -143,4 +143,43 @@ public class OFFrameDecoderTest {
 
         assertEquals(8, ((ByteBuf) list.get(0)).readableBytes());
     }
+
+    /**
+     * Test of batched decoding - all complete frames end up in a single batch, the partial one stays.
+     */
+    @Test
+    public void testDecodeBatch() {
+        decoder = new OFFrameDecoder(connectionFacade, false, true);
+        ByteBuf byteBuffer = ByteBufUtils
+                .hexStringToByteBuf("04 02 00 08 00 00 00 01 04 0a 00 0c 00 00 00 02 01 02 03 04 04 00 00 08 00");
+
+        decoder.decode(channelHandlerContext, byteBuffer, list);
+
+        Assert.assertEquals(1, list.size());
+        OFFrameBatch batch = (OFFrameBatch) list.get(0);
+        Assert.assertEquals(2, batch.size());
+        Assert.assertEquals(4, batch.getVersion(0));
+        Assert.assertEquals(2, batch.getMessageType(0));
+        Assert.assertEquals(7, batch.getMessageBuffer(0).readableBytes());
+        Assert.assertEquals(10, batch.getMessageType(1));
+        Assert.assertEquals(11, batch.getMessageBuffer(1).readableBytes());
+        assertEquals(5, byteBuffer.readableBytes());
+
+        batch.recycle();
+        assertEquals(1, byteBuffer.refCnt());
+    }
+
+    /**
+     * Test of batched decoding - nothing is emitted until a frame is complete.
+     */
+    @Test
+    public void testDecodeBatchIncompleteMessage() {
+        decoder = new OFFrameDecoder(connectionFacade, false, true);
+        ByteBuf byteBuffer = ByteBufUtils.hexStringToByteBuf("04 00 00 10 00 00 00 00 00");
+
+        decoder.decode(channelHandlerContext, byteBuffer, list);
+
+        Assert.assertEquals("List is not empty", 0, list.size());
+        assertEquals(9, byteBuffer.readableBytes());
+    }
 }
@@ -19,6 +19,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.opendaylight.openflowjava.util.ByteBufUtils;
 
@@ -70,4 +71,22 @@ public class OFVersionDetectorTest {
         detector.decode(channelHandlerContext, ByteBufUtils.hexStringToByteBuf("05 00 00 08 00 00 00 01"), list);
         Assert.assertEquals(7, ((VersionMessageWrapper) list.get(0)).getMessageBuffer().readableBytes());
     }
+
+    @Test
+    public void testBatchFiltersUnsupportedVersionsAndPacketIns() throws Exception {
+        detector.setFilterPacketIns(true);
+        OFFrameBatch batch = OFFrameBatch.newInstance();
+        batch.addFrame(0, 8);
+        batch.addFrame(8, 8);
+        batch.addFrame(16, 8);
+        batch.setBuffer(ByteBufUtils.hexStringToByteBuf(
+                "04 0a 00 08 00 00 00 01 02 01 00 08 00 00 00 02 04 02 00 08 00 00 00 03"));
+
+        detector.channelRead(channelHandlerContext, batch);
+
+        Mockito.verify(channelHandlerContext).fireChannelRead(batch);
+        Assert.assertEquals(1, batch.size());
+        Assert.assertEquals(2, batch.getMessageType(0));
+        batch.recycle();
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import io.netty.channel.Channel;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.local.LocalChannel;
+import java.net.InetSocketAddress;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.ConnectionPlacement;
+
+/**
+ * Unit tests for PlacementEventLoopGroup.
+ */
+public class PlacementEventLoopGroupTest {
+
+    private static final int EVENT_LOOPS = 3;
+
+    private final EventLoopGroup delegate = new DefaultEventLoopGroup(EVENT_LOOPS);
+
+    @After
+    public void tearDown() {
+        delegate.shutdownGracefully();
+    }
+
+    /**
+     * Tests round-robin placement.
+     */
+    @Test
+    public void testRoundRobin() {
+        final PlacementEventLoopGroup group = new PlacementEventLoopGroup(delegate, ConnectionPlacement.ROUNDROBIN);
+        for (int i = 0; i < 2 * EVENT_LOOPS; ++i) {
+            Assert.assertEquals("Wrong event loop", i % EVENT_LOOPS, group.select(null));
+        }
+    }
+
+    /**
+     * Tests that a switch address is always placed on the same event loop.
+     */
+    @Test
+    public void testHash() {
+        final PlacementEventLoopGroup group = new PlacementEventLoopGroup(delegate, ConnectionPlacement.HASH);
+        final Set<Integer> selected = new HashSet<>();
+        for (int i = 1; i <= 30; ++i) {
+            final int index = group.select(new InetSocketAddress("10.0.0." + i, 6653));
+            Assert.assertEquals("Wrong - address placed on other event loop", index,
+                    group.select(new InetSocketAddress("10.0.0." + i, 45000)));
+            selected.add(index);
+        }
+        Assert.assertEquals("Wrong - addresses not spread", EVENT_LOOPS, selected.size());
+    }
+
+    /**
+     * Tests that idle event loops are balanced by the number of connections.
+     */
+    @Test
+    public void testLeastLoaded() throws InterruptedException {
+        final PlacementEventLoopGroup group = new PlacementEventLoopGroup(delegate, ConnectionPlacement.LEASTLOADED);
+        final Set<EventLoop> eventLoops = new HashSet<>();
+        final Channel[] channels = new Channel[EVENT_LOOPS];
+        for (int i = 0; i < EVENT_LOOPS; ++i) {
+            channels[i] = new LocalChannel();
+            group.register(channels[i]).sync();
+            eventLoops.add(channels[i].eventLoop());
+            Assert.assertNotNull("Wrong - message counter not set",
+                    PlacementEventLoopGroup.messageCounterOf(channels[i]));
+        }
+        Assert.assertEquals("Wrong - connections not spread", EVENT_LOOPS, eventLoops.size());
+
+        final EventLoop freed = channels[1].eventLoop();
+        channels[1].close().sync();
+        final Channel channel = new LocalChannel();
+        group.register(channel).sync();
+        Assert.assertSame("Wrong event loop", freed, channel.eventLoop());
+        channel.close().sync();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.Mockito.when;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.util.ByteBufUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.PacketInReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
+
+/**
+ * Unit tests for PooledPacketInView.
+ */
+public class PooledPacketInViewTest {
+
+    /** PACKET_IN without the version byte, match carries in_port 7, payload is aa bb cc dd. */
+    static final String PACKET_IN = "0a 00 2e 00 00 00 01 ff ff ff ff 00 04 01 02 00 00 00 00 00 00 00 ff "
+            + "00 01 00 0c 80 00 00 04 00 00 00 07 00 00 00 00 00 00 aa bb cc dd";
+
+    @Mock DeserializationFactory deserializationFactory;
+    @Mock PacketInMessage packetInMessage;
+
+    /**
+     * Initializes mocks.
+     */
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    /**
+     * Tests reading of header fields, in_port and payload.
+     */
+    @Test
+    public void testFields() {
+        final ByteBuf frame = ByteBufUtils.hexStringToByteBuf(PACKET_IN);
+        Assert.assertTrue("Wrong - not recognized", PooledPacketInView.isPacketIn(
+                EncodeConstants.OF13_VERSION_ID, frame));
+        final PooledPacketInView view = PooledPacketInView.newInstance(frame, deserializationFactory);
+
+        Assert.assertEquals("Wrong xid", 1, view.getXid());
+        Assert.assertEquals("Wrong buffer id", 0xffffffffL, view.getBufferId());
+        Assert.assertEquals("Wrong total length", 4, view.getTotalLen());
+        Assert.assertEquals("Wrong reason", PacketInReason.OFPRACTION, view.getReason());
+        Assert.assertEquals("Wrong table id", 2, view.getTableId());
+        Assert.assertEquals("Wrong cookie", 0xff, view.getCookie());
+        Assert.assertEquals("Wrong in port", 7, view.getInPort());
+        Assert.assertEquals("Wrong match length", 16, view.getMatchBuffer().readableBytes());
+        Assert.assertArrayEquals("Wrong payload", ByteBufUtils.hexStringToBytes("aa bb cc dd"),
+                ByteBufUtil.getBytes(view.getPayload()));
+
+        Assert.assertTrue("Wrong - view not deallocated", view.release());
+        Assert.assertEquals("Wrong - frame not released", 0, frame.refCnt());
+    }
+
+    /**
+     * Tests that the frame is released only after the last reference is released.
+     */
+    @Test
+    public void testRetain() {
+        final ByteBuf frame = ByteBufUtils.hexStringToByteBuf(PACKET_IN);
+        final PooledPacketInView view = PooledPacketInView.newInstance(frame, deserializationFactory);
+        view.retain();
+        Assert.assertFalse("Wrong - view deallocated", view.release());
+        Assert.assertEquals("Wrong - frame released", 1, frame.refCnt());
+        Assert.assertTrue("Wrong - view not deallocated", view.release());
+        Assert.assertEquals("Wrong - frame not released", 0, frame.refCnt());
+    }
+
+    /**
+     * Tests that materializing the message does not move the view.
+     */
+    @Test
+    public void testToMessage() {
+        final ByteBuf frame = ByteBufUtils.hexStringToByteBuf(PACKET_IN);
+        when(deserializationFactory.deserialize(any(ByteBuf.class), anyShort()))
+                .thenReturn(packetInMessage);
+        final PooledPacketInView view = PooledPacketInView.newInstance(frame, deserializationFactory);
+
+        Assert.assertSame("Wrong message", packetInMessage, view.toMessage());
+        Assert.assertEquals("Wrong in port", 7, view.getInPort());
+        view.release();
+    }
+
+    /**
+     * Tests that a frame with a match running past its end is not wrapped.
+     */
+    @Test
+    public void testMalformedMatch() {
+        final ByteBuf frame = ByteBufUtils.hexStringToByteBuf(PACKET_IN.replace("00 01 00 0c", "00 01 00 ff"));
+        Assert.assertNull("Wrong - malformed frame wrapped",
+                PooledPacketInView.newInstance(frame, deserializationFactory));
+        Assert.assertEquals("Wrong - frame released", 1, frame.refCnt());
+    }
+}
@@ -7,9 +7,6 @@
  */
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
@@ -37,15 +34,13 @@ public class ChannelOutboundQueue02Test {
     private static int counter;
     private static final int CHANNEL_OUTBOUND_QUEUE_SIZE = 1024;
     private static final int RPC_RESPONSE_EXPIRATION = 1;
-    private static final RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>> REMOVAL_LISTENER =
-        notification -> notification.getValue().discard();
 
     @Mock EchoInput echoInput;
     @Mock BarrierInput barrierInput;
     @Mock EchoReplyInput echoReplyInput;
     @Mock ExperimenterInput experimenterInput;
     private ConnectionAdapterImpl adapter;
-    private Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> cache;
+    private RpcResponseTable responseTable;
 
     /**
      * Initialize mocks.
@@ -73,9 +68,8 @@ public class ChannelOutboundQueue02Test {
         final EmbeddedChannel ec = new EmbeddedChannel(new EmbededChannelHandler());
         adapter = new ConnectionAdapterImpl(ec, InetSocketAddress.createUnresolved("localhost", 9876), true,
                 CHANNEL_OUTBOUND_QUEUE_SIZE);
-        cache = CacheBuilder.newBuilder().concurrencyLevel(1).expireAfterWrite(
-                RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES).removalListener(REMOVAL_LISTENER).build();
-        adapter.setResponseCache(cache);
+        responseTable = new RpcResponseTable(ec.eventLoop(), RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES);
+        adapter.setResponseTable(responseTable);
         final ChannelOutboundQueue cq = (ChannelOutboundQueue) ec.pipeline().last();
         counter = 0;
         adapter.barrier(barrierInput);
@@ -100,9 +94,8 @@ public class ChannelOutboundQueue02Test {
         final ChangeWritableEmbededChannel ec = new ChangeWritableEmbededChannel(new EmbededChannelHandler());
         adapter = new ConnectionAdapterImpl(ec, InetSocketAddress.createUnresolved("localhost", 9876), true,
                 CHANNEL_OUTBOUND_QUEUE_SIZE);
-        cache = CacheBuilder.newBuilder().concurrencyLevel(1).expireAfterWrite(
-                RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES) .removalListener(REMOVAL_LISTENER).build();
-        adapter.setResponseCache(cache);
+        responseTable = new RpcResponseTable(ec.eventLoop(), RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES);
+        adapter.setResponseTable(responseTable);
         ec.setReadOnly();
         counter = 0;
         adapter.barrier(barrierInput);
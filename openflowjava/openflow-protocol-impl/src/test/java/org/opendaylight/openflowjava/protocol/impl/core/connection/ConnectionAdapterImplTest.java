@@ -8,19 +8,20 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -67,19 +68,18 @@ public class ConnectionAdapterImplTest {
 
     private static final int RPC_RESPONSE_EXPIRATION = 1;
     private static final int CHANNEL_OUTBOUND_QUEUE_SIZE = 1024;
-    private static final RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>> REMOVAL_LISTENER =
-        notification -> notification.getValue().discard();
 
     @Mock SocketChannel channel;
     @Mock ChannelPipeline pipeline;
     @Mock OpenflowProtocolListener messageListener;
     @Mock SystemNotificationsListener systemListener;
     @Mock ConnectionReadyListener readyListener;
-    @Mock Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> mockCache;
+    @Mock RpcResponseTable mockTable;
     @Mock ChannelFuture channelFuture;
 
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
     private ConnectionAdapterImpl adapter;
-    private Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> cache;
+    private RpcResponseTable responseTable;
 
     /**
      * Initializes ConnectionAdapter.
@@ -93,12 +93,16 @@ public class ConnectionAdapterImplTest {
         adapter.setMessageListener(messageListener);
         adapter.setSystemListener(systemListener);
         adapter.setConnectionReadyListener(readyListener);
-        cache = CacheBuilder.newBuilder().concurrencyLevel(1)
-                .expireAfterWrite(RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES).removalListener(REMOVAL_LISTENER).build();
-        adapter.setResponseCache(cache);
+        responseTable = new RpcResponseTable(scheduler, RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES);
+        adapter.setResponseTable(responseTable);
         when(channel.disconnect()).thenReturn(channelFuture);
     }
 
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
     /**
      * Tests {@link ConnectionAdapterImpl#consume(DataObject)} with notifications.
      */
@@ -144,12 +148,12 @@ public class ConnectionAdapterImplTest {
      */
     @Test
     public void testConsume2() {
-        adapter.setResponseCache(mockCache);
+        adapter.setResponseTable(mockTable);
         final BarrierOutputBuilder barrierBuilder = new BarrierOutputBuilder();
         barrierBuilder.setXid(42L);
         final BarrierOutput barrier = barrierBuilder.build();
         adapter.consume(barrier);
-        verify(mockCache, times(1)).getIfPresent(any(RpcResponseKey.class));
+        verify(mockTable, times(1)).remove(anyLong(), anyString());
     }
 
     /**
@@ -164,14 +168,15 @@ public class ConnectionAdapterImplTest {
         final RpcResponseKey key = new RpcResponseKey(42L,
                 "org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierOutput");
         final ResponseExpectedRpcListener<OfHeader> listener = new ResponseExpectedRpcListener<>(barrierInput,
-                "failure", mockCache, key);
-        cache.put(key, listener);
+                "failure", mockTable, key);
+        responseTable.put(key, listener);
+        Assert.assertEquals("Wrong outstanding requests", 1, adapter.getOutstandingRpcs());
         final BarrierOutputBuilder barrierBuilder = new BarrierOutputBuilder();
         barrierBuilder.setXid(42L);
         final BarrierOutput barrierOutput = barrierBuilder.build();
         adapter.consume(barrierOutput);
-        final ResponseExpectedRpcListener<?> ifPresent = cache.getIfPresent(key);
-        Assert.assertNull("Listener was not discarded", ifPresent);
+        Assert.assertNull("Listener was not discarded", responseTable.remove(42L, BarrierOutput.class.getName()));
+        Assert.assertEquals("Wrong outstanding requests", 0, adapter.getOutstandingRpcs());
     }
 
     /**
@@ -10,8 +10,11 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import java.net.InetAddress;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionConfiguration;
+import org.opendaylight.openflowjava.protocol.api.connection.SocketConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.ConnectionPlacement;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.NativeTransport;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.TransportProtocol;
 
 /**
@@ -30,6 +33,14 @@ public class ConnectionConfigurationImpl implements ConnectionConfiguration {
     private final boolean useBarrier;
     private final boolean isGroupAddModEnabled;
     private final int channelOutboundQueueSize;
+    private boolean frameBatchingEnabled;
+    private boolean packetInFastPathEnabled;
+    private long flushCoalescingDelay;
+    private int flushCoalescingThreshold = 128 * 1024;
+    private int segmentPoolSize = 16;
+    private NativeTransport nativeTransport = NativeTransport.AUTO;
+    private ConnectionPlacement connectionPlacement = ConnectionPlacement.ROUNDROBIN;
+    private SocketConfiguration socketConfig;
 
     /**
      * Creates {@link ConnectionConfigurationImpl}.
@@ -112,4 +123,94 @@ public class ConnectionConfigurationImpl implements ConnectionConfiguration {
     public boolean isGroupAddModEnabled() {
         return isGroupAddModEnabled;
     }
+
+    @Override
+    public boolean isFrameBatchingEnabled() {
+        return frameBatchingEnabled;
+    }
+
+    /**
+     * Used for testing - enables batched frame decoding.
+     */
+    public void setFrameBatchingEnabled(final boolean frameBatchingEnabled) {
+        this.frameBatchingEnabled = frameBatchingEnabled;
+    }
+
+    @Override
+    public boolean isPacketInFastPathEnabled() {
+        return packetInFastPathEnabled;
+    }
+
+    /**
+     * Used for testing - enables the PACKET_IN fast path.
+     */
+    public void setPacketInFastPathEnabled(final boolean packetInFastPathEnabled) {
+        this.packetInFastPathEnabled = packetInFastPathEnabled;
+    }
+
+    @Override
+    public long getFlushCoalescingDelay() {
+        return flushCoalescingDelay;
+    }
+
+    @Override
+    public int getFlushCoalescingThreshold() {
+        return flushCoalescingThreshold;
+    }
+
+    /**
+     * Used for testing - enables flush coalescing.
+     */
+    public void setFlushCoalescing(final long flushCoalescingDelay, final int flushCoalescingThreshold) {
+        this.flushCoalescingDelay = flushCoalescingDelay;
+        this.flushCoalescingThreshold = flushCoalescingThreshold;
+    }
+
+    @Override
+    public int getSegmentPoolSize() {
+        return segmentPoolSize;
+    }
+
+    /**
+     * Used for testing - sets the outbound queue segment pool size.
+     */
+    public void setSegmentPoolSize(final int segmentPoolSize) {
+        this.segmentPoolSize = segmentPoolSize;
+    }
+
+    @Override
+    public NativeTransport getNativeTransport() {
+        return nativeTransport;
+    }
+
+    /**
+     * Used for testing - sets the Netty transport.
+     */
+    public void setNativeTransport(final NativeTransport nativeTransport) {
+        this.nativeTransport = nativeTransport;
+    }
+
+    @Override
+    public ConnectionPlacement getConnectionPlacement() {
+        return connectionPlacement;
+    }
+
+    /**
+     * Used for testing - sets the connection placement policy.
+     */
+    public void setConnectionPlacement(final ConnectionPlacement connectionPlacement) {
+        this.connectionPlacement = connectionPlacement;
+    }
+
+    @Override
+    public SocketConfiguration getSocketConfiguration() {
+        return socketConfig;
+    }
+
+    /**
+     * Used for testing - sets the socket configuration.
+     */
+    public void setSocketConfiguration(final SocketConfiguration socketConfig) {
+        this.socketConfig = socketConfig;
+    }
 }
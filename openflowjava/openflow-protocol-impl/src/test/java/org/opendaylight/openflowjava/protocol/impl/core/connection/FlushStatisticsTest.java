@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.openflowjava.statistics.ConnectionLatencies;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+
+/**
+ * Unit tests for FlushStatistics.
+ */
+public class FlushStatisticsTest {
+
+    /**
+     * Tests counters of a connection without any flush.
+     */
+    @Test
+    public void testEmpty() {
+        final FlushStatistics statistics = new FlushStatistics();
+        Assert.assertEquals("Wrong writes", 0, statistics.getWrites());
+        Assert.assertEquals("Wrong flushes", 0, statistics.getFlushes());
+        Assert.assertEquals("Wrong bytes per flush", 0, statistics.getBytesPerFlush());
+    }
+
+    /**
+     * Tests counters after coalesced flushes.
+     */
+    @Test
+    public void testOnFlush() {
+        final FlushStatistics statistics = new FlushStatistics();
+        statistics.onFlush(10, 800);
+        statistics.onFlush(2, 200);
+        Assert.assertEquals("Wrong writes", 12, statistics.getWrites());
+        Assert.assertEquals("Wrong flushes", 2, statistics.getFlushes());
+        Assert.assertEquals("Wrong flushed bytes", 1000, statistics.getFlushedBytes());
+        Assert.assertEquals("Wrong bytes per flush", 500, statistics.getBytesPerFlush());
+        Assert.assertEquals("Wrong string", "writes=12, flushes=2, bytesPerFlush=500", statistics.toString());
+    }
+
+    /**
+     * Tests counters are reported as gauges of the connection.
+     */
+    @Test
+    public void testRegisterGauges() {
+        final FlushStatistics statistics = new FlushStatistics();
+        final StatisticsCounters statisticsCounters = StatisticsCounters.getInstance();
+        try (ConnectionLatencies latencies = statisticsCounters.registerConnection("flush-connection")) {
+            statistics.registerGauges(latencies);
+            statistics.onFlush(10, 800);
+            final String printed = statisticsCounters.printConnectionStatistics();
+            Assert.assertTrue("Wrong writes gauge", printed.contains("flush-connection FLUSH_WRITES: 10"));
+            Assert.assertTrue("Wrong bytes per flush gauge",
+                    printed.contains("flush-connection FLUSH_BYTES_PER_FLUSH: 800"));
+        }
+    }
+}
@@ -10,13 +10,13 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import static org.junit.Assert.fail;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
 import com.google.common.util.concurrent.SettableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Test;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInput;
@@ -34,13 +34,15 @@ import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
  */
 public class ResponseExpectedRpcListenerTest {
 
-    private static final RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>> REMOVAL_LISTENER =
-        notification -> notification.getValue().discard();
     private static final int RPC_RESPONSE_EXPIRATION = 1;
-    private final Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> responseCache  = CacheBuilder.newBuilder()
-            .concurrencyLevel(1)
-            .expireAfterWrite(RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES)
-            .removalListener(REMOVAL_LISTENER).build();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final RpcResponseTable responseTable = new RpcResponseTable(scheduler, RPC_RESPONSE_EXPIRATION,
+            TimeUnit.MINUTES);
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
 
     /**
      * Test object creation.
@@ -56,7 +58,7 @@ public class ResponseExpectedRpcListenerTest {
      */
     @Test(expected = NullPointerException.class)
     public void testCreation2() {
-        new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseCache, null);
+        new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseTable, null);
     }
 
     /**
@@ -66,7 +68,7 @@ public class ResponseExpectedRpcListenerTest {
     public void testDiscard() {
         RpcResponseKey key = new RpcResponseKey(12345L, BarrierOutput.class.getName());
         ResponseExpectedRpcListener<OfHeader> listener =
-                new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseCache, key);
+                new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseTable, key);
         listener.discard();
         RpcError rpcError = AbstractRpcListener.buildRpcError("Failed to send message",
                 "check switch connection", new TimeoutException("Request timed out"));
@@ -89,7 +91,7 @@ public class ResponseExpectedRpcListenerTest {
     public void testCompleted() {
         RpcResponseKey key = new RpcResponseKey(12345L, BarrierOutput.class.getName());
         ResponseExpectedRpcListener<OfHeader> listener =
-                new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseCache, key);
+                new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseTable, key);
         BarrierInputBuilder barrierBuilder = new BarrierInputBuilder();
         BarrierInput barrierInput = barrierBuilder.build();
         listener.completed(barrierInput);
@@ -111,9 +113,9 @@ public class ResponseExpectedRpcListenerTest {
     public void testOperationSuccessful() {
         RpcResponseKey key = new RpcResponseKey(12345L, BarrierOutput.class.getName());
         ResponseExpectedRpcListener<OfHeader> listener =
-                new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseCache, key);
+                new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseTable, key);
         listener.operationSuccessful();
-        ResponseExpectedRpcListener<?> present = responseCache.getIfPresent(key);
+        ResponseExpectedRpcListener<?> present = responseTable.remove(key.getXid(), key.getOutputClazz());
         Assert.assertEquals(present, listener);
     }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+
+/**
+ * Unit tests for RpcResponseTable.
+ */
+public class RpcResponseTableTest {
+
+    private static final String BARRIER = BarrierOutput.class.getName();
+    private static final String ECHO = EchoOutput.class.getName();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final RpcResponseTable table = new RpcResponseTable(scheduler);
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Tests that a response is matched by both XID and output type.
+     */
+    @Test
+    public void testPutRemove() {
+        final ResponseExpectedRpcListener<OfHeader> listener = put(table, 42L, BARRIER);
+        Assert.assertEquals("Wrong outstanding requests", 1, table.getOutstanding());
+        Assert.assertNull("Wrong - matched other type", table.remove(42L, ECHO));
+        Assert.assertNull("Wrong - matched other xid", table.remove(43L, BARRIER));
+        Assert.assertSame("Wrong listener", listener, table.remove(42L, BARRIER));
+        Assert.assertNull("Wrong - removed twice", table.remove(42L, BARRIER));
+        Assert.assertEquals("Wrong outstanding requests", 0, table.getOutstanding());
+    }
+
+    /**
+     * Tests requests with XIDs mapping to the same slot.
+     */
+    @Test
+    public void testCollision() {
+        final ResponseExpectedRpcListener<OfHeader> first = put(table, 1L, BARRIER);
+        final ResponseExpectedRpcListener<OfHeader> second = put(table, 1025L, BARRIER);
+        final ResponseExpectedRpcListener<OfHeader> third = put(table, 1L, ECHO);
+        Assert.assertEquals("Wrong outstanding requests", 3, table.getOutstanding());
+        Assert.assertSame("Wrong listener", second, table.remove(1025L, BARRIER));
+        Assert.assertSame("Wrong listener", first, table.remove(1L, BARRIER));
+        Assert.assertSame("Wrong listener", third, table.remove(1L, ECHO));
+        Assert.assertEquals("Wrong outstanding requests", 0, table.getOutstanding());
+    }
+
+    /**
+     * Tests that a request registered again once its slot is free does not leave the previous one in the overflow.
+     */
+    @Test
+    public void testReplaceCollision() throws InterruptedException, ExecutionException {
+        final ResponseExpectedRpcListener<OfHeader> first = put(table, 1L, BARRIER);
+        final ResponseExpectedRpcListener<OfHeader> second = put(table, 1025L, BARRIER);
+        Assert.assertSame("Wrong listener", first, table.remove(1L, BARRIER));
+
+        final ResponseExpectedRpcListener<OfHeader> third = put(table, 1025L, BARRIER);
+        Assert.assertFalse("Wrong - replaced request not failed", second.getResult().get().isSuccessful());
+        Assert.assertEquals("Wrong outstanding requests", 1, table.getOutstanding());
+        Assert.assertSame("Wrong listener", third, table.remove(1025L, BARRIER));
+        Assert.assertNull("Wrong - replaced request matched", table.remove(1025L, BARRIER));
+        Assert.assertEquals("Wrong outstanding requests", 0, table.getOutstanding());
+    }
+
+    /**
+     * Tests that a request registered twice discards the previous listener.
+     */
+    @Test
+    public void testReplace() throws InterruptedException, ExecutionException {
+        final ResponseExpectedRpcListener<OfHeader> first = put(table, 42L, BARRIER);
+        final ResponseExpectedRpcListener<OfHeader> second = put(table, 42L, BARRIER);
+        Assert.assertFalse("Wrong - replaced request not failed", first.getResult().get().isSuccessful());
+        Assert.assertEquals("Wrong outstanding requests", 1, table.getOutstanding());
+        Assert.assertSame("Wrong listener", second, table.remove(42L, BARRIER));
+    }
+
+    /**
+     * Tests that clearing the table does not complete outstanding requests.
+     */
+    @Test
+    public void testClear() {
+        final ResponseExpectedRpcListener<OfHeader> listener = put(table, 1L, BARRIER);
+        put(table, 1025L, BARRIER);
+        table.clear();
+        Assert.assertEquals("Wrong outstanding requests", 0, table.getOutstanding());
+        Assert.assertNull("Wrong - request not removed", table.remove(1L, BARRIER));
+        Assert.assertFalse("Wrong - request completed", listener.getResult().isDone());
+    }
+
+    /**
+     * Tests that requests without a response are discarded.
+     */
+    @Test
+    public void testExpiry() throws InterruptedException, ExecutionException, TimeoutException {
+        final RpcResponseTable expiringTable = new RpcResponseTable(scheduler, 10, TimeUnit.MILLISECONDS);
+        final ResponseExpectedRpcListener<OfHeader> listener = put(expiringTable, 42L, BARRIER);
+        final RpcResult<OfHeader> result = listener.getResult().get(5, TimeUnit.SECONDS);
+        Assert.assertFalse("Wrong - request not failed", result.isSuccessful());
+        Assert.assertEquals("Wrong timeouts", 1, expiringTable.getTimeouts());
+        Assert.assertEquals("Wrong outstanding requests", 0, expiringTable.getOutstanding());
+        Assert.assertNull("Wrong - expired request matched", expiringTable.remove(42L, BARRIER));
+    }
+
+    /**
+     * Tests that only requests without a response expire.
+     */
+    @Test
+    public void testExpiryOfOutstandingOnly() throws InterruptedException, ExecutionException, TimeoutException {
+        final RpcResponseTable expiringTable = new RpcResponseTable(scheduler, 10, TimeUnit.MILLISECONDS);
+        final ResponseExpectedRpcListener<OfHeader> answered = put(expiringTable, 1L, BARRIER);
+        final ResponseExpectedRpcListener<OfHeader> unanswered = put(expiringTable, 2L, BARRIER);
+        Assert.assertSame("Wrong listener", answered, expiringTable.remove(1L, BARRIER));
+
+        Assert.assertFalse("Wrong - request not failed", unanswered.getResult().get(5, TimeUnit.SECONDS)
+                .isSuccessful());
+        Assert.assertFalse("Wrong - answered request failed", answered.getResult().isDone());
+        Assert.assertEquals("Wrong timeouts", 1, expiringTable.getTimeouts());
+    }
+
+    /**
+     * Tests that requests are discarded right away once the executor is shut down.
+     */
+    @Test
+    public void testShutdownExecutor() throws InterruptedException, ExecutionException {
+        scheduler.shutdownNow();
+        final ResponseExpectedRpcListener<OfHeader> listener = put(table, 42L, BARRIER);
+        Assert.assertFalse("Wrong - request not failed", listener.getResult().get().isSuccessful());
+        Assert.assertEquals("Wrong outstanding requests", 0, table.getOutstanding());
+        Assert.assertNull("Wrong - discarded request matched", table.remove(42L, BARRIER));
+    }
+
+    private static ResponseExpectedRpcListener<OfHeader> put(final RpcResponseTable table, final long xid,
+            final String outputClazz) {
+        final RpcResponseKey key = new RpcResponseKey(xid, outputClazz);
+        final ResponseExpectedRpcListener<OfHeader> listener = new ResponseExpectedRpcListener<>("MESSAGE",
+                "Failed to send message", table, key);
+        table.put(key, listener);
+        return listener;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.openflowjava.statistics.ConnectionLatencies;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+
+/**
+ * Unit tests for StackedSegmentPool.
+ */
+public class StackedSegmentPoolTest {
+
+    /**
+     * Tests that a recycled segment array is reused.
+     */
+    @Test
+    public void testReuse() {
+        final StackedSegmentPool pool = new StackedSegmentPool(2);
+        final StackedSegment first = StackedSegment.create(0L, pool);
+        Assert.assertEquals("Wrong misses", 1, pool.getMisses());
+        final OutboundQueueEntry entry = first.getEntry(0);
+        first.recycle();
+        Assert.assertEquals("Wrong resident segments", 1, pool.getResidentSegments());
+
+        final StackedSegment second = StackedSegment.create(StackedSegment.SEGMENT_SIZE, pool);
+        Assert.assertSame("Wrong - array not reused", entry, second.getEntry(0));
+        Assert.assertEquals("Wrong base xid", StackedSegment.SEGMENT_SIZE, second.getBaseXid());
+        Assert.assertEquals("Wrong hits", 1, pool.getHits());
+        Assert.assertEquals("Wrong resident segments", 0, pool.getResidentSegments());
+    }
+
+    /**
+     * Tests that arrays returned to a full pool are dropped.
+     */
+    @Test
+    public void testCapacity() {
+        final StackedSegmentPool pool = new StackedSegmentPool(1);
+        final StackedSegment first = StackedSegment.create(0L, pool);
+        final StackedSegment second = StackedSegment.create(0L, pool);
+        first.recycle();
+        second.recycle();
+        Assert.assertEquals("Wrong resident segments", 1, pool.getResidentSegments());
+        Assert.assertEquals("Wrong misses", 2, pool.getMisses());
+    }
+
+    /**
+     * Tests that connections on the same event loop share a pool.
+     */
+    @Test
+    public void testForEventLoop() {
+        final EventLoop eventLoop = new DefaultEventLoop();
+        final EventLoop otherEventLoop = new DefaultEventLoop();
+        try {
+            final StackedSegmentPool pool = StackedSegmentPool.forEventLoop(eventLoop, 4);
+            Assert.assertSame("Wrong pool", pool, StackedSegmentPool.forEventLoop(eventLoop, 8));
+            Assert.assertEquals("Wrong capacity", 4, pool.getCapacity());
+            Assert.assertNotSame("Wrong - pool shared across event loops", pool,
+                    StackedSegmentPool.forEventLoop(otherEventLoop, 4));
+        } finally {
+            eventLoop.shutdownGracefully();
+            otherEventLoop.shutdownGracefully();
+        }
+    }
+
+    /**
+     * Tests pool counters are reported as gauges of a connection.
+     */
+    @Test
+    public void testRegisterGauges() {
+        final StackedSegmentPool pool = new StackedSegmentPool(2);
+        final StatisticsCounters statisticsCounters = StatisticsCounters.getInstance();
+        try (ConnectionLatencies latencies = statisticsCounters.registerConnection("pool-connection")) {
+            pool.registerGauges(latencies);
+            StackedSegment.create(0L, pool).recycle();
+            final String printed = statisticsCounters.printConnectionStatistics();
+            Assert.assertTrue("Wrong misses gauge", printed.contains("pool-connection SEGMENT_POOL_MISSES: 1"));
+            Assert.assertTrue("Wrong resident gauge", printed.contains("pool-connection SEGMENT_POOL_RESIDENT: 1"));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.openflowjava.statistics.ConnectionLatencies;
+import org.opendaylight.openflowjava.statistics.LatencyEventTypes;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInputBuilder;
+
+/**
+ * Unit tests for StackedSegment.
+ */
+public class StackedSegmentTest {
+
+    private StatisticsCounters statisticsCounters;
+    private ConnectionLatencies latencies;
+
+    /**
+     * Starts recording latencies.
+     */
+    @Before
+    public void setUp() {
+        statisticsCounters = StatisticsCounters.getInstance();
+        statisticsCounters.startCounting(false, 0);
+        statisticsCounters.resetCounters();
+        latencies = statisticsCounters.registerConnection("segment-connection");
+    }
+
+    /**
+     * Stops recording latencies.
+     */
+    @After
+    public void tearDown() {
+        latencies.close();
+        statisticsCounters.stopCounting();
+    }
+
+    /**
+     * Tests round trips of requests completed by a barrier are recorded under the type of the request.
+     */
+    @Test
+    public void testBarrierRoundTrip() {
+        final StackedSegment segment = StackedSegment.create(0L, null);
+        final OutboundQueueEntry flowMod = segment.getEntry(0);
+        flowMod.setCommitNanos(latencies.timestamp());
+        flowMod.commit(new FlowModInputBuilder().setXid(0L).build(), null);
+        final OutboundQueueEntry barrier = segment.getEntry(1);
+        barrier.setCommitNanos(latencies.timestamp());
+        barrier.commit(new BarrierInputBuilder().setXid(1L).build(), null);
+
+        Assert.assertSame("Wrong paired entry", barrier,
+                segment.pairRequest(new BarrierOutputBuilder().setXid(1L).build(), latencies));
+        Assert.assertTrue("Wrong - request not completed", flowMod.isCompleted());
+        Assert.assertEquals("Wrong round trip count", 1, latencies.getHistogram(LatencyEventTypes.DS_ROUND_TRIP)
+                .getTotalCount());
+        Assert.assertEquals("Wrong aggregated round trip count", 1, statisticsCounters.getLatencyHistogram(
+                LatencyEventTypes.DS_ROUND_TRIP, FlowModInput.class).getTotalCount());
+    }
+}
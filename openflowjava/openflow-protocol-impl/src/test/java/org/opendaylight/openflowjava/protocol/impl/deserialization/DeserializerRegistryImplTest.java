@@ -7,13 +7,19 @@
  */
 package org.opendaylight.openflowjava.protocol.impl.deserialization;
 
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.Assert;
 import org.junit.Test;
+import org.opendaylight.openflowjava.protocol.api.keys.ActionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.api.util.OxmMatchConstants;
 import org.opendaylight.openflowjava.protocol.impl.util.MatchDeserializer;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.v10.grouping.MatchV10;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.HelloMessage;
 
 /**
  * Unit tests for DeserializerRegistryImpl.
@@ -86,4 +92,65 @@ public class DeserializerRegistryImplTest {
         registry.getDeserializer(new MessageCodeKey((short) 5000, EncodeConstants.EMPTY_VALUE, MatchV10.class));
         Assert.fail();
     }
+
+    /**
+     * Test - primitive lookups resolve the same deserializers as key lookups.
+     */
+    @Test
+    public void testPrimitiveLookups() {
+        DeserializerRegistryImpl registry = new DeserializerRegistryImpl();
+        registry.init();
+        Assert.assertSame("Wrong message deserializer",
+                registry.getDeserializer(new MessageCodeKey(OF13, 0, HelloMessage.class)),
+                registry.getDeserializer(OF13, 0, HelloMessage.class));
+        Assert.assertSame("Wrong match entry deserializer",
+                registry.getDeserializer(new MatchEntryDeserializerKey(OF13,
+                        OxmMatchConstants.OPENFLOW_BASIC_CLASS, OxmMatchConstants.IN_PORT)),
+                registry.getMatchEntryDeserializer(OF13, OxmMatchConstants.OPENFLOW_BASIC_CLASS,
+                        OxmMatchConstants.IN_PORT));
+        Assert.assertSame("Wrong action deserializer",
+                registry.getDeserializer(new ActionDeserializerKey(OF13, 0, null)),
+                registry.getActionDeserializer(OF13, 0));
+        Assert.assertSame("Wrong instruction deserializer",
+                registry.getDeserializer(new InstructionDeserializerKey(OF13, 1, null)),
+                registry.getInstructionDeserializer(OF13, 1));
+    }
+
+    /**
+     * Test - primitive lookups see unregistrations.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testPrimitiveLookupAfterUnregister() {
+        DeserializerRegistryImpl registry = new DeserializerRegistryImpl();
+        registry.init();
+        registry.getActionDeserializer(OF13, 0);
+        registry.unregisterDeserializer(new ActionDeserializerKey(OF13, 0, null));
+        registry.getActionDeserializer(OF13, 0);
+    }
+
+    /**
+     * Test - primitive lookups racing with registrations see the last registration.
+     */
+    @Test
+    public void testPrimitiveLookupConcurrentRegister() throws InterruptedException {
+        final DeserializerRegistryImpl registry = new DeserializerRegistryImpl();
+        registry.init();
+        final AtomicBoolean done = new AtomicBoolean();
+        final Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                registry.getDeserializer(OF13, 0, HelloMessage.class);
+            }
+        });
+        reader.start();
+
+        MatchDeserializer last = null;
+        for (int i = 0; i < 1000; i++) {
+            last = new MatchDeserializer();
+            registry.registerDeserializer(new MessageCodeKey(OF13, EMPTY_VALUE, Match.class), last);
+        }
+        done.set(true);
+        reader.join();
+
+        Assert.assertSame("Stale deserializer", last, registry.getDeserializer(OF13, EMPTY_VALUE, Match.class));
+    }
 }
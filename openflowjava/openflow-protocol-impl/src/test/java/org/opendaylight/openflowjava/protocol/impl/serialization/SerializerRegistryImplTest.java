@@ -9,10 +9,18 @@ package org.opendaylight.openflowjava.protocol.impl.serialization;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.opendaylight.openflowjava.protocol.api.keys.ActionSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntrySerializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.util.OF13MatchSerializer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.action.grouping.action.choice.OutputActionCase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instruction.grouping.instruction.choice.GotoTableCase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.InPort;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.OpenflowBasicClass;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.HelloInput;
 
 /**
  * Unit tests for SerializerRegistryImpl.
@@ -60,4 +68,37 @@ public class SerializerRegistryImplTest {
         Assert.assertFalse("Wrong - unregister serializer",
                 serReg.unregisterSerializer(new MessageTypeKey<>(OF10, Match.class)));
     }
+
+    /**
+     * Test - primitive lookups resolve the same serializers as key lookups.
+     */
+    @Test
+    public void testPrimitiveLookups() {
+        SerializerRegistryImpl serReg = new SerializerRegistryImpl();
+        serReg.init();
+        Assert.assertSame("Wrong message serializer",
+                serReg.getSerializer(new MessageTypeKey<>(OF13, HelloInput.class)),
+                serReg.getMessageSerializer(OF13, HelloInput.class));
+        Assert.assertSame("Wrong match entry serializer",
+                serReg.getSerializer(new MatchEntrySerializerKey<>(OF13, OpenflowBasicClass.class, InPort.class)),
+                serReg.getMatchEntrySerializer(OF13, OpenflowBasicClass.class, InPort.class));
+        Assert.assertSame("Wrong action serializer",
+                serReg.getSerializer(new ActionSerializerKey<>(OF13, OutputActionCase.class, null)),
+                serReg.getActionSerializer(OF13, OutputActionCase.class));
+        Assert.assertSame("Wrong instruction serializer",
+                serReg.getSerializer(new InstructionSerializerKey<>(OF13, GotoTableCase.class, null)),
+                serReg.getInstructionSerializer(OF13, GotoTableCase.class));
+    }
+
+    /**
+     * Test - primitive lookups see unregistrations.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testPrimitiveLookupAfterUnregister() {
+        SerializerRegistryImpl serReg = new SerializerRegistryImpl();
+        serReg.init();
+        serReg.getMessageSerializer(OF13, HelloInput.class);
+        serReg.unregisterSerializer(new MessageTypeKey<>(OF13, HelloInput.class));
+        serReg.getMessageSerializer(OF13, HelloInput.class);
+    }
 }
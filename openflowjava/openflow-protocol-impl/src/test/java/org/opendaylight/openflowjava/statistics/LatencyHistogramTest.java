@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.statistics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for LatencyHistogram.
+ */
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * Tests that bucket boundaries are contiguous and keep the relative error bounded.
+     */
+    @Test
+    public void testBuckets() {
+        long previous = -1;
+        for (int bucket = 0; bucket <= LatencyHistogram.bucketOf(LatencyHistogram.MAX_VALUE); ++bucket) {
+            final long highest = LatencyHistogram.highestValueOf(bucket);
+            Assert.assertEquals("Wrong bucket of lowest value", bucket, LatencyHistogram.bucketOf(previous + 1));
+            Assert.assertEquals("Wrong bucket of highest value", bucket, LatencyHistogram.bucketOf(highest));
+            Assert.assertTrue("Wrong - bucket too wide", highest - previous - 1 <= (previous + 1) / 8);
+            previous = highest;
+        }
+        Assert.assertEquals("Wrong highest value", LatencyHistogram.MAX_VALUE, previous);
+    }
+
+    /**
+     * Tests recording and percentiles.
+     */
+    @Test
+    public void testRecordValue() {
+        Assert.assertEquals("Wrong count", 0, histogram.getTotalCount());
+        Assert.assertEquals("Wrong percentile", 0, histogram.getValueAtPercentile(50));
+        Assert.assertEquals("Wrong mean", 0, histogram.getMean());
+
+        for (int i = 1; i <= 100; ++i) {
+            histogram.recordValue(i * 1000L);
+        }
+        Assert.assertEquals("Wrong count", 100, histogram.getTotalCount());
+        Assert.assertEquals("Wrong mean", 50500, histogram.getMean());
+        Assert.assertEquals("Wrong max", 100000, histogram.getMaxValue());
+        assertWithin(50000, histogram.getValueAtPercentile(50));
+        assertWithin(99000, histogram.getValueAtPercentile(99));
+        Assert.assertEquals("Wrong percentile", 100000, histogram.getValueAtPercentile(100));
+    }
+
+    /**
+     * Tests values out of the precisely counted range.
+     */
+    @Test
+    public void testOutOfRange() {
+        histogram.recordValue(-5);
+        histogram.recordValue(Long.MAX_VALUE);
+        Assert.assertEquals("Wrong count", 2, histogram.getTotalCount());
+        Assert.assertEquals("Wrong percentile", 0, histogram.getValueAtPercentile(50));
+        Assert.assertEquals("Wrong max", Long.MAX_VALUE, histogram.getMaxValue());
+        Assert.assertEquals("Wrong percentile", LatencyHistogram.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    /**
+     * Tests reset of recorded values.
+     */
+    @Test
+    public void testReset() {
+        histogram.recordValue(1000);
+        histogram.reset();
+        Assert.assertEquals("Wrong count", 0, histogram.getTotalCount());
+        Assert.assertEquals("Wrong max", 0, histogram.getMaxValue());
+        Assert.assertEquals("Wrong mean", 0, histogram.getMean());
+    }
+
+    private static void assertWithin(final long expected, final long actual) {
+        Assert.assertTrue("Wrong percentile " + actual, actual >= expected && actual <= expected + expected / 8);
+    }
+}
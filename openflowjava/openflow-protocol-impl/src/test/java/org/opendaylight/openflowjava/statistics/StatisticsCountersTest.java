@@ -7,6 +7,7 @@
  */
 package org.opendaylight.openflowjava.statistics;
 
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -135,6 +136,57 @@ public class StatisticsCountersTest {
         statCounters.getCounter(null);
     }
 
+    /**
+     * Test latencies recorded per connection and aggregated per message type.
+     */
+    @Test
+    public void testConnectionLatencies() {
+        final ConnectionLatencies latencies = statCounters.registerConnection("test-connection");
+        final long start = latencies.timestamp();
+        Assert.assertNotEquals("Wrong - time stamp not taken", 0, start);
+        latencies.recordSince(LatencyEventTypes.US_DECODE, String.class, start);
+        latencies.recordSince(LatencyEventTypes.US_DECODE, String.class, 0);
+
+        Assert.assertEquals("Wrong connection count", 1,
+                latencies.getHistogram(LatencyEventTypes.US_DECODE).getTotalCount());
+        Assert.assertNull("Wrong - histogram created", latencies.getHistogram(LatencyEventTypes.DS_ROUND_TRIP));
+        Assert.assertEquals("Wrong aggregated count", 1,
+                statCounters.getLatencyHistogram(LatencyEventTypes.US_DECODE, String.class).getTotalCount());
+        Assert.assertTrue("Wrong - connection not printed",
+                statCounters.printConnectionLatencies().contains("test-connection US_DECODE: count=1"));
+        Assert.assertTrue("Wrong - latency not printed",
+                statCounters.printLatencies().contains("US_DECODE String: count=1"));
+
+        latencies.close();
+        Assert.assertFalse("Wrong - closed connection printed",
+                statCounters.printConnectionLatencies().contains("test-connection"));
+        statCounters.resetCounters();
+        Assert.assertEquals("Wrong aggregated count after reset", 0,
+                statCounters.getLatencyHistogram(LatencyEventTypes.US_DECODE, String.class).getTotalCount());
+
+        statCounters.stopCounting();
+        Assert.assertEquals("Wrong - time stamp taken while stopped", 0, latencies.timestamp());
+    }
+
+    /**
+     * Test gauges of a connection are reported until the connection is closed.
+     */
+    @Test
+    public void testConnectionGauges() {
+        final ConnectionLatencies latencies = statCounters.registerConnection("gauge-connection");
+        final AtomicLong value = new AtomicLong(3);
+        latencies.registerGauge("RPC_OUTSTANDING", value::get);
+        Assert.assertTrue("Wrong - gauge not printed",
+                statCounters.printConnectionStatistics().contains("gauge-connection RPC_OUTSTANDING: 3"));
+        value.set(5);
+        Assert.assertTrue("Wrong - gauge not read",
+                statCounters.printConnectionStatistics().contains("gauge-connection RPC_OUTSTANDING: 5"));
+
+        latencies.close();
+        Assert.assertFalse("Wrong - closed connection printed",
+                statCounters.printConnectionStatistics().contains("gauge-connection"));
+    }
+
     private void incrementCounter(CounterEventTypes cet, int count) {
         if (!statCounters.isCounterEnabled(cet)) {
             return;
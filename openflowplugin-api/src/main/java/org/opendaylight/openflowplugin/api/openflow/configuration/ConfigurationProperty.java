@@ -115,7 +115,39 @@ public enum ConfigurationProperty {
     /**
      * Device connection rate limit property type.
      */
-    DEVICE_CONNECTION_RATE_LIMIT_PER_MIN;
+    DEVICE_CONNECTION_RATE_LIMIT_PER_MIN,
+    /**
+     * Device sequential processing property type.
+     */
+    DEVICE_SEQUENTIAL_PROCESSING,
+    /**
+     * Enable or disable incremental writes of flow statistics.
+     */
+    ENABLE_FLOW_STATISTICS_DELTA_WRITE,
+    /**
+     * Enable or disable concurrent device flow registry.
+     */
+    ENABLE_CONCURRENT_FLOW_REGISTRY,
+    /**
+     * Maximum number of devices gathering statistics at once.
+     */
+    STATISTICS_POLLING_CONCURRENCY,
+    /**
+     * Enable or disable processing of statistics replies as they arrive.
+     */
+    ENABLE_STATISTICS_STREAMING,
+    /**
+     * Maximum time in milliseconds a RPC request waits for the RPC requests quota.
+     */
+    RPC_REQUESTS_QUEUE_TIMEOUT,
+    /**
+     * Maximum number of devices onboarding at once.
+     */
+    DEVICE_ONBOARDING_CONCURRENCY,
+    /**
+     * Directory persisting the cache of table features of devices.
+     */
+    TABLE_FEATURES_CACHE_DIRECTORY;
 
     private static final Map<String, ConfigurationProperty> KEY_VALUE_MAP;
 
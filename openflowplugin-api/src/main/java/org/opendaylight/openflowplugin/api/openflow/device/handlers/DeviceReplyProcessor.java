@@ -9,6 +9,7 @@
 package org.opendaylight.openflowplugin.api.openflow.device.handlers;
 
 import java.util.List;
+import org.opendaylight.openflowjava.protocol.api.connection.PacketInView;
 import org.opendaylight.openflowplugin.api.openflow.device.Xid;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ExperimenterMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowRemoved;
@@ -52,6 +53,15 @@ public interface DeviceReplyProcessor {
      */
     void processPacketInMessage(PacketInMessage packetInMessage);
 
+    /**
+     * Method process async packet in from device, delivered through the openflowjava fast path.
+     * @param packetIn view of the packet in message, valid only until this method returns
+     * @return true if the packet in was processed, false if it should be delivered as {@link PacketInMessage}
+     */
+    default boolean processPacketIn(final PacketInView packetIn) {
+        return false;
+    }
+
     /**
      * Processing of experimenter symmetric message from device.
      * @param notification notification
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.benchmark;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorManager;
+import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorManagerFactory;
+import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.data.VersionDatapathIdConvertorData;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.PortNumber;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Uri;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.DecNwTtlCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.OutputActionCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.PushVlanActionCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.SetVlanIdActionCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.dec.nw.ttl._case.DecNwTtlBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.output.action._case.OutputActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.push.vlan.action._case.PushVlanActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.set.vlan.id.action._case.SetVlanIdActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.list.Action;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.list.ActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service.rev130819.AddFlowInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.InstructionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.ApplyActionsCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.GoToTableCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.apply.actions._case.ApplyActionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.go.to.table._case.GoToTableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.list.InstructionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.l2.types.rev130827.EtherType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.l2.types.rev130827.VlanId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.ethernet.match.fields.EthernetTypeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.EthernetMatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.IpMatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.layer._3.match.Ipv4MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.layer._4.match.TcpMatchBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures throughput of converting flows to FLOW_MOD inputs through the default convertor manager, which dispatches
+ * the match, each instruction and each action to its convertor. Flows match on IPv4 and TCP, push a VLAN tag,
+ * decrement TTL, output to a number of ports and go to the next table. Convertor dispatch is not pluggable, so to
+ * compare with an older revision run this benchmark on both. Run with {@code -prof gc} to get the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class FlowConvertorBenchmark {
+    private static final int FLOW_COUNT = 1000;
+
+    @Param({"1", "8"})
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    public int outputCount;
+
+    private final ConvertorManager convertorManager = ConvertorManagerFactory.createDefaultManager();
+    private final VersionDatapathIdConvertorData data =
+            new VersionDatapathIdConvertorData(OFConstants.OFP_VERSION_1_3);
+    private List<Flow> flows;
+
+    @Setup
+    public void setup() {
+        data.setDatapathId(BigInteger.ONE);
+        flows = new ArrayList<>(FLOW_COUNT);
+        for (int i = 0; i < FLOW_COUNT; ++i) {
+            flows.add(createFlow(i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLOW_COUNT)
+    public void convert(final Blackhole blackhole) {
+        for (final Flow flow : flows) {
+            blackhole.consume(convertorManager.convert(flow, data));
+        }
+    }
+
+    private Flow createFlow(final int index) {
+        final List<Action> actions = new ArrayList<>(outputCount + 3);
+        actions.add(createAction(new PushVlanActionCaseBuilder()
+                .setPushVlanAction(new PushVlanActionBuilder().setEthernetType(0x8100).build())
+                .build(), actions.size()));
+        actions.add(createAction(new SetVlanIdActionCaseBuilder()
+                .setSetVlanIdAction(new SetVlanIdActionBuilder().setVlanId(new VlanId(index % 4000 + 1)).build())
+                .build(), actions.size()));
+        actions.add(createAction(new DecNwTtlCaseBuilder()
+                .setDecNwTtl(new DecNwTtlBuilder().build())
+                .build(), actions.size()));
+        for (int i = 0; i < outputCount; ++i) {
+            actions.add(createAction(new OutputActionCaseBuilder()
+                    .setOutputAction(new OutputActionBuilder()
+                            .setOutputNodeConnector(new Uri(String.valueOf(i + 1)))
+                            .setMaxLength(0xffff)
+                            .build())
+                    .build(), actions.size()));
+        }
+
+        return new AddFlowInputBuilder()
+                .setTableId((short) 0)
+                .setPriority(index % 16)
+                .setCookie(new FlowCookie(BigInteger.valueOf(index)))
+                .setMatch(new MatchBuilder()
+                        .setEthernetMatch(new EthernetMatchBuilder()
+                                .setEthernetType(new EthernetTypeBuilder().setType(new EtherType(0x0800L)).build())
+                                .build())
+                        .setIpMatch(new IpMatchBuilder().setIpProtocol((short) 6).build())
+                        .setLayer3Match(new Ipv4MatchBuilder()
+                                .setIpv4Destination(new Ipv4Prefix("10." + (index >> 16 & 0xff) + '.'
+                                        + (index >> 8 & 0xff) + '.' + (index & 0xff) + "/32"))
+                                .build())
+                        .setLayer4Match(new TcpMatchBuilder().setTcpDestinationPort(new PortNumber(80)).build())
+                        .build())
+                .setInstructions(new InstructionsBuilder()
+                        .setInstruction(Arrays.asList(
+                                new InstructionBuilder()
+                                        .setOrder(0)
+                                        .setInstruction(new ApplyActionsCaseBuilder()
+                                                .setApplyActions(new ApplyActionsBuilder().setAction(actions).build())
+                                                .build())
+                                        .build(),
+                                new InstructionBuilder()
+                                        .setOrder(1)
+                                        .setInstruction(new GoToTableCaseBuilder()
+                                                .setGoToTable(new GoToTableBuilder().setTableId((short) 1).build())
+                                                .build())
+                                        .build()))
+                        .build())
+                .build();
+    }
+
+    private static Action createAction(
+            final org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.Action actionCase,
+            final int order) {
+        return new ActionBuilder().setOrder(order).setAction(actionCase).build();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.benchmark;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.openflowplugin.impl.registry.flow.FlowRegistryKeyFactory;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.PortNumber;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.l2.types.rev130827.EtherType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.ethernet.match.fields.EthernetTypeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.EthernetMatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.IpMatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.layer._3.match.Ipv4MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.layer._4.match.TcpMatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.ExtensionKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.general.extension.list.grouping.ExtensionListBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares flow registry keys identified by match fingerprints against {@link LegacyFlowRegistryKey}, which compares
+ * binding matches. Each invocation looks up all flows of a statistics cycle in a registry holding the same flows, as
+ * done by the flow statistics writer. Flows with match extensions were found by a linear scan of the registry before,
+ * which is what the legacy lookup does for them. Run with {@code -prof gc} to get the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class FlowRegistryKeyBenchmark {
+
+    @Param({"1000", "10000"})
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    public int flowCount;
+
+    @Param({"false", "true"})
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    public boolean extensions;
+
+    private final Map<FlowRegistryKey, Integer> registry = new HashMap<>();
+    private final Map<FlowRegistryKey, Integer> legacyRegistry = new HashMap<>();
+    private List<Flow> flows;
+
+    @Setup
+    public void setup() {
+        flows = new ArrayList<>(flowCount);
+        for (int i = 0; i < flowCount; ++i) {
+            registry.put(FlowRegistryKeyFactory.create(OFConstants.OFP_VERSION_1_3, createFlow(i)), i);
+            legacyRegistry.put(new LegacyFlowRegistryKey(OFConstants.OFP_VERSION_1_3, createFlow(i)), i);
+            flows.add(createFlow(i));
+        }
+    }
+
+    @Benchmark
+    public void createKeys(final Blackhole blackhole) {
+        for (final Flow flow : flows) {
+            blackhole.consume(FlowRegistryKeyFactory.create(OFConstants.OFP_VERSION_1_3, flow));
+        }
+    }
+
+    @Benchmark
+    public void createLegacyKeys(final Blackhole blackhole) {
+        for (final Flow flow : flows) {
+            blackhole.consume(new LegacyFlowRegistryKey(OFConstants.OFP_VERSION_1_3, flow));
+        }
+    }
+
+    @Benchmark
+    public void lookup(final Blackhole blackhole) {
+        for (final Flow flow : flows) {
+            blackhole.consume(registry.get(FlowRegistryKeyFactory.create(OFConstants.OFP_VERSION_1_3, flow)));
+        }
+    }
+
+    @Benchmark
+    public void lookupLegacy(final Blackhole blackhole) {
+        for (final Flow flow : flows) {
+            final FlowRegistryKey key = new LegacyFlowRegistryKey(OFConstants.OFP_VERSION_1_3, flow);
+            blackhole.consume(extensions ? scan(key) : legacyRegistry.get(key));
+        }
+    }
+
+    private Integer scan(final FlowRegistryKey key) {
+        for (final Map.Entry<FlowRegistryKey, Integer> entry : legacyRegistry.entrySet()) {
+            if (entry.getKey().equals(key)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private Flow createFlow(final int index) {
+        final MatchBuilder match = new MatchBuilder()
+                .setEthernetMatch(new EthernetMatchBuilder()
+                        .setEthernetType(new EthernetTypeBuilder().setType(new EtherType(0x0800L)).build())
+                        .build())
+                .setIpMatch(new IpMatchBuilder().setIpProtocol((short) 6).build())
+                .setLayer3Match(new Ipv4MatchBuilder()
+                        .setIpv4Destination(new Ipv4Prefix("10." + (index >> 16 & 0xff) + '.' + (index >> 8 & 0xff)
+                                + '.' + (index & 0xff) + "/32"))
+                        .build())
+                .setLayer4Match(new TcpMatchBuilder().setTcpDestinationPort(new PortNumber(80)).build());
+
+        if (extensions) {
+            match.addAugmentation(GeneralAugMatchNodesNodeTableFlow.class,
+                    new GeneralAugMatchNodesNodeTableFlowBuilder()
+                            .setExtensionList(Collections.singletonList(new ExtensionListBuilder()
+                                    .setExtensionKey(BenchmarkExtensionKey.class)
+                                    .build()))
+                            .build());
+        }
+
+        return new FlowBuilder()
+                .setTableId((short) 0)
+                .setPriority(index % 16)
+                .setCookie(new FlowCookie(BigInteger.valueOf(index)))
+                .setMatch(match.build())
+                .build();
+    }
+
+    private interface BenchmarkExtensionKey extends ExtensionKey {
+    }
+}
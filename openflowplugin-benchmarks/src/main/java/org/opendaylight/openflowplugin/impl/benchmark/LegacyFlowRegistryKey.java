@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.benchmark;
+
+import com.google.common.base.MoreObjects;
+import java.math.BigInteger;
+import java.util.Objects;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.openflowplugin.impl.util.MatchNormalizationUtil;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.general.extension.list.grouping.ExtensionList;
+
+/**
+ * Flow registry key comparing binding matches, as used by the flow registry before match fingerprints. Kept as
+ * the baseline of {@link FlowRegistryKeyBenchmark}.
+ */
+final class LegacyFlowRegistryKey implements FlowRegistryKey {
+    private final short tableId;
+    private final int priority;
+    private final BigInteger cookie;
+    private final Match match;
+
+    LegacyFlowRegistryKey(final short version, final Flow flow) {
+        tableId = flow.getTableId();
+        priority = MoreObjects.firstNonNull(flow.getPriority(), OFConstants.DEFAULT_FLOW_PRIORITY);
+        cookie = MoreObjects.firstNonNull(flow.getCookie(), OFConstants.DEFAULT_FLOW_COOKIE).getValue();
+        match = MatchNormalizationUtil
+                .normalizeMatch(MoreObjects.firstNonNull(flow.getMatch(), OFConstants.EMPTY_MATCH), version);
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (object == null || !(object instanceof FlowRegistryKey)) {
+            return false;
+        }
+
+        final FlowRegistryKey that = (FlowRegistryKey) object;
+
+        return getPriority() == that.getPriority()
+                && getTableId() == that.getTableId()
+                && getCookie().equals(that.getCookie())
+                && equalMatch(that.getMatch());
+    }
+
+    private boolean equalMatch(final Match input) {
+        GeneralAugMatchNodesNodeTableFlow thisAug = match.augmentation(GeneralAugMatchNodesNodeTableFlow.class);
+        GeneralAugMatchNodesNodeTableFlow inputAug = input.augmentation(GeneralAugMatchNodesNodeTableFlow.class);
+        if (thisAug != inputAug) {
+            if (thisAug != null) {
+                if (inputAug == null) {
+                    return false;
+                }
+                if (!Objects.equals(match.getEthernetMatch(), input.getEthernetMatch())) {
+                    return false;
+                }
+                if (!Objects.equals(match.getIcmpv4Match(), input.getIcmpv4Match())) {
+                    return false;
+                }
+                if (!Objects.equals(match.getIcmpv6Match(), input.getIcmpv6Match())) {
+                    return false;
+                }
+                if (!Objects.equals(match.getInPhyPort(), input.getInPhyPort())) {
+                    return false;
+                }
+                if (!Objects.equals(match.getInPort(), input.getInPort())) {
+                    return false;
+                }
+                if (!Objects.equals(match.getIpMatch(), input.getIpMatch())) {
+                    return false;
+                }
+                if (!Objects.equals(match.getLayer3Match(), input.getLayer3Match())) {
+                    return false;
+                }
+                if (!Objects.equals(match.getLayer4Match(), input.getLayer4Match())) {
+                    return false;
+                }
+                if (!Objects.equals(match.getMetadata(), input.getMetadata())) {
+                    return false;
+                }
+                if (!Objects.equals(match.getProtocolMatchFields(), input.getProtocolMatchFields())) {
+                    return false;
+                }
+                if (!Objects.equals(match.getTcpFlagsMatch(), input.getTcpFlagsMatch())) {
+                    return false;
+                }
+                if (!Objects.equals(match.getTunnel(), input.getTunnel())) {
+                    return false;
+                }
+                if (!Objects.equals(match.getVlanMatch(), input.getVlanMatch())) {
+                    return false;
+                }
+                for (ExtensionList inputExtensionList : inputAug.getExtensionList()) {
+                    if (!thisAug.getExtensionList().contains(inputExtensionList)) {
+                        return false;
+                    }
+                }
+            }
+        } else {
+            return getMatch().equals(input);
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = tableId;
+        result = 31 * result + priority;
+        result = 31 * result + cookie.hashCode();
+        result = 31 * result + match.hashCode();
+        return result;
+    }
+
+    @Override
+    public short getTableId() {
+        return tableId;
+    }
+
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public BigInteger getCookie() {
+        return cookie;
+    }
+
+    @Override
+    public Match getMatch() {
+        return match;
+    }
+}
@@ -8,6 +8,7 @@
 package org.opendaylight.openflowplugin.impl;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Strings;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -17,6 +18,7 @@ import com.google.common.util.concurrent.SettableFuture;
 import io.netty.util.HashedWheelTimer;
 import io.netty.util.Timer;
 import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -68,6 +70,7 @@ import org.opendaylight.openflowplugin.impl.connection.ConnectionManagerImpl;
 import org.opendaylight.openflowplugin.impl.device.DeviceManagerImpl;
 import org.opendaylight.openflowplugin.impl.device.initialization.DeviceInitializerProvider;
 import org.opendaylight.openflowplugin.impl.device.initialization.DeviceInitializerProviderFactory;
+import org.opendaylight.openflowplugin.impl.device.initialization.TableFeaturesCache;
 import org.opendaylight.openflowplugin.impl.lifecycle.ContextChainHolderImpl;
 import org.opendaylight.openflowplugin.impl.protocol.deserialization.DeserializerInjector;
 import org.opendaylight.openflowplugin.impl.protocol.serialization.SerializerInjector;
@@ -111,7 +114,6 @@ public class OpenFlowPluginProviderImpl implements
     private final ExtensionConverterManager extensionConverterManager;
     private final DataBroker dataBroker;
     private final Collection<SwitchConnectionProvider> switchConnectionProviders;
-    private final DeviceInitializerProvider deviceInitializerProvider;
     private final ConvertorManager convertorManager;
     private final RpcProviderService rpcProviderRegistry;
     private final ClusterSingletonServiceProvider singletonServicesProvider;
@@ -152,7 +154,6 @@ public class OpenFlowPluginProviderImpl implements
         this.entityOwnershipService = entityOwnershipService;
         convertorManager = ConvertorManagerFactory.createDefaultManager();
         extensionConverterManager = new ExtensionConverterManagerImpl();
-        deviceInitializerProvider = DeviceInitializerProviderFactory.createDefaultProvider();
         config = new OpenFlowProviderConfigImpl(configurationService);
         this.mastershipChangeServiceManager = mastershipChangeServiceManager;
         this.openflowDiagStatusProvider = openflowDiagStatusProvider;
@@ -243,6 +244,12 @@ public class OpenFlowPluginProviderImpl implements
                 config.getThreadPoolTimeout(),
                 TimeUnit.SECONDS, new SynchronousQueue<>(), POOL_NAME));
 
+        final String tableFeaturesCacheDirectory = config.getTableFeaturesCacheDirectory();
+        final DeviceInitializerProvider deviceInitializerProvider =
+                DeviceInitializerProviderFactory.createDefaultProvider(
+                        Strings.isNullOrEmpty(tableFeaturesCacheDirectory) ? null
+                                : new TableFeaturesCache(Paths.get(tableFeaturesCacheDirectory), executorService));
+
         deviceManager = new DeviceManagerImpl(
                 config,
                 dataBroker,
@@ -260,21 +267,25 @@ public class OpenFlowPluginProviderImpl implements
                 rpcProviderRegistry,
                 extensionConverterManager,
                 convertorManager,
-                notificationPublishService);
+                notificationPublishService,
+                hashedWheelTimer);
 
         statisticsManager = new StatisticsManagerImpl(
                 config,
                 rpcProviderRegistry,
                 convertorManager,
-                executorService);
+                executorService,
+                hashedWheelTimer);
 
         roleManager = new RoleManagerImpl(hashedWheelTimer, config);
 
+        final Integer onboardingConcurrency = config.getDeviceOnboardingConcurrency();
         contextChainHolder = new ContextChainHolderImpl(
                 executorService,
                 singletonServicesProvider,
                 entityOwnershipService,
-                mastershipChangeServiceManager);
+                mastershipChangeServiceManager,
+                onboardingConcurrency != null ? onboardingConcurrency : 0);
 
         contextChainHolder.addManager(deviceManager);
         contextChainHolder.addManager(statisticsManager);
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.openflowplugin.impl.configuration;
 
+import com.google.common.base.Strings;
 import com.google.common.base.Verify;
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
@@ -86,6 +87,22 @@ public class ConfigurationServiceFactoryImpl implements ConfigurationServiceFact
                             providerConfig.getThreadPoolTimeout().toString())
                     .put(ConfigurationProperty.DEVICE_CONNECTION_RATE_LIMIT_PER_MIN.toString(),
                             providerConfig.getDeviceConnectionRateLimitPerMin().toString())
+                    .put(ConfigurationProperty.DEVICE_SEQUENTIAL_PROCESSING.toString(),
+                            providerConfig.isDeviceSequentialProcessing().toString())
+                    .put(ConfigurationProperty.ENABLE_FLOW_STATISTICS_DELTA_WRITE.toString(),
+                            providerConfig.isEnableFlowStatisticsDeltaWrite().toString())
+                    .put(ConfigurationProperty.ENABLE_CONCURRENT_FLOW_REGISTRY.toString(),
+                            providerConfig.isEnableConcurrentFlowRegistry().toString())
+                    .put(ConfigurationProperty.STATISTICS_POLLING_CONCURRENCY.toString(),
+                            providerConfig.getStatisticsPollingConcurrency().toString())
+                    .put(ConfigurationProperty.ENABLE_STATISTICS_STREAMING.toString(),
+                            providerConfig.isEnableStatisticsStreaming().toString())
+                    .put(ConfigurationProperty.RPC_REQUESTS_QUEUE_TIMEOUT.toString(),
+                            providerConfig.getRpcRequestsQueueTimeout().toString())
+                    .put(ConfigurationProperty.DEVICE_ONBOARDING_CONCURRENCY.toString(),
+                            providerConfig.getDeviceOnboardingConcurrency().toString())
+                    .put(ConfigurationProperty.TABLE_FEATURES_CACHE_DIRECTORY.toString(),
+                            Strings.nullToEmpty(providerConfig.getTableFeaturesCacheDirectory()))
                     .build());
         }
 
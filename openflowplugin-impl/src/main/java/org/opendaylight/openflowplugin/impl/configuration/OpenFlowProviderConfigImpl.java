@@ -177,4 +177,48 @@ public class OpenFlowProviderConfigImpl implements OpenflowProviderConfig {
         return service.getProperty(ConfigurationProperty.DEVICE_CONNECTION_RATE_LIMIT_PER_MIN.toString(),
                 Integer::valueOf);
     }
+
+    @Override
+    public Boolean isDeviceSequentialProcessing() {
+        return service.getProperty(ConfigurationProperty.DEVICE_SEQUENTIAL_PROCESSING.toString(), Boolean::valueOf);
+    }
+
+    @Override
+    public Boolean isEnableFlowStatisticsDeltaWrite() {
+        return service.getProperty(ConfigurationProperty.ENABLE_FLOW_STATISTICS_DELTA_WRITE.toString(),
+                Boolean::valueOf);
+    }
+
+    @Override
+    public Boolean isEnableConcurrentFlowRegistry() {
+        return service.getProperty(ConfigurationProperty.ENABLE_CONCURRENT_FLOW_REGISTRY.toString(),
+                Boolean::valueOf);
+    }
+
+    @Override
+    public Integer getStatisticsPollingConcurrency() {
+        return service.getProperty(ConfigurationProperty.STATISTICS_POLLING_CONCURRENCY.toString(),
+                Integer::valueOf);
+    }
+
+    @Override
+    public Boolean isEnableStatisticsStreaming() {
+        return service.getProperty(ConfigurationProperty.ENABLE_STATISTICS_STREAMING.toString(), Boolean::valueOf);
+    }
+
+    @Override
+    public Long getRpcRequestsQueueTimeout() {
+        return service.getProperty(ConfigurationProperty.RPC_REQUESTS_QUEUE_TIMEOUT.toString(), Long::valueOf);
+    }
+
+    @Override
+    public Integer getDeviceOnboardingConcurrency() {
+        return service.getProperty(ConfigurationProperty.DEVICE_ONBOARDING_CONCURRENCY.toString(),
+                Integer::valueOf);
+    }
+
+    @Override
+    public String getTableFeaturesCacheDirectory() {
+        return service.getProperty(ConfigurationProperty.TABLE_FEATURES_CACHE_DIRECTORY.toString(), value -> value);
+    }
 }
@@ -41,6 +41,18 @@ public final class MultipartWriterProviderFactory {
      * @return the statistics writer provider
      */
     public static MultipartWriterProvider createDefaultProvider(final DeviceContext deviceContext) {
+        return createDefaultProvider(deviceContext, false);
+    }
+
+    /**
+     * Create default #{@link MultipartWriterProvider}.
+     *
+     * @param deviceContext device context
+     * @param flowStatisticsDeltaWrite write flow statistics incrementally
+     * @return the statistics writer provider
+     */
+    public static MultipartWriterProvider createDefaultProvider(final DeviceContext deviceContext,
+                                                                final boolean flowStatisticsDeltaWrite) {
         final InstanceIdentifier<Node> instanceIdentifier = deviceContext.getDeviceInfo().getNodeInstanceIdentifier();
         final MultipartWriterProvider provider = new MultipartWriterProvider();
 
@@ -53,7 +65,7 @@ public final class MultipartWriterProviderFactory {
         provider.register(MultipartType.OFPMPQUEUE, new QueueStatsMultipartWriter(deviceContext,
                 instanceIdentifier, deviceContext.getPrimaryConnectionContext().getFeatures()));
         provider.register(MultipartType.OFPMPFLOW, new FlowStatsMultipartWriter(deviceContext, instanceIdentifier,
-                deviceContext, deviceContext.getDeviceInfo().getVersion()));
+                deviceContext, deviceContext.getDeviceInfo().getVersion(), flowStatisticsDeltaWrite));
         provider.register(MultipartType.OFPMPGROUPDESC, new GroupDescMultipartWriter(deviceContext,
                 instanceIdentifier, deviceContext));
         provider.register(MultipartType.OFPMPMETERCONFIG, new MeterConfigMultipartWriter(deviceContext,
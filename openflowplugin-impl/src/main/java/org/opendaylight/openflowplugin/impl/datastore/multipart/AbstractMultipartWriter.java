@@ -23,6 +23,12 @@ public abstract class AbstractMultipartWriter<T extends DataContainer> {
     private final TxFacade txFacade;
     private final InstanceIdentifier<Node> instanceIdentifier;
 
+    // Guarded by this
+    private boolean collecting;
+    private int collectingDigest;
+    private Integer collectedDigest;
+    private boolean changed = true;
+
     AbstractMultipartWriter(final TxFacade txFacade, final InstanceIdentifier<Node> instanceIdentifier) {
         this.txFacade = txFacade;
         this.instanceIdentifier = instanceIdentifier;
@@ -45,6 +51,16 @@ public abstract class AbstractMultipartWriter<T extends DataContainer> {
         }
     }
 
+    /**
+     * Creates delete operation of provided path in underlying transaction chain.
+     *
+     * @param path path
+     * @param <O> data type
+     */
+    protected <O extends DataObject> void deleteFromTransaction(final InstanceIdentifier<O> path) {
+        txFacade.addDeleteToTxChain(LogicalDatastoreType.OPERATIONAL, path);
+    }
+
     /**
      * Get instance identifier.
      *
@@ -64,7 +80,9 @@ public abstract class AbstractMultipartWriter<T extends DataContainer> {
     public boolean write(final DataContainer dataContainer, final boolean withParents) {
         if (getType().isInstance(dataContainer)) {
             LOG.debug("Writing multipart data of type {} for node {}", getType(), getInstanceIdentifier());
-            storeStatistics(getType().cast(dataContainer), withParents);
+            final T statistics = getType().cast(dataContainer);
+            storeStatistics(statistics, withParents);
+            updateDigest(statistics);
             return true;
         }
 
@@ -72,6 +90,88 @@ public abstract class AbstractMultipartWriter<T extends DataContainer> {
         return false;
     }
 
+    /**
+     * Notifies the writer that a complete set of multipart data is going to be written. Writers which keep track
+     * of previously written data may then replace them incrementally instead of requiring them to be deleted first.
+     *
+     * @return true if previously written data are replaced by the writer and do not have to be deleted
+     */
+    public final boolean startCollecting() {
+        synchronized (this) {
+            collecting = true;
+            collectingDigest = 1;
+        }
+        return onStartCollecting();
+    }
+
+    /**
+     * Notifies the writer that writing of a complete set of multipart data has ended.
+     *
+     * @param succeeded true if the complete set of multipart data was written
+     */
+    public final void endCollecting(final boolean succeeded) {
+        synchronized (this) {
+            if (collecting) {
+                changed = !succeeded || collectedDigest == null || collectedDigest != collectingDigest;
+                collectedDigest = succeeded ? collectingDigest : null;
+                collecting = false;
+            }
+        }
+        onEndCollecting(succeeded);
+    }
+
+    /**
+     * Checks whether the last complete set of multipart data differed from the set collected before it. Data which
+     * change on every collection regardless of the device activity, such as durations, are not compared.
+     *
+     * @return true if the data changed, or were not collected completely twice yet
+     */
+    public synchronized boolean isChanged() {
+        return changed;
+    }
+
+    /**
+     * Called by {@link #startCollecting()}.
+     *
+     * @return true if previously written data are replaced by the writer and do not have to be deleted
+     */
+    protected boolean onStartCollecting() {
+        return false;
+    }
+
+    /**
+     * Called by {@link #endCollecting(boolean)}.
+     *
+     * @param succeeded true if the complete set of multipart data was written
+     */
+    protected void onEndCollecting(final boolean succeeded) {
+        // no operation
+    }
+
+    /**
+     * Computes digest of statistics compared by {@link #isChanged()}. Writers of statistics holding durations
+     * override it to leave them out.
+     *
+     * @param statistics statistics
+     * @return digest of the statistics
+     */
+    protected int digest(final T statistics) {
+        return statistics.hashCode();
+    }
+
+    private void updateDigest(final T statistics) {
+        synchronized (this) {
+            if (!collecting) {
+                return;
+            }
+        }
+
+        final int digest = digest(statistics);
+        synchronized (this) {
+            collectingDigest = 31 * collectingDigest + digest;
+        }
+    }
+
     /**
      * Get type of writer.
      *
@@ -7,36 +7,74 @@
  */
 package org.opendaylight.openflowplugin.impl.datastore.multipart;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceRegistry;
 import org.opendaylight.openflowplugin.api.openflow.device.TxFacade;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
 import org.opendaylight.openflowplugin.impl.registry.flow.FlowRegistryKeyFactory;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.FlowAndStatisticsMap;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.FlowAndStatisticsMapList;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.FlowStatisticsData;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.FlowStatisticsDataBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.flow.statistics.FlowStatisticsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowModFlags;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Instructions;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Writer of flow statistics. When incremental writes are enabled, the writer keeps a snapshot of the flows it wrote
+ * during the last statistics cycle, keyed by {@link FlowRegistryKey}. A cycle started by {@link #startCollecting()}
+ * then writes only new flows and flows whose counters or content changed, and {@link #endCollecting(boolean)} deletes
+ * flows which were not reported anymore, so unchanged flows are not deleted and rewritten on each cycle.
+ */
 public class FlowStatsMultipartWriter extends AbstractMultipartWriter<FlowAndStatisticsMapList> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(FlowStatsMultipartWriter.class);
+
+    // Number of cycles after which all flows are rewritten, to replace flows written by other writers of the device
+    static final int FULL_WRITE_INTERVAL = 10;
+
     private final DeviceRegistry registry;
     private final short version;
+    private final boolean incremental;
+
+    // Guarded by this
+    private Map<FlowRegistryKey, WrittenFlow> writtenFlows;
+    private Map<FlowRegistryKey, WrittenFlow> collectedFlows;
+    private int incrementalCycles;
 
     public FlowStatsMultipartWriter(final TxFacade txFacade,
                                     final InstanceIdentifier<Node> instanceIdentifier,
                                     final DeviceRegistry registry,
                                     final short version) {
+        this(txFacade, instanceIdentifier, registry, version, false);
+    }
+
+    public FlowStatsMultipartWriter(final TxFacade txFacade,
+                                    final InstanceIdentifier<Node> instanceIdentifier,
+                                    final DeviceRegistry registry,
+                                    final short version,
+                                    final boolean incremental) {
         super(txFacade, instanceIdentifier);
         this.registry = registry;
         this.version = version;
+        this.incremental = incremental;
     }
 
     @Override
@@ -44,6 +82,52 @@ public class FlowStatsMultipartWriter extends AbstractMultipartWriter<FlowAndSta
         return FlowAndStatisticsMapList.class;
     }
 
+    @Override
+    protected synchronized boolean onStartCollecting() {
+        if (!incremental) {
+            return false;
+        }
+
+        if (collectedFlows != null) {
+            LOG.debug("Previous flow statistics cycle of node {} did not end, rewriting all flows",
+                    getInstanceIdentifier());
+            writtenFlows = null;
+        } else if (writtenFlows != null && ++incrementalCycles >= FULL_WRITE_INTERVAL) {
+            writtenFlows = null;
+        }
+
+        if (writtenFlows == null) {
+            incrementalCycles = 0;
+            collectedFlows = new HashMap<>();
+            return false;
+        }
+
+        collectedFlows = new HashMap<>(writtenFlows.size());
+        return true;
+    }
+
+    @Override
+    protected synchronized void onEndCollecting(final boolean succeeded) {
+        if (collectedFlows == null) {
+            return;
+        }
+
+        if (succeeded && writtenFlows != null) {
+            final Set<InstanceIdentifier<Flow>> collectedPaths = collectedFlows.values().stream()
+                    .map(WrittenFlow::getPath)
+                    .collect(Collectors.toSet());
+
+            writtenFlows.values().stream()
+                    .map(WrittenFlow::getPath)
+                    .filter(path -> !collectedPaths.contains(path))
+                    .forEach(this::deleteFromTransaction);
+        }
+
+        // Unless the cycle succeeded, flows of the next cycle are deleted and rewritten
+        writtenFlows = succeeded ? collectedFlows : null;
+        collectedFlows = null;
+    }
+
     @Override
     public void storeStatistics(final FlowAndStatisticsMapList statistics, final boolean withParents) {
         statistics.getFlowAndStatisticsMapList()
@@ -64,19 +148,100 @@ public class FlowStatsMultipartWriter extends AbstractMultipartWriter<FlowAndSta
 
                 if (flowDescriptor != null) {
                     final FlowKey key = new FlowKey(flowDescriptor.getFlowId());
+                    final InstanceIdentifier<Flow> path = getInstanceIdentifier()
+                            .augmentation(FlowCapableNode.class)
+                            .child(Table.class, new TableKey(stat.getTableId()))
+                            .child(Flow.class, key);
 
-                    writeToTransaction(
-                            getInstanceIdentifier()
-                                    .augmentation(FlowCapableNode.class)
-                                    .child(Table.class, new TableKey(stat.getTableId()))
-                                    .child(Flow.class, key),
-                            flow
-                                    .setId(key.getId())
-                                    .withKey(key)
-                                    .build(),
-                            withParents);
+                    if (collect(flowRegistryKey, new WrittenFlow(path, stat))) {
+                        writeToTransaction(
+                                path,
+                                flow
+                                        .setId(key.getId())
+                                        .withKey(key)
+                                        .build(),
+                                withParents);
+                    }
                 }
             });
     }
 
+    @Override
+    protected int digest(final FlowAndStatisticsMapList statistics) {
+        // Flow duration changes on every cycle, it is left out like in incremental writes
+        return statistics.getFlowAndStatisticsMapList().stream()
+                .mapToInt(stat -> Objects.hash(stat.getTableId(), stat.getPriority(), stat.getCookie(),
+                        stat.getMatch(), stat.getPacketCount(), stat.getByteCount()))
+                .reduce(1, (digest, hash) -> 31 * digest + hash);
+    }
+
+    /**
+     * Records a flow reported in the cycle in progress.
+     *
+     * @param flowRegistryKey flow registry key
+     * @param flow reported flow
+     * @return true if the flow has to be written
+     */
+    private synchronized boolean collect(final FlowRegistryKey flowRegistryKey, final WrittenFlow flow) {
+        if (collectedFlows == null) {
+            return true;
+        }
+
+        collectedFlows.put(flowRegistryKey, flow);
+        return writtenFlows == null || !flow.equals(writtenFlows.get(flowRegistryKey));
+    }
+
+    /**
+     * Flow as written to the datastore. Flow identity is covered by the registry key, the rest of its content which
+     * can change is kept here. Flow duration is not tracked, it is refreshed only along with the counters.
+     */
+    private static final class WrittenFlow {
+        private final InstanceIdentifier<Flow> path;
+        private final Counter64 packetCount;
+        private final Counter64 byteCount;
+        private final FlowCookie cookie;
+        private final Instructions instructions;
+        private final Integer hardTimeout;
+        private final Integer idleTimeout;
+        private final FlowModFlags flags;
+
+        WrittenFlow(final InstanceIdentifier<Flow> path, final FlowAndStatisticsMap stat) {
+            this.path = path;
+            this.packetCount = stat.getPacketCount();
+            this.byteCount = stat.getByteCount();
+            this.cookie = stat.getCookie();
+            this.instructions = stat.getInstructions();
+            this.hardTimeout = stat.getHardTimeout();
+            this.idleTimeout = stat.getIdleTimeout();
+            this.flags = stat.getFlags();
+        }
+
+        InstanceIdentifier<Flow> getPath() {
+            return path;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof WrittenFlow)) {
+                return false;
+            }
+            final WrittenFlow other = (WrittenFlow) obj;
+            return path.equals(other.path)
+                    && Objects.equals(packetCount, other.packetCount)
+                    && Objects.equals(byteCount, other.byteCount)
+                    && Objects.equals(cookie, other.cookie)
+                    && Objects.equals(hardTimeout, other.hardTimeout)
+                    && Objects.equals(idleTimeout, other.idleTimeout)
+                    && Objects.equals(flags, other.flags)
+                    && Objects.equals(instructions, other.instructions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, packetCount, byteCount, cookie);
+        }
+    }
 }
@@ -35,6 +35,13 @@ public class GroupStatsMultipartWriter extends AbstractMultipartWriter<GroupStat
         return GroupStatisticsReply.class;
     }
 
+    @Override
+    protected int digest(final GroupStatisticsReply statistics) {
+        return statistics.getGroupStats().stream()
+                .mapToInt(stat -> new GroupStatisticsBuilder(stat).setDuration(null).build().hashCode())
+                .reduce(1, (digest, hash) -> 31 * digest + hash);
+    }
+
     @Override
     public void storeStatistics(final GroupStatisticsReply statistics, final boolean withParents) {
         statistics.getGroupStats()
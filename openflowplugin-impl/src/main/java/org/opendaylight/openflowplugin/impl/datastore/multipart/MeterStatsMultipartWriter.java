@@ -30,6 +30,13 @@ public class MeterStatsMultipartWriter extends AbstractMultipartWriter<MeterStat
         return MeterStatisticsReply.class;
     }
 
+    @Override
+    protected int digest(final MeterStatisticsReply statistics) {
+        return statistics.getMeterStats().stream()
+                .mapToInt(stat -> new MeterStatisticsBuilder(stat).setDuration(null).build().hashCode())
+                .reduce(1, (digest, hash) -> 31 * digest + hash);
+    }
+
     @Override
     public void storeStatistics(final MeterStatisticsReply statistics, final boolean withParents) {
         statistics.getMeterStats()
@@ -8,6 +8,7 @@
 
 package org.opendaylight.openflowplugin.impl.datastore.multipart;
 
+import java.util.Objects;
 import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.api.openflow.device.TxFacade;
 import org.opendaylight.openflowplugin.api.openflow.md.util.OpenflowVersion;
@@ -39,6 +40,14 @@ public class PortStatsMultipartWriter extends AbstractMultipartWriter<NodeConnec
         return NodeConnectorStatisticsAndPortNumberMap.class;
     }
 
+    @Override
+    protected int digest(final NodeConnectorStatisticsAndPortNumberMap statistics) {
+        return statistics.getNodeConnectorStatisticsAndPortNumberMap().stream()
+                .mapToInt(stat -> Objects.hash(stat.getNodeConnectorId(),
+                        new FlowCapableNodeConnectorStatisticsBuilder(stat).setDuration(null).build()))
+                .reduce(1, (digest, hash) -> 31 * digest + hash);
+    }
+
     @Override
     public void storeStatistics(final NodeConnectorStatisticsAndPortNumberMap statistics, final boolean withParents) {
         statistics.getNodeConnectorStatisticsAndPortNumberMap()
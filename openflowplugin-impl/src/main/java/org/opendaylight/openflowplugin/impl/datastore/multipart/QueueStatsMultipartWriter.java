@@ -8,6 +8,7 @@
 
 package org.opendaylight.openflowplugin.impl.datastore.multipart;
 
+import java.util.Objects;
 import org.opendaylight.openflowplugin.api.openflow.device.TxFacade;
 import org.opendaylight.openflowplugin.api.openflow.md.util.OpenflowVersion;
 import org.opendaylight.openflowplugin.openflow.md.util.InventoryDataServiceUtil;
@@ -43,6 +44,14 @@ public class QueueStatsMultipartWriter extends AbstractMultipartWriter<QueueIdAn
         return QueueIdAndStatisticsMap.class;
     }
 
+    @Override
+    protected int digest(final QueueIdAndStatisticsMap statistics) {
+        return statistics.getQueueIdAndStatisticsMap().stream()
+                .mapToInt(stat -> Objects.hash(stat.getNodeConnectorId(), stat.getQueueId(),
+                        new FlowCapableNodeConnectorQueueStatisticsBuilder(stat).setDuration(null).build()))
+                .reduce(1, (digest, hash) -> 31 * digest + hash);
+    }
+
     @Override
     public void storeStatistics(final QueueIdAndStatisticsMap statistics, final boolean withParents) {
         final OpenflowVersion openflowVersion = OpenflowVersion.get(features.getVersion());
@@ -33,6 +33,7 @@ import org.opendaylight.mdsal.binding.api.ReadTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.singleton.common.api.ServiceGroupIdentifier;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+import org.opendaylight.openflowjava.protocol.api.connection.PacketInView;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
@@ -65,11 +66,13 @@ import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProviderFac
 import org.opendaylight.openflowplugin.impl.device.initialization.AbstractDeviceInitializer;
 import org.opendaylight.openflowplugin.impl.device.initialization.DeviceInitializerProvider;
 import org.opendaylight.openflowplugin.impl.device.listener.MultiMsgCollectorImpl;
+import org.opendaylight.openflowplugin.impl.registry.flow.ConcurrentDeviceFlowRegistryImpl;
 import org.opendaylight.openflowplugin.impl.registry.flow.DeviceFlowRegistryImpl;
 import org.opendaylight.openflowplugin.impl.registry.group.DeviceGroupRegistryImpl;
 import org.opendaylight.openflowplugin.impl.registry.meter.DeviceMeterRegistryImpl;
 import org.opendaylight.openflowplugin.impl.rpc.AbstractRequestContext;
 import org.opendaylight.openflowplugin.impl.services.util.RequestContextUtil;
+import org.opendaylight.openflowplugin.impl.translator.PacketReceivedTranslator;
 import org.opendaylight.openflowplugin.impl.util.MatchUtil;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.openflowplugin.openflow.md.util.InventoryDataServiceUtil;
@@ -133,6 +136,7 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
     private final MessageSpy messageSpy;
     private final MessageTranslator<PortGrouping, FlowCapableNodeConnector> portStatusTranslator;
     private final MessageTranslator<PacketInMessage, PacketReceived> packetInTranslator;
+    private final PacketReceivedTranslator packetInViewTranslator;
     private final MessageTranslator<FlowRemoved, org.opendaylight.yang.gen.v1.urn.opendaylight
             .flow.service.rev130819.FlowRemoved> flowRemovedTranslator;
     private final TranslatorLibrary translatorLibrary;
@@ -145,6 +149,7 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
     private final boolean switchFeaturesMandatory;
     private final boolean isFlowRemovedNotificationOn;
     private final boolean useSingleLayerSerialization;
+    private final boolean concurrentFlowRegistry;
     private final AtomicBoolean initialized = new AtomicBoolean(false);
     private final AtomicBoolean hasState = new AtomicBoolean(false);
     private final AtomicBoolean isInitialTransactionSubmitted = new AtomicBoolean(false);
@@ -168,6 +173,7 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
                       final DeviceInitializerProvider deviceInitializerProvider,
                       final boolean isFlowRemovedNotificationOn,
                       final boolean switchFeaturesMandatory,
+                      final boolean concurrentFlowRegistry,
                       final ContextChainHolder contextChainHolder) {
 
         this.primaryConnectionContext = primaryConnectionContext;
@@ -176,6 +182,7 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
         this.deviceInitializerProvider = deviceInitializerProvider;
         this.isFlowRemovedNotificationOn = isFlowRemovedNotificationOn;
         this.switchFeaturesMandatory = switchFeaturesMandatory;
+        this.concurrentFlowRegistry = concurrentFlowRegistry;
         this.deviceState = new DeviceStateImpl();
         this.dataBroker = dataBroker;
         this.messageSpy = messageSpy;
@@ -194,6 +201,8 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
         this.flowRemovedTranslator = translatorLibrary.lookupTranslator(
                 new TranslatorKey(deviceInfo.getVersion(), FlowRemoved.class.getName()));
 
+        this.packetInViewTranslator = new PacketReceivedTranslator(convertorExecutor);
+
         this.convertorExecutor = convertorExecutor;
         this.skipTableFeatures = skipTableFeatures;
         this.useSingleLayerSerialization = useSingleLayerSerialization;
@@ -371,6 +380,17 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
         }
     }
 
+    @Override
+    public boolean processPacketIn(final PacketInView packetIn) {
+        if (isMasterOfDevice()) {
+            final PacketReceived packetReceived = packetInViewTranslator.translate(packetIn, getDeviceInfo());
+            handlePacketInMessage(packetReceived, PacketInMessage.class, packetReceived.getMatch());
+        } else {
+            LOG.debug("Controller is not owner of the device {}, skipping packet_in message", deviceInfo.getLOGValue());
+        }
+        return true;
+    }
+
     private Boolean isMasterOfDevice() {
         final ContextChain contextChain = contextChainHolder.getContextChain(deviceInfo);
         boolean result = false;
@@ -672,8 +692,11 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
                 LOG.debug("Transaction chain manager for node {} created", deviceInfo);
             }
             this.transactionChainManager = new TransactionChainManager(dataBroker, deviceInfo.getNodeId().getValue());
-            this.deviceFlowRegistry = new DeviceFlowRegistryImpl(deviceInfo.getVersion(), dataBroker,
-                    deviceInfo.getNodeInstanceIdentifier());
+            this.deviceFlowRegistry = concurrentFlowRegistry
+                    ? new ConcurrentDeviceFlowRegistryImpl(deviceInfo.getVersion(), dataBroker,
+                            deviceInfo.getNodeInstanceIdentifier())
+                    : new DeviceFlowRegistryImpl(deviceInfo.getVersion(), dataBroker,
+                            deviceInfo.getNodeInstanceIdentifier());
             this.deviceGroupRegistry = new DeviceGroupRegistryImpl();
             this.deviceMeterRegistry = new DeviceMeterRegistryImpl();
         }
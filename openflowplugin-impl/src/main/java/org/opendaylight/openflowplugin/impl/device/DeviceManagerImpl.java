@@ -163,6 +163,7 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
                 deviceInitializerProvider,
                 config.isEnableFlowRemovedNotification(),
                 config.isSwitchFeaturesMandatory(),
+                config.isEnableConcurrentFlowRegistry(),
                 contextChainHolder);
 
         ((ExtensionConverterProviderKeeper) deviceContext).setExtensionConverterProvider(extensionConverterProvider);
@@ -176,6 +177,7 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
 
         connectionContext.getConnectionAdapter().setMessageListener(messageListener);
         connectionContext.getConnectionAdapter().setAlienMessageListener(messageListener);
+        connectionContext.getConnectionAdapter().setPacketInFastPathListener(messageListener);
 
         return deviceContext;
     }
@@ -8,6 +8,7 @@
 
 package org.opendaylight.openflowplugin.impl.device.initialization;
 
+import javax.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.OFConstants;
 
 /**
@@ -23,9 +24,19 @@ public final class DeviceInitializerProviderFactory {
      * @return the device initialization provider
      */
     public static DeviceInitializerProvider createDefaultProvider() {
+        return createDefaultProvider(null);
+    }
+
+    /**
+     * Create default #{@link org.opendaylight.openflowplugin.impl.device.initialization.DeviceInitializerProvider}.
+     * @param tableFeaturesCache cache of table features of OpenFlow 1.3 devices, null to disable caching
+     * @return the device initialization provider
+     */
+    public static DeviceInitializerProvider createDefaultProvider(
+            @Nullable final TableFeaturesCache tableFeaturesCache) {
         final DeviceInitializerProvider provider = new DeviceInitializerProvider();
         provider.register(OFConstants.OFP_VERSION_1_0, new OF10DeviceInitializer());
-        provider.register(OFConstants.OFP_VERSION_1_3, new OF13DeviceInitializer());
+        provider.register(OFConstants.OFP_VERSION_1_3, new OF13DeviceInitializer(tableFeaturesCache));
         return provider;
     }
 
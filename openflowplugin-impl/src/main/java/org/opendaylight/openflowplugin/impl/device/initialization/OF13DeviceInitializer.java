@@ -13,10 +13,13 @@ import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -31,10 +34,15 @@ import org.opendaylight.openflowplugin.impl.services.singlelayer.SingleLayerMult
 import org.opendaylight.openflowplugin.impl.util.DeviceInitializationUtil;
 import org.opendaylight.openflowplugin.impl.util.DeviceStateUtil;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.Desc;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.meter.types.rev130918.MeterFeatures;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.multipart.types.rev170112.multipart.reply.MultipartReplyBody;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.Capabilities;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.TableFeatures;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.multipart.reply.multipart.reply.body.MultipartReplyTableFeaturesBuilder;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
 import org.slf4j.Logger;
@@ -44,6 +52,21 @@ public class OF13DeviceInitializer extends AbstractDeviceInitializer {
 
     private static final Logger LOG = LoggerFactory.getLogger(OF13DeviceInitializer.class);
 
+    private final TableFeaturesCache tableFeaturesCache;
+
+    public OF13DeviceInitializer() {
+        this(null);
+    }
+
+    /**
+     * Creates OpenFlow 1.3 device initializer.
+     *
+     * @param tableFeaturesCache cache of table features, null to always request table features from the device
+     */
+    public OF13DeviceInitializer(@Nullable final TableFeaturesCache tableFeaturesCache) {
+        this.tableFeaturesCache = tableFeaturesCache;
+    }
+
     @Override
     protected Future<Void> initializeNodeInformation(@Nonnull final DeviceContext deviceContext,
                                                      final boolean switchFeaturesMandatory,
@@ -58,39 +81,140 @@ public class OF13DeviceInitializer extends AbstractDeviceInitializer {
         LOG.debug("Setting capabilities for device {}", deviceInfo);
         DeviceStateUtil.setDeviceStateBasedOnV13Capabilities(deviceState, capabilities);
 
-        // First process description reply, write data to DS and write consequent data if successful
-        return Futures.transformAsync(
-            requestMultipart(MultipartType.OFPMPDESC, deviceContext),
-            input -> {
-                translateAndWriteResult(
-                    MultipartType.OFPMPDESC,
-                    input.getResult(),
-                    deviceContext,
-                    multipartWriterProvider,
-                    convertorExecutor);
-
-                final List<ListenableFuture<RpcResult<List<OfHeader>>>> futures = new ArrayList<>();
-                futures.add(requestAndProcessMultipart(MultipartType.OFPMPMETERFEATURES, deviceContext,
-                        skipTableFeatures, multipartWriterProvider, convertorExecutor));
-                futures.add(requestAndProcessMultipart(MultipartType.OFPMPGROUPFEATURES, deviceContext,
-                        skipTableFeatures, multipartWriterProvider, convertorExecutor));
-                futures.add(requestAndProcessMultipart(MultipartType.OFPMPTABLEFEATURES, deviceContext,
-                        skipTableFeatures, multipartWriterProvider, convertorExecutor));
-                futures.add(requestAndProcessMultipart(MultipartType.OFPMPPORTDESC, deviceContext, skipTableFeatures,
-                        multipartWriterProvider, convertorExecutor));
-
-                return Futures.transform(
-                    switchFeaturesMandatory ? Futures.allAsList(futures) : Futures.successfulAsList(futures),
-                    new Function<List<RpcResult<List<OfHeader>>>, Void>() {
-                        @Override
-                        public Void apply(final List<RpcResult<List<OfHeader>>> input) {
-                            LOG.info("Static node {} successfully finished collecting",
-                                    deviceContext.getDeviceInfo());
-                            return null;
-                        }
-                    }, MoreExecutors.directExecutor());
+        // Multiparts are requested at once and each is processed as it arrives, except table features. Description
+        // writes the flow capable node with no tables, so table features are requested once it is written.
+        final List<ListenableFuture<RpcResult<List<OfHeader>>>> futures = new ArrayList<>();
+        final ListenableFuture<RpcResult<List<OfHeader>>> descFuture = requestAndProcessMultipart(
+                MultipartType.OFPMPDESC, deviceContext, skipTableFeatures, multipartWriterProvider, convertorExecutor);
+        futures.add(descFuture);
+        futures.add(requestAndProcessMultipart(MultipartType.OFPMPMETERFEATURES, deviceContext,
+                skipTableFeatures, multipartWriterProvider, convertorExecutor));
+        futures.add(requestAndProcessMultipart(MultipartType.OFPMPGROUPFEATURES, deviceContext,
+                skipTableFeatures, multipartWriterProvider, convertorExecutor));
+        futures.add(tableFeaturesCache == null || skipTableFeatures
+                ? Futures.transformAsync(
+                    Futures.catching(descFuture, Throwable.class, throwable -> null, MoreExecutors.directExecutor()),
+                    input -> requestAndProcessMultipart(MultipartType.OFPMPTABLEFEATURES, deviceContext,
+                        skipTableFeatures, multipartWriterProvider, convertorExecutor),
+                    MoreExecutors.directExecutor())
+                : requestOrLoadTableFeatures(descFuture, deviceContext, multipartWriterProvider, convertorExecutor));
+        futures.add(requestAndProcessMultipart(MultipartType.OFPMPPORTDESC, deviceContext, skipTableFeatures,
+                multipartWriterProvider, convertorExecutor));
+
+        return Futures.transform(
+            switchFeaturesMandatory ? Futures.allAsList(futures) : Futures.successfulAsList(futures),
+            new Function<List<RpcResult<List<OfHeader>>>, Void>() {
+                @Override
+                public Void apply(final List<RpcResult<List<OfHeader>>> input) {
+                    LOG.info("Static node {} successfully finished collecting",
+                            deviceContext.getDeviceInfo());
+                    return null;
+                }
             }, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Load table features from cache, or request them from device and cache them. Cache is keyed by description
+     * of the device, so the table features are looked up once the description is written.
+     *
+     * @param descFuture device description collection future
+     * @param deviceContext device context
+     * @param multipartWriterProvider multipart writer provider
+     * @param convertorExecutor convertor executor
+     * @return list of multipart messages unified to parent interface, empty if table features were cached
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private ListenableFuture<RpcResult<List<OfHeader>>> requestOrLoadTableFeatures(
+            final ListenableFuture<RpcResult<List<OfHeader>>> descFuture,
+            final DeviceContext deviceContext,
+            @Nullable final MultipartWriterProvider multipartWriterProvider,
+            @Nullable final ConvertorExecutor convertorExecutor) {
+        final ListenableFuture<Optional<String>> keyFuture = Futures.catching(
+            Futures.transform(descFuture,
+                input -> createTableFeaturesKey(input, deviceContext, convertorExecutor),
+                MoreExecutors.directExecutor()),
+            Throwable.class, throwable -> Optional.empty(), MoreExecutors.directExecutor());
+
+        // Table features not in memory are loaded on the cache executor, the datastore is written once they are
+        return Futures.transformAsync(keyFuture, key -> Futures.transformAsync(lookupTableFeatures(key), cached -> {
+            if (cached.isPresent()) {
+                try {
+                    writeResult(MultipartType.OFPMPTABLEFEATURES, cached.get(), multipartWriterProvider);
+                    LOG.info("Static node {} info: {} loaded from cache", deviceContext.getDeviceInfo(),
+                            MultipartType.OFPMPTABLEFEATURES);
+                    return RpcResultBuilder.<List<OfHeader>>success(Collections.emptyList()).buildFuture();
+                } catch (final RuntimeException e) {
+                    LOG.warn("Failed to write cached table features of node {} to DS", deviceContext.getDeviceInfo(),
+                            e);
+                }
+            }
 
+            return createCallback(MultipartType.OFPMPTABLEFEATURES,
+                requestMultipart(MultipartType.OFPMPTABLEFEATURES, deviceContext), deviceContext,
+                multipartWriterProvider, convertorExecutor, translatedReplies -> key.ifPresent(value ->
+                    cacheTableFeatures(value, translatedReplies)));
+        }, MoreExecutors.directExecutor()), MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Look up table features in the cache.
+     *
+     * @param key cache key, empty if the device description was not collected
+     * @return future cached table features, empty if they are not cached or cannot be loaded
+     */
+    private ListenableFuture<Optional<TableFeatures>> lookupTableFeatures(final Optional<String> key) {
+        if (!key.isPresent()) {
+            return Futures.immediateFuture(Optional.empty());
+        }
+        return Futures.catching(tableFeaturesCache.get(key.get()), Throwable.class, throwable -> Optional.empty(),
+            MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Create table features cache key from device description.
+     *
+     * @param descResult device description multipart messages
+     * @param deviceContext device context
+     * @param convertorExecutor convertor executor
+     * @return cache key, or empty if device description was not collected
+     */
+    private static Optional<String> createTableFeaturesKey(final RpcResult<List<OfHeader>> descResult,
+                                                           final DeviceContext deviceContext,
+                                                           @Nullable final ConvertorExecutor convertorExecutor) {
+        if (descResult.getResult() == null) {
+            return Optional.empty();
+        }
+
+        final DeviceInfo deviceInfo = deviceContext.getDeviceInfo();
+        return descResult.getResult().stream()
+            .map(reply -> MultipartReplyTranslatorUtil.translate(reply, deviceInfo, convertorExecutor,
+                deviceContext.oook()))
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .filter(Desc.class::isInstance)
+            .map(desc -> TableFeaturesCache.createKey(deviceInfo.getVersion(),
+                deviceContext.getPrimaryConnectionContext().getFeatures().getTables(), (Desc) desc))
+            .findFirst();
+    }
+
+    /**
+     * Cache table features translated from all multipart messages of the table features reply.
+     *
+     * @param key cache key
+     * @param translatedReplies translated multipart messages
+     */
+    private void cacheTableFeatures(final String key, final List<MultipartReplyBody> translatedReplies) {
+        final List<org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.table.features.TableFeatures>
+            tableFeatures = translatedReplies.stream()
+                .filter(TableFeatures.class::isInstance)
+                .flatMap(reply -> ((TableFeatures) reply).getTableFeatures().stream())
+                .collect(Collectors.toList());
+
+        if (!tableFeatures.isEmpty()) {
+            tableFeaturesCache.put(key, new MultipartReplyTableFeaturesBuilder()
+                .setTableFeatures(tableFeatures)
+                .build());
+        }
     }
 
     /**
@@ -101,7 +225,7 @@ public class OF13DeviceInitializer extends AbstractDeviceInitializer {
      * @param skipTableFeatures skip collecting of table features
      * @param multipartWriterProvider multipart writer provider
      * @param convertorExecutor convertor executor
-     * @return list of multipart messages unified to parent interface
+     * @return list of multipart messages unified to parent interface, completed once they are processed
      */
     private static ListenableFuture<RpcResult<List<OfHeader>>> requestAndProcessMultipart(final MultipartType type,
                                                                   final DeviceContext deviceContext,
@@ -113,8 +237,8 @@ public class OF13DeviceInitializer extends AbstractDeviceInitializer {
                 ? RpcResultBuilder.<List<OfHeader>>success().buildFuture()
                 : requestMultipart(type, deviceContext);
 
-        createCallback(type, rpcResultListenableFuture, deviceContext, multipartWriterProvider, convertorExecutor);
-        return rpcResultListenableFuture;
+        return createCallback(type, rpcResultListenableFuture, deviceContext, multipartWriterProvider,
+            convertorExecutor, translatedReplies -> { });
     }
 
     /**
@@ -126,15 +250,27 @@ public class OF13DeviceInitializer extends AbstractDeviceInitializer {
      * @param deviceContext device context
      * @param multipartWriterProvider multipart writer provider
      * @param convertorExecutor convertor executor
+     * @param translatedCallback callback receiving translated multipart messages once they are written
+     * @return multipart collection future completed once the callback finished
      */
-    private static void createCallback(final MultipartType type,
+    private static ListenableFuture<RpcResult<List<OfHeader>>> createCallback(final MultipartType type,
                                        final ListenableFuture<RpcResult<List<OfHeader>>> future,
                                        final DeviceContext deviceContext,
                                        @Nullable final MultipartWriterProvider multipartWriterProvider,
-                                       @Nullable final ConvertorExecutor convertorExecutor) {
+                                       @Nullable final ConvertorExecutor convertorExecutor,
+                                       final Consumer<List<MultipartReplyBody>> translatedCallback) {
+        final SettableFuture<RpcResult<List<OfHeader>>> processedFuture = SettableFuture.create();
         Futures.addCallback(future, new FutureCallback<RpcResult<List<OfHeader>>>() {
             @Override
             public void onSuccess(final RpcResult<List<OfHeader>> result) {
+                try {
+                    processResult(result);
+                } finally {
+                    processedFuture.set(result);
+                }
+            }
+
+            private void processResult(final RpcResult<List<OfHeader>> result) {
                 if (result.getResult() != null) {
                     LOG.info("Static node {} info: {} collected", deviceContext.getDeviceInfo(), type);
                     translateAndWriteResult(
@@ -142,7 +278,7 @@ public class OF13DeviceInitializer extends AbstractDeviceInitializer {
                         result.getResult(),
                         deviceContext,
                         multipartWriterProvider,
-                        convertorExecutor);
+                        convertorExecutor).ifPresent(translatedCallback);
                 } else {
                     result.getErrors().forEach(rpcError -> {
                         LOG.warn("Failed to retrieve static node {} info: {}", type, rpcError.getMessage());
@@ -166,8 +302,10 @@ public class OF13DeviceInitializer extends AbstractDeviceInitializer {
             public void onFailure(final Throwable throwable) {
                 LOG.warn("Request of type {} for static info of node {} failed.",
                         type, deviceContext.getDeviceInfo());
+                processedFuture.setException(throwable);
             }
         }, MoreExecutors.directExecutor());
+        return processedFuture;
     }
 
     /**
@@ -178,14 +316,16 @@ public class OF13DeviceInitializer extends AbstractDeviceInitializer {
      * @param deviceContext device context
      * @param multipartWriterProvider multipart writer provider
      * @param convertorExecutor convertor executor
+     * @return translated multipart messages, or empty if they failed to be translated or written
      */
     @SuppressWarnings("checkstyle:IllegalCatch")
-    private static void translateAndWriteResult(final MultipartType type,
+    private static Optional<List<MultipartReplyBody>> translateAndWriteResult(final MultipartType type,
                                                 final List<OfHeader> result,
                                                 final DeviceContext deviceContext,
                                                 @Nullable final MultipartWriterProvider multipartWriterProvider,
                                                 @Nullable final ConvertorExecutor convertorExecutor) {
         if (result != null) {
+            final List<MultipartReplyBody> translatedReplies = new ArrayList<>();
             try {
                 result.forEach(reply -> {
                     // First, translate collected data to proper openflowplugin representation
@@ -208,11 +348,11 @@ public class OF13DeviceInitializer extends AbstractDeviceInitializer {
                             }
 
                             // Now. try to write translated collected features
-                            Optional.ofNullable(multipartWriterProvider)
-                                .flatMap(provider -> provider.lookup(type))
-                                .ifPresent(writer -> writer.write(translatedReply, false));
+                            writeResult(type, translatedReply, multipartWriterProvider);
+                            translatedReplies.add(translatedReply);
                         });
                 });
+                return Optional.of(translatedReplies);
             } catch (final Exception e) {
                 LOG.warn("Failed to write node {} to DS ", deviceContext.getDeviceInfo(), e);
             }
@@ -220,6 +360,22 @@ public class OF13DeviceInitializer extends AbstractDeviceInitializer {
             LOG.warn("Failed to write node {} to DS because we failed to gather device info.",
                 deviceContext.getDeviceInfo());
         }
+        return Optional.empty();
+    }
+
+    /**
+     * Write translated multipart message.
+     *
+     * @param type multipart type
+     * @param translatedReply translated multipart message
+     * @param multipartWriterProvider multipart writer provider
+     */
+    private static void writeResult(final MultipartType type,
+                                    final DataContainer translatedReply,
+                                    @Nullable final MultipartWriterProvider multipartWriterProvider) {
+        Optional.ofNullable(multipartWriterProvider)
+            .flatMap(provider -> provider.lookup(type))
+            .ifPresent(writer -> writer.write(translatedReply, false));
     }
 
     /**
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.device.initialization;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.Desc;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.TableFeatures;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of translated table features of devices, keyed by the identity of the device model: OpenFlow version, number
+ * of tables, and manufacturer, hardware and software description. The serial number and datapath description are
+ * left out, so all devices of one model and software share an entry. Entries are kept in memory and written to a
+ * directory, one file per entry, so a device reconnecting after a controller restart does not have its table
+ * features requested, decoded and translated again. Files are read and written on an executor, so lookups and
+ * updates never block the caller, which is usually a Netty event loop.
+ *
+ * <p>
+ * Devices whose table features can be changed by configuration, without any change of software, should not be
+ * cached, as every device of the model gets the table features collected from the first one.
+ */
+public class TableFeaturesCache {
+    private static final Logger LOG = LoggerFactory.getLogger(TableFeaturesCache.class);
+    private static final String FILE_SUFFIX = ".tf";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final Map<String, TableFeatures> cache = new ConcurrentHashMap<>();
+    private final TableFeaturesCodec codec = new TableFeaturesCodec();
+    private final Path directory;
+    private final ListeningExecutorService executor;
+
+    /**
+     * Creates table features cache.
+     *
+     * @param directory directory persisting the cache, created if it does not exist
+     * @param executor executor reading and writing files of the cache
+     */
+    public TableFeaturesCache(@Nonnull final Path directory, @Nonnull final ListeningExecutorService executor) {
+        this.directory = directory;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates the cache key of a device.
+     *
+     * @param version OpenFlow version of the device
+     * @param tables number of tables of the device
+     * @param desc description of the device
+     * @return cache key
+     */
+    public static String createKey(final short version, final short tables, @Nonnull final Desc desc) {
+        final Hasher hasher = Hashing.sha256().newHasher()
+                .putShort(version)
+                .putShort(tables);
+        putString(hasher, desc.getManufacturer());
+        putString(hasher, desc.getHardware());
+        putString(hasher, desc.getSoftware());
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Looks up table features. Table features which are not in memory are loaded from the cache directory
+     * on the executor of the cache.
+     *
+     * @param key cache key
+     * @return future table features, empty if they are not cached
+     */
+    public ListenableFuture<Optional<TableFeatures>> get(@Nonnull final String key) {
+        final TableFeatures tableFeatures = cache.get(key);
+        if (tableFeatures != null) {
+            return Futures.immediateFuture(Optional.of(tableFeatures));
+        }
+
+        try {
+            return executor.submit(() -> load(key));
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Table features {} cannot be loaded, executor is not available", key, e);
+            return Futures.immediateFuture(Optional.empty());
+        }
+    }
+
+    /**
+     * Caches table features and writes them to the cache directory on the executor of the cache. Table features
+     * which cannot be encoded, such as ones with vendor specific properties, are kept in memory only.
+     *
+     * @param key cache key
+     * @param tableFeatures translated table features
+     */
+    public void put(@Nonnull final String key, @Nonnull final TableFeatures tableFeatures) {
+        if (cache.putIfAbsent(key, tableFeatures) != null) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> persist(key, tableFeatures));
+        } catch (RejectedExecutionException e) {
+            LOG.info("Table features {} cannot be persisted, executor is not available", key, e);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private Optional<TableFeatures> load(final String key) {
+        final TableFeatures tableFeatures = cache.get(key);
+        if (tableFeatures != null) {
+            return Optional.of(tableFeatures);
+        }
+
+        final Path file = directory.resolve(key + FILE_SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        final TableFeatures loaded;
+        try {
+            loaded = codec.decode(Files.readAllBytes(file));
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to load cached table features from {}, the file is removed", file, e);
+            deleteFile(file);
+            return Optional.empty();
+        }
+
+        LOG.debug("Table features {} loaded from {}", key, file);
+        final TableFeatures previous = cache.putIfAbsent(key, loaded);
+        return Optional.of(previous != null ? previous : loaded);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void persist(final String key, final TableFeatures tableFeatures) {
+        final byte[] bytes;
+        try {
+            bytes = codec.encode(tableFeatures);
+        } catch (RuntimeException e) {
+            LOG.info("Table features {} cannot be persisted, they are cached in memory only", key, e);
+            return;
+        }
+
+        final Path file = directory.resolve(key + FILE_SUFFIX);
+        final Path temporaryFile = directory.resolve(key + TEMPORARY_FILE_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            Files.write(temporaryFile, bytes);
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOG.debug("Table features {} written to {}", key, file);
+        } catch (IOException e) {
+            LOG.warn("Failed to write table features to {}", file, e);
+            deleteFile(temporaryFile);
+        }
+    }
+
+    private static void putString(final Hasher hasher, final String value) {
+        final String nonNull = value != null ? value : "";
+        hasher.putInt(nonNull.length()).putString(nonNull, StandardCharsets.UTF_8);
+    }
+
+    private static void deleteFile(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.debug("Failed to remove {}", file, e);
+        }
+    }
+}
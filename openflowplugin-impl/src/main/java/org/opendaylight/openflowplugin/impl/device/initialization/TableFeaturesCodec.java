@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.device.initialization;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerExtensionProvider;
+import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralDeserializer;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralSerializer;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
+import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerExtensionProvider;
+import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
+import org.opendaylight.openflowjava.protocol.api.keys.ActionSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterActionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterIdDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterIdMeterSubTypeSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterIdSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterInstructionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionSerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntrySerializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
+import org.opendaylight.openflowjava.protocol.api.keys.TypeToClassKey;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializerRegistryImpl;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializerRegistryImpl;
+import org.opendaylight.openflowplugin.impl.protocol.deserialization.DeserializerInjector;
+import org.opendaylight.openflowplugin.impl.protocol.deserialization.multipart.MultipartReplyTableFeaturesDeserializer;
+import org.opendaylight.openflowplugin.impl.protocol.serialization.SerializerInjector;
+import org.opendaylight.openflowplugin.impl.protocol.serialization.multipart.MultipartRequestTableFeaturesSerializer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.MatchField;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.OxmClassBase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ErrorMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.experimenter.core.ExperimenterDataOfChoice;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.meter.band.header.meter.band.MeterBandExperimenterCase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.queue.property.header.QueueProperty;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.table.features.properties.grouping.TableFeatureProperties;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.TableFeatures;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.multipart.request.multipart.request.body.MultipartRequestTableFeaturesBuilder;
+
+/**
+ * Encodes translated table features to the OpenFlow 1.3 body of table features multipart and decodes them back,
+ * using the single-layer table features serializer and deserializer. The codec has registries of its own, filled
+ * with the OpenFlowPlugin serializers and deserializers, so it does not depend on any switch connection provider.
+ * Vendor specific table feature properties are not known to these registries and cannot be encoded.
+ */
+final class TableFeaturesCodec {
+    private final MultipartRequestTableFeaturesSerializer serializer = new MultipartRequestTableFeaturesSerializer();
+    private final MultipartReplyTableFeaturesDeserializer deserializer =
+            new MultipartReplyTableFeaturesDeserializer();
+
+    TableFeaturesCodec() {
+        final SerializerRegistry serializerRegistry = new SerializerRegistryImpl();
+        serializerRegistry.init();
+        SerializerInjector.injectSerializers(new RegistrySerializerProvider(serializerRegistry), false);
+        serializer.injectSerializerRegistry(serializerRegistry);
+
+        final DeserializerRegistry deserializerRegistry = new DeserializerRegistryImpl();
+        deserializerRegistry.init();
+        DeserializerInjector.injectDeserializers(new RegistryDeserializerProvider(deserializerRegistry));
+        deserializer.injectDeserializerRegistry(deserializerRegistry);
+    }
+
+    /**
+     * Encodes table features.
+     *
+     * @param tableFeatures table features
+     * @return encoded table features
+     * @throws RuntimeException if the table features cannot be encoded
+     */
+    byte[] encode(final TableFeatures tableFeatures) {
+        final ByteBuf buffer = Unpooled.buffer();
+        try {
+            serializer.serialize(new MultipartRequestTableFeaturesBuilder()
+                    .setTableFeatures(tableFeatures.getTableFeatures())
+                    .build(), buffer);
+            return ByteBufUtil.getBytes(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Decodes table features.
+     *
+     * @param bytes encoded table features
+     * @return table features
+     * @throws RuntimeException if the bytes are not valid table features
+     */
+    TableFeatures decode(final byte[] bytes) {
+        return (TableFeatures) deserializer.deserialize(Unpooled.wrappedBuffer(bytes));
+    }
+
+    private static final class RegistrySerializerProvider implements SerializerExtensionProvider {
+        private final SerializerRegistry registry;
+
+        RegistrySerializerProvider(final SerializerRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public <K> void registerSerializer(final MessageTypeKey<K> key, final OFGeneralSerializer serializer) {
+            registry.registerSerializer(key, serializer);
+        }
+
+        @Override
+        public boolean unregisterSerializer(final ExperimenterSerializerKey key) {
+            return registry.unregisterSerializer((MessageTypeKey<?>) key);
+        }
+
+        @Override
+        public void registerActionSerializer(final ActionSerializerKey<?> key, final OFGeneralSerializer serializer) {
+            registry.registerSerializer(key, serializer);
+        }
+
+        @Override
+        public void registerInstructionSerializer(final InstructionSerializerKey<?> key,
+                                                  final OFGeneralSerializer serializer) {
+            registry.registerSerializer(key, serializer);
+        }
+
+        @Override
+        public <C extends OxmClassBase, F extends MatchField> void registerMatchEntrySerializer(
+                final MatchEntrySerializerKey<C, F> key, final OFGeneralSerializer serializer) {
+            registry.registerSerializer(key, serializer);
+        }
+
+        @Override
+        public void registerExperimenterMessageSerializer(
+                final ExperimenterIdSerializerKey<? extends ExperimenterDataOfChoice> key,
+                final OFSerializer<? extends ExperimenterDataOfChoice> serializer) {
+            registry.registerSerializer(key, serializer);
+        }
+
+        @Override
+        public void registerMultipartRequestSerializer(
+                final ExperimenterIdSerializerKey<? extends ExperimenterDataOfChoice> key,
+                final OFSerializer<? extends ExperimenterDataOfChoice> serializer) {
+            registry.registerSerializer(key, serializer);
+        }
+
+        @Override
+        public void registerMultipartRequestTFSerializer(final ExperimenterIdSerializerKey<TableFeatureProperties> key,
+                                                         final OFGeneralSerializer serializer) {
+            registry.registerSerializer(key, serializer);
+        }
+
+        @Override
+        @Deprecated
+        public void registerMeterBandSerializer(final ExperimenterIdSerializerKey<MeterBandExperimenterCase> key,
+                                                final OFSerializer<MeterBandExperimenterCase> serializer) {
+            registry.registerSerializer(key, serializer);
+        }
+
+        @Override
+        public void registerMeterBandSerializer(
+                final ExperimenterIdMeterSubTypeSerializerKey<MeterBandExperimenterCase> key,
+                final OFSerializer<MeterBandExperimenterCase> serializer) {
+            registry.registerSerializer(key, serializer);
+        }
+    }
+
+    private static final class RegistryDeserializerProvider implements DeserializerExtensionProvider {
+        private final DeserializerRegistry registry;
+
+        RegistryDeserializerProvider(final DeserializerRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public void registerDeserializer(final MessageCodeKey key, final OFGeneralDeserializer deserializer) {
+            registry.registerDeserializer(key, deserializer);
+        }
+
+        @Override
+        public boolean unregisterDeserializer(final ExperimenterDeserializerKey key) {
+            return registry.unregisterDeserializer((MessageCodeKey) key);
+        }
+
+        @Override
+        public void registerActionDeserializer(final ExperimenterActionDeserializerKey key,
+                                               final OFGeneralDeserializer deserializer) {
+            registry.registerDeserializer(key, deserializer);
+        }
+
+        @Override
+        public void registerInstructionDeserializer(final ExperimenterInstructionDeserializerKey key,
+                                                    final OFGeneralDeserializer deserializer) {
+            registry.registerDeserializer(key, deserializer);
+        }
+
+        @Override
+        public void registerMatchEntryDeserializer(final MatchEntryDeserializerKey key,
+                                                   final OFGeneralDeserializer deserializer) {
+            registry.registerDeserializer(key, deserializer);
+        }
+
+        @Override
+        public void registerErrorDeserializer(final ExperimenterIdDeserializerKey key,
+                                              final OFDeserializer<ErrorMessage> deserializer) {
+            registry.registerDeserializer(key, deserializer);
+        }
+
+        @Override
+        public void registerExperimenterMessageDeserializer(final ExperimenterIdDeserializerKey key,
+                final OFDeserializer<? extends ExperimenterDataOfChoice> deserializer) {
+            registry.registerDeserializer(key, deserializer);
+        }
+
+        @Override
+        public void registerMultipartReplyMessageDeserializer(final ExperimenterIdDeserializerKey key,
+                final OFDeserializer<? extends ExperimenterDataOfChoice> deserializer) {
+            registry.registerDeserializer(key, deserializer);
+        }
+
+        @Override
+        public void registerMultipartReplyTFDeserializer(final ExperimenterIdDeserializerKey key,
+                                                         final OFGeneralDeserializer deserializer) {
+            registry.registerDeserializer(key, deserializer);
+        }
+
+        @Override
+        public void registerMeterBandDeserializer(final ExperimenterIdDeserializerKey key,
+                                                  final OFDeserializer<MeterBandExperimenterCase> deserializer) {
+            registry.registerDeserializer(key, deserializer);
+        }
+
+        @Override
+        public void registerQueuePropertyDeserializer(final ExperimenterIdDeserializerKey key,
+                                                      final OFDeserializer<QueueProperty> deserializer) {
+            registry.registerDeserializer(key, deserializer);
+        }
+
+        @Override
+        public void registerDeserializerMapping(final TypeToClassKey key, final Class<?> clazz) {
+            // Messages are not decoded, only table features bodies
+        }
+
+        @Override
+        public boolean unregisterDeserializerMapping(final TypeToClassKey key) {
+            return false;
+        }
+    }
+}
@@ -8,6 +8,8 @@
 package org.opendaylight.openflowplugin.impl.device.listener;
 
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+import org.opendaylight.openflowjava.protocol.api.connection.PacketInFastPathListener;
+import org.opendaylight.openflowjava.protocol.api.connection.PacketInView;
 import org.opendaylight.openflowjava.protocol.api.extensibility.AlienMessageListener;
 import org.opendaylight.openflowplugin.api.openflow.device.handlers.DeviceReplyProcessor;
 import org.opendaylight.openflowplugin.api.openflow.device.listener.OpenflowMessageListenerFacade;
@@ -24,7 +26,8 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class OpenflowProtocolListenerFullImpl implements AlienMessageListener, OpenflowMessageListenerFacade {
+public class OpenflowProtocolListenerFullImpl implements AlienMessageListener, OpenflowMessageListenerFacade,
+        PacketInFastPathListener {
 
     private static final Logger LOG = LoggerFactory.getLogger(OpenflowProtocolListenerFullImpl.class);
 
@@ -102,4 +105,8 @@ public class OpenflowProtocolListenerFullImpl implements AlienMessageListener, O
         return deviceReplyProcessor.processAlienMessage(message);
     }
 
+    @Override
+    public boolean onPacketIn(final PacketInView packetIn) {
+        return deviceReplyProcessor.processPacketIn(packetIn);
+    }
 }
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.karaf;
+
+import java.io.PrintStream;
+import org.apache.karaf.shell.commands.Command;
+import org.apache.karaf.shell.console.OsgiCommandSupport;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+
+@Command(scope = "ofp", name = "show-connection-stats",
+        description = "Show current statistics of each switch connection, such as outstanding requests.")
+public class ShowConnectionStatsCommandProvider extends OsgiCommandSupport {
+
+    @Override
+    protected Object doExecute() {
+        PrintStream out = session.getConsole();
+        out.print(StatisticsCounters.getInstance().printConnectionStatistics());
+        return null;
+    }
+}
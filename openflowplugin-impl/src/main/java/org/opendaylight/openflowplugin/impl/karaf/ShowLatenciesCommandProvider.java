@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.karaf;
+
+import java.io.PrintStream;
+import org.apache.karaf.shell.commands.Command;
+import org.apache.karaf.shell.commands.Option;
+import org.apache.karaf.shell.console.OsgiCommandSupport;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+
+@Command(scope = "ofp", name = "show-latencies", description = "Show openflow message latency histograms.")
+public class ShowLatenciesCommandProvider extends OsgiCommandSupport {
+
+    @Option(name = "-c", aliases = "--connections", description = "Show latencies of each switch connection")
+    private boolean connections;
+
+    @Option(name = "--start", description = "Start recording latencies")
+    private boolean start;
+
+    @Option(name = "--stop", description = "Stop recording latencies")
+    private boolean stop;
+
+    @Option(name = "--reset", description = "Clear recorded latencies")
+    private boolean reset;
+
+    @Override
+    protected Object doExecute() {
+        final StatisticsCounters statisticsCounters = StatisticsCounters.getInstance();
+        PrintStream out = session.getConsole();
+        if (start) {
+            statisticsCounters.startCounting();
+        } else if (stop) {
+            statisticsCounters.stopCounting();
+        }
+        if (reset) {
+            statisticsCounters.resetCounters();
+            out.print("Openflow latencies cleaned.\n");
+            return null;
+        }
+        if (!statisticsCounters.isRunCounting()) {
+            out.print("Openflow latencies are not being recorded, use --start to record them.\n");
+        }
+        out.print(connections ? statisticsCounters.printConnectionLatencies()
+                : statisticsCounters.printLatencies());
+        return null;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.karaf;
+
+import java.io.PrintStream;
+import org.apache.karaf.shell.commands.Command;
+import org.apache.karaf.shell.commands.Option;
+import org.apache.karaf.shell.console.OsgiCommandSupport;
+import org.opendaylight.openflowplugin.impl.statistics.ofpspecific.OnboardingStatistics;
+
+@Command(scope = "ofp", name = "show-onboarding-latencies", description = "Show device onboarding phase latencies.")
+public class ShowOnboardingLatenciesCommandProvider extends OsgiCommandSupport {
+
+    @Option(name = "--reset", description = "Clear recorded latencies")
+    private boolean reset;
+
+    @Override
+    protected Object doExecute() {
+        PrintStream out = session.getConsole();
+        if (reset) {
+            OnboardingStatistics.resetAllCounters();
+            out.print("Onboarding latencies cleaned.\n");
+            return null;
+        }
+        final StringBuilder result = new StringBuilder();
+        for (String line : OnboardingStatistics.provideStatistics()) {
+            result.append(line);
+            result.append("\n");
+        }
+        out.print(result.toString());
+        return null;
+    }
+}
@@ -69,6 +69,7 @@ public class ContextChainHolderImpl implements ContextChainHolder, MasterChecker
     private final ClusterSingletonServiceProvider singletonServiceProvider;
     private final ExecutorService executorService;
     private final OwnershipChangeListener ownershipChangeListener;
+    private final DeviceOnboarding deviceOnboarding;
     private DeviceManager deviceManager;
     private RpcManager rpcManager;
     private StatisticsManager statisticsManager;
@@ -77,8 +78,10 @@ public class ContextChainHolderImpl implements ContextChainHolder, MasterChecker
     public ContextChainHolderImpl(final ExecutorService executorService,
                                   final ClusterSingletonServiceProvider singletonServiceProvider,
                                   final EntityOwnershipService entityOwnershipService,
-                                  final OwnershipChangeListener ownershipChangeListener) {
+                                  final OwnershipChangeListener ownershipChangeListener,
+                                  final int onboardingConcurrency) {
         this.singletonServiceProvider = singletonServiceProvider;
+        this.deviceOnboarding = new DeviceOnboarding(onboardingConcurrency);
         this.executorService = executorService;
         this.ownershipChangeListener = ownershipChangeListener;
         this.ownershipChangeListener.setMasterChecker(this);
@@ -183,11 +186,10 @@ public class ContextChainHolderImpl implements ContextChainHolder, MasterChecker
                 LOG.warn("Device {} already connected. Closing previous connection", deviceInfo);
                 destroyContextChain(deviceInfo);
                 LOG.info("Old connection dropped, creating new context chain for device {}", deviceInfo);
-                createContextChain(connectionContext);
             } else {
                 LOG.info("No context chain found for device: {}, creating new.", deviceInfo);
-                createContextChain(connectionContext);
             }
+            deviceOnboarding.submit(connectionContext, this::createContextChain);
 
             return ConnectionStatus.MAY_CONTINUE;
         }
@@ -213,6 +215,7 @@ public class ContextChainHolderImpl implements ContextChainHolder, MasterChecker
     @Override
     public void onMasterRoleAcquired(@Nonnull final DeviceInfo deviceInfo,
                                      @Nonnull final ContextChainMastershipState mastershipState) {
+        deviceOnboarding.onMastershipState(deviceInfo, mastershipState);
         Optional.ofNullable(contextChainMap.get(deviceInfo)).ifPresent(contextChain -> {
             if (ownershipChangeListener.isReconciliationFrameworkRegistered()
                     && !ContextChainMastershipState.INITIAL_SUBMIT.equals(mastershipState)) {
@@ -223,6 +226,7 @@ public class ContextChainHolderImpl implements ContextChainHolder, MasterChecker
                 }
             } else if (contextChain.isMastered(mastershipState, false)) {
                 LOG.info("Role MASTER was granted to device {}", deviceInfo);
+                deviceOnboarding.onboarded(deviceInfo);
                 ownershipChangeListener.becomeMaster(deviceInfo);
                 deviceManager.sendNodeAddedNotification(deviceInfo.getNodeInstanceIdentifier());
             }
@@ -233,6 +237,7 @@ public class ContextChainHolderImpl implements ContextChainHolder, MasterChecker
     public void onSlaveRoleAcquired(final DeviceInfo deviceInfo) {
         ownershipChangeListener.becomeSlaveOrDisconnect(deviceInfo);
         LOG.info("Role SLAVE was granted to device {}", deviceInfo);
+        deviceOnboarding.onboarded(deviceInfo);
         Optional.ofNullable(contextChainMap.get(deviceInfo)).ifPresent(ContextChain::makeContextChainStateSlave);
     }
 
@@ -245,6 +250,11 @@ public class ContextChainHolderImpl implements ContextChainHolder, MasterChecker
     @Override
     public void onDeviceDisconnected(final ConnectionContext connectionContext) {
         final DeviceInfo deviceInfo = connectionContext.getDeviceInfo();
+        if (deviceInfo != null && !contextChainMap.containsKey(deviceInfo)) {
+            // Device may be waiting for onboarding, give up its place
+            deviceOnboarding.cancel(deviceInfo, connectionContext);
+            connectingDevices.remove(deviceInfo, connectionContext);
+        }
 
         Optional.ofNullable(connectionContext.getDeviceInfo()).map(contextChainMap::get).ifPresent(contextChain -> {
             if (contextChain.auxiliaryConnectionDropped(connectionContext)) {
@@ -268,6 +278,7 @@ public class ContextChainHolderImpl implements ContextChainHolder, MasterChecker
 
     @Override
     public void close() {
+        deviceOnboarding.close();
         Map<DeviceInfo, ContextChain> copyOfChains = new HashMap<>(contextChainMap);
         copyOfChains.keySet().forEach(this::destroyContextChain);
         copyOfChains.clear();
@@ -310,6 +321,7 @@ public class ContextChainHolderImpl implements ContextChainHolder, MasterChecker
     }
 
     private void destroyContextChain(final DeviceInfo deviceInfo) {
+        deviceOnboarding.cancel(deviceInfo, null);
         ownershipChangeListener.becomeSlaveOrDisconnect(deviceInfo);
         Optional.ofNullable(contextChainMap.get(deviceInfo)).ifPresent(contextChain -> {
             deviceManager.sendNodeRemovedNotification(deviceInfo.getNodeInstanceIdentifier());
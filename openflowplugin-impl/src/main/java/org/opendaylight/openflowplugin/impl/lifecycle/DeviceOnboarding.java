@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.lifecycle;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+import org.opendaylight.openflowplugin.api.openflow.lifecycle.ContextChainMastershipState;
+import org.opendaylight.openflowplugin.impl.statistics.ofpspecific.OnboardingStatistics;
+import org.opendaylight.openflowplugin.impl.statistics.ofpspecific.OnboardingStatistics.Phase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks devices from connecting until they are mastered or become slave. At most a budget of devices onboard at
+ * once, the others wait in order of connecting until a device finishes onboarding. The budget bounds the load of
+ * initial multiparts, datastore writes and statistics gathering caused by many devices connecting at once, without
+ * refusing connections. Latencies of onboarding phases are recorded in {@link OnboardingStatistics}.
+ */
+final class DeviceOnboarding {
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceOnboarding.class);
+
+    private static final class Onboarding {
+        final ConnectionContext connectionContext;
+        final Consumer<ConnectionContext> start;
+        final long connected = System.nanoTime();
+        final Set<ContextChainMastershipState> reported = EnumSet.noneOf(ContextChainMastershipState.class);
+        volatile long started;
+        @GuardedBy("DeviceOnboarding.this")
+        boolean holdsToken;
+
+        Onboarding(final ConnectionContext connectionContext, final Consumer<ConnectionContext> start) {
+            this.connectionContext = connectionContext;
+            this.start = start;
+        }
+    }
+
+    private final Map<DeviceInfo, Onboarding> onboarding = new ConcurrentHashMap<>();
+    @GuardedBy("this")
+    private final Queue<Onboarding> waiting = new ArrayDeque<>();
+    private final int budget;
+    @GuardedBy("this")
+    private int tokens;
+    @GuardedBy("this")
+    private boolean closed;
+
+    /**
+     * Creates device onboarding.
+     *
+     * @param budget maximum number of devices onboarding at once, 0 for no limit
+     */
+    DeviceOnboarding(final int budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Starts onboarding of a device, as soon as the budget allows.
+     *
+     * @param connectionContext primary connection of the device
+     * @param start task creating the contexts of the device, invoked with the connection
+     */
+    void submit(final ConnectionContext connectionContext, final Consumer<ConnectionContext> start) {
+        final Onboarding device = new Onboarding(connectionContext, start);
+        onboarding.put(connectionContext.getDeviceInfo(), device);
+
+        synchronized (this) {
+            if (budget != 0 && tokens >= budget) {
+                LOG.info("Device {} waits for onboarding, {} devices are onboarding",
+                        connectionContext.getDeviceInfo(), tokens);
+                waiting.add(device);
+                return;
+            }
+            tokens++;
+            device.holdsToken = true;
+        }
+
+        start(device);
+    }
+
+    /**
+     * Records a mastership state reached by a device.
+     *
+     * @param deviceInfo device
+     * @param mastershipState reached state
+     */
+    void onMastershipState(final DeviceInfo deviceInfo, final ContextChainMastershipState mastershipState) {
+        final Onboarding device = onboarding.get(deviceInfo);
+        if (device == null || device.started == 0) {
+            return;
+        }
+
+        final Phase phase;
+        try {
+            phase = Phase.valueOf(mastershipState.name());
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+
+        synchronized (device.reported) {
+            if (!device.reported.add(mastershipState)) {
+                return;
+            }
+        }
+        OnboardingStatistics.recordPhase(phase, System.nanoTime() - device.started);
+    }
+
+    /**
+     * Finishes onboarding of a device which was mastered or became slave. Frees the budget taken by the device and
+     * starts onboarding of the next waiting device.
+     *
+     * @param deviceInfo device
+     */
+    void onboarded(final DeviceInfo deviceInfo) {
+        final Onboarding device = onboarding.remove(deviceInfo);
+        if (device != null) {
+            release(deviceInfo, device, true);
+        }
+    }
+
+    /**
+     * Cancels onboarding of a device, which disconnected or failed, whether it waits for onboarding or not.
+     *
+     * @param deviceInfo device
+     * @param connectionContext connection of the device, or null for any connection
+     */
+    void cancel(final DeviceInfo deviceInfo, final ConnectionContext connectionContext) {
+        final Onboarding device = onboarding.get(deviceInfo);
+        if (device != null && (connectionContext == null || device.connectionContext == connectionContext)
+                && onboarding.remove(deviceInfo, device)) {
+            release(deviceInfo, device, false);
+        }
+    }
+
+    /**
+     * Stops onboarding of waiting devices.
+     */
+    synchronized void close() {
+        closed = true;
+        waiting.clear();
+    }
+
+    @VisibleForTesting
+    synchronized int getOnboardingCount() {
+        return tokens;
+    }
+
+    private void release(final DeviceInfo deviceInfo, final Onboarding device, final boolean onboarded) {
+        final Onboarding next;
+        synchronized (this) {
+            if (!device.holdsToken) {
+                waiting.remove(device);
+                LOG.debug("Device {} disconnected while waiting for onboarding", deviceInfo);
+                return;
+            }
+
+            device.holdsToken = false;
+            next = closed ? null : waiting.poll();
+            if (next != null) {
+                next.holdsToken = true;
+            } else {
+                tokens--;
+            }
+        }
+
+        if (onboarded) {
+            final long now = System.nanoTime();
+            OnboardingStatistics.recordPhase(Phase.TOTAL, now - device.connected);
+            LOG.info("Device {} onboarded in {} ms, {} ms of it waiting for onboarding", deviceInfo,
+                    TimeUnit.NANOSECONDS.toMillis(now - device.connected),
+                    TimeUnit.NANOSECONDS.toMillis(device.started - device.connected));
+        }
+        if (next != null) {
+            start(next);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void start(final Onboarding device) {
+        final DeviceInfo deviceInfo = device.connectionContext.getDeviceInfo();
+        final long started = System.nanoTime();
+        device.started = started;
+        OnboardingStatistics.recordPhase(Phase.WAITING, started - device.connected);
+
+        try {
+            device.start.accept(device.connectionContext);
+        } catch (RuntimeException e) {
+            LOG.warn("Onboarding of device {} failed", deviceInfo, e);
+            cancel(deviceInfo, device.connectionContext);
+            device.connectionContext.closeConnection(true);
+            return;
+        }
+        OnboardingStatistics.recordPhase(Phase.CONTEXTS, System.nanoTime() - started);
+    }
+}
@@ -76,12 +76,7 @@ public class MatchSerializer implements OFSerializer<Match>, HeaderSerializer<Ma
             return;
         }
 
-        // Serialize match entries
-        entryRegistry.forEach((key, value) -> {
-            if (value.matchTypeCheck(match)) {
-                value.serialize(match, outBuffer);
-            }
-        });
+        serializeEntries(match, outBuffer);
 
         // Serialize match extensions
         ExtensionResolvers
@@ -91,6 +86,22 @@ public class MatchSerializer implements OFSerializer<Match>, HeaderSerializer<Ma
                 .ifPresent(extensionList -> serializeExtensionList(extensionList, outBuffer));
     }
 
+    /**
+     * Serialize match entries in the order of registration of their serializers. Unlike
+     * {@link #serializeHeader(Match, ByteBuf)}, match extensions are not serialized, so the serializer registry does
+     * not have to be injected.
+     *
+     * @param match match
+     * @param outBuffer output buffer
+     */
+    public void serializeEntries(final Match match, final ByteBuf outBuffer) {
+        entryRegistry.forEach((key, value) -> {
+            if (value.matchTypeCheck(match)) {
+                value.serialize(match, outBuffer);
+            }
+        });
+    }
+
     private void serializeExtensionList(final List<ExtensionList> extensionList, final ByteBuf outBuffer) {
         // TODO: Remove also extension converters
         extensionList.forEach(extension -> {
@@ -10,6 +10,8 @@ package org.opendaylight.openflowplugin.impl.protocol.serialization.messages;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.netty.buffer.ByteBuf;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -17,6 +19,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
@@ -61,6 +64,11 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026
 /**
  * Translates FlowMod messages.
  * OF protocol versions: 1.3
+ *
+ * <p>
+ * Encoded match and instructions are cached by identity of the binding objects, so flows pushed repeatedly or
+ * in bulk sharing the same immutable match or instructions copy them instead of serializing them again.
+ * An object is cached once it is seen the second time, so unique flows do not pay for copying.
  */
 public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage> implements
         SerializerRegistryInjector {
@@ -76,6 +84,7 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
     private static final byte PADDING_IN_FLOW_MOD_MESSAGE = 2;
     private static final FlowModFlags DEFAULT_FLAGS = new FlowModFlags(false, false, false, false, false);
     private static final Integer PUSH_VLAN = 0x8100;
+    private static final int ENCODED_CACHE_SIZE = 4096;
 
     private static final VlanMatch VLAN_MATCH_FALSE = new VlanMatchBuilder()
             .setVlanId(new VlanIdBuilder()
@@ -91,6 +100,11 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
                     .build())
             .build();
 
+    // Keys are weak, so they are compared by identity
+    private final Cache<Object, Encoded> encodedCache = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(ENCODED_CACHE_SIZE)
+            .build();
     private SerializerRegistry registry;
 
     @Override
@@ -98,7 +112,7 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
         if (!isVlanMatchPresent(message) && isSetVlanIdActionCasePresent(message)) {
             writeVlanFlow(message, outBuffer);
         } else {
-            writeFlow(message, outBuffer);
+            writeFlow(message, outBuffer, true);
         }
     }
 
@@ -108,8 +122,9 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
      *
      * @param message   flow message
      * @param outBuffer output buffer
+     * @param cacheable whether match and instructions are shared by other flows and can be cached
      */
-    private void writeFlow(final FlowMessage message, final ByteBuf outBuffer) {
+    private void writeFlow(final FlowMessage message, final ByteBuf outBuffer, final boolean cacheable) {
         final int index = outBuffer.writerIndex();
         super.serialize(message, outBuffer);
         outBuffer.writeLong(MoreObjects.firstNonNull(message.getCookie(), DEFAULT_COOKIE).getValue().longValue());
@@ -125,8 +140,15 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
         outBuffer.writeInt(MoreObjects.firstNonNull(message.getOutGroup(), DEFAULT_OUT_GROUP).intValue());
         outBuffer.writeShort(createFlowModFlagsBitmask(MoreObjects.firstNonNull(message.getFlags(), DEFAULT_FLAGS)));
         outBuffer.writeZero(PADDING_IN_FLOW_MOD_MESSAGE);
-        writeMatch(message, outBuffer);
-        writeInstructions(message, outBuffer);
+        if (cacheable) {
+            final Short protocol = getIpProtocol(message);
+            writeCached(message.getMatch(), null, outBuffer, buffer -> writeMatch(message, buffer));
+            // Encoded instructions depend on IP protocol matched by the flow
+            writeCached(message.getInstructions(), protocol, outBuffer, buffer -> writeInstructions(message, buffer));
+        } else {
+            writeMatch(message, outBuffer);
+            writeInstructions(message, outBuffer);
+        }
         outBuffer.setShort(index + 2, outBuffer.writerIndex() - index);
     }
 
@@ -147,7 +169,7 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
                                 .setInstruction(updateSetVlanIdAction(message))
                                 .build())
                         .build(),
-                outBuffer);
+                outBuffer, false);
 
         writeFlow(
                 new FlowMessageBuilder(message)
@@ -155,7 +177,40 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
                                 .setVlanMatch(VLAN_MATCH_TRUE)
                                 .build())
                         .build(),
-                outBuffer);
+                outBuffer, false);
+    }
+
+    /**
+     * Copy cached encoding of an object, or serialize it and cache its encoding if it was seen before.
+     *
+     * @param key       match or instructions, or null
+     * @param variant   other data the encoding depends on, or null
+     * @param outBuffer output buffer
+     * @param writer    serializes the object
+     */
+    private void writeCached(final Object key, final Object variant, final ByteBuf outBuffer,
+                             final Consumer<ByteBuf> writer) {
+        if (key == null) {
+            writer.accept(outBuffer);
+            return;
+        }
+
+        final Encoded encoded = encodedCache.getIfPresent(key);
+        if (encoded != null && encoded.bytes != null && Objects.equals(encoded.variant, variant)) {
+            outBuffer.writeBytes(encoded.bytes);
+            return;
+        }
+
+        final int index = outBuffer.writerIndex();
+        writer.accept(outBuffer);
+
+        if (encoded == null) {
+            encodedCache.put(key, new Encoded(variant, null));
+        } else {
+            final byte[] bytes = new byte[outBuffer.writerIndex() - index];
+            outBuffer.getBytes(index, bytes);
+            encodedCache.put(key, new Encoded(variant, bytes));
+        }
     }
 
     /**
@@ -179,10 +234,7 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
     @SuppressWarnings("unchecked")
     private void writeInstructions(final FlowMessage message, final ByteBuf outBuffer) {
         // Try to get IP protocol from IP match
-        final Optional<Short> protocol = Optional
-                .ofNullable(message.getMatch())
-                .flatMap(m -> Optional.ofNullable(m.getIpMatch()))
-                .flatMap(ipm -> Optional.ofNullable(ipm.getIpProtocol()));
+        final Optional<Short> protocol = Optional.ofNullable(getIpProtocol(message));
 
         // Update instructions if needed and then serialize all instructions
         Optional.ofNullable(message.getInstructions())
@@ -199,6 +251,11 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
                                 outBuffer)));
     }
 
+    private static Short getIpProtocol(final FlowMessage message) {
+        return message.getMatch() != null && message.getMatch().getIpMatch() != null
+                ? message.getMatch().getIpMatch().getIpProtocol() : null;
+    }
+
     /**
      * Determine type of instruction and update it's actions if it is apply-actions instruction.
      *
@@ -395,5 +452,16 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
     @Override
     public void injectSerializerRegistry(SerializerRegistry serializerRegistry) {
         registry = serializerRegistry;
+        encodedCache.invalidateAll();
+    }
+
+    private static final class Encoded {
+        private final Object variant;
+        private final byte[] bytes;
+
+        Encoded(final Object variant, final byte[] bytes) {
+            this.variant = variant;
+            this.bytes = bytes;
+        }
     }
 }
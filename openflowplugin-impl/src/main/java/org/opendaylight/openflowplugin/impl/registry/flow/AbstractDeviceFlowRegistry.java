@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.ReadTransaction;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.ReadFailedException;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.DeviceFlowRegistry;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base of device flow registries, which fills the registry with flows from the datastore and generates alien flow
+ * IDs. Subclasses provide the storage of flow descriptors.
+ */
+public abstract class AbstractDeviceFlowRegistry implements DeviceFlowRegistry {
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractDeviceFlowRegistry.class);
+    private static final String ALIEN_SYSTEM_FLOW_ID = "#UF$TABLE*";
+    private static final AtomicInteger UNACCOUNTED_FLOWS_COUNTER = new AtomicInteger(0);
+
+    private final DataBroker dataBroker;
+    private final KeyedInstanceIdentifier<Node, NodeKey> instanceIdentifier;
+    private final List<ListenableFuture<List<Optional<FlowCapableNode>>>> lastFillFutures = new ArrayList<>();
+    private final Consumer<Flow> flowConsumer;
+
+    protected AbstractDeviceFlowRegistry(final short version,
+                                         final DataBroker dataBroker,
+                                         final KeyedInstanceIdentifier<Node, NodeKey> instanceIdentifier) {
+        this.dataBroker = dataBroker;
+        this.instanceIdentifier = instanceIdentifier;
+
+        // Specifies what to do with flow read from data store
+        flowConsumer = flow -> {
+            final FlowRegistryKey flowRegistryKey = FlowRegistryKeyFactory.create(version, flow);
+
+            if (!containsKey(flowRegistryKey)) {
+                // Now, we will update the registry
+                storeDescriptor(flowRegistryKey, FlowDescriptorFactory.create(flow.getTableId(), flow.getId()));
+            }
+        };
+    }
+
+    @Override
+    public ListenableFuture<List<Optional<FlowCapableNode>>> fill() {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Filling flow registry with flows for node: {}", instanceIdentifier.getKey().getId().getValue());
+        }
+
+        // Prepare path for read transaction
+        // TODO: Read only Tables, and not entire FlowCapableNode (fix Yang model)
+        final InstanceIdentifier<FlowCapableNode> path = instanceIdentifier.augmentation(FlowCapableNode.class);
+
+        // First, try to fill registry with flows from DS/Configuration
+        final FluentFuture<Optional<FlowCapableNode>> configFuture =
+                fillFromDatastore(LogicalDatastoreType.CONFIGURATION, path);
+
+        // Now, try to fill registry with flows from DS/Operational
+        // in case of cluster fail over, when clients are not using DS/Configuration
+        // for adding flows, but only RPCs
+        final FluentFuture<Optional<FlowCapableNode>> operationalFuture =
+                fillFromDatastore(LogicalDatastoreType.OPERATIONAL, path);
+
+        // And at last, chain and return futures created above.
+        // Also, cache this future, so call to DeviceFlowRegistry.close() will be able
+        // to cancel this future immediately if it will be still in progress
+        final ListenableFuture<List<Optional<FlowCapableNode>>> lastFillFuture =
+                Futures.allAsList(Arrays.asList(configFuture, operationalFuture));
+        lastFillFutures.add(lastFillFuture);
+        return lastFillFuture;
+    }
+
+    private FluentFuture<Optional<FlowCapableNode>> fillFromDatastore(final LogicalDatastoreType logicalDatastoreType,
+                              final InstanceIdentifier<FlowCapableNode> path) {
+        // Create new read-only transaction
+        final ReadTransaction transaction = dataBroker.newReadOnlyTransaction();
+
+        // Bail out early if transaction is null
+        if (transaction == null) {
+            return FluentFutures.immediateFailedFluentFuture(
+                    new ReadFailedException("Read transaction is null"));
+        }
+
+        // Prepare read operation from datastore for path
+        final FluentFuture<Optional<FlowCapableNode>> future = transaction.read(logicalDatastoreType, path);
+
+        // Bail out early if future is null
+        if (future == null) {
+            return FluentFutures.immediateFailedFluentFuture(
+                    new ReadFailedException("Future from read transaction is null"));
+        }
+
+        future.addCallback(new FutureCallback<Optional<FlowCapableNode>>() {
+            @Override
+            public void onSuccess(Optional<FlowCapableNode> result) {
+                result.map(Collections::singleton).orElse(Collections.emptySet()).stream()
+                        .filter(Objects::nonNull)
+                        .filter(flowCapableNode -> Objects.nonNull(flowCapableNode.getTable()))
+                        .flatMap(flowCapableNode -> flowCapableNode.getTable().stream())
+                        .filter(Objects::nonNull)
+                        .filter(table -> Objects.nonNull(table.getFlow()))
+                        .flatMap(table -> table.getFlow().stream())
+                        .filter(Objects::nonNull)
+                        .filter(flow -> Objects.nonNull(flow.getId()))
+                        .forEach(flowConsumer);
+
+                // After we are done with reading from datastore, close the transaction
+                transaction.close();
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                // Even when read operation failed, close the transaction
+                transaction.close();
+            }
+        }, MoreExecutors.directExecutor());
+
+        return future;
+    }
+
+    @Override
+    public void store(final FlowRegistryKey flowRegistryKey) {
+        if (retrieveDescriptor(flowRegistryKey) == null) {
+            LOG.debug("Flow descriptor for flow hash : {} not found, generating alien flow ID", flowRegistryKey);
+
+            // We do not found flow in flow registry, that means it do not have any ID already assigned, so we need
+            // to generate new alien flow ID here.
+            storeDescriptor(
+                    flowRegistryKey,
+                    FlowDescriptorFactory.create(
+                            flowRegistryKey.getTableId(),
+                            createAlienFlowId(flowRegistryKey.getTableId())));
+        }
+    }
+
+    @Override
+    public void processMarks() {
+        // Do nothing
+    }
+
+    @Override
+    public void close() {
+        final Iterator<ListenableFuture<List<Optional<FlowCapableNode>>>> iterator = lastFillFutures.iterator();
+
+        // We need to force interrupt and clear all running futures that are trying to read flow IDs from data store
+        while (iterator.hasNext()) {
+            final ListenableFuture<List<Optional<FlowCapableNode>>> next = iterator.next();
+            boolean success = next.cancel(true);
+            LOG.trace("Cancelling filling flow registry with flows job {} with result: {}", next, success);
+            iterator.remove();
+        }
+
+        clear();
+    }
+
+    protected KeyedInstanceIdentifier<Node, NodeKey> getInstanceIdentifier() {
+        return instanceIdentifier;
+    }
+
+    /**
+     * Checks whether a flow descriptor is stored for the key.
+     *
+     * @param flowRegistryKey flow registry key
+     * @return true if the registry contains the key
+     */
+    protected abstract boolean containsKey(FlowRegistryKey flowRegistryKey);
+
+    /**
+     * Removes all flow descriptors from the registry.
+     */
+    protected abstract void clear();
+
+    @VisibleForTesting
+    static FlowId createAlienFlowId(final short tableId) {
+        final String alienId = ALIEN_SYSTEM_FLOW_ID + tableId + '-' + UNACCOUNTED_FLOWS_COUNTER.incrementAndGet();
+        LOG.debug("Created alien flow id {} for table id {}", alienId, tableId);
+        return new FlowId(alienId);
+    }
+}
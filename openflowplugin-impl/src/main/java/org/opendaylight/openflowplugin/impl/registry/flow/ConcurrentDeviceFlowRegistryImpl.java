@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.Striped;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Device flow registry backed by concurrent maps. Lookups do not lock, updates lock only the stripe of the updated
+ * key, so statistics writers, RPCs and flow-removed handling of a device do not contend on a single monitor.
+ *
+ * <p>
+ * The registry stores compact keys, which identify the match by its fingerprint and do not retain the binding match.
+ * Keys passed to {@link #forEach(Consumer)} therefore return null from {@link FlowRegistryKey#getMatch()}, unless
+ * their match could not be fingerprinted. The estimated heap size of the registry is available through
+ * {@link #getMemoryFootprint()}.
+ */
+@ThreadSafe
+public class ConcurrentDeviceFlowRegistryImpl extends AbstractDeviceFlowRegistry {
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentDeviceFlowRegistryImpl.class);
+    private static final int LOCK_STRIPES = 64;
+    // Nodes of both maps and the descriptor with its table key, flow ID and the flow ID string
+    private static final long ENTRY_SIZE = 2 * 32 + 24 + 16 + 16 + 40;
+
+    private final ConcurrentMap<FlowRegistryKey, FlowDescriptor> flowRegistry = new ConcurrentHashMap<>();
+    // Inverse of flowRegistry, makes sure a flow ID is not used by two flows
+    private final ConcurrentMap<FlowDescriptor, FlowRegistryKey> flowDescriptors = new ConcurrentHashMap<>();
+    private final Striped<Lock> locks = Striped.lock(LOCK_STRIPES);
+    private final AtomicLong memoryFootprint = new AtomicLong();
+
+    public ConcurrentDeviceFlowRegistryImpl(final short version,
+                                            final DataBroker dataBroker,
+                                            final KeyedInstanceIdentifier<Node, NodeKey> instanceIdentifier) {
+        super(version, dataBroker, instanceIdentifier);
+    }
+
+    @Override
+    public ListenableFuture<List<Optional<FlowCapableNode>>> fill() {
+        final ListenableFuture<List<Optional<FlowCapableNode>>> future = super.fill();
+        future.addListener(() -> LOG.debug("Flow registry of node {} holds {} flows in approximately {} bytes",
+                getInstanceIdentifier().getKey().getId().getValue(), size(), getMemoryFootprint()),
+                MoreExecutors.directExecutor());
+        return future;
+    }
+
+    @Override
+    public FlowDescriptor retrieveDescriptor(@Nonnull final FlowRegistryKey flowRegistryKey) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Retrieving flow descriptor for flow registry : {}", flowRegistryKey.toString());
+        }
+
+        return flowRegistry.get(flowRegistryKey);
+    }
+
+    @Override
+    public void storeDescriptor(@Nonnull final FlowRegistryKey flowRegistryKey,
+                                @Nonnull final FlowDescriptor flowDescriptor) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Storing flowDescriptor with table ID : {} and flow ID : {} for flow hash : {}",
+                    flowDescriptor.getTableKey().getId(),
+                    flowDescriptor.getFlowId().getValue(),
+                    flowRegistryKey.toString());
+        }
+
+        final Lock lock = locks.get(flowRegistryKey);
+        lock.lock();
+        try {
+            addToFlowRegistry(FlowRegistryKeyFactory.compact(flowRegistryKey), flowDescriptor);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void store(final FlowRegistryKey flowRegistryKey) {
+        if (flowRegistry.containsKey(flowRegistryKey)) {
+            return;
+        }
+
+        // Makes sure concurrent statistics of the same unknown flow do not generate two alien flow IDs
+        final Lock lock = locks.get(flowRegistryKey);
+        lock.lock();
+        try {
+            if (!flowRegistry.containsKey(flowRegistryKey)) {
+                LOG.debug("Flow descriptor for flow hash : {} not found, generating alien flow ID", flowRegistryKey);
+                addToFlowRegistry(FlowRegistryKeyFactory.compact(flowRegistryKey), FlowDescriptorFactory.create(
+                        flowRegistryKey.getTableId(), createAlienFlowId(flowRegistryKey.getTableId())));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void addMark(final FlowRegistryKey flowRegistryKey) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Removing flow descriptor for flow hash : {}", flowRegistryKey.toString());
+        }
+
+        final Lock lock = locks.get(flowRegistryKey);
+        lock.lock();
+        try {
+            final FlowDescriptor flowDescriptor = flowRegistry.remove(flowRegistryKey);
+            if (flowDescriptor != null) {
+                flowDescriptors.remove(flowDescriptor);
+                memoryFootprint.addAndGet(-estimateSize(flowRegistryKey));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void forEach(final Consumer<FlowRegistryKey> consumer) {
+        flowRegistry.keySet().forEach(consumer);
+    }
+
+    @Override
+    public int size() {
+        return flowRegistry.size();
+    }
+
+    /**
+     * Returns estimated heap size of the registry. Binding objects shared with the rest of the system, such as match
+     * extensions, are not counted.
+     *
+     * @return estimated size in bytes
+     */
+    public long getMemoryFootprint() {
+        return memoryFootprint.get();
+    }
+
+    @Override
+    protected boolean containsKey(final FlowRegistryKey flowRegistryKey) {
+        return flowRegistry.containsKey(flowRegistryKey);
+    }
+
+    @Override
+    protected void clear() {
+        // Mirrors synchronizedBiMap.clear(), updates racing with close may survive
+        flowRegistry.clear();
+        flowDescriptors.clear();
+        memoryFootprint.set(0);
+    }
+
+    // Called with the lock of the key stripe held
+    private void addToFlowRegistry(final FlowRegistryKey flowRegistryKey, final FlowDescriptor flowDescriptor) {
+        final FlowRegistryKey existingKey = flowDescriptors.putIfAbsent(flowDescriptor, flowRegistryKey);
+        if (existingKey != null && !existingKey.equals(flowRegistryKey)) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Flow with flow ID {} already exists in table {}, generating alien flow ID",
+                        flowDescriptor.getFlowId().getValue(),
+                        flowDescriptor.getTableKey().getId());
+            }
+
+            // We are trying to store new flow to flow registry, but we already have different flow with same flow ID
+            // stored in registry, so we need to create alien ID for this new flow here.
+            addToFlowRegistry(flowRegistryKey, FlowDescriptorFactory.create(flowDescriptor.getTableKey().getId(),
+                    createAlienFlowId(flowDescriptor.getTableKey().getId())));
+            return;
+        }
+
+        final FlowDescriptor previous = flowRegistry.put(flowRegistryKey, flowDescriptor);
+        if (previous == null) {
+            memoryFootprint.addAndGet(estimateSize(flowRegistryKey));
+        } else if (!previous.equals(flowDescriptor)) {
+            flowDescriptors.remove(previous, flowRegistryKey);
+        }
+    }
+
+    private static long estimateSize(final FlowRegistryKey flowRegistryKey) {
+        return ENTRY_SIZE + FlowRegistryKeyFactory.estimateSize(flowRegistryKey);
+    }
+
+    @VisibleForTesting
+    Map<FlowRegistryKey, FlowDescriptor> getAllFlowDescriptors() {
+        return flowRegistry;
+    }
+}
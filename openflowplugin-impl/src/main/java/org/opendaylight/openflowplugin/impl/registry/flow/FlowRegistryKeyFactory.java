@@ -11,18 +11,20 @@ package org.opendaylight.openflowplugin.impl.registry.flow;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
 import java.math.BigInteger;
-import java.util.Objects;
 import javax.annotation.Nonnull;
 import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
 import org.opendaylight.openflowplugin.impl.util.MatchNormalizationUtil;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.Flow;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlow;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.general.extension.list.grouping.ExtensionList;
 
 public final class FlowRegistryKeyFactory {
 
+    // Object header, 2 primitive and 3 reference fields
+    private static final long KEY_SIZE = 40;
+    // BigInteger with its magnitude array
+    private static final long COOKIE_SIZE = 56;
+
     private FlowRegistryKeyFactory() {
         // Hide implicit constructor
     }
@@ -39,11 +41,47 @@ public final class FlowRegistryKeyFactory {
         return new FlowRegistryKeyDto(tableId, priority, cookie, match);
     }
 
+    /**
+     * Creates key equal to the given one, which does not retain the binding match of the flow. Keys whose match
+     * cannot be fingerprinted are returned as they are.
+     *
+     * @param flowRegistryKey flow registry key created by this factory
+     * @return compact flow registry key, its {@link FlowRegistryKey#getMatch()} returns null
+     */
+    @Nonnull
+    static FlowRegistryKey compact(@Nonnull final FlowRegistryKey flowRegistryKey) {
+        if (!(flowRegistryKey instanceof FlowRegistryKeyDto)) {
+            return flowRegistryKey;
+        }
+
+        final FlowRegistryKeyDto key = (FlowRegistryKeyDto) flowRegistryKey;
+        return key.match == null || key.fingerprint == null ? key : new FlowRegistryKeyDto(key, null);
+    }
+
+    /**
+     * Estimates heap size of a key, not counting the binding match and objects shared with other keys.
+     *
+     * @param flowRegistryKey flow registry key
+     * @return estimated size in bytes
+     */
+    static long estimateSize(@Nonnull final FlowRegistryKey flowRegistryKey) {
+        if (!(flowRegistryKey instanceof FlowRegistryKeyDto)) {
+            return KEY_SIZE + COOKIE_SIZE;
+        }
+
+        final MatchFingerprint fingerprint = ((FlowRegistryKeyDto) flowRegistryKey).fingerprint;
+        return KEY_SIZE + COOKIE_SIZE + (fingerprint != null ? fingerprint.estimateSize() : 0);
+    }
+
     private static final class FlowRegistryKeyDto implements FlowRegistryKey {
         private final short tableId;
         private final int priority;
         private final BigInteger cookie;
+        // Null in compact keys
         private final Match match;
+        // Null if the match cannot be serialized, the binding match is compared instead
+        private final MatchFingerprint fingerprint;
+        private final int hash;
 
         private FlowRegistryKeyDto(final short tableId,
                                    final int priority,
@@ -53,6 +91,22 @@ public final class FlowRegistryKeyFactory {
             this.priority = priority;
             this.cookie = cookie;
             this.match = match;
+            this.fingerprint = MatchFingerprint.of(match);
+
+            int result = tableId;
+            result = 31 * result + priority;
+            result = 31 * result + cookie.hashCode();
+            result = 31 * result + (fingerprint != null ? fingerprint.hashCode() : match.hashCode());
+            this.hash = result;
+        }
+
+        private FlowRegistryKeyDto(final FlowRegistryKeyDto key, final Match match) {
+            this.tableId = key.tableId;
+            this.priority = key.priority;
+            this.cookie = key.cookie;
+            this.match = match;
+            this.fingerprint = key.fingerprint;
+            this.hash = key.hash;
         }
 
         @Override
@@ -61,84 +115,23 @@ public final class FlowRegistryKeyFactory {
                 return true;
             }
 
-            if (object == null || !(object instanceof FlowRegistryKey)) {
+            if (!(object instanceof FlowRegistryKeyDto)) {
                 return false;
             }
 
-            final FlowRegistryKey that = (FlowRegistryKey) object;
+            final FlowRegistryKeyDto that = (FlowRegistryKeyDto) object;
 
-            return getPriority() == that.getPriority()
-                    && getTableId() == that.getTableId()
-                    && getCookie().equals(that.getCookie())
-                    && equalMatch(that.getMatch());
-        }
-
-        private boolean equalMatch(final Match input) {
-            GeneralAugMatchNodesNodeTableFlow thisAug = match.augmentation(GeneralAugMatchNodesNodeTableFlow.class);
-            GeneralAugMatchNodesNodeTableFlow inputAug = input.augmentation(GeneralAugMatchNodesNodeTableFlow.class);
-            if (thisAug != inputAug) {
-                if (thisAug != null) {
-                    if (inputAug == null) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getEthernetMatch(), input.getEthernetMatch())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getIcmpv4Match(), input.getIcmpv4Match())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getIcmpv6Match(), input.getIcmpv6Match())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getInPhyPort(), input.getInPhyPort())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getInPort(), input.getInPort())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getIpMatch(), input.getIpMatch())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getLayer3Match(), input.getLayer3Match())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getLayer4Match(), input.getLayer4Match())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getMetadata(), input.getMetadata())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getProtocolMatchFields(), input.getProtocolMatchFields())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getTcpFlagsMatch(), input.getTcpFlagsMatch())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getTunnel(), input.getTunnel())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getVlanMatch(), input.getVlanMatch())) {
-                        return false;
-                    }
-                    for (ExtensionList inputExtensionList : inputAug.getExtensionList()) {
-                        if (!thisAug.getExtensionList().contains(inputExtensionList)) {
-                            return false;
-                        }
-                    }
-                }
-            } else {
-                return getMatch().equals(input);
-            }
-            return true;
+            return hash == that.hash
+                    && priority == that.priority
+                    && tableId == that.tableId
+                    && cookie.equals(that.cookie)
+                    && (fingerprint != null ? fingerprint.equals(that.fingerprint)
+                            : that.fingerprint == null && match.equals(that.match));
         }
 
         @Override
         public int hashCode() {
-            int result = tableId;
-            result = 31 * result + priority;
-            result = 31 * result + cookie.hashCode();
-            result = 31 * result + match.hashCode();
-            return result;
+            return hash;
         }
 
         @Override
@@ -147,7 +140,7 @@ public final class FlowRegistryKeyFactory {
                     + "tableId=" + tableId
                     + ", priority=" + priority
                     + ", cookie=" + cookie
-                    + ", match=" + match
+                    + ", match=" + (match != null ? match : fingerprint)
                     + '}';
         }
 
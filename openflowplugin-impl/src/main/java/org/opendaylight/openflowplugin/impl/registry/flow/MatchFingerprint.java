@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import com.google.common.collect.ImmutableSet;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.opendaylight.openflowplugin.impl.protocol.serialization.MatchSerializerInjector;
+import org.opendaylight.openflowplugin.impl.protocol.serialization.match.MatchSerializer;
+import org.opendaylight.openflowplugin.openflow.md.core.extension.ExtensionResolvers;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.general.extension.list.grouping.ExtensionList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Canonical form of a flow match identifying flows in the flow registry. Match entries are serialized to OXM in
+ * a fixed order, while match extensions, which may be reported by the switch in any order, are kept as a set.
+ * A 64-bit hash of both is computed once, so fingerprints of different matches are rarely compared any further.
+ */
+final class MatchFingerprint {
+    private static final Logger LOG = LoggerFactory.getLogger(MatchFingerprint.class);
+    private static final MatchSerializer SERIALIZER = MatchSerializerInjector.createMatchSerializer();
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    private static final ThreadLocal<ByteBuf> BUFFER =
+            ThreadLocal.withInitial(() -> Unpooled.buffer(INITIAL_BUFFER_SIZE));
+
+    // FNV-1a 64-bit parameters
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long GOLDEN_RATIO = 0x9e3779b97f4a7c15L;
+
+    // Object header, 2 reference and 1 long field, and header of the entries array
+    private static final long FINGERPRINT_SIZE = 32 + 16;
+    // Reference to an extension in the set, extensions themselves are shared with the binding match
+    private static final long EXTENSION_SIZE = 8;
+
+    private final byte[] entries;
+    private final Set<ExtensionList> extensions;
+    private final long hash;
+
+    private MatchFingerprint(final byte[] entries, final Set<ExtensionList> extensions) {
+        this.entries = entries;
+        this.extensions = extensions;
+
+        long result = FNV_OFFSET_BASIS;
+        for (final byte entry : entries) {
+            result = (result ^ (entry & 0xff)) * FNV_PRIME;
+        }
+
+        // Set hash code does not depend on the order of extensions
+        hash = result ^ extensions.hashCode() * GOLDEN_RATIO;
+    }
+
+    /**
+     * Creates fingerprint of a normalized match.
+     *
+     * @param match normalized match
+     * @return match fingerprint, or null if the match cannot be serialized
+     */
+    @Nullable
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    static MatchFingerprint of(final Match match) {
+        final ByteBuf buffer = BUFFER.get().clear();
+        try {
+            SERIALIZER.serializeEntries(match, buffer);
+        } catch (RuntimeException e) {
+            LOG.debug("Failed to serialize match {}, flows are identified by binding match", match, e);
+            return null;
+        }
+
+        final byte[] entries = new byte[buffer.readableBytes()];
+        buffer.readBytes(entries);
+
+        return new MatchFingerprint(entries, ExtensionResolvers.getMatchExtensionResolver().getExtension(match)
+                .flatMap(extension -> Optional.ofNullable(extension.getExtensionList()))
+                .<Set<ExtensionList>>map(ImmutableSet::copyOf)
+                .orElse(ImmutableSet.of()));
+    }
+
+    /**
+     * Estimates heap size of this fingerprint, not counting match extensions.
+     *
+     * @return estimated size in bytes
+     */
+    long estimateSize() {
+        // Arrays are aligned to 8 bytes
+        return FINGERPRINT_SIZE + (entries.length + 7 & ~7) + extensions.size() * EXTENSION_SIZE;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MatchFingerprint)) {
+            return false;
+        }
+        final MatchFingerprint other = (MatchFingerprint) obj;
+        return hash == other.hash && Arrays.equals(entries, other.entries) && extensions.equals(other.extensions);
+    }
+
+    @Override
+    public String toString() {
+        return "MatchFingerprint{hash=" + Long.toHexString(hash) + ", length=" + entries.length
+                + ", extensions=" + extensions.size() + '}';
+    }
+}
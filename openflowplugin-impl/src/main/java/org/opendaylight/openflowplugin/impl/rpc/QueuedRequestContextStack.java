@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.rpc;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import org.opendaylight.openflowplugin.api.openflow.device.RequestContext;
+import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
+
+/**
+ * Request context stack, which can hold a request refused by {@link #createRequestContext()} until its quota admits
+ * the request.
+ */
+public interface QueuedRequestContextStack extends RequestContextStack {
+    /**
+     * Method queues a request until a request context can be created for it.
+     *
+     * @param <T> Response type
+     * @return future request context, completing with null if the request was not admitted in time
+     */
+    <T> ListenableFuture<RequestContext<T>> enqueueRequestContext();
+
+    /**
+     * Returns a request context stack queueing requests of a service in the queue of its class.
+     *
+     * @param requestContextStack request context stack of the device
+     * @param requestClass class of requests of the service
+     * @return request context stack of the service, the stack itself if it does not queue requests
+     */
+    static RequestContextStack forRequestClass(final RequestContextStack requestContextStack,
+                                               final RequestClass requestClass) {
+        return requestContextStack instanceof RpcContextImpl
+                ? ((RpcContextImpl) requestContextStack).forRequestClass(requestClass) : requestContextStack;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.rpc;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Admits requests of one device up to a limit of outstanding requests. Requests over the limit wait in a queue per
+ * {@link RequestClass}, the queues are served round-robin, so one busy service cannot starve the others. A request
+ * which is not admitted within the queue timeout is refused.
+ *
+ * <p>
+ * The limit starts at the configured quota and follows the round-trip time of the device. Round-trip times are
+ * gathered in windows, and the limit is scaled by the ratio of the lowest round-trip time seen to the average one in
+ * the window, plus a square-root headroom to probe for more capacity. Each failed request, like a barrier which timed
+ * out, cuts the limit down. The limit never goes below a tenth of the quota or above the quota.
+ */
+final class RequestAdmission {
+    private final class Waiter {
+        final SettableFuture<Boolean> future = SettableFuture.create();
+        final Queue<Waiter> queue;
+        Timeout timeout;
+
+        Waiter(final Queue<Waiter> queue) {
+            this.queue = queue;
+        }
+
+        void expire() {
+            synchronized (RequestAdmission.this) {
+                if (!queue.remove(this)) {
+                    return;
+                }
+                waiting--;
+            }
+            LOG.debug("Request was not admitted within {} ms", TimeUnit.NANOSECONDS.toMillis(queueTimeoutNanos));
+            future.set(Boolean.FALSE);
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(RequestAdmission.class);
+    private static final int MIN_LIMIT_DIVISOR = 10;
+    private static final int MAX_WINDOW_SAMPLES = 256;
+    private static final int MIN_RTT_RESET_WINDOWS = 16;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double FAILURE_BACKOFF = 0.9;
+
+    private final List<Queue<Waiter>> queues = new ArrayList<>(RequestClass.values().length);
+    private final Timer timer;
+    private final long queueTimeoutNanos;
+    private final int maxLimit;
+    private final int minLimit;
+
+    @GuardedBy("this")
+    private int limit;
+    @GuardedBy("this")
+    private int inFlight;
+    @GuardedBy("this")
+    private int waiting;
+    @GuardedBy("this")
+    private int nextQueue;
+    @GuardedBy("this")
+    private boolean closed;
+    @GuardedBy("this")
+    private long minRtt = Long.MAX_VALUE;
+    @GuardedBy("this")
+    private long windowMinRtt = Long.MAX_VALUE;
+    @GuardedBy("this")
+    private long windowRttSum;
+    @GuardedBy("this")
+    private int windowSamples;
+    @GuardedBy("this")
+    private int windows;
+
+    RequestAdmission(final int maxLimit, final long queueTimeout, final TimeUnit unit, final Timer timer) {
+        this.maxLimit = maxLimit;
+        this.minLimit = Math.min(maxLimit, Math.max(1, maxLimit / MIN_LIMIT_DIVISOR));
+        this.limit = maxLimit;
+        this.queueTimeoutNanos = unit.toNanos(queueTimeout);
+        this.timer = timer;
+        for (int i = 0; i < RequestClass.values().length; ++i) {
+            queues.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Admits a request if the limit allows it and no request is waiting.
+     *
+     * @return true if the request was admitted
+     */
+    synchronized boolean tryAcquire() {
+        if (closed || waiting != 0 || inFlight >= limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Admits a request, waiting in the queue of its service if needed.
+     *
+     * @param requestClass class of the request, selecting the queue it waits in
+     * @return future completing with true once the request is admitted, or with false if the request was not
+     *         admitted within the queue timeout
+     */
+    ListenableFuture<Boolean> acquire(final RequestClass requestClass) {
+        final Waiter waiter;
+        synchronized (this) {
+            if (closed) {
+                return Futures.immediateFuture(Boolean.FALSE);
+            }
+            if (waiting == 0 && inFlight < limit) {
+                inFlight++;
+                return Futures.immediateFuture(Boolean.TRUE);
+            }
+
+            final Queue<Waiter> queue = queues.get(requestClass.ordinal());
+            waiter = new Waiter(queue);
+            queue.add(waiter);
+            waiting++;
+            waiter.timeout = timer.newTimeout(timeout -> waiter.expire(), queueTimeoutNanos, TimeUnit.NANOSECONDS);
+        }
+
+        LOG.trace("Request of class {} queued", requestClass);
+        return waiter.future;
+    }
+
+    /**
+     * Releases an admitted request and admits waiting requests the limit allows.
+     *
+     * @param rttNanos time from the request being admitted to its completion
+     * @param success false if the request failed
+     */
+    void release(final long rttNanos, final boolean success) {
+        final List<Waiter> admitted;
+        synchronized (this) {
+            inFlight--;
+            updateLimit(rttNanos, success);
+            admitted = dispatch();
+        }
+        admit(admitted);
+    }
+
+    /**
+     * Releases an admitted request which was not sent to the device.
+     */
+    void releaseUnused() {
+        final List<Waiter> admitted;
+        synchronized (this) {
+            inFlight--;
+            admitted = dispatch();
+        }
+        admit(admitted);
+    }
+
+    /**
+     * Refuses all waiting requests and any further ones.
+     */
+    void close() {
+        final List<Waiter> refused = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            for (final Queue<Waiter> queue : queues) {
+                refused.addAll(queue);
+                queue.clear();
+            }
+            waiting = 0;
+        }
+        for (final Waiter waiter : refused) {
+            waiter.timeout.cancel();
+            waiter.future.set(Boolean.FALSE);
+        }
+    }
+
+    @VisibleForTesting
+    synchronized int getLimit() {
+        return limit;
+    }
+
+    @GuardedBy("this")
+    private void updateLimit(final long rttNanos, final boolean success) {
+        if (!success) {
+            limit = Math.max(minLimit, (int) (limit * FAILURE_BACKOFF));
+            return;
+        }
+
+        windowMinRtt = Math.min(windowMinRtt, rttNanos);
+        windowRttSum += rttNanos;
+        if (++windowSamples < Math.min(limit, MAX_WINDOW_SAMPLES)) {
+            return;
+        }
+
+        if (++windows >= MIN_RTT_RESET_WINDOWS) {
+            // Forget the lowest round-trip time now and then, so the limit follows a device getting slower for good
+            minRtt = windowMinRtt;
+            windows = 0;
+        } else {
+            minRtt = Math.min(minRtt, windowMinRtt);
+        }
+
+        final double averageRtt = (double) windowRttSum / windowSamples;
+        final double gradient = averageRtt > 0 ? Math.max(MIN_GRADIENT, Math.min(1.0, minRtt / averageRtt)) : 1.0;
+        final double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, (int) Math.ceil(limit * (1 - SMOOTHING) + target * SMOOTHING)));
+
+        windowMinRtt = Long.MAX_VALUE;
+        windowRttSum = 0;
+        windowSamples = 0;
+    }
+
+    @GuardedBy("this")
+    private List<Waiter> dispatch() {
+        if (waiting == 0 || inFlight >= limit) {
+            return null;
+        }
+
+        final List<Waiter> admitted = new ArrayList<>();
+        while (waiting != 0 && inFlight < limit) {
+            Queue<Waiter> queue = queues.get(nextQueue);
+            while (queue.isEmpty()) {
+                nextQueue = (nextQueue + 1) % queues.size();
+                queue = queues.get(nextQueue);
+            }
+            nextQueue = (nextQueue + 1) % queues.size();
+
+            admitted.add(queue.remove());
+            waiting--;
+            inFlight++;
+        }
+        return admitted;
+    }
+
+    private void admit(final List<Waiter> admitted) {
+        if (admitted == null) {
+            return;
+        }
+        for (final Waiter waiter : admitted) {
+            waiter.timeout.cancel();
+            if (!waiter.future.set(Boolean.TRUE)) {
+                // Caller gave up on the request, pass the slot on
+                releaseUnused();
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.rpc;
+
+/**
+ * Class of requests of a device, each class waits for admission in its own queue. Services are assigned a class
+ * where they are registered, see {@link QueuedRequestContextStack#forRequestClass}.
+ */
+public enum RequestClass {
+    FLOW,
+    GROUP,
+    METER,
+    STATISTICS,
+    PACKET_OUT,
+    OTHER
+}
@@ -14,11 +14,15 @@ import com.google.common.collect.Iterators;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import io.netty.util.Timer;
+import java.util.EnumMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.mdsal.binding.api.RpcProviderService;
@@ -26,6 +30,7 @@ import org.opendaylight.mdsal.singleton.common.api.ServiceGroupIdentifier;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContext;
+import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
 import org.opendaylight.openflowplugin.api.openflow.lifecycle.ContextChainMastershipState;
 import org.opendaylight.openflowplugin.api.openflow.lifecycle.ContextChainMastershipWatcher;
 import org.opendaylight.openflowplugin.api.openflow.rpc.RpcContext;
@@ -38,15 +43,18 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.N
 import org.opendaylight.yangtools.concepts.ObjectRegistration;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.RpcService;
+import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-class RpcContextImpl implements RpcContext {
+class RpcContextImpl implements RpcContext, QueuedRequestContextStack {
     private static final Logger LOG = LoggerFactory.getLogger(RpcContextImpl.class);
     private final RpcProviderService rpcProviderRegistry;
     private final MessageSpy messageSpy;
     private final Semaphore tracker;
+    private final RequestAdmission admission;
     private final boolean isStatisticsRpcEnabled;
+    private final Map<RequestClass, QueuedRequestContextStack> requestClassStacks = new EnumMap<>(RequestClass.class);
 
     // TODO: add private Sal salBroker
     private final ConcurrentMap<Class<?>, ObjectRegistration<? extends RpcService>> rpcRegistrations =
@@ -66,6 +74,19 @@ class RpcContextImpl implements RpcContext {
                    @Nonnull final ConvertorExecutor convertorExecutor,
                    @Nonnull final NotificationPublishService notificationPublishService,
                    boolean statisticsRpcEnabled) {
+        this(rpcProviderRegistry, maxRequests, 0, null, deviceContext, extensionConverterProvider, convertorExecutor,
+                notificationPublishService, statisticsRpcEnabled);
+    }
+
+    RpcContextImpl(@Nonnull final RpcProviderService rpcProviderRegistry,
+                   final int maxRequests,
+                   final long queueTimeout,
+                   final Timer timer,
+                   @Nonnull final DeviceContext deviceContext,
+                   @Nonnull final ExtensionConverterProvider extensionConverterProvider,
+                   @Nonnull final ConvertorExecutor convertorExecutor,
+                   @Nonnull final NotificationPublishService notificationPublishService,
+                   boolean statisticsRpcEnabled) {
         this.deviceContext = deviceContext;
         this.deviceInfo = deviceContext.getDeviceInfo();
         this.nodeInstanceIdentifier = deviceContext.getDeviceInfo().getNodeInstanceIdentifier();
@@ -75,7 +96,16 @@ class RpcContextImpl implements RpcContext {
         this.notificationPublishService = notificationPublishService;
         this.convertorExecutor = convertorExecutor;
         this.isStatisticsRpcEnabled = statisticsRpcEnabled;
-        this.tracker = new Semaphore(maxRequests, true);
+        for (final RequestClass requestClass : RequestClass.values()) {
+            requestClassStacks.put(requestClass, new RequestClassStack(requestClass));
+        }
+        if (queueTimeout > 0) {
+            this.tracker = null;
+            this.admission = new RequestAdmission(maxRequests, queueTimeout, TimeUnit.MILLISECONDS, timer);
+        } else {
+            this.tracker = new Semaphore(maxRequests, true);
+            this.admission = null;
+        }
     }
 
     @Override
@@ -102,6 +132,9 @@ class RpcContextImpl implements RpcContext {
 
     @Override
     public void close() {
+        if (admission != null) {
+            admission.close();
+        }
         unregisterRPCs();
     }
 
@@ -121,7 +154,12 @@ class RpcContextImpl implements RpcContext {
 
     @Override
     public <T> RequestContext<T> createRequestContext() {
-        if (!tracker.tryAcquire()) {
+        if (admission != null) {
+            if (!admission.tryAcquire()) {
+                LOG.trace("Device queue {} at capacity", this);
+                return null;
+            }
+        } else if (!tracker.tryAcquire()) {
             LOG.trace("Device queue {} at capacity", this);
             return null;
         } else {
@@ -129,25 +167,89 @@ class RpcContextImpl implements RpcContext {
                     nodeInstanceIdentifier.getKey().getId().getValue(), tracker.availablePermits());
         }
 
+        return reserveRequestContext();
+    }
+
+    @Override
+    public <T> ListenableFuture<RequestContext<T>> enqueueRequestContext() {
+        return enqueueRequestContext(RequestClass.OTHER);
+    }
+
+    /**
+     * Returns a view of this stack which queues requests in the queue of a request class.
+     *
+     * @param requestClass request class
+     * @return request context stack of the request class
+     */
+    RequestContextStack forRequestClass(final RequestClass requestClass) {
+        return requestClassStacks.get(requestClass);
+    }
+
+    private <T> ListenableFuture<RequestContext<T>> enqueueRequestContext(final RequestClass requestClass) {
+        if (admission == null) {
+            return Futures.immediateFuture(null);
+        }
+
+        return Futures.transform(admission.acquire(requestClass),
+            admitted -> admitted ? reserveRequestContext() : null, MoreExecutors.directExecutor());
+    }
+
+    private <T> RequestContext<T> reserveRequestContext() {
+        final long admitted = System.nanoTime();
         final Long xid = deviceInfo.reserveXidForDeviceMessage();
         if (xid == null) {
             LOG.warn("Xid cannot be reserved for new RequestContext, node:{}",
                     nodeInstanceIdentifier.getKey().getId().getValue());
-            tracker.release();
+            if (admission != null) {
+                admission.releaseUnused();
+            } else {
+                tracker.release();
+            }
             return null;
         }
 
         return new AbstractRequestContext<T>(xid) {
             @Override
             public void close() {
-                tracker.release();
-                final long xid = getXid().getValue();
-                LOG.trace("Removed request context with xid {}", xid);
-                messageSpy.spyMessage(RpcContextImpl.class, MessageSpy.StatisticsGroup.REQUEST_STACK_FREED);
+                try {
+                    final long xid = getXid().getValue();
+                    LOG.trace("Removed request context with xid {}", xid);
+                    messageSpy.spyMessage(RpcContextImpl.class, MessageSpy.StatisticsGroup.REQUEST_STACK_FREED);
+                } finally {
+                    release(admitted, isSuccessful(getFuture()));
+                }
             }
         };
     }
 
+    private void release(final long admitted, final boolean success) {
+        if (admission != null) {
+            admission.release(System.nanoTime() - admitted, success);
+        } else {
+            tracker.release();
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static boolean isSuccessful(final ListenableFuture<? extends RpcResult<?>> future) {
+        // Requests are closed right after their result is set, a failure here is an error reply or a timeout
+        if (!future.isDone()) {
+            return true;
+        }
+        if (future.isCancelled()) {
+            return false;
+        }
+
+        final RpcResult<?> result;
+        try {
+            result = Futures.getUnchecked(future);
+        } catch (RuntimeException e) {
+            LOG.trace("Request failed", e);
+            return false;
+        }
+        return result == null || result.isSuccessful();
+    }
+
     @Override
     public <S extends RpcService> void unregisterRpcServiceImplementation(final Class<S> serviceClass) {
         LOG.trace("Try to unregister serviceClass {} for Node {}",
@@ -206,4 +308,22 @@ class RpcContextImpl implements RpcContext {
     public ServiceGroupIdentifier getIdentifier() {
         return deviceInfo.getServiceIdentifier();
     }
+
+    private final class RequestClassStack implements QueuedRequestContextStack {
+        private final RequestClass requestClass;
+
+        RequestClassStack(final RequestClass requestClass) {
+            this.requestClass = requestClass;
+        }
+
+        @Override
+        public <T> RequestContext<T> createRequestContext() {
+            return RpcContextImpl.this.createRequestContext();
+        }
+
+        @Override
+        public <T> ListenableFuture<RequestContext<T>> enqueueRequestContext() {
+            return RpcContextImpl.this.enqueueRequestContext(requestClass);
+        }
+    }
 }
@@ -9,6 +9,7 @@ package org.opendaylight.openflowplugin.impl.rpc;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Iterators;
+import io.netty.util.HashedWheelTimer;
 import java.util.Iterator;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -34,17 +35,20 @@ public class RpcManagerImpl implements RpcManager {
     private final ExtensionConverterProvider extensionConverterProvider;
     private final ConvertorExecutor convertorExecutor;
     private final NotificationPublishService notificationPublishService;
+    private final HashedWheelTimer hashedWheelTimer;
 
     public RpcManagerImpl(final OpenflowProviderConfig config,
                           final RpcProviderService rpcProviderRegistry,
                           final ExtensionConverterProvider extensionConverterProvider,
                           final ConvertorExecutor convertorExecutor,
-                          final NotificationPublishService notificationPublishService) {
+                          final NotificationPublishService notificationPublishService,
+                          final HashedWheelTimer hashedWheelTimer) {
         this.config = config;
         this.rpcProviderRegistry = rpcProviderRegistry;
         this.extensionConverterProvider = extensionConverterProvider;
         this.convertorExecutor = convertorExecutor;
         this.notificationPublishService = notificationPublishService;
+        this.hashedWheelTimer = hashedWheelTimer;
     }
 
     @Override
@@ -67,9 +71,12 @@ public class RpcManagerImpl implements RpcManager {
 
     @Override
     public RpcContext createContext(final @Nonnull DeviceContext deviceContext) {
+        final Long queueTimeout = config.getRpcRequestsQueueTimeout();
         final RpcContextImpl rpcContext = new RpcContextImpl(
                 rpcProviderRegistry,
                 config.getRpcRequestsQuota().getValue(),
+                queueTimeout != null ? queueTimeout : 0,
+                hashedWheelTimer,
                 deviceContext,
                 extensionConverterProvider,
                 convertorExecutor,
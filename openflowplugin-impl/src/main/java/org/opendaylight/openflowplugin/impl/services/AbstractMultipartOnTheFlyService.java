@@ -14,15 +14,17 @@ import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
-import org.opendaylight.openflowplugin.impl.services.multilayer.MultiLayerFlowMultipartRequestOnTheFlyCallback;
-import org.opendaylight.openflowplugin.impl.services.singlelayer.SingleLayerFlowMultipartRequestOnTheFlyCallback;
+import org.opendaylight.openflowplugin.impl.services.multilayer.MultiLayerMultipartRequestOnTheFlyCallback;
+import org.opendaylight.openflowplugin.impl.services.singlelayer.SingleLayerMultipartRequestOnTheFlyCallback;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 
 public abstract class AbstractMultipartOnTheFlyService<I, T extends OfHeader> extends AbstractMultipartService<I, T> {
 
     private final ConvertorExecutor convertorExecutor;
     private final MultipartWriterProvider statisticsWriterProvider;
+    private MultipartType multipartType = MultipartType.OFPMPFLOW;
 
     protected AbstractMultipartOnTheFlyService(final RequestContextStack requestContextStack,
                                                final DeviceContext deviceContext,
@@ -37,16 +39,27 @@ public abstract class AbstractMultipartOnTheFlyService<I, T extends OfHeader> ex
     protected final FutureCallback<OfHeader> createCallback(final RequestContext<List<T>> context,
                                                             final Class<?> requestType) {
         return canUseSingleLayerSerialization()
-            ? new SingleLayerFlowMultipartRequestOnTheFlyCallback<>(context,
-                                                                    requestType,
-                                                                    getDeviceContext(),
-                                                                    getEventIdentifier(),
-                                                                    statisticsWriterProvider)
-            : new MultiLayerFlowMultipartRequestOnTheFlyCallback<>(context,
-                                                                   requestType,
-                                                                   getDeviceContext(),
-                                                                   getEventIdentifier(),
-                                                                   statisticsWriterProvider,
-                                                                   convertorExecutor);
+            ? new SingleLayerMultipartRequestOnTheFlyCallback<>(context,
+                                                                requestType,
+                                                                getDeviceContext(),
+                                                                getEventIdentifier(),
+                                                                statisticsWriterProvider,
+                                                                multipartType)
+            : new MultiLayerMultipartRequestOnTheFlyCallback<>(context,
+                                                               requestType,
+                                                               getDeviceContext(),
+                                                               getEventIdentifier(),
+                                                               statisticsWriterProvider,
+                                                               convertorExecutor,
+                                                               multipartType);
+    }
+
+    /**
+     * Sets type of multipart replies processed by callbacks of requests sent after this call.
+     *
+     * @param multipartType multipart type
+     */
+    protected void setMultipartType(final MultipartType multipartType) {
+        this.multipartType = multipartType;
     }
 }
@@ -19,6 +19,7 @@ import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.Event
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
 import org.opendaylight.openflowplugin.impl.common.MultipartReplyTranslatorUtil;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
+import org.opendaylight.openflowplugin.impl.datastore.multipart.AbstractMultipartWriter;
 import org.opendaylight.openflowplugin.impl.statistics.StatisticsGatheringUtils;
 import org.opendaylight.openflowplugin.impl.statistics.ofpspecific.EventsTimeCounter;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
@@ -133,12 +134,19 @@ public abstract class AbstractMultipartRequestOnTheFlyCallback<T extends OfHeade
                 .getNodeInstanceIdentifier()
                 .augmentation(FlowCapableNode.class);
 
+        final boolean incremental = statisticsWriterProvider
+                .lookup(getMultipartType())
+                .map(AbstractMultipartWriter::startCollecting)
+                .orElse(false);
+
         switch (getMultipartType()) {
             case OFPMPFLOW:
-                StatisticsGatheringUtils.deleteAllKnownFlows(
-                        getTxFacade(),
-                        instanceIdentifier,
-                        deviceRegistry.getDeviceFlowRegistry());
+                if (!incremental) {
+                    StatisticsGatheringUtils.deleteAllKnownFlows(
+                            getTxFacade(),
+                            instanceIdentifier,
+                            deviceRegistry.getDeviceFlowRegistry());
+                }
                 deviceRegistry.getDeviceFlowRegistry().processMarks();
                 break;
             case OFPMPMETERCONFIG:
@@ -174,6 +182,10 @@ public abstract class AbstractMultipartRequestOnTheFlyCallback<T extends OfHeade
             setResult(RpcResultBuilder.success(Collections.<T>emptyList()).build());
         }
 
+        statisticsWriterProvider
+                .lookup(getMultipartType())
+                .ifPresent(writer -> writer.endCollecting(setResult));
+
         txFacade.submitTransaction();
 
         switch (getMultipartType()) {
@@ -12,6 +12,7 @@ import com.google.common.base.Verify;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.math.BigInteger;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
@@ -26,6 +27,7 @@ import org.opendaylight.openflowplugin.api.openflow.device.TxFacade;
 import org.opendaylight.openflowplugin.api.openflow.device.Xid;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.EventIdentifier;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
+import org.opendaylight.openflowplugin.impl.rpc.QueuedRequestContextStack;
 import org.opendaylight.openflowplugin.impl.services.util.RequestContextUtil;
 import org.opendaylight.openflowplugin.impl.services.util.ServiceException;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
@@ -122,6 +124,19 @@ public abstract class AbstractService<I, O> {
         LOG.trace("Handling general service call");
         final RequestContext<O> requestContext = requestContextStack.createRequestContext();
 
+        if (requestContext == null && requestContextStack instanceof QueuedRequestContextStack) {
+            LOG.trace("Request context queued.");
+            return Futures.transformAsync(
+                ((QueuedRequestContextStack) requestContextStack).<O>enqueueRequestContext(),
+                queued -> submitRequest(queued, input, requestType, isComplete), MoreExecutors.directExecutor());
+        }
+
+        return submitRequest(requestContext, input, requestType, isComplete);
+    }
+
+    private ListenableFuture<RpcResult<O>> submitRequest(@Nullable final RequestContext<O> requestContext,
+            @Nonnull final I input, final Class<?> requestType,
+            @Nullable final Function<OfHeader, Boolean> isComplete) {
         if (requestContext == null) {
             LOG.trace("Request context refused.");
             getMessageSpy().spyMessage(AbstractService.class, MessageSpy.StatisticsGroup.TO_SWITCH_DISREGARDED);
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.services.multilayer;
+
+import java.util.List;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
+import org.opendaylight.openflowplugin.api.openflow.device.RequestContext;
+import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.EventIdentifier;
+import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
+import org.opendaylight.openflowplugin.impl.services.AbstractMultipartRequestOnTheFlyCallback;
+import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReply;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+
+/**
+ * Callback of an on-the-fly multipart request of any multipart type, flow statistics by default, for devices using
+ * multi-layer serialization. Replies are matched by their multipart type.
+ *
+ * @param <T> reply type
+ */
+public class MultiLayerMultipartRequestOnTheFlyCallback<T extends OfHeader>
+                                                    extends AbstractMultipartRequestOnTheFlyCallback<T> {
+
+    private final MultipartType multipartType;
+
+    public MultiLayerMultipartRequestOnTheFlyCallback(final RequestContext<List<T>> context,
+                                                      final Class<?> requestType,
+                                                      final DeviceContext deviceContext,
+                                                      final EventIdentifier eventIdentifier,
+                                                      final MultipartWriterProvider statisticsWriterProvider,
+                                                      final ConvertorExecutor convertorExecutor) {
+        this(context, requestType, deviceContext, eventIdentifier, statisticsWriterProvider, convertorExecutor,
+                MultipartType.OFPMPFLOW);
+    }
+
+    public MultiLayerMultipartRequestOnTheFlyCallback(final RequestContext<List<T>> context,
+                                                      final Class<?> requestType,
+                                                      final DeviceContext deviceContext,
+                                                      final EventIdentifier eventIdentifier,
+                                                      final MultipartWriterProvider statisticsWriterProvider,
+                                                      final ConvertorExecutor convertorExecutor,
+                                                      final MultipartType multipartType) {
+        super(context, requestType, deviceContext, eventIdentifier, statisticsWriterProvider, convertorExecutor);
+        this.multipartType = multipartType;
+    }
+
+    @Override
+    protected boolean isMultipart(OfHeader result) {
+        return result instanceof MultipartReply
+            && ((MultipartReply) result).getType().equals(getMultipartType());
+    }
+
+    @Override
+    protected boolean isReqMore(T result) {
+        return ((MultipartReply) result).getFlags().isOFPMPFREQMORE();
+    }
+
+    @Override
+    protected MultipartType getMultipartType() {
+        return multipartType;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics;
+
+import com.google.common.util.concurrent.AbstractListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+/**
+ * View of a shared executor service which runs submitted tasks one after another, in the order they are submitted.
+ * The lifecycle belongs to the shared executor service, so this view cannot be shut down on its own.
+ */
+final class SequentialExecutorService extends AbstractListeningExecutorService {
+    private final ExecutorService delegate;
+    private final Executor sequentialExecutor;
+
+    SequentialExecutorService(@Nonnull final ExecutorService delegate) {
+        this.delegate = delegate;
+        this.sequentialExecutor = MoreExecutors.newSequentialExecutor(delegate);
+    }
+
+    @Override
+    public void execute(@Nonnull final Runnable command) {
+        sequentialExecutor.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        throw new UnsupportedOperationException("Shared executor " + delegate + " cannot be shut down");
+    }
+
+    @Nonnull
+    @Override
+    public List<Runnable> shutdownNow() {
+        throw new UnsupportedOperationException("Shared executor " + delegate + " cannot be shut down");
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, @Nonnull final TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -23,6 +23,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.TransactionChainClosedException;
 import org.opendaylight.mdsal.singleton.common.api.ServiceGroupIdentifier;
 import org.opendaylight.openflowplugin.api.ConnectionException;
@@ -35,6 +36,7 @@ import org.opendaylight.openflowplugin.api.openflow.lifecycle.ContextChainMaster
 import org.opendaylight.openflowplugin.api.openflow.lifecycle.ContextChainMastershipWatcher;
 import org.opendaylight.openflowplugin.api.openflow.statistics.StatisticsContext;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
+import org.opendaylight.openflowplugin.impl.datastore.multipart.AbstractMultipartWriter;
 import org.opendaylight.openflowplugin.impl.rpc.AbstractRequestContext;
 import org.opendaylight.openflowplugin.impl.services.util.RequestContextUtil;
 import org.opendaylight.openflowplugin.impl.statistics.services.dedicated.StatisticsGatheringOnTheFlyService;
@@ -64,9 +66,11 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
     private final long statisticsPollingInterval;
     private final long maximumPollingDelay;
     private final boolean isUsingReconciliationFramework;
+    private final boolean isStatisticsStreamingOn;
     private final AtomicBoolean schedulingEnabled = new AtomicBoolean(true);
     private final AtomicReference<ListenableFuture<Boolean>> lastDataGatheringRef = new AtomicReference<>();
-    private final AtomicReference<StatisticsPollingService> statisticsPollingServiceRef = new AtomicReference<>();
+    private final AtomicReference<StatisticsPolling> statisticsPollingRef = new AtomicReference<>();
+    private final StatisticsScheduler statisticsScheduler;
     private List<MultipartType> collectingStatType;
     private StatisticsGatheringService<T> statisticsGatheringService;
     private StatisticsGatheringOnTheFlyService<T> statisticsGatheringOnTheFlyService;
@@ -78,7 +82,8 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
                           @Nonnull final ListeningExecutorService executorService,
                           @Nonnull final OpenflowProviderConfig config,
                           boolean isStatisticsPollingOn,
-                          boolean isUsingReconciliationFramework) {
+                          boolean isUsingReconciliationFramework,
+                          @Nullable final StatisticsScheduler statisticsScheduler) {
         this.deviceContext = deviceContext;
         this.devState = Preconditions.checkNotNull(deviceContext.getDeviceState());
         this.executorService = executorService;
@@ -90,6 +95,8 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
         this.maximumPollingDelay = config.getMaximumTimerDelay().getValue();
         this.statisticsWriterProvider = statisticsWriterProvider;
         this.isUsingReconciliationFramework = isUsingReconciliationFramework;
+        this.isStatisticsStreamingOn = Boolean.TRUE.equals(config.isEnableStatisticsStreaming());
+        this.statisticsScheduler = statisticsScheduler;
 
         statisticsGatheringService = new StatisticsGatheringService<>(this, deviceContext);
         statisticsGatheringOnTheFlyService = new StatisticsGatheringOnTheFlyService<>(this, deviceContext,
@@ -205,6 +212,10 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
     }
 
     private ListenableFuture<Boolean> gatherDynamicData() {
+        return gatherDynamicData(collectingStatType);
+    }
+
+    private ListenableFuture<Boolean> gatherDynamicData(final List<MultipartType> statTypes) {
         if (!isStatisticsPollingOn || !schedulingEnabled.get()) {
             LOG.debug("Statistics for device {} are not enabled.", getDeviceInfo().getNodeId().getValue());
             return Futures.immediateFuture(Boolean.TRUE);
@@ -219,7 +230,7 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
                     || future.isDone() ? Futures.immediateFuture(Boolean.TRUE) : future;
 
             // build statistics gathering future
-            final ListenableFuture<Boolean> newDataGathering = collectingStatType.stream()
+            final ListenableFuture<Boolean> newDataGathering = statTypes.stream()
                     .reduce(lastDataGathering, this::statChainFuture,
                         (listenableFuture, asyn) -> Futures.transformAsync(listenableFuture, result -> asyn,
                                 MoreExecutors.directExecutor()));
@@ -258,7 +269,8 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
         return Futures.transformAsync(prevFuture, result -> {
             LOG.debug("Status of previous stat iteration for node {}: {}", deviceInfo, result);
             LOG.debug("Stats iterating to next type for node {} of type {}", deviceInfo, multipartType);
-            final boolean onTheFly = MultipartType.OFPMPFLOW.equals(multipartType);
+            // Replies processed on the fly are written as they arrive, instead of being collected first
+            final boolean onTheFly = isStatisticsStreamingOn || MultipartType.OFPMPFLOW.equals(multipartType);
             final boolean supported = collectingStatType.contains(multipartType);
 
             // TODO: Refactor twice sending deviceContext into gatheringStatistics
@@ -276,25 +288,36 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
         }
 
         LOG.info("Starting statistics gathering for node {}", deviceInfo);
+        schedulingEnabled.set(true);
+
+        if (statisticsScheduler != null) {
+            this.statisticsPollingRef.set(statisticsScheduler.register(deviceInfo.getNodeId().getValue(),
+                    collectingStatType, this::gatherDynamicData, this::isStatisticsChanged));
+            return;
+        }
+
         final StatisticsPollingService statisticsPollingService =
                 new StatisticsPollingService(timeCounter,
                                              statisticsPollingInterval,
                                              maximumPollingDelay,
                                              StatisticsContextImpl.this::gatherDynamicData);
 
-        schedulingEnabled.set(true);
         statisticsPollingService.startAsync();
-        this.statisticsPollingServiceRef.set(statisticsPollingService);
+        this.statisticsPollingRef.set(statisticsPollingService);
     }
 
     private ListenableFuture<Void> stopGatheringData() {
         LOG.info("Stopping running statistics gathering for node {}", deviceInfo);
         cancelLastDataGathering();
 
-        return Optional.ofNullable(statisticsPollingServiceRef.getAndSet(null)).map(StatisticsPollingService::stop)
+        return Optional.ofNullable(statisticsPollingRef.getAndSet(null)).map(StatisticsPolling::stop)
                 .orElseGet(() -> Futures.immediateFuture(null));
     }
 
+    private boolean isStatisticsChanged(final MultipartType multipartType) {
+        return statisticsWriterProvider.lookup(multipartType).map(AbstractMultipartWriter::isChanged).orElse(true);
+    }
+
     private void cancelLastDataGathering() {
         final ListenableFuture<Boolean> future = lastDataGatheringRef.getAndSet(null);
 
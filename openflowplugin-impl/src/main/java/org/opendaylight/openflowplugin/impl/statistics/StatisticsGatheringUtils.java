@@ -33,6 +33,7 @@ import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.Event
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.StatisticsGatherer;
 import org.opendaylight.openflowplugin.impl.common.MultipartReplyTranslatorUtil;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
+import org.opendaylight.openflowplugin.impl.datastore.multipart.AbstractMultipartWriter;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
@@ -109,9 +110,14 @@ public final class StatisticsGatheringUtils {
         final InstanceIdentifier<FlowCapableNode> instanceIdentifier = deviceInfo.getNodeInstanceIdentifier()
                 .augmentation(FlowCapableNode.class);
 
+        final Optional<AbstractMultipartWriter> writer = statisticsWriterProvider.lookup(type);
+        final boolean incremental = writer.map(AbstractMultipartWriter::startCollecting).orElse(false);
+
         switch (type) {
             case OFPMPFLOW:
-                deleteAllKnownFlows(txFacade, instanceIdentifier, deviceRegistry.getDeviceFlowRegistry());
+                if (!incremental) {
+                    deleteAllKnownFlows(txFacade, instanceIdentifier, deviceRegistry.getDeviceFlowRegistry());
+                }
                 deviceRegistry.getDeviceFlowRegistry().processMarks();
                 break;
             case OFPMPMETERCONFIG:
@@ -126,7 +132,10 @@ public final class StatisticsGatheringUtils {
                 // no operation
         }
 
-        if (writeStatistics(type, statistics, deviceInfo, statisticsWriterProvider)) {
+        final boolean written = writeStatistics(type, statistics, deviceInfo, statisticsWriterProvider);
+        writer.ifPresent(multipartWriter -> multipartWriter.endCollecting(written));
+
+        if (written) {
             txFacade.submitTransaction();
 
             LOG.debug("Stats reply added to transaction for node {} of type {}", deviceInfo.getNodeId(), type);
@@ -10,6 +10,7 @@ package org.opendaylight.openflowplugin.impl.statistics;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import io.netty.util.HashedWheelTimer;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Semaphore;
@@ -48,17 +49,25 @@ public class StatisticsManagerImpl implements StatisticsManager, StatisticsManag
     private final ObjectRegistration<StatisticsManagerControlService> controlServiceRegistration;
     private final ListeningExecutorService executorService;
     private final StatisticsWorkMode workMode = StatisticsWorkMode.COLLECTALL;
+    private final StatisticsScheduler statisticsScheduler;
     private boolean isStatisticsFullyDisabled;
 
     public StatisticsManagerImpl(@Nonnull final OpenflowProviderConfig config,
                                  @Nonnull final RpcProviderService rpcProviderRegistry,
                                  final ConvertorExecutor convertorExecutor,
-                                 @Nonnull final ListeningExecutorService executorService) {
+                                 @Nonnull final ListeningExecutorService executorService,
+                                 @Nonnull final HashedWheelTimer hashedWheelTimer) {
         this.config = config;
         this.converterExecutor = convertorExecutor;
         this.controlServiceRegistration = Preconditions.checkNotNull(rpcProviderRegistry
                 .registerRpcImplementation(StatisticsManagerControlService.class, this));
         this.executorService = executorService;
+
+        final Integer pollingConcurrency = config.getStatisticsPollingConcurrency();
+        this.statisticsScheduler = pollingConcurrency != null && pollingConcurrency > 0
+                ? new StatisticsScheduler(hashedWheelTimer, executorService, pollingConcurrency,
+                        config.getBasicTimerDelay().getValue(), config.getMaximumTimerDelay().getValue())
+                : null;
     }
 
     @Override
@@ -103,21 +112,30 @@ public class StatisticsManagerImpl implements StatisticsManager, StatisticsManag
     public StatisticsContext createContext(@Nonnull final DeviceContext deviceContext,
                                            final boolean useReconciliationFramework) {
         final MultipartWriterProvider statisticsWriterProvider = MultipartWriterProviderFactory
-                .createDefaultProvider(deviceContext);
+                .createDefaultProvider(deviceContext, config.isEnableFlowStatisticsDeltaWrite());
 
         final StatisticsContext statisticsContext = new StatisticsContextImpl<>(
                 deviceContext,
                 converterExecutor,
                 statisticsWriterProvider,
-                executorService,
+                getExecutorService(),
                 config,
                 !isStatisticsFullyDisabled && config.isIsStatisticsPollingOn(),
-                useReconciliationFramework);
+                useReconciliationFramework,
+                statisticsScheduler);
 
         contexts.put(deviceContext.getDeviceInfo(), statisticsContext);
         return statisticsContext;
     }
 
+    private ListeningExecutorService getExecutorService() {
+        if (!config.isDeviceSequentialProcessing()) {
+            return executorService;
+        }
+        // Statistics replies of a device are processed one after another, devices still share the pool
+        return new SequentialExecutorService(executorService);
+    }
+
     @Override
     public void onDeviceRemoved(final DeviceInfo deviceInfo) {
         contexts.remove(deviceInfo);
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.statistics;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Periodic statistics gathering of a single device.
+ */
+interface StatisticsPolling {
+
+    /**
+     * Stops the gathering.
+     *
+     * @return future completed once the gathering stopped
+     */
+    ListenableFuture<Void> stop();
+}
@@ -21,7 +21,7 @@ import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import org.opendaylight.openflowplugin.api.ConnectionException;
 
-public class StatisticsPollingService extends AbstractScheduledService {
+public class StatisticsPollingService extends AbstractScheduledService implements StatisticsPolling {
     private static final long DEFAULT_STATS_TIMEOUT = 50000;
 
     private final TimeCounter counter;
@@ -41,7 +41,8 @@ public class StatisticsPollingService extends AbstractScheduledService {
         this.addListener(new StatisticsPollingServiceListener(), MoreExecutors.directExecutor());
     }
 
-    ListenableFuture<Void> stop() {
+    @Override
+    public ListenableFuture<Void> stop() {
         stopAsync();
         return future;
     }
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.statistics;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules statistics gathering of all devices on a shared timer, as an alternative to a
+ * {@link StatisticsPollingService} per device.
+ *
+ * <p>
+ * At most a configured number of devices gather statistics at once, others wait for a permit in the order their
+ * gathering became due. Each statistics type of a device is polled with its own interval. The interval starts
+ * at the basic timer delay and doubles up to the maximum timer delay each time the type is polled without its
+ * statistics changing, and drops back once they change. Delays are randomized a little, so devices connected
+ * at once do not keep polling at once.
+ */
+public class StatisticsScheduler {
+    private static final Logger LOG = LoggerFactory.getLogger(StatisticsScheduler.class);
+    private static final long DEFAULT_STATS_TIMEOUT = 50000;
+    // Gatherings are timed out no sooner than this, a device answering fast once may answer slowly next time
+    private static final long MINIMUM_STATS_TIMEOUT = 10000;
+    private static final double JITTER = 0.1;
+
+    private final HashedWheelTimer timer;
+    private final Executor executor;
+    private final Semaphore permits;
+    private final Queue<Registration> waiting = new ConcurrentLinkedQueue<>();
+    private final long basicInterval;
+    private final long maximumInterval;
+    private final long minimumTimeout;
+
+    public StatisticsScheduler(@Nonnull final HashedWheelTimer timer,
+                               @Nonnull final Executor executor,
+                               final int concurrency,
+                               final long basicInterval,
+                               final long maximumInterval) {
+        this.timer = timer;
+        this.executor = executor;
+        this.permits = new Semaphore(concurrency);
+        this.basicInterval = basicInterval;
+        this.maximumInterval = Math.max(basicInterval, maximumInterval);
+        this.minimumTimeout = Math.max(basicInterval, MINIMUM_STATS_TIMEOUT);
+    }
+
+    /**
+     * Starts periodic statistics gathering of a device.
+     *
+     * @param name      name of the device used in logs
+     * @param types     statistics types to poll
+     * @param gathering gathers statistics of given types, the future completes once the gathering ended
+     * @param changed   tells whether statistics of a type changed since they were gathered before
+     * @return registration stopping the gathering
+     */
+    StatisticsPolling register(@Nonnull final String name,
+                               @Nonnull final Collection<MultipartType> types,
+                               @Nonnull final Function<List<MultipartType>, ListenableFuture<Boolean>> gathering,
+                               @Nonnull final Predicate<MultipartType> changed) {
+        final Registration registration = new Registration(name, types, gathering, changed);
+        registration.schedule(jitter(basicInterval));
+        return registration;
+    }
+
+    @VisibleForTesting
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void enqueue(final Registration registration) {
+        waiting.add(registration);
+        drain();
+    }
+
+    private void drain() {
+        // Both enqueue and release drain after their change, so a waiting device cannot miss a released permit
+        while (!waiting.isEmpty() && permits.tryAcquire()) {
+            final Registration registration = waiting.poll();
+            if (registration == null) {
+                permits.release();
+            } else {
+                executor.execute(registration::gather);
+            }
+        }
+    }
+
+    private void release() {
+        permits.release();
+        drain();
+    }
+
+    private static long jitter(final long delay) {
+        return Math.max(1, Math.round(delay * (1 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER))));
+    }
+
+    private static final class TypeState {
+        private long interval;
+        private long nextPoll;
+
+        TypeState(final long interval, final long nextPoll) {
+            this.interval = interval;
+            this.nextPoll = nextPoll;
+        }
+
+        boolean isDue(final long now) {
+            // Polled a little early rather than a whole interval late, the delay to the poll was randomized
+            return nextPoll - now <= TimeUnit.MILLISECONDS.toNanos(Math.round(interval * JITTER));
+        }
+    }
+
+    private final class Registration implements StatisticsPolling, TimerTask {
+        private final String name;
+        private final Function<List<MultipartType>, ListenableFuture<Boolean>> gathering;
+        private final Predicate<MultipartType> changed;
+        private final SettableFuture<Void> stopFuture = SettableFuture.create();
+
+        @GuardedBy("this")
+        private final Map<MultipartType, TypeState> states = new LinkedHashMap<>();
+        @GuardedBy("this")
+        private Timeout timeout;
+        @GuardedBy("this")
+        private boolean stopped;
+        @GuardedBy("this")
+        private boolean inProgress;
+        @GuardedBy("this")
+        private long lastDuration;
+
+        Registration(final String name, final Collection<MultipartType> types,
+                     final Function<List<MultipartType>, ListenableFuture<Boolean>> gathering,
+                     final Predicate<MultipartType> changed) {
+            this.name = name;
+            this.gathering = gathering;
+            this.changed = changed;
+            final long now = System.nanoTime();
+            types.forEach(type -> states.put(type, new TypeState(basicInterval, now)));
+        }
+
+        @Override
+        public void run(final Timeout expired) {
+            synchronized (this) {
+                if (stopped) {
+                    return;
+                }
+            }
+            enqueue(this);
+        }
+
+        @Override
+        public ListenableFuture<Void> stop() {
+            synchronized (this) {
+                stopped = true;
+                if (timeout != null) {
+                    timeout.cancel();
+                }
+                if (!inProgress) {
+                    stopFuture.set(null);
+                }
+            }
+            if (waiting.remove(this)) {
+                LOG.debug("Statistics gathering of node {} stopped while waiting", name);
+            }
+            return stopFuture;
+        }
+
+        // Called with a permit acquired
+        void gather() {
+            final long start = System.nanoTime();
+            final List<MultipartType> types = new ArrayList<>();
+            final long timeoutDelay;
+            synchronized (this) {
+                if (stopped) {
+                    release();
+                    return;
+                }
+
+                states.forEach((type, state) -> {
+                    if (state.isDue(start)) {
+                        types.add(type);
+                    }
+                });
+                inProgress = true;
+                timeoutDelay = lastDuration > 0 ? Math.max(3 * lastDuration, minimumTimeout) : DEFAULT_STATS_TIMEOUT;
+            }
+
+            LOG.debug("Gathering statistics of node {} of types {}", name, types);
+            final Finisher finisher = new Finisher(start, types);
+            final Timeout statsTimeout = timer.newTimeout(expired -> finisher.finish(false), timeoutDelay,
+                    TimeUnit.MILLISECONDS);
+
+            final ListenableFuture<Boolean> future = startGathering(types);
+            future.addListener(() -> {
+                statsTimeout.cancel();
+                finisher.finish(true);
+            }, MoreExecutors.directExecutor());
+        }
+
+        void schedule(final long delay) {
+            synchronized (this) {
+                if (!stopped) {
+                    timeout = timer.newTimeout(this, delay, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+
+        private ListenableFuture<Boolean> startGathering(final List<MultipartType> types) {
+            try {
+                return gathering.apply(types);
+            } catch (RuntimeException e) {
+                return Futures.immediateFailedFuture(e);
+            }
+        }
+
+        private synchronized long finishGathering(final long start, final List<MultipartType> types,
+                                                  final boolean completed) {
+            final long now = System.nanoTime();
+            // Timed out gatherings count as well, so the next one of a slow device is given longer
+            lastDuration = TimeUnit.NANOSECONDS.toMillis(now - start);
+
+            for (final MultipartType type : types) {
+                final TypeState state = states.get(type);
+                // Gathering result is not checked, statistics processed as they arrive do not report it and
+                // writers report failed collections as changed
+                if (completed) {
+                    state.interval = changed.test(type)
+                            ? basicInterval
+                            : Math.min(2 * state.interval, maximumInterval);
+                }
+                state.nextPoll = start + TimeUnit.MILLISECONDS.toNanos(state.interval);
+            }
+
+            long nextPoll = Long.MAX_VALUE;
+            for (final TypeState state : states.values()) {
+                nextPoll = Math.min(nextPoll, TimeUnit.NANOSECONDS.toMillis(state.nextPoll - now));
+            }
+
+            inProgress = false;
+            if (stopped) {
+                stopFuture.set(null);
+            }
+
+            // Let the device rest at least as long as the gathering took
+            return Math.max(nextPoll, lastDuration);
+        }
+
+        /**
+         * Finishes the gathering once it completes or times out, whichever comes first.
+         */
+        private final class Finisher {
+            private final long start;
+            private final List<MultipartType> types;
+            @GuardedBy("this")
+            private boolean finished;
+
+            Finisher(final long start, final List<MultipartType> types) {
+                this.start = start;
+                this.types = types;
+            }
+
+            void finish(final boolean completed) {
+                synchronized (this) {
+                    if (finished) {
+                        return;
+                    }
+                    finished = true;
+                }
+
+                if (!completed) {
+                    LOG.debug("Statistics gathering of node {} timed out", name);
+                }
+                final long delay = finishGathering(start, types, completed);
+                release();
+                schedule(jitter(delay));
+            }
+        }
+    }
+}
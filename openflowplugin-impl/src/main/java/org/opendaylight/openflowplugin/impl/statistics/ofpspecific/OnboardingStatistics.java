@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics.ofpspecific;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowjava.statistics.LatencyHistogram;
+
+/**
+ * Latencies of device onboarding phases, aggregated over all devices.
+ */
+public final class OnboardingStatistics {
+
+    /**
+     * Onboarding phases. Phases following {@link #CONTEXTS} are measured from the contexts of the device being
+     * created, they overlap each other.
+     */
+    public enum Phase {
+        /**
+         * Waiting for an onboarding slot, from the device connecting.
+         */
+        WAITING,
+        /**
+         * Creating device contexts and registering them to the cluster.
+         */
+        CONTEXTS,
+        /**
+         * Role MASTER set on the device.
+         */
+        MASTER_ON_DEVICE,
+        /**
+         * RPC services registered.
+         */
+        RPC_REGISTRATION,
+        /**
+         * Initial statistics gathered.
+         */
+        INITIAL_GATHERING,
+        /**
+         * Flow registry filled.
+         */
+        INITIAL_FLOW_REGISTRY_FILL,
+        /**
+         * Device information written to the operational datastore.
+         */
+        INITIAL_SUBMIT,
+        /**
+         * Whole onboarding, from the device connecting until it is mastered or becomes slave.
+         */
+        TOTAL
+    }
+
+    // Latencies are recorded in microseconds, so the histograms keep their precision over minutes
+    private static final Map<Phase, LatencyHistogram> PHASE_LATENCIES = new EnumMap<>(Phase.class);
+
+    static {
+        for (Phase phase : Phase.values()) {
+            PHASE_LATENCIES.put(phase, new LatencyHistogram());
+        }
+    }
+
+    private OnboardingStatistics() {
+    }
+
+    public static void recordPhase(final Phase phase, final long nanos) {
+        PHASE_LATENCIES.get(phase).recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    public static List<String> provideStatistics() {
+        final List<String> dump = new ArrayList<>();
+        for (Map.Entry<Phase, LatencyHistogram> entry : PHASE_LATENCIES.entrySet()) {
+            final LatencyHistogram histogram = entry.getValue();
+            dump.add(String.format("%s : count=%d, mean=%dms, p50=%dms, p99=%dms, max=%dms", entry.getKey(),
+                    histogram.getTotalCount(), toMillis(histogram.getMean()),
+                    toMillis(histogram.getValueAtPercentile(50)), toMillis(histogram.getValueAtPercentile(99)),
+                    toMillis(histogram.getMaxValue())));
+        }
+        return dump;
+    }
+
+    public static void resetAllCounters() {
+        PHASE_LATENCIES.values().forEach(LatencyHistogram::reset);
+    }
+
+    private static long toMillis(final long micros) {
+        return TimeUnit.MICROSECONDS.toMillis(micros);
+    }
+}
@@ -48,6 +48,7 @@ public class StatisticsGatheringOnTheFlyService<T extends OfHeader>
         LOG.debug("Getting statistics (onTheFly) for node {} of type {}", getDeviceInfo().getNodeId(), type);
         EventsTimeCounter.markStart(eventIdentifier);
         setEventIdentifier(eventIdentifier);
+        setMultipartType(type);
         return handleServiceCall(type);
     }
 
@@ -9,8 +9,11 @@
 package org.opendaylight.openflowplugin.impl.translator;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.primitives.UnsignedLong;
+import io.netty.buffer.ByteBufUtil;
 import java.math.BigInteger;
 import java.util.Optional;
+import org.opendaylight.openflowjava.protocol.api.connection.PacketInView;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
 import org.opendaylight.openflowplugin.api.openflow.device.MessageTranslator;
 import org.opendaylight.openflowplugin.api.openflow.md.util.OpenflowVersion;
@@ -21,8 +24,10 @@ import org.opendaylight.openflowplugin.impl.util.PacketInUtil;
 import org.opendaylight.openflowplugin.openflow.md.core.extension.MatchExtensionHelper;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.data.VersionDatapathIdConvertorData;
+import org.opendaylight.openflowplugin.openflow.md.util.InventoryDataServiceUtil;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorRef;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceived;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceivedBuilder;
@@ -75,22 +80,60 @@ public class PacketReceivedTranslator implements MessageTranslator<PacketInMessa
         return packetReceivedBuilder.build();
     }
 
+    /**
+     * Translates a PACKET_IN received through the openflowjava fast path, reading header fields and ingress port
+     * directly from the view. The translated packet outlives the view, so the match is still deserialized and
+     * the payload is copied out of the inbound buffer.
+     *
+     * @param input view of the received message
+     * @param deviceInfo device the message was received from
+     * @return translated packet
+     */
+    public PacketReceived translate(final PacketInView input, final DeviceInfo deviceInfo) {
+        final PacketReceivedBuilder packetReceivedBuilder = new PacketReceivedBuilder();
+        final BigInteger datapathId = deviceInfo.getDatapathId();
+
+        packetReceivedBuilder.setPayload(ByteBufUtil.getBytes(input.getPayload()));
+        packetReceivedBuilder.setFlowCookie(new FlowCookie(UnsignedLong.fromLongBits(input.getCookie())
+                .bigIntegerValue()));
+
+        final long inPort = input.getInPort();
+        if (inPort >= 0) {
+            packetReceivedBuilder.setIngress(InventoryDataServiceUtil.nodeConnectorRefFromDatapathIdPortno(
+                    datapathId, inPort, OpenflowVersion.get(input.getVersion())));
+        }
+
+        packetReceivedBuilder.setPacketInReason(PacketInUtil.getMdSalPacketInReason(input.getReason()));
+        packetReceivedBuilder.setTableId(new TableId(input.getTableId()));
+
+        final Match match = input.getMatch();
+        if (match != null) {
+            packetReceivedBuilder.setMatch(getPacketInMatch(match, input.getVersion(), datapathId));
+        }
+
+        return packetReceivedBuilder.build();
+    }
+
     @VisibleForTesting
     org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.packet.received.Match getPacketInMatch(
             final PacketInMessage input, final BigInteger datapathId) {
+        return getPacketInMatch(input.getMatch(), input.getVersion(), datapathId);
+    }
+
+    private org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.packet.received.Match
+            getPacketInMatch(final Match match, final short version, final BigInteger datapathId) {
 
-        final VersionDatapathIdConvertorData datapathIdConvertorData = new VersionDatapathIdConvertorData(
-                input.getVersion());
+        final VersionDatapathIdConvertorData datapathIdConvertorData = new VersionDatapathIdConvertorData(version);
         datapathIdConvertorData.setDatapathId(datapathId);
 
         final Optional<org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.MatchBuilder>
-                matchOptional = convertorExecutor.convert(input.getMatch(), datapathIdConvertorData);
+                matchOptional = convertorExecutor.convert(match, datapathIdConvertorData);
         final MatchBuilder matchBuilder = matchOptional.map(matchBuilder1 -> new MatchBuilder(matchBuilder1.build()))
                 .orElseGet(MatchBuilder::new);
 
         final AugmentTuple<org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.packet.received.Match>
                 matchExtensionWrap = MatchExtensionHelper
-                .processAllExtensions(input.getMatch().getMatchEntry(), OpenflowVersion.get(input.getVersion()),
+                .processAllExtensions(match.getMatchEntry(), OpenflowVersion.get(version),
                                       MatchPath.PACKET_RECEIVED_MATCH);
 
         if (matchExtensionWrap != null) {
@@ -7,16 +7,20 @@
  */
 package org.opendaylight.openflowplugin.impl.util;
 
+import static org.opendaylight.openflowplugin.impl.rpc.QueuedRequestContextStack.forRequestClass;
+
 import com.google.common.base.Preconditions;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.Nonnull;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
+import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
 import org.opendaylight.openflowplugin.api.openflow.rpc.RpcContext;
 import org.opendaylight.openflowplugin.api.openflow.statistics.compatibility.Delegator;
 import org.opendaylight.openflowplugin.extension.api.core.extension.ExtensionConverterProvider;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProviderFactory;
+import org.opendaylight.openflowplugin.impl.rpc.RequestClass;
 import org.opendaylight.openflowplugin.impl.services.sal.FlowCapableTransactionServiceImpl;
 import org.opendaylight.openflowplugin.impl.services.sal.NodeConfigServiceImpl;
 import org.opendaylight.openflowplugin.impl.services.sal.PacketProcessingServiceImpl;
@@ -94,16 +98,23 @@ public final class MdSalRegistrationUtils {
         final MultipartWriterProvider multipartWriterProvider = MultipartWriterProviderFactory
             .createDefaultProvider(deviceContext);
 
+        // request context stacks queueing requests of services in the queue of their class
+        final RequestContextStack flowStack = forRequestClass(rpcContext, RequestClass.FLOW);
+        final RequestContextStack groupStack = forRequestClass(rpcContext, RequestClass.GROUP);
+        final RequestContextStack meterStack = forRequestClass(rpcContext, RequestClass.METER);
+        final RequestContextStack statisticsStack = forRequestClass(rpcContext, RequestClass.STATISTICS);
+        final RequestContextStack packetOutStack = forRequestClass(rpcContext, RequestClass.PACKET_OUT);
+
         // create service instances
-        final SalFlowServiceImpl salFlowService = new SalFlowServiceImpl(rpcContext, deviceContext, convertorExecutor);
+        final SalFlowServiceImpl salFlowService = new SalFlowServiceImpl(flowStack, deviceContext, convertorExecutor);
         final FlowCapableTransactionServiceImpl flowCapableTransactionService =
-                new FlowCapableTransactionServiceImpl(rpcContext, deviceContext);
+                new FlowCapableTransactionServiceImpl(flowStack, deviceContext);
         final SalAsyncConfigServiceImpl salAsyncConfigService =
                 new SalAsyncConfigServiceImpl(rpcContext, deviceContext);
         final SalGroupServiceImpl salGroupService =
-                new SalGroupServiceImpl(rpcContext, deviceContext, convertorExecutor);
+                new SalGroupServiceImpl(groupStack, deviceContext, convertorExecutor);
         final SalMeterServiceImpl salMeterService =
-                new SalMeterServiceImpl(rpcContext, deviceContext, convertorExecutor);
+                new SalMeterServiceImpl(meterStack, deviceContext, convertorExecutor);
 
         // register routed service instances
         rpcContext.registerRpcServiceImplementation(SalEchoService.class,
@@ -118,19 +129,20 @@ public final class MdSalRegistrationUtils {
         rpcContext.registerRpcServiceImplementation(SalPortService.class,
                 new SalPortServiceImpl(rpcContext, deviceContext, convertorExecutor));
         rpcContext.registerRpcServiceImplementation(PacketProcessingService.class,
-                new PacketProcessingServiceImpl(rpcContext, deviceContext, convertorExecutor));
+                new PacketProcessingServiceImpl(packetOutStack, deviceContext, convertorExecutor));
         rpcContext.registerRpcServiceImplementation(NodeConfigService.class,
                 new NodeConfigServiceImpl(rpcContext, deviceContext));
         rpcContext.registerRpcServiceImplementation(OpendaylightFlowStatisticsService.class,
-                OpendaylightFlowStatisticsServiceImpl.createWithOook(rpcContext, deviceContext, convertorExecutor));
+                OpendaylightFlowStatisticsServiceImpl.createWithOook(statisticsStack, deviceContext,
+                        convertorExecutor));
 
         // register direct statistics gathering services
         rpcContext.registerRpcServiceImplementation(OpendaylightDirectStatisticsService.class,
             new OpendaylightDirectStatisticsServiceImpl(deviceContext.canUseSingleLayerSerialization()
                 ? SingleLayerDirectStatisticsProviderInitializer
-                    .createProvider(rpcContext, deviceContext, convertorExecutor, multipartWriterProvider)
+                    .createProvider(statisticsStack, deviceContext, convertorExecutor, multipartWriterProvider)
                 : MultiLayerDirectStatisticsProviderInitializer
-                    .createProvider(rpcContext, deviceContext, convertorExecutor, multipartWriterProvider)));
+                    .createProvider(statisticsStack, deviceContext, convertorExecutor, multipartWriterProvider)));
 
         // register flat batch services
         rpcContext.registerRpcServiceImplementation(SalFlatBatchService.class, new SalFlatBatchServiceImpl(
@@ -170,31 +182,32 @@ public final class MdSalRegistrationUtils {
                                                          final ConvertorExecutor convertorExecutor) {
 
         AtomicLong compatibilityXidSeed = new AtomicLong();
+        final RequestContextStack statisticsStack = forRequestClass(rpcContext, RequestClass.STATISTICS);
         // pickup low statistics service
         final OpendaylightFlowStatisticsService flowStatisticsService = Preconditions.checkNotNull(
                 rpcContext.lookupRpcService(OpendaylightFlowStatisticsService.class));
 
         // attach delegate to flow statistics service (to cover all but aggregated stats with match filter input)
         final OpendaylightFlowStatisticsServiceDelegateImpl flowStatisticsDelegate =
-                new OpendaylightFlowStatisticsServiceDelegateImpl(rpcContext, deviceContext, notificationPublishService,
-                        new AtomicLong(), convertorExecutor);
+                new OpendaylightFlowStatisticsServiceDelegateImpl(statisticsStack, deviceContext,
+                        notificationPublishService, new AtomicLong(), convertorExecutor);
         ((Delegator<OpendaylightFlowStatisticsService>) flowStatisticsService).setDelegate(flowStatisticsDelegate);
 
         // register all statistics (deprecated) services
         rpcContext.registerRpcServiceImplementation(OpendaylightFlowTableStatisticsService.class,
-                new OpendaylightFlowTableStatisticsServiceImpl(rpcContext, deviceContext,
+                new OpendaylightFlowTableStatisticsServiceImpl(statisticsStack, deviceContext,
                         compatibilityXidSeed, notificationPublishService));
         rpcContext.registerRpcServiceImplementation(OpendaylightGroupStatisticsService.class,
-                new OpendaylightGroupStatisticsServiceImpl(rpcContext, deviceContext,
+                new OpendaylightGroupStatisticsServiceImpl(statisticsStack, deviceContext,
                         compatibilityXidSeed, notificationPublishService, convertorExecutor));
         rpcContext.registerRpcServiceImplementation(OpendaylightMeterStatisticsService.class,
-                new OpendaylightMeterStatisticsServiceImpl(rpcContext, deviceContext,
+                new OpendaylightMeterStatisticsServiceImpl(statisticsStack, deviceContext,
                         compatibilityXidSeed, notificationPublishService, convertorExecutor));
         rpcContext.registerRpcServiceImplementation(OpendaylightQueueStatisticsService.class,
-                new OpendaylightQueueStatisticsServiceImpl(rpcContext, deviceContext,
+                new OpendaylightQueueStatisticsServiceImpl(statisticsStack, deviceContext,
                         compatibilityXidSeed, notificationPublishService));
         rpcContext.registerRpcServiceImplementation(OpendaylightPortStatisticsService.class,
-                new OpendaylightPortStatisticsServiceImpl(rpcContext, deviceContext,
+                new OpendaylightPortStatisticsServiceImpl(statisticsStack, deviceContext,
                         compatibilityXidSeed, notificationPublishService));
     }
 }
@@ -32,7 +32,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow
 
 @RunWith(MockitoJUnitRunner.class)
 public class ConfigurationServiceFactoryImplTest {
-    private static final int CONFIG_PROP_COUNT = 23;
+    private static final int CONFIG_PROP_COUNT = 31;
     private static final boolean IS_STATISTICS_POLLING_ON = true;
     private static final int BARRIER_COUNT_LIMIT = 2000;
     private static final long BARRIER_INTERVAL_TIMEOUT_LIMIT = 3000;
@@ -51,6 +51,14 @@ public class ConfigurationServiceFactoryImplTest {
     private static final int THREAD_POOL_MAX_THREADS = 1000;
     private static final long THREAD_POOL_TIMEOUT = 60;
     private static final int DEVICE_CONNECTION_RATE_LIMIT_PER_MIN = 0;
+    private static final boolean DEVICE_SEQUENTIAL_PROCESSING = true;
+    private static final boolean ENABLE_FLOW_STATISTICS_DELTA_WRITE = true;
+    private static final boolean ENABLE_CONCURRENT_FLOW_REGISTRY = true;
+    private static final int STATISTICS_POLLING_CONCURRENCY = 16;
+    private static final boolean ENABLE_STATISTICS_STREAMING = true;
+    private static final long RPC_REQUESTS_QUEUE_TIMEOUT = 500;
+    private static final int DEVICE_ONBOARDING_CONCURRENCY = 64;
+    private static final String TABLE_FEATURES_CACHE_DIRECTORY = "data/openflowplugin/table-features";
 
     @Mock
     private OpenflowProviderConfig config;
@@ -86,6 +94,14 @@ public class ConfigurationServiceFactoryImplTest {
         when(config.getThreadPoolMaxThreads()).thenReturn(new NonZeroUint16Type(THREAD_POOL_MAX_THREADS));
         when(config.getThreadPoolTimeout()).thenReturn(THREAD_POOL_TIMEOUT);
         when(config.getDeviceConnectionRateLimitPerMin()).thenReturn(DEVICE_CONNECTION_RATE_LIMIT_PER_MIN);
+        when(config.isDeviceSequentialProcessing()).thenReturn(DEVICE_SEQUENTIAL_PROCESSING);
+        when(config.isEnableFlowStatisticsDeltaWrite()).thenReturn(ENABLE_FLOW_STATISTICS_DELTA_WRITE);
+        when(config.isEnableConcurrentFlowRegistry()).thenReturn(ENABLE_CONCURRENT_FLOW_REGISTRY);
+        when(config.getStatisticsPollingConcurrency()).thenReturn(STATISTICS_POLLING_CONCURRENCY);
+        when(config.isEnableStatisticsStreaming()).thenReturn(ENABLE_STATISTICS_STREAMING);
+        when(config.getRpcRequestsQueueTimeout()).thenReturn(RPC_REQUESTS_QUEUE_TIMEOUT);
+        when(config.getDeviceOnboardingConcurrency()).thenReturn(DEVICE_ONBOARDING_CONCURRENCY);
+        when(config.getTableFeaturesCacheDirectory()).thenReturn(TABLE_FEATURES_CACHE_DIRECTORY);
 
         final Map<String, String> properties = new Hashtable<>();
         properties.put(ConfigurationProperty.IS_STATISTICS_POLLING_ON.toString(),
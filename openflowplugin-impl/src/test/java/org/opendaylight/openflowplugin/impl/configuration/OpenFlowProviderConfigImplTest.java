@@ -41,6 +41,14 @@ public class OpenFlowProviderConfigImplTest {
     private static final Integer THREAD_POOL_MAX_THREADS = 1000;
     private static final Long THREAD_POOL_TIMEOUT = 60L;
     private static final Integer DEVICE_CONNECTION_RATE_LIMIT_PER_MIN = 0;
+    private static final Boolean DEVICE_SEQUENTIAL_PROCESSING = true;
+    private static final Boolean ENABLE_FLOW_STATISTICS_DELTA_WRITE = true;
+    private static final Boolean ENABLE_CONCURRENT_FLOW_REGISTRY = true;
+    private static final Integer STATISTICS_POLLING_CONCURRENCY = 16;
+    private static final Boolean ENABLE_STATISTICS_STREAMING = true;
+    private static final Long RPC_REQUESTS_QUEUE_TIMEOUT = 500L;
+    private static final Integer DEVICE_ONBOARDING_CONCURRENCY = 64;
+    private static final String TABLE_FEATURES_CACHE_DIRECTORY = "data/openflowplugin/table-features";
 
     @Mock
     private ConfigurationService configurationService;
@@ -82,6 +90,22 @@ public class OpenFlowProviderConfigImplTest {
                 .thenReturn(THREAD_POOL_TIMEOUT);
         when(configurationService.getProperty(eq(ConfigurationProperty.DEVICE_CONNECTION_RATE_LIMIT_PER_MIN.toString()),
                 any())).thenReturn(DEVICE_CONNECTION_RATE_LIMIT_PER_MIN);
+        when(configurationService.getProperty(eq(ConfigurationProperty.DEVICE_SEQUENTIAL_PROCESSING.toString()), any()))
+                .thenReturn(DEVICE_SEQUENTIAL_PROCESSING);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_FLOW_STATISTICS_DELTA_WRITE.toString()),
+                any())).thenReturn(ENABLE_FLOW_STATISTICS_DELTA_WRITE);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_CONCURRENT_FLOW_REGISTRY.toString()),
+                any())).thenReturn(ENABLE_CONCURRENT_FLOW_REGISTRY);
+        when(configurationService.getProperty(eq(ConfigurationProperty.STATISTICS_POLLING_CONCURRENCY.toString()),
+                any())).thenReturn(STATISTICS_POLLING_CONCURRENCY);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_STATISTICS_STREAMING.toString()),
+                any())).thenReturn(ENABLE_STATISTICS_STREAMING);
+        when(configurationService.getProperty(eq(ConfigurationProperty.RPC_REQUESTS_QUEUE_TIMEOUT.toString()),
+                any())).thenReturn(RPC_REQUESTS_QUEUE_TIMEOUT);
+        when(configurationService.getProperty(eq(ConfigurationProperty.DEVICE_ONBOARDING_CONCURRENCY.toString()),
+                any())).thenReturn(DEVICE_ONBOARDING_CONCURRENCY);
+        when(configurationService.getProperty(eq(ConfigurationProperty.TABLE_FEATURES_CACHE_DIRECTORY.toString()),
+                any())).thenReturn(TABLE_FEATURES_CACHE_DIRECTORY);
         openflowProviderConfig = new OpenFlowProviderConfigImpl(configurationService);
     }
 
@@ -176,4 +200,44 @@ public class OpenFlowProviderConfigImplTest {
         assertEquals(DEVICE_CONNECTION_RATE_LIMIT_PER_MIN, openflowProviderConfig.getDeviceConnectionRateLimitPerMin());
     }
 
+    @Test
+    public void isDeviceSequentialProcessing() {
+        assertEquals(DEVICE_SEQUENTIAL_PROCESSING, openflowProviderConfig.isDeviceSequentialProcessing());
+    }
+
+    @Test
+    public void isEnableFlowStatisticsDeltaWrite() {
+        assertEquals(ENABLE_FLOW_STATISTICS_DELTA_WRITE, openflowProviderConfig.isEnableFlowStatisticsDeltaWrite());
+    }
+
+    @Test
+    public void isEnableConcurrentFlowRegistry() {
+        assertEquals(ENABLE_CONCURRENT_FLOW_REGISTRY, openflowProviderConfig.isEnableConcurrentFlowRegistry());
+    }
+
+    @Test
+    public void getStatisticsPollingConcurrency() {
+        assertEquals(STATISTICS_POLLING_CONCURRENCY, openflowProviderConfig.getStatisticsPollingConcurrency());
+    }
+
+    @Test
+    public void isEnableStatisticsStreaming() {
+        assertEquals(ENABLE_STATISTICS_STREAMING, openflowProviderConfig.isEnableStatisticsStreaming());
+    }
+
+    @Test
+    public void getRpcRequestsQueueTimeout() {
+        assertEquals(RPC_REQUESTS_QUEUE_TIMEOUT, openflowProviderConfig.getRpcRequestsQueueTimeout());
+    }
+
+    @Test
+    public void getDeviceOnboardingConcurrency() {
+        assertEquals(DEVICE_ONBOARDING_CONCURRENCY, openflowProviderConfig.getDeviceOnboardingConcurrency());
+    }
+
+    @Test
+    public void getTableFeaturesCacheDirectory() {
+        assertEquals(TABLE_FEATURES_CACHE_DIRECTORY, openflowProviderConfig.getTableFeaturesCacheDirectory());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.datastore.multipart;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceRegistry;
+import org.opendaylight.openflowplugin.api.openflow.device.TxFacade;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.DeviceFlowRegistry;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.openflowplugin.impl.registry.flow.FlowDescriptorFactory;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.FlowsStatisticsUpdate;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.FlowsStatisticsUpdateBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.flow.and.statistics.map.list.FlowAndStatisticsMapList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.flow.and.statistics.map.list.FlowAndStatisticsMapListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FlowStatsMultipartWriterTest {
+
+    private static final short TABLE_ID = 0;
+    private static final InstanceIdentifier<Node> NODE_PATH = InstanceIdentifier.create(Nodes.class)
+            .child(Node.class, new NodeKey(new NodeId("openflow:1")));
+
+    @Mock
+    private TxFacade txFacade;
+    @Mock
+    private DeviceRegistry deviceRegistry;
+    @Mock
+    private DeviceFlowRegistry deviceFlowRegistry;
+
+    @Before
+    public void setUp() {
+        when(deviceRegistry.getDeviceFlowRegistry()).thenReturn(deviceFlowRegistry);
+        when(deviceFlowRegistry.retrieveDescriptor(any())).thenAnswer(invocation -> {
+            final FlowRegistryKey key = invocation.getArgument(0);
+            return FlowDescriptorFactory.create(key.getTableId(), new FlowId("flow" + key.getPriority()));
+        });
+    }
+
+    @Test
+    public void testFullWrite() {
+        final FlowStatsMultipartWriter writer = new FlowStatsMultipartWriter(txFacade, NODE_PATH, deviceRegistry,
+                OFConstants.OFP_VERSION_1_3);
+
+        for (int i = 0; i < 2; ++i) {
+            Assert.assertFalse("Wrong - incremental write", writer.startCollecting());
+            writer.write(flows(1, 1, 2, 1), false);
+            writer.endCollecting(true);
+        }
+        verify(txFacade, times(4)).writeToTransaction(eq(LogicalDatastoreType.OPERATIONAL), any(), any());
+        verify(txFacade, never()).addDeleteToTxChain(any(), any());
+    }
+
+    @Test
+    public void testIncrementalWrite() {
+        final FlowStatsMultipartWriter writer = new FlowStatsMultipartWriter(txFacade, NODE_PATH, deviceRegistry,
+                OFConstants.OFP_VERSION_1_3, true);
+
+        Assert.assertFalse("Wrong - first cycle written incrementally", writer.startCollecting());
+        writer.write(flows(1, 1, 2, 1), false);
+        writer.endCollecting(true);
+        verify(txFacade, times(2)).writeToTransaction(eq(LogicalDatastoreType.OPERATIONAL), any(), any());
+
+        // Only the flow with changed counters is written
+        Assert.assertTrue("Wrong - cycle not written incrementally", writer.startCollecting());
+        writer.write(flows(1, 1, 2, 2), false);
+        writer.endCollecting(true);
+        verify(txFacade, times(3)).writeToTransaction(eq(LogicalDatastoreType.OPERATIONAL), any(), any());
+        verify(txFacade).writeToTransaction(eq(LogicalDatastoreType.OPERATIONAL), eq(flowPath(2)), any());
+        verify(txFacade, never()).addDeleteToTxChain(any(), any());
+
+        // Only the vanished flow is deleted
+        Assert.assertTrue("Wrong - cycle not written incrementally", writer.startCollecting());
+        writer.write(flows(1, 1), false);
+        writer.endCollecting(true);
+        verify(txFacade, times(3)).writeToTransaction(eq(LogicalDatastoreType.OPERATIONAL), any(), any());
+        verify(txFacade).addDeleteToTxChain(LogicalDatastoreType.OPERATIONAL, flowPath(2));
+    }
+
+    @Test
+    public void testIncrementalWriteOfChangedContent() {
+        final FlowStatsMultipartWriter writer = new FlowStatsMultipartWriter(txFacade, NODE_PATH, deviceRegistry,
+                OFConstants.OFP_VERSION_1_3, true);
+
+        writer.startCollecting();
+        writer.write(flows(1, 1), false);
+        writer.endCollecting(true);
+
+        // Counters did not change, the flow is written for its new timeout
+        final FlowAndStatisticsMapList changed = new FlowAndStatisticsMapListBuilder(
+                flows(1, 1).getFlowAndStatisticsMapList().get(0)).setIdleTimeout(10).build();
+        Assert.assertTrue("Wrong - cycle not written incrementally", writer.startCollecting());
+        writer.write(new FlowsStatisticsUpdateBuilder()
+                .setFlowAndStatisticsMapList(Collections.singletonList(changed)).build(), false);
+        writer.endCollecting(true);
+        verify(txFacade, times(2)).writeToTransaction(eq(LogicalDatastoreType.OPERATIONAL), eq(flowPath(1)), any());
+    }
+
+    @Test
+    public void testFailedCycle() {
+        final FlowStatsMultipartWriter writer = new FlowStatsMultipartWriter(txFacade, NODE_PATH, deviceRegistry,
+                OFConstants.OFP_VERSION_1_3, true);
+
+        writer.startCollecting();
+        writer.write(flows(1, 1), false);
+        writer.endCollecting(true);
+
+        Assert.assertTrue("Wrong - cycle not written incrementally", writer.startCollecting());
+        writer.endCollecting(false);
+        Assert.assertFalse("Wrong - cycle after failure written incrementally", writer.startCollecting());
+
+        // Cycle which did not end
+        Assert.assertFalse("Wrong - cycle after unfinished one written incrementally", writer.startCollecting());
+        verify(txFacade, never()).addDeleteToTxChain(any(), any());
+    }
+
+    @Test
+    public void testFullWriteInterval() {
+        final FlowStatsMultipartWriter writer = new FlowStatsMultipartWriter(txFacade, NODE_PATH, deviceRegistry,
+                OFConstants.OFP_VERSION_1_3, true);
+
+        for (int i = 0; i < 2 * FlowStatsMultipartWriter.FULL_WRITE_INTERVAL; ++i) {
+            Assert.assertEquals("Wrong write mode", i % FlowStatsMultipartWriter.FULL_WRITE_INTERVAL != 0,
+                    writer.startCollecting());
+            writer.write(flows(1, 1), false);
+            writer.endCollecting(true);
+        }
+        verify(txFacade, times(2)).writeToTransaction(eq(LogicalDatastoreType.OPERATIONAL), any(), any());
+    }
+
+    @Test
+    public void testChanged() {
+        final FlowStatsMultipartWriter writer = new FlowStatsMultipartWriter(txFacade, NODE_PATH, deviceRegistry,
+                OFConstants.OFP_VERSION_1_3);
+
+        final int[][] cycles = {{1, 1, 2, 1}, {1, 1, 2, 1}, {1, 1, 2, 2}, {1, 1}, {1, 1}};
+        final boolean[] changed = {true, false, true, true, false};
+        for (int i = 0; i < cycles.length; ++i) {
+            writer.startCollecting();
+            writer.write(flows(cycles[i]), false);
+            writer.endCollecting(true);
+            Assert.assertEquals("Wrong change of cycle " + i, changed[i], writer.isChanged());
+        }
+
+        writer.startCollecting();
+        writer.endCollecting(false);
+        Assert.assertTrue("Wrong - failed cycle not changed", writer.isChanged());
+    }
+
+    /**
+     * Creates flow statistics of flows with given priorities and packet counts.
+     *
+     * @param priorityAndCount pairs of flow priority and packet count
+     * @return flow statistics
+     */
+    private static FlowsStatisticsUpdate flows(final int... priorityAndCount) {
+        final List<FlowAndStatisticsMapList> flows = new ArrayList<>();
+        for (int i = 0; i < priorityAndCount.length; i += 2) {
+            flows.add(new FlowAndStatisticsMapListBuilder()
+                    .setTableId(TABLE_ID)
+                    .setPriority(priorityAndCount[i])
+                    .setMatch(new MatchBuilder().build())
+                    .setPacketCount(new Counter64(BigInteger.valueOf(priorityAndCount[i + 1])))
+                    .setByteCount(new Counter64(BigInteger.valueOf(priorityAndCount[i + 1] * 64L)))
+                    .build());
+        }
+        return new FlowsStatisticsUpdateBuilder().setFlowAndStatisticsMapList(flows).build();
+    }
+
+    private static InstanceIdentifier<Flow> flowPath(final int priority) {
+        return NODE_PATH.augmentation(FlowCapableNode.class)
+                .child(Table.class, new TableKey(TABLE_ID))
+                .child(Flow.class, new FlowKey(new FlowId("flow" + priority)));
+    }
+}
@@ -257,7 +257,7 @@ public class DeviceContextImplTest {
                 convertorExecutor,
                 false, timer, false,
                 deviceInitializerProvider,
-                true, false,
+                true, false, false,
                 contextChainHolder);
 
         ((DeviceContextImpl) deviceContext).lazyTransactionManagerInitialization();
@@ -13,7 +13,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Future;
 import org.junit.Before;
@@ -40,13 +43,17 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.mu
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.multipart.types.rev170112.MultipartReply;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.multipart.types.rev170112.MultipartReplyBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.Capabilities;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FeaturesReply;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReplyMessageBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.MultipartReplyDescCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.TableFeatures;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.multipart.reply.multipart.reply.body.MultipartReplyTableFeaturesBuilder;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
+import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -79,6 +86,8 @@ public class OF13DeviceInitializerTest {
     private RequestContext requestContext;
     @Mock
     private OutboundQueueProvider outboundQueueProvider;
+    @Mock
+    private TableFeaturesCache tableFeaturesCache;
     private AbstractDeviceInitializer deviceInitializer;
 
     @Before
@@ -151,4 +160,52 @@ public class OF13DeviceInitializerTest {
         verify(featuresReply).getCapabilities();
         verify(deviceContext).writeToTransaction(eq(LogicalDatastoreType.OPERATIONAL), any(), any());
     }
+
+    @Test
+    public void initializeTableFeaturesAfterDesc() throws Exception {
+        final List<MultipartReply> replies = Collections.singletonList(new MultipartReplyBuilder()
+                .setMultipartReplyBody(new MultipartReplyDescBuilder().build())
+                .build());
+        final SettableFuture<RpcResult<List<MultipartReply>>> descFuture = SettableFuture.create();
+        when(deviceContext.canUseSingleLayerSerialization()).thenReturn(true);
+        when(requestContext.getFuture()).thenReturn(descFuture, RpcResultBuilder.success(replies).buildFuture());
+
+        final Future<Void> initialize = deviceInitializer.initialize(deviceContext,
+                true,
+                false,
+                multipartWriterProvider,
+                convertorExecutor);
+
+        // Description writes the node with no tables, table features must not be requested before it is written
+        verify(requestContext, times(4)).getFuture();
+        descFuture.set(RpcResultBuilder.success(replies).build());
+        initialize.get();
+        verify(requestContext, times(5)).getFuture();
+    }
+
+    @Test
+    public void initializeWithCachedTableFeatures() throws Exception {
+        final TableFeatures tableFeatures = new MultipartReplyTableFeaturesBuilder()
+                .setTableFeatures(Collections.emptyList())
+                .build();
+        when(tableFeaturesCache.get(any())).thenReturn(Futures.immediateFuture(Optional.of(tableFeatures)));
+        when(deviceContext.canUseSingleLayerSerialization()).thenReturn(true);
+        when(requestContext.getFuture()).thenReturn(RpcResultBuilder
+                .success(Collections.singletonList(new MultipartReplyBuilder()
+                        .setMultipartReplyBody(new MultipartReplyDescBuilder().build())
+                        .build()))
+                .buildFuture());
+
+        deviceInitializer = new OF13DeviceInitializer(tableFeaturesCache);
+        final Future<Void> initialize = deviceInitializer.initialize(deviceContext,
+                true,
+                false,
+                multipartWriterProvider,
+                convertorExecutor);
+
+        initialize.get();
+        verify(messageSpy, times(4)).spyMessage(eq(MultipartType.class), any());
+        verify(requestContext, times(4)).getFuture();
+        verify(abstractMultipartWriter).write(tableFeatures, false);
+    }
 }
\ No newline at end of file
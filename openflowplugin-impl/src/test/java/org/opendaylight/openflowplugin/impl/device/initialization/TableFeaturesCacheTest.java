@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.device.initialization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.Desc;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.multipart.reply.multipart.reply.body.MultipartReplyDescBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.TableConfig;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.TableFeatures;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.multipart.reply.multipart.reply.body.MultipartReplyTableFeaturesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.table.feature.prop.type.table.feature.prop.type.NextTableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.table.feature.prop.type.table.feature.prop.type.next.table.TablesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.table.features.TableFeaturesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.table.features.table.features.TablePropertiesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.table.features.table.features.table.properties.TableFeaturePropertiesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.table.features.table.features.table.properties.TableFeaturePropertiesKey;
+
+public class TableFeaturesCacheTest {
+    private static final short VERSION = 4;
+    private static final short TABLES = 254;
+    private static final Desc DESC = new MultipartReplyDescBuilder()
+            .setManufacturer("manufacturer")
+            .setHardware("hardware")
+            .setSoftware("software")
+            .setSerialNumber("serial")
+            .build();
+    private static final TableFeatures TABLE_FEATURES = new MultipartReplyTableFeaturesBuilder()
+            .setTableFeatures(Collections.singletonList(new TableFeaturesBuilder()
+                    .setTableId((short) 42)
+                    .setName("table")
+                    .setMetadataMatch(BigInteger.ONE)
+                    .setMetadataWrite(BigInteger.TEN)
+                    .setConfig(new TableConfig(false))
+                    .setMaxEntries(12L)
+                    .setTableProperties(new TablePropertiesBuilder()
+                            .setTableFeatureProperties(Collections.singletonList(new TableFeaturePropertiesBuilder()
+                                    .setOrder(0)
+                                    .withKey(new TableFeaturePropertiesKey(0))
+                                    .setTableFeaturePropType(new NextTableBuilder()
+                                            .setTables(new TablesBuilder()
+                                                    .setTableIds(Collections.singletonList((short) 43))
+                                                    .build())
+                                            .build())
+                                    .build()))
+                            .build())
+                    .build()))
+            .build();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ListeningExecutorService executor = MoreExecutors.newDirectExecutorService();
+    private Path directory;
+    private String key;
+
+    @Before
+    public void setUp() {
+        directory = folder.getRoot().toPath().resolve("table-features");
+        key = TableFeaturesCache.createKey(VERSION, TABLES, DESC);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testCreateKey() {
+        assertEquals(key, TableFeaturesCache.createKey(VERSION, TABLES, new MultipartReplyDescBuilder(DESC)
+                .setSerialNumber("other serial")
+                .setDescription("other datapath")
+                .build()));
+        assertNotEquals(key, TableFeaturesCache.createKey(VERSION, TABLES, new MultipartReplyDescBuilder(DESC)
+                .setSoftware("other software")
+                .build()));
+        assertNotEquals(key, TableFeaturesCache.createKey(VERSION, (short) 1, DESC));
+    }
+
+    @Test
+    public void testGetInMemory() throws InterruptedException, ExecutionException {
+        final TableFeaturesCache cache = new TableFeaturesCache(directory, executor);
+        assertFalse(cache.get(key).get().isPresent());
+
+        cache.put(key, TABLE_FEATURES);
+        assertSame(TABLE_FEATURES, cache.get(key).get().get());
+    }
+
+    @Test
+    public void testGetPersisted() throws InterruptedException, ExecutionException {
+        new TableFeaturesCache(directory, executor).put(key, TABLE_FEATURES);
+
+        final Optional<TableFeatures> loaded = new TableFeaturesCache(directory, executor).get(key).get();
+        assertEquals(TABLE_FEATURES.getTableFeatures(), loaded.get().getTableFeatures());
+    }
+
+    @Test
+    public void testGetCorrupted() throws IOException, InterruptedException, ExecutionException {
+        Files.createDirectories(directory);
+        final Path file = directory.resolve(key + ".tf");
+        Files.write(file, new byte[] {0, 42});
+
+        assertFalse(new TableFeaturesCache(directory, executor).get(key).get().isPresent());
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void testExecutorNotAvailable() throws InterruptedException, ExecutionException {
+        executor.shutdown();
+        final TableFeaturesCache cache = new TableFeaturesCache(directory, executor);
+        assertFalse(cache.get(key).get().isPresent());
+
+        cache.put(key, TABLE_FEATURES);
+        assertSame(TABLE_FEATURES, cache.get(key).get().get());
+        assertFalse(Files.exists(directory));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
+import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DeviceOnboardingTest {
+    @Mock
+    private ConnectionContext connectionContext1;
+    @Mock
+    private ConnectionContext connectionContext2;
+    @Mock
+    private ConnectionContext connectionContext3;
+    @Mock
+    private DeviceInfo deviceInfo1;
+    @Mock
+    private DeviceInfo deviceInfo2;
+    @Mock
+    private DeviceInfo deviceInfo3;
+
+    private final List<ConnectionContext> started = new ArrayList<>();
+    private DeviceOnboarding deviceOnboarding;
+
+    @Before
+    public void setUp() {
+        when(connectionContext1.getDeviceInfo()).thenReturn(deviceInfo1);
+        deviceOnboarding = new DeviceOnboarding(1);
+    }
+
+    @Test
+    public void testBudget() {
+        when(connectionContext2.getDeviceInfo()).thenReturn(deviceInfo2);
+        when(connectionContext3.getDeviceInfo()).thenReturn(deviceInfo3);
+        deviceOnboarding.submit(connectionContext1, started::add);
+        deviceOnboarding.submit(connectionContext2, started::add);
+        deviceOnboarding.submit(connectionContext3, started::add);
+        assertEquals(Collections.singletonList(connectionContext1), started);
+        assertEquals(1, deviceOnboarding.getOnboardingCount());
+
+        deviceOnboarding.onboarded(deviceInfo1);
+        assertEquals(Arrays.asList(connectionContext1, connectionContext2), started);
+
+        deviceOnboarding.onboarded(deviceInfo2);
+        assertEquals(Arrays.asList(connectionContext1, connectionContext2, connectionContext3), started);
+
+        deviceOnboarding.onboarded(deviceInfo3);
+        assertEquals(0, deviceOnboarding.getOnboardingCount());
+    }
+
+    @Test
+    public void testNoBudget() {
+        when(connectionContext2.getDeviceInfo()).thenReturn(deviceInfo2);
+        deviceOnboarding = new DeviceOnboarding(0);
+        deviceOnboarding.submit(connectionContext1, started::add);
+        deviceOnboarding.submit(connectionContext2, started::add);
+        assertEquals(Arrays.asList(connectionContext1, connectionContext2), started);
+        assertEquals(2, deviceOnboarding.getOnboardingCount());
+    }
+
+    @Test
+    public void testCancelWaiting() {
+        when(connectionContext2.getDeviceInfo()).thenReturn(deviceInfo2);
+        deviceOnboarding.submit(connectionContext1, started::add);
+        deviceOnboarding.submit(connectionContext2, started::add);
+
+        // Other connection of the device does not cancel its onboarding
+        deviceOnboarding.cancel(deviceInfo2, connectionContext3);
+        deviceOnboarding.cancel(deviceInfo2, connectionContext2);
+        deviceOnboarding.onboarded(deviceInfo1);
+        assertEquals(Collections.singletonList(connectionContext1), started);
+        assertEquals(0, deviceOnboarding.getOnboardingCount());
+    }
+
+    @Test
+    public void testCancelOnboarding() {
+        when(connectionContext2.getDeviceInfo()).thenReturn(deviceInfo2);
+        deviceOnboarding.submit(connectionContext1, started::add);
+        deviceOnboarding.submit(connectionContext2, started::add);
+
+        deviceOnboarding.cancel(deviceInfo1, null);
+        assertEquals(Arrays.asList(connectionContext1, connectionContext2), started);
+        assertEquals(1, deviceOnboarding.getOnboardingCount());
+    }
+
+    @Test
+    public void testStartFailure() {
+        when(connectionContext2.getDeviceInfo()).thenReturn(deviceInfo2);
+        deviceOnboarding.submit(connectionContext1, connectionContext -> {
+            throw new IllegalStateException("test");
+        });
+        verify(connectionContext1).closeConnection(true);
+        assertEquals(0, deviceOnboarding.getOnboardingCount());
+
+        deviceOnboarding.submit(connectionContext2, started::add);
+        assertEquals(Collections.singletonList(connectionContext2), started);
+    }
+
+    @Test
+    public void testClose() {
+        when(connectionContext2.getDeviceInfo()).thenReturn(deviceInfo2);
+        deviceOnboarding.submit(connectionContext1, started::add);
+        deviceOnboarding.submit(connectionContext2, started::add);
+
+        deviceOnboarding.close();
+        deviceOnboarding.cancel(deviceInfo1, null);
+        assertEquals(Collections.singletonList(connectionContext1), started);
+        assertEquals(0, deviceOnboarding.getOnboardingCount());
+    }
+}
@@ -429,4 +429,57 @@ public class FlowMessageSerializerTest extends AbstractSerializerTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testSerializeCached() {
+        final Instructions instructions = new InstructionsBuilder()
+                .setInstruction(Collections.singletonList(new InstructionBuilder()
+                        .setOrder(0)
+                        .withKey(new InstructionKey(0))
+                        .setInstruction(new ApplyActionsCaseBuilder()
+                                .setApplyActions(new ApplyActionsBuilder()
+                                        .setAction(Collections.singletonList(new ActionBuilder()
+                                                .setOrder(0)
+                                                .withKey(new ActionKey(0))
+                                                .setAction(new SetTpDstActionCaseBuilder()
+                                                        .setSetTpDstAction(new SetTpDstActionBuilder()
+                                                                .setPort(new PortNumber(TP_DST_PORT))
+                                                                .build())
+                                                        .build())
+                                                .build()))
+                                        .build())
+                                .build())
+                        .build()))
+                .build();
+        final FlowMessage udpMessage = new FlowMessageBuilder(MESSAGE).setInstructions(instructions).build();
+        final FlowMessage tcpMessage = new FlowMessageBuilder(udpMessage)
+                .setMatch(new MatchBuilder()
+                        .setIpMatch(new IpMatchBuilder()
+                                .setIpProtocol(IP_PROTOCOL)
+                                .build())
+                        .build())
+                .build();
+
+        final byte[] udpExpected = serializeFresh(udpMessage);
+        final byte[] tcpExpected = serializeFresh(tcpMessage);
+
+        // Encodings are cached once match and instructions are seen the second time
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(udpExpected, serialize(serializer, udpMessage));
+            assertArrayEquals(tcpExpected, serialize(serializer, tcpMessage));
+        }
+    }
+
+    private byte[] serializeFresh(final FlowMessage message) {
+        final FlowMessageSerializer freshSerializer = new FlowMessageSerializer();
+        freshSerializer.injectSerializerRegistry(getRegistry());
+        return serialize(freshSerializer, message);
+    }
+
+    private static byte[] serialize(final FlowMessageSerializer flowSerializer, final FlowMessage message) {
+        final ByteBuf out = UnpooledByteBufAllocator.DEFAULT.buffer();
+        flowSerializer.serialize(message, out);
+        final byte[] bytes = new byte[out.readableBytes()];
+        out.readBytes(bytes);
+        return bytes;
+    }
+}
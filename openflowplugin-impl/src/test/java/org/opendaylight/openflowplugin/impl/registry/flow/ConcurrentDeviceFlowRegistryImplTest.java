@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.ReadTransaction;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Test for {@link ConcurrentDeviceFlowRegistryImpl}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ConcurrentDeviceFlowRegistryImplTest {
+    private static final int THREADS = 4;
+
+    private ConcurrentDeviceFlowRegistryImpl deviceFlowRegistry;
+    private FlowRegistryKey key;
+    private FlowDescriptor descriptor;
+    @Mock
+    private DataBroker dataBroker;
+    @Mock
+    private ReadTransaction readOnlyTransaction;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    @Before
+    public void setUp() {
+        deviceFlowRegistry = new ConcurrentDeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, dataBroker,
+                InstanceIdentifier.create(Nodes.class).child(Node.class, new NodeKey(new NodeId("openflow:1"))));
+        key = createKey(1);
+        descriptor = FlowDescriptorFactory.create(key.getTableId(), new FlowId("ut:1"));
+        deviceFlowRegistry.storeDescriptor(key, descriptor);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testFill() throws Exception {
+        when(dataBroker.newReadOnlyTransaction()).thenReturn(readOnlyTransaction);
+        final Flow flow = new FlowBuilder()
+                .setTableId((short) 1)
+                .setPriority(10)
+                .setCookie(new FlowCookie(BigInteger.TEN))
+                .setId(new FlowId("HELLO"))
+                .build();
+        doReturn(FluentFutures.immediateFluentFuture(Optional.of(new FlowCapableNodeBuilder()
+                .setTable(Collections.singletonList(new TableBuilder()
+                        .setFlow(Collections.singletonList(flow))
+                        .build()))
+                .build()))).when(readOnlyTransaction).read(any(), any());
+
+        deviceFlowRegistry.fill().get();
+        Assert.assertEquals("Wrong flow ID", "HELLO", deviceFlowRegistry
+                .retrieveDescriptor(FlowRegistryKeyFactory.create(OFConstants.OFP_VERSION_1_3, flow))
+                .getFlowId().getValue());
+        Assert.assertEquals("Wrong registry size", 2, deviceFlowRegistry.size());
+    }
+
+    @Test
+    public void testStoreDescriptor() {
+        Assert.assertEquals("Wrong descriptor", descriptor, deviceFlowRegistry.retrieveDescriptor(createKey(1)));
+
+        // Flow ID of another flow is replaced by an alien flow ID
+        final FlowRegistryKey key2 = createKey(2);
+        deviceFlowRegistry.storeDescriptor(key2, descriptor);
+        Assert.assertEquals("Wrong registry size", 2, deviceFlowRegistry.size());
+        Assert.assertTrue("Wrong - flow ID not replaced", deviceFlowRegistry.retrieveDescriptor(key2).getFlowId()
+                .getValue().startsWith("#UF$TABLE*1-"));
+
+        // Flow ID released by its flow can be reused
+        final FlowDescriptor descriptor2 = FlowDescriptorFactory.create(key.getTableId(), new FlowId("ut:2"));
+        deviceFlowRegistry.storeDescriptor(key, descriptor2);
+        deviceFlowRegistry.storeDescriptor(key2, descriptor);
+        Assert.assertEquals("Wrong descriptor", descriptor2, deviceFlowRegistry.retrieveDescriptor(key));
+        Assert.assertEquals("Wrong descriptor", descriptor, deviceFlowRegistry.retrieveDescriptor(key2));
+    }
+
+    @Test
+    public void testCompactKeys() {
+        final List<FlowRegistryKey> keys = new ArrayList<>();
+        deviceFlowRegistry.forEach(keys::add);
+        Assert.assertEquals("Wrong keys", Collections.singletonList(key), keys);
+        Assert.assertNull("Wrong - binding match retained", keys.get(0).getMatch());
+        Assert.assertEquals("Wrong hash code", key.hashCode(), keys.get(0).hashCode());
+        Assert.assertEquals("Wrong - keys not equal", keys.get(0), key);
+    }
+
+    @Test
+    public void testMemoryFootprint() {
+        final long footprint = deviceFlowRegistry.getMemoryFootprint();
+        Assert.assertTrue("Wrong footprint", footprint > 0);
+
+        deviceFlowRegistry.store(key);
+        deviceFlowRegistry.storeDescriptor(key, FlowDescriptorFactory.create(key.getTableId(), new FlowId("ut:2")));
+        Assert.assertEquals("Wrong footprint", footprint, deviceFlowRegistry.getMemoryFootprint());
+
+        deviceFlowRegistry.store(createKey(2));
+        Assert.assertEquals("Wrong footprint", 2 * footprint, deviceFlowRegistry.getMemoryFootprint());
+
+        deviceFlowRegistry.addMark(key);
+        deviceFlowRegistry.addMark(key);
+        Assert.assertEquals("Wrong footprint", footprint, deviceFlowRegistry.getMemoryFootprint());
+
+        deviceFlowRegistry.close();
+        Assert.assertEquals("Wrong registry size", 0, deviceFlowRegistry.size());
+        Assert.assertEquals("Wrong footprint", 0, deviceFlowRegistry.getMemoryFootprint());
+    }
+
+    @Test
+    public void testConcurrentStore() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<FlowId>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; ++i) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                final FlowRegistryKey flowRegistryKey = createKey(2);
+                deviceFlowRegistry.store(flowRegistryKey);
+                return deviceFlowRegistry.retrieveDescriptor(flowRegistryKey).getFlowId();
+            }));
+        }
+        start.countDown();
+
+        final Set<FlowId> flowIds = new HashSet<>();
+        for (final Future<FlowId> future : futures) {
+            flowIds.add(future.get());
+        }
+        Assert.assertEquals("Wrong - more alien flow IDs generated", 1, flowIds.size());
+        Assert.assertEquals("Wrong registry size", 2, deviceFlowRegistry.size());
+    }
+
+    private static FlowRegistryKey createKey(final int index) {
+        return FlowRegistryKeyFactory.create(OFConstants.OFP_VERSION_1_3,
+                TestFlowHelper.createFlowAndStatisticsMapListBuilder(index).build());
+    }
+}
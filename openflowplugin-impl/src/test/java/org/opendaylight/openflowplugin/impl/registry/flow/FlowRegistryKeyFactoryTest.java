@@ -13,6 +13,7 @@ import static org.junit.Assert.assertNotEquals;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import org.junit.Assert;
@@ -36,6 +37,11 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.f
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.MatchBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.layer._3.match.Ipv4MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.ExtensionKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.general.extension.list.grouping.ExtensionList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.general.extension.list.grouping.ExtensionListBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -110,6 +116,58 @@ public class FlowRegistryKeyFactoryTest {
         Assert.assertFalse(key1.equals(null));
     }
 
+    @Test
+    public void testEqualsExtensionOrder() {
+        final ExtensionList first = new ExtensionListBuilder().setExtensionKey(FirstExtensionKey.class).build();
+        final ExtensionList second = new ExtensionListBuilder().setExtensionKey(SecondExtensionKey.class).build();
+
+        final FlowRegistryKey key1 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(),
+                createFlowWithExtensions(first, second));
+        final FlowRegistryKey key2 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(),
+                createFlowWithExtensions(second, first));
+        assertEquals(key1, key2);
+        assertEquals(key1.hashCode(), key2.hashCode());
+
+        final FlowRegistryKey key3 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(),
+                createFlowWithExtensions(first));
+        Assert.assertFalse(key1.equals(key3));
+    }
+
+    @Test
+    public void testEqualsPrefix() {
+        final FlowRegistryKey key1 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(), new FlowBuilder()
+                .setMatch(new MatchBuilder().setLayer3Match(new Ipv4MatchBuilder()
+                        .setIpv4Destination(new Ipv4Prefix("10.0.1.0/24")).build()).build())
+                .setTableId((short) 0)
+                .build());
+        final FlowRegistryKey key2 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(), new FlowBuilder()
+                .setMatch(new MatchBuilder().setLayer3Match(new Ipv4MatchBuilder()
+                        .setIpv4Destination(new Ipv4Prefix("10.0.1.0/25")).build()).build())
+                .setTableId((short) 0)
+                .build());
+        Assert.assertFalse(key1.equals(key2));
+    }
+
+    private static org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow
+            createFlowWithExtensions(final ExtensionList... extensions) {
+        return new FlowBuilder()
+                .setMatch(new MatchBuilder()
+                        .addAugmentation(GeneralAugMatchNodesNodeTableFlow.class,
+                                new GeneralAugMatchNodesNodeTableFlowBuilder()
+                                        .setExtensionList(Arrays.asList(extensions))
+                                        .build())
+                        .build())
+                .setPriority(2)
+                .setTableId((short) 0)
+                .build();
+    }
+
+    private interface FirstExtensionKey extends ExtensionKey {
+    }
+
+    private interface SecondExtensionKey extends ExtensionKey {
+    }
+
     @Test
     public void testGetHash2() {
         MatchBuilder match1Builder = new MatchBuilder().setLayer3Match(new Ipv4MatchBuilder()
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.rpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RequestAdmissionTest {
+    private static final long QUEUE_TIMEOUT = 100;
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Mock
+    private Timer timer;
+    @Mock
+    private Timeout timeout;
+
+    @Test
+    public void testQueuesServedInTurn() {
+        when(timer.newTimeout(any(), anyLong(), any())).thenReturn(timeout);
+        final RequestAdmission admission = new RequestAdmission(2, QUEUE_TIMEOUT, TimeUnit.MILLISECONDS, timer);
+
+        assertTrue(Futures.getUnchecked(admission.acquire(RequestClass.FLOW)));
+        assertTrue(admission.tryAcquire());
+        assertFalse(admission.tryAcquire());
+
+        final ListenableFuture<Boolean> flow1 = admission.acquire(RequestClass.FLOW);
+        final ListenableFuture<Boolean> flow2 = admission.acquire(RequestClass.FLOW);
+        final ListenableFuture<Boolean> group = admission.acquire(RequestClass.GROUP);
+        assertFalse(flow1.isDone());
+        assertFalse(flow2.isDone());
+        assertFalse(group.isDone());
+
+        admission.release(RTT, true);
+        assertTrue(Futures.getUnchecked(flow1));
+        assertFalse(flow2.isDone());
+        assertFalse(group.isDone());
+
+        admission.release(RTT, true);
+        assertTrue(Futures.getUnchecked(group));
+        assertFalse(flow2.isDone());
+
+        admission.release(RTT, true);
+        assertTrue(Futures.getUnchecked(flow2));
+    }
+
+    @Test
+    public void testQueueTimeout() throws Exception {
+        when(timer.newTimeout(any(), anyLong(), any())).thenReturn(timeout);
+        final RequestAdmission admission = new RequestAdmission(1, QUEUE_TIMEOUT, TimeUnit.MILLISECONDS, timer);
+        assertTrue(admission.tryAcquire());
+
+        final ListenableFuture<Boolean> queued = admission.acquire(RequestClass.PACKET_OUT);
+        final ArgumentCaptor<TimerTask> task = ArgumentCaptor.forClass(TimerTask.class);
+        verify(timer).newTimeout(task.capture(), eq(TimeUnit.MILLISECONDS.toNanos(QUEUE_TIMEOUT)),
+                eq(TimeUnit.NANOSECONDS));
+
+        task.getValue().run(timeout);
+        assertFalse(Futures.getUnchecked(queued));
+
+        admission.release(RTT, true);
+        assertTrue(admission.tryAcquire());
+    }
+
+    @Test
+    public void testClose() {
+        when(timer.newTimeout(any(), anyLong(), any())).thenReturn(timeout);
+        final RequestAdmission admission = new RequestAdmission(1, QUEUE_TIMEOUT, TimeUnit.MILLISECONDS, timer);
+        assertTrue(admission.tryAcquire());
+
+        final ListenableFuture<Boolean> queued = admission.acquire(RequestClass.METER);
+        admission.close();
+        assertFalse(Futures.getUnchecked(queued));
+        verify(timeout).cancel();
+
+        admission.release(RTT, true);
+        assertFalse(admission.tryAcquire());
+    }
+
+    @Test
+    public void testLimitFollowsRtt() {
+        final RequestAdmission admission = new RequestAdmission(100, QUEUE_TIMEOUT, TimeUnit.MILLISECONDS, timer);
+        completeRequests(admission, 100, RTT);
+        assertEquals(100, admission.getLimit());
+
+        completeRequests(admission, 100, RTT * 4);
+        final int limit = admission.getLimit();
+        assertTrue("Limit did not shrink: " + limit, limit < 100);
+
+        completeRequests(admission, 1000, RTT);
+        assertEquals(100, admission.getLimit());
+    }
+
+    @Test
+    public void testLimitCutOnFailures() {
+        final RequestAdmission admission = new RequestAdmission(100, QUEUE_TIMEOUT, TimeUnit.MILLISECONDS, timer);
+        assertTrue(admission.tryAcquire());
+        admission.release(RTT, false);
+        assertEquals(90, admission.getLimit());
+
+        for (int i = 0; i < 100; ++i) {
+            assertTrue(admission.tryAcquire());
+            admission.release(RTT, false);
+        }
+        assertEquals(10, admission.getLimit());
+    }
+
+    private static void completeRequests(final RequestAdmission admission, final int count, final long rtt) {
+        for (int i = 0; i < count; ++i) {
+            assertTrue(admission.tryAcquire());
+            admission.release(rtt, true);
+        }
+    }
+}
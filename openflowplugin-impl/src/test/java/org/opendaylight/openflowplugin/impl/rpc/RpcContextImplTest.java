@@ -8,14 +8,22 @@
 package org.opendaylight.openflowplugin.impl.rpc;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -69,6 +77,10 @@ public class RpcContextImplTest {
     private ExtensionConverterProvider extensionConverterProvider;
     @Mock
     private ConvertorExecutor convertorExecutor;
+    @Mock
+    private Timer timer;
+    @Mock
+    private Timeout timeout;
 
     private KeyedInstanceIdentifier<Node, NodeKey> nodeInstanceIdentifier;
 
@@ -138,6 +150,71 @@ public class RpcContextImplTest {
         }
     }
 
+    @Test
+    public void testEnqueueRequestContext() {
+        when(timer.newTimeout(any(), anyLong(), any())).thenReturn(timeout);
+
+        try (RpcContextImpl rpcContext = new RpcContextImpl(
+                rpcProviderRegistry,
+                1,
+                100,
+                timer,
+                deviceContext,
+                extensionConverterProvider,
+                convertorExecutor,
+                notificationPublishService, true)) {
+            final RequestContext<?> requestContext = rpcContext.createRequestContext();
+            assertNotNull(requestContext);
+            assertNull(rpcContext.createRequestContext());
+
+            final ListenableFuture<RequestContext<Object>> queued = ((QueuedRequestContextStack) rpcContext
+                    .forRequestClass(RequestClass.FLOW)).enqueueRequestContext();
+            assertFalse(queued.isDone());
+
+            requestContext.close();
+            assertTrue(queued.isDone());
+            assertNotNull(Futures.getUnchecked(queued));
+            verify(timeout).cancel();
+        }
+    }
+
+    @Test
+    public void testCloseCancelledRequestContext() {
+        when(timer.newTimeout(any(), anyLong(), any())).thenReturn(timeout);
+
+        try (RpcContextImpl rpcContext = new RpcContextImpl(
+                rpcProviderRegistry,
+                1,
+                100,
+                timer,
+                deviceContext,
+                extensionConverterProvider,
+                convertorExecutor,
+                notificationPublishService, true)) {
+            final RequestContext<?> requestContext = rpcContext.createRequestContext();
+            assertNotNull(requestContext);
+            requestContext.getFuture().cancel(false);
+            requestContext.close();
+
+            final RequestContext<?> nextRequestContext = rpcContext.createRequestContext();
+            assertNotNull(nextRequestContext);
+            nextRequestContext.close();
+        }
+    }
+
+    @Test
+    public void testEnqueueRequestContextWithoutQueue() {
+        try (RpcContextImpl rpcContext = new RpcContextImpl(
+                rpcProviderRegistry,
+                0,
+                deviceContext,
+                extensionConverterProvider,
+                convertorExecutor,
+                notificationPublishService, true)) {
+            assertNull(Futures.getUnchecked(rpcContext.enqueueRequestContext()));
+        }
+    }
+
     public void testRegisterRpcServiceImplementation() {
         rpcContext.registerRpcServiceImplementation(TestRpcService.class, serviceInstance);
         verify(rpcProviderRegistry, Mockito.times(1)).registerRpcImplementation(TestRpcService.class, serviceInstance,
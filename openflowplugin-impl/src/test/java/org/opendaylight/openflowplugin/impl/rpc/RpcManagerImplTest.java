@@ -11,6 +11,7 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 
+import io.netty.util.HashedWheelTimer;
 import java.util.concurrent.ConcurrentMap;
 import org.junit.Before;
 import org.junit.Test;
@@ -72,6 +73,8 @@ public class RpcManagerImplTest {
     private NotificationPublishService notificationPublishService;
     @Mock
     private KeyedInstanceIdentifier<Node, NodeKey> nodePath;
+    @Mock
+    private HashedWheelTimer hashedWheelTimer;
 
     private final NodeId nodeId = new NodeId("openflow-junit:1");
 
@@ -82,7 +85,8 @@ public class RpcManagerImplTest {
                 .setRpcRequestsQuota(new NonZeroUint16Type(QUOTA_VALUE))
                 .setIsStatisticsRpcEnabled(false)
                 .build(),
-                rpcProviderRegistry, extensionConverterProvider, convertorExecutor, notificationPublishService);
+                rpcProviderRegistry, extensionConverterProvider, convertorExecutor, notificationPublishService,
+                hashedWheelTimer);
 
         FeaturesReply features = new GetFeaturesOutputBuilder()
                 .setVersion(OFConstants.OFP_VERSION_1_3)
@@ -10,6 +10,7 @@ package org.opendaylight.openflowplugin.impl.services;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -41,7 +42,7 @@ import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKe
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.EventIdentifier;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProviderFactory;
 import org.opendaylight.openflowplugin.impl.rpc.AbstractRequestContext;
-import org.opendaylight.openflowplugin.impl.services.multilayer.MultiLayerFlowMultipartRequestOnTheFlyCallback;
+import org.opendaylight.openflowplugin.impl.services.multilayer.MultiLayerMultipartRequestOnTheFlyCallback;
 import org.opendaylight.openflowplugin.impl.statistics.ofpspecific.MessageIntelligenceAgencyImpl;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorManager;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorManagerFactory;
@@ -62,7 +63,9 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReply;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReplyMessageBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.MultipartReplyFlowCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.MultipartReplyGroupCaseBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.multipart.reply.flow._case.MultipartReplyFlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.multipart.reply.group._case.MultipartReplyGroupBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.multipart.reply.flow._case.multipart.reply.flow.FlowStatsBuilder;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
@@ -138,7 +141,7 @@ public class MultipartRequestOnTheFlyCallbackTest {
         };
 
         final ConvertorManager convertorManager = ConvertorManagerFactory.createDefaultManager();
-        multipartRequestOnTheFlyCallback = new MultiLayerFlowMultipartRequestOnTheFlyCallback<>(
+        multipartRequestOnTheFlyCallback = new MultiLayerMultipartRequestOnTheFlyCallback<>(
             dummyRequestContext,
             String.class,
             mockedDeviceContext,
@@ -249,4 +252,36 @@ public class MultipartRequestOnTheFlyCallbackTest {
                 .writeToTransaction(eq(LogicalDatastoreType.OPERATIONAL),
                         ArgumentMatchers.<InstanceIdentifier>any(), ArgumentMatchers.any());
     }
+
+    /**
+     * The last reply of other than flow statistics.
+     */
+    @Test
+    public void testOnSuccessWithOtherMultipartType() throws Exception {
+        final AbstractMultipartRequestOnTheFlyCallback<MultipartReply> groupCallback =
+                new MultiLayerMultipartRequestOnTheFlyCallback<>(
+                    dummyRequestContext,
+                    String.class,
+                    mockedDeviceContext,
+                    dummyEventIdentifier,
+                    MultipartWriterProviderFactory.createDefaultProvider(mockedDeviceContext),
+                    ConvertorManagerFactory.createDefaultManager(),
+                    MultipartType.OFPMPGROUP);
+        final MultipartReplyMessageBuilder mpReplyMessage = new MultipartReplyMessageBuilder()
+                .setType(MultipartType.OFPMPGROUP)
+                .setFlags(new MultipartRequestFlags(false))
+                .setMultipartReplyBody(new MultipartReplyGroupCaseBuilder()
+                        .setMultipartReplyGroup(new MultipartReplyGroupBuilder()
+                                .setGroupStats(Collections.emptyList())
+                                .build())
+                        .build())
+                .setXid(21L);
+
+        groupCallback.onSuccess(mpReplyMessage.build());
+
+        final RpcResult<List<MultipartReply>> actualResult = dummyRequestContext.getFuture().get();
+        assertTrue(actualResult.isSuccessful());
+        Mockito.verify(mockedFlowRegistry, Mockito.never()).processMarks();
+        Mockito.verify(mockedDeviceContext).submitTransaction();
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.statistics;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link SequentialExecutorService}.
+ */
+public class SequentialExecutorServiceTest {
+    private static final int TASKS = 100;
+
+    private ExecutorService pool;
+    private SequentialExecutorService executor;
+
+    @Before
+    public void setUp() {
+        pool = Executors.newFixedThreadPool(4);
+        executor = new SequentialExecutorService(pool);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testSubmittedInOrder() throws Exception {
+        final List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        final List<ListenableFuture<Boolean>> futures = IntStream.range(0, TASKS)
+                .mapToObj(i -> executor.submit(() -> executed.add(i)))
+                .collect(Collectors.toList());
+        for (ListenableFuture<Boolean> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        Assert.assertEquals(IntStream.range(0, TASKS).boxed().collect(Collectors.toList()), executed);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testShutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testLifecycleOfSharedPool() {
+        Assert.assertFalse(executor.isShutdown());
+        pool.shutdown();
+        Assert.assertTrue(executor.isShutdown());
+    }
+}
@@ -97,7 +97,8 @@ public class StatisticsContextImplParamTest extends StatisticsContextImpMockInit
                 MoreExecutors.newDirectExecutorService(),
                 config,
                 true,
-                false);
+                false,
+                null);
 
         final ListenableFuture<RpcResult<List<MultipartReply>>> rpcResult = immediateFuture(RpcResultBuilder
                 .success(Collections.<MultipartReply>emptyList()).build());
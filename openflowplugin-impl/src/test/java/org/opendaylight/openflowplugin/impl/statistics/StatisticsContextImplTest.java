@@ -74,7 +74,8 @@ public class StatisticsContextImplTest extends StatisticsContextImpMockInitiatio
                 MoreExecutors.newDirectExecutorService(),
                 config,
                 true,
-                false);
+                false,
+                null);
 
         statisticsContext.setStatisticsGatheringService(mockedStatisticsGatheringService);
         statisticsContext.setStatisticsGatheringOnTheFlyService(mockedStatisticsOnFlyGatheringService);
@@ -102,7 +103,8 @@ public class StatisticsContextImplTest extends StatisticsContextImpMockInitiatio
                         MoreExecutors.newDirectExecutorService(),
                         config,
                         true,
-                        false);
+                        false,
+                        null);
 
         final RequestContext<Object> requestContext = statisticsContext.createRequestContext();
         statisticsContext.close();
@@ -155,4 +157,30 @@ public class StatisticsContextImplTest extends StatisticsContextImpMockInitiatio
                 .getStatisticsOfType(any(EventIdentifier.class), any(MultipartType.class));
         Mockito.verifyNoMoreInteractions(mockedStatisticsGatheringService, mockedStatisticsOnFlyGatheringService);
     }
+
+    @Test
+    public void testGatherDynamicData_streaming() {
+        Mockito.reset(mockedDeviceState);
+        when(mockedDeviceState.isTableStatisticsAvailable()).thenReturn(Boolean.TRUE);
+        when(mockedDeviceState.isFlowStatisticsAvailable()).thenReturn(Boolean.TRUE);
+        when(mockedDeviceState.isGroupAvailable()).thenReturn(Boolean.TRUE);
+        when(mockedDeviceState.isMetersAvailable()).thenReturn(Boolean.TRUE);
+        when(mockedDeviceState.isPortStatisticsAvailable()).thenReturn(Boolean.TRUE);
+        when(mockedDeviceState.isQueueStatisticsAvailable()).thenReturn(Boolean.TRUE);
+        when(mockedDeviceInfo.getNodeInstanceIdentifier()).thenReturn(DUMMY_NODE_ID);
+        when(config.isEnableStatisticsStreaming()).thenReturn(true);
+        initStatisticsContext();
+
+        when(mockedStatisticsOnFlyGatheringService
+                     .getStatisticsOfType(any(EventIdentifier.class), any(MultipartType.class)))
+                .thenReturn(Futures.immediateFuture(
+                        RpcResultBuilder.success(Collections.<MultipartReply>emptyList()).build()));
+
+        statisticsContext.registerMastershipWatcher(mockedMastershipWatcher);
+        statisticsContext.instantiateServiceInstance();
+
+        verify(mockedStatisticsOnFlyGatheringService, times(8))
+                .getStatisticsOfType(any(EventIdentifier.class), any(MultipartType.class));
+        Mockito.verifyNoMoreInteractions(mockedStatisticsGatheringService, mockedStatisticsOnFlyGatheringService);
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.statistics;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import io.netty.util.HashedWheelTimer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+
+/**
+ * Test for {@link StatisticsScheduler}.
+ */
+public class StatisticsSchedulerTest {
+    private static final long BASIC_INTERVAL = 20;
+    private static final long MAXIMUM_INTERVAL = 1000;
+
+    private HashedWheelTimer timer;
+    private StatisticsScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        timer = new HashedWheelTimer(5, TimeUnit.MILLISECONDS);
+        scheduler = new StatisticsScheduler(timer, MoreExecutors.directExecutor(), 1, BASIC_INTERVAL,
+                MAXIMUM_INTERVAL);
+    }
+
+    @After
+    public void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    public void testConcurrencyLimit() throws Exception {
+        final SettableFuture<Boolean> firstGathering = SettableFuture.create();
+        final CountDownLatch firstStarted = new CountDownLatch(1);
+        final CountDownLatch secondStarted = new CountDownLatch(1);
+
+        final StatisticsPolling first = scheduler.register("first", Collections.singletonList(MultipartType.OFPMPFLOW),
+            types -> {
+                firstStarted.countDown();
+                return firstGathering;
+            }, type -> true);
+        Assert.assertTrue("Wrong - first device not polled", firstStarted.await(5, TimeUnit.SECONDS));
+
+        final StatisticsPolling second = scheduler.register("second",
+            Collections.singletonList(MultipartType.OFPMPFLOW), types -> {
+                secondStarted.countDown();
+                return Futures.immediateFuture(true);
+            }, type -> true);
+        Assert.assertFalse("Wrong - concurrency limit exceeded",
+                secondStarted.await(10 * BASIC_INTERVAL, TimeUnit.MILLISECONDS));
+        Assert.assertEquals("Wrong available permits", 0, scheduler.availablePermits());
+
+        firstGathering.set(true);
+        Assert.assertTrue("Wrong - second device not polled", secondStarted.await(5, TimeUnit.SECONDS));
+
+        second.stop().get(5, TimeUnit.SECONDS);
+        first.stop().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testUnchangedPolledLessOften() throws Exception {
+        final AtomicInteger changedPolls = new AtomicInteger();
+        final AtomicInteger unchangedPolls = new AtomicInteger();
+
+        final StatisticsPolling polling = scheduler.register("device",
+            Arrays.asList(MultipartType.OFPMPPORTSTATS, MultipartType.OFPMPFLOW), types -> {
+                if (types.contains(MultipartType.OFPMPPORTSTATS)) {
+                    changedPolls.incrementAndGet();
+                }
+                if (types.contains(MultipartType.OFPMPFLOW)) {
+                    unchangedPolls.incrementAndGet();
+                }
+                return Futures.immediateFuture(true);
+            }, MultipartType.OFPMPPORTSTATS::equals);
+
+        Thread.sleep(30 * BASIC_INTERVAL);
+        polling.stop().get(5, TimeUnit.SECONDS);
+
+        Assert.assertTrue("Wrong - unchanged statistics not polled", unchangedPolls.get() > 0);
+        Assert.assertTrue("Wrong - unchanged statistics polled as often as changed ones",
+                changedPolls.get() > 2 * unchangedPolls.get());
+    }
+
+    @Test
+    public void testSlowGatheringAfterFastOne() throws Exception {
+        final SettableFuture<Boolean> slowGathering = SettableFuture.create();
+        final AtomicInteger polls = new AtomicInteger();
+        final CountDownLatch slowStarted = new CountDownLatch(1);
+        final CountDownLatch nextStarted = new CountDownLatch(1);
+
+        final StatisticsPolling polling = scheduler.register("device",
+            Collections.singletonList(MultipartType.OFPMPFLOW), types -> {
+                switch (polls.incrementAndGet()) {
+                    case 1:
+                        return Futures.immediateFuture(true);
+                    case 2:
+                        slowStarted.countDown();
+                        return slowGathering;
+                    default:
+                        nextStarted.countDown();
+                        return Futures.immediateFuture(true);
+                }
+            }, type -> true);
+        Assert.assertTrue("Wrong - slow gathering not started", slowStarted.await(5, TimeUnit.SECONDS));
+
+        // The fast gathering took next to nothing, the slow one must not be timed out after three times as long
+        Assert.assertFalse("Wrong - slow gathering timed out",
+                nextStarted.await(20 * BASIC_INTERVAL, TimeUnit.MILLISECONDS));
+        Assert.assertEquals("Wrong available permits", 0, scheduler.availablePermits());
+
+        slowGathering.set(true);
+        Assert.assertTrue("Wrong - device not polled after slow gathering", nextStarted.await(5, TimeUnit.SECONDS));
+        polling.stop().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testStop() throws Exception {
+        final AtomicInteger polls = new AtomicInteger();
+        final StatisticsPolling polling = scheduler.register("device",
+            Collections.singletonList(MultipartType.OFPMPFLOW), types -> {
+                polls.incrementAndGet();
+                return Futures.immediateFuture(true);
+            }, type -> true);
+
+        polling.stop().get(5, TimeUnit.SECONDS);
+        Thread.sleep(5 * BASIC_INTERVAL);
+        Assert.assertEquals("Wrong - stopped device polled", 0, polls.get());
+        Assert.assertEquals("Wrong available permits", 1, scheduler.availablePermits());
+    }
+}
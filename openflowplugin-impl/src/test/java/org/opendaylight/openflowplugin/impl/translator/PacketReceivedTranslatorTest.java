@@ -8,6 +8,7 @@
 package org.opendaylight.openflowplugin.impl.translator;
 
 import com.google.common.collect.Lists;
+import io.netty.buffer.Unpooled;
 import java.math.BigInteger;
 import java.util.Collections;
 import java.util.List;
@@ -19,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.openflowjava.protocol.api.connection.PacketInView;
 import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
@@ -69,6 +71,8 @@ public class PacketReceivedTranslatorTest {
     DeviceInfo deviceInfo;
     @Mock
     PhyPort phyPort;
+    @Mock
+    PacketInView packetInView;
 
     ConvertorManager convertorManager;
 
@@ -104,6 +108,45 @@ public class PacketReceivedTranslatorTest {
         Assert.assertEquals(42L, packetReceived.getTableId().getValue().longValue());
     }
 
+    @Test
+    public void testTranslateView() {
+        final MatchBuilder packetInMatchBld = new MatchBuilder()
+                .setMatchEntry(Lists.newArrayList(assembleMatchEntryBld(PORT_NO).build()));
+        Mockito.when(packetInView.getVersion()).thenReturn(OFConstants.OFP_VERSION_1_3);
+        Mockito.when(packetInView.getPayload()).thenReturn(Unpooled.wrappedBuffer(DATA.getBytes()));
+        Mockito.when(packetInView.getCookie()).thenReturn(-1L);
+        Mockito.when(packetInView.getInPort()).thenReturn(PORT_NO);
+        Mockito.when(packetInView.getReason()).thenReturn(PacketInReason.OFPRACTION);
+        Mockito.when(packetInView.getTableId()).thenReturn((short) 42);
+        Mockito.when(packetInView.getMatch()).thenReturn(packetInMatchBld.build());
+        final PacketReceivedTranslator packetReceivedTranslator = new PacketReceivedTranslator(convertorManager);
+
+        final PacketReceived packetReceived = packetReceivedTranslator.translate(packetInView, deviceInfo);
+
+        Assert.assertArrayEquals(DATA.getBytes(), packetReceived.getPayload());
+        Assert.assertEquals("org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.SendToController",
+                packetReceived.getPacketInReason().getName());
+        Assert.assertEquals("openflow:10:" + PORT_NO,
+                packetReceived.getIngress().getValue().firstKeyOf(NodeConnector.class).getId().getValue());
+        Assert.assertEquals("openflow:10:" + PORT_NO, packetReceived.getMatch().getInPort().getValue());
+        Assert.assertEquals(new BigInteger("ffffffffffffffff", 16), packetReceived.getFlowCookie().getValue());
+        Assert.assertEquals(42L, packetReceived.getTableId().getValue().longValue());
+    }
+
+    @Test
+    public void testTranslateViewWithoutMatch() {
+        Mockito.when(packetInView.getPayload()).thenReturn(Unpooled.wrappedBuffer(DATA.getBytes()));
+        Mockito.when(packetInView.getInPort()).thenReturn(-1L);
+        Mockito.when(packetInView.getReason()).thenReturn(PacketInReason.OFPRACTION);
+        final PacketReceivedTranslator packetReceivedTranslator = new PacketReceivedTranslator(convertorManager);
+
+        final PacketReceived packetReceived = packetReceivedTranslator.translate(packetInView, deviceInfo);
+
+        Assert.assertArrayEquals(DATA.getBytes(), packetReceived.getPayload());
+        Assert.assertNull(packetReceived.getIngress());
+        Assert.assertNull(packetReceived.getMatch());
+    }
+
     private static PacketInMessage createPacketInMessage(final byte[] data,
                                                          final long port) {
         final PacketInReason reason = PacketInReason.OFPRACTION;
@@ -8,14 +8,14 @@
 package org.opendaylight.openflowplugin.openflow.md.core.sal.convertor;
 
 import com.google.common.annotations.VisibleForTesting;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Stream;
+import javax.annotation.Nullable;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.common.Convertor;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.common.ConvertorData;
 import org.opendaylight.yangtools.yang.binding.DataContainer;
@@ -29,8 +29,9 @@ public class ConvertorManager implements ConvertorExecutor, ConvertorRegistrator
     private static final Logger LOG = LoggerFactory.getLogger(ConvertorManager.class);
 
     // Cache, that holds all registered convertors, but they can have multiple keys,
-    // based on instanceof checks in the convert method
-    private Map<Short, Map<Class<?>, Convertor<?, ?, ? extends ConvertorData>>> convertors;
+    // based on instanceof checks in the convert method. Indexed by version, so resolving
+    // a convertor for a version and type is a single map lookup.
+    private final List<Map<Class<?>, Convertor<?, ?, ? extends ConvertorData>>> convertors;
 
     /**
      * Create new instance of Convertor Manager.
@@ -38,15 +39,19 @@ public class ConvertorManager implements ConvertorExecutor, ConvertorRegistrator
      * @param supportedVersions supported versions
      */
     public ConvertorManager(final Short... supportedVersions) {
-        final Stream<Short> stream = Arrays.stream(supportedVersions);
+        short maxVersion = -1;
+        for (final Short version : supportedVersions) {
+            maxVersion = (short) Math.max(maxVersion, version);
+        }
 
-        if (supportedVersions.length == 1) {
-            final Optional<Short> versionOptional = stream.findFirst();
-            versionOptional.ifPresent(version -> convertors =
-                    Collections.singletonMap(version, new ConcurrentHashMap<>()));
-        } else {
-            convertors = new ConcurrentHashMap<>();
-            stream.forEach(version -> convertors.putIfAbsent(version, new ConcurrentHashMap<>()));
+        convertors = new ArrayList<>(maxVersion + 1);
+        for (int i = 0; i <= maxVersion; i++) {
+            convertors.add(null);
+        }
+        for (final Short version : supportedVersions) {
+            if (convertors.get(version) == null) {
+                convertors.set(version, new ConcurrentHashMap<>());
+            }
         }
     }
 
@@ -54,7 +59,7 @@ public class ConvertorManager implements ConvertorExecutor, ConvertorRegistrator
     public ConvertorManager registerConvertor(final short version,
             final Convertor<?, ?, ? extends ConvertorData> convertor) {
         final Map<Class<?>, Convertor<?, ?, ? extends ConvertorData>> convertorsForVersion =
-                convertors.get(version);
+                getConvertorsForVersion(version);
 
         if (convertorsForVersion != null) {
             for (final Class<?> type : convertor.getTypes()) {
@@ -78,11 +83,9 @@ public class ConvertorManager implements ConvertorExecutor, ConvertorRegistrator
     @Override
     @SuppressWarnings("unchecked")
     public <F, T, D extends ConvertorData> Optional<T> convert(final F source, final D data) {
-        Optional<T> result = Optional.empty();
-
         if (source == null) {
             LOG.trace("Cannot extract type from null source");
-            return result;
+            return Optional.empty();
         }
 
         final Class<?> type = source instanceof DataContainer ? ((DataContainer) source).implementedInterface()
@@ -90,84 +93,97 @@ public class ConvertorManager implements ConvertorExecutor, ConvertorRegistrator
 
         if (type == null) {
             LOG.warn("Cannot extract type from {}, because implementedInterface() returns null", source);
-            return result;
+            return Optional.empty();
         }
 
-        return findConvertor(data.getVersion(), type).map(convertor -> (T)convertor.convert(source, data));
+        final Convertor convertor = getConvertor(data.getVersion(), type);
+        return convertor != null ? Optional.ofNullable((T) convertor.convert(source, data)) : Optional.empty();
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <F, T, D extends ConvertorData> Optional<T> convert(final Collection<F> source, final D data) {
-        Optional<T> result = Optional.empty();
-
         if (source == null) {
             LOG.trace("Cannot extract type from null source");
-            return result;
+            return Optional.empty();
         }
 
-        final Optional<F> firstOptional = source.stream().findFirst();
-
-        if (!firstOptional.isPresent()) {
+        if (source.isEmpty()) {
             LOG.trace("Cannot extract type from empty collection");
-            return result;
+            return Optional.empty();
         }
 
-        final F first = firstOptional.get();
+        final F first = source.iterator().next();
 
         final Class<?> type = first instanceof DataContainer ? ((DataContainer) first).implementedInterface()
                 : first.getClass();
 
         if (type == null) {
             LOG.warn("Cannot extract type from {}, because implementedInterface() returns null", source);
-            return result;
+            return Optional.empty();
         }
 
-        return findConvertor(data.getVersion(), type).map(convertor -> (T)convertor.convert(source, data));
+        final Convertor convertor = getConvertor(data.getVersion(), type);
+        return convertor != null ? Optional.ofNullable((T) convertor.convert(source, data)) : Optional.empty();
+    }
+
+    @VisibleForTesting
+    Optional<Convertor> findConvertor(final short version, final Class<?> type) {
+        return Optional.ofNullable(getConvertor(version, type));
     }
 
     /**
-     * Last resort. If we do not already have convertor registered,
-     * we will perform some costly operations and try to find if we
-     * can convert input using any of already registered convertors
+     * Gets convertor registered for a type, or found using the last resort method.
+     *
+     * @param version version
      * @param type input type
-     * @return found convertor
+     * @return found convertor, or null
      */
-    @VisibleForTesting
-    Optional<Convertor> findConvertor(final short version, final Class<?> type) {
+    @Nullable
+    private Convertor getConvertor(final short version, final Class<?> type) {
         final Map<Class<?>, Convertor<?, ?, ? extends ConvertorData>> convertorsForVersion =
-                convertors.get(version);
+                getConvertorsForVersion(version);
 
-        Optional<Convertor> convertor = Optional.empty();
+        if (convertorsForVersion == null) {
+            LOG.warn("{} do not supports version {}", this, version);
+            return null;
+        }
 
-        if (convertorsForVersion != null) {
-            convertor = Optional.ofNullable(convertorsForVersion.get(type));
-
-            if (!convertor.isPresent()) {
-                for (Entry<Class<?>, Convertor<?, ?, ? extends ConvertorData>> entry :
-                            convertorsForVersion.entrySet()) {
-                    final Class<?> convertorType = entry.getKey();
-                    if (type.isAssignableFrom(convertorType)) {
-                        final Convertor<?, ?, ? extends ConvertorData> foundConvertor = entry.getValue();
-                        convertor = Optional.ofNullable(foundConvertor);
-
-                        if (convertor.isPresent()) {
-                            convertorsForVersion.put(type, foundConvertor);
-                            LOG.warn("{} for version {} is now converted by {} using last resort method",
-                                    type, version, foundConvertor);
-                            break;
-                        }
-                    }
-                }
+        final Convertor convertor = convertorsForVersion.get(type);
+        return convertor != null ? convertor : findConvertorLastResort(convertorsForVersion, version, type);
+    }
 
-                if (!convertor.isPresent()) {
-                    LOG.warn("Convertor for {} for version {} not found", type, version);
+    /**
+     * Last resort. If we do not already have convertor registered,
+     * we will perform some costly operations and try to find if we
+     * can convert input using any of already registered convertors
+     * @param type input type
+     * @return found convertor
+     */
+    @Nullable
+    private Convertor findConvertorLastResort(
+            final Map<Class<?>, Convertor<?, ?, ? extends ConvertorData>> convertorsForVersion,
+            final short version, final Class<?> type) {
+        for (Entry<Class<?>, Convertor<?, ?, ? extends ConvertorData>> entry : convertorsForVersion.entrySet()) {
+            final Class<?> convertorType = entry.getKey();
+            if (type.isAssignableFrom(convertorType)) {
+                final Convertor<?, ?, ? extends ConvertorData> foundConvertor = entry.getValue();
+
+                if (foundConvertor != null) {
+                    convertorsForVersion.put(type, foundConvertor);
+                    LOG.warn("{} for version {} is now converted by {} using last resort method",
+                            type, version, foundConvertor);
+                    return foundConvertor;
                 }
             }
-        } else {
-            LOG.warn("{} do not supports version {}", this, version);
         }
 
-        return convertor;
+        LOG.warn("Convertor for {} for version {} not found", type, version);
+        return null;
+    }
+
+    @Nullable
+    private Map<Class<?>, Convertor<?, ?, ? extends ConvertorData>> getConvertorsForVersion(final short version) {
+        return version >= 0 && version < convertors.size() ? convertors.get(version) : null;
     }
 }
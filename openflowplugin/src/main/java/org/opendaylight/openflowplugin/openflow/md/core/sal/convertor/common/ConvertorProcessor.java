@@ -7,16 +7,21 @@
  */
 package org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.common;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.yangtools.yang.binding.DataContainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Processes source and return result based on convertor cases added to this processor.
+ * Processes source and return result based on convertor cases added to this processor. Cases are compiled
+ * into an immutable table indexed by version each time a case is added, so processing a source looks up its
+ * case without any allocation.
  *
  * @param <F> the source type
  * @param <T>   the result type
@@ -26,8 +31,9 @@ public class ConvertorProcessor<F extends DataContainer, T, D extends ConvertorD
     private static final short OFP_VERSION_ALL = 0x00;
     private static final Logger LOG = LoggerFactory.getLogger(ConvertorProcessor.class);
 
-    private final Map<Short, Map<Class<?>, ConvertorCase<?, T, D>>> conversions = new ConcurrentHashMap<>();
-    private ConvertorCase<?, T, D> defaultCase;
+    private final Map<Short, Map<Class<?>, ConvertorCase<?, T, D>>> conversions = new HashMap<>();
+    private volatile List<Map<Class<?>, ConvertorCase<?, T, D>>> dispatch = ImmutableList.of();
+    private volatile ConvertorCase<?, T, D> defaultCase;
 
     /**
      * Add convertor processor case.
@@ -35,7 +41,7 @@ public class ConvertorProcessor<F extends DataContainer, T, D extends ConvertorD
      * @param processorCase the processor case
      * @return the convertor processor
      */
-    public ConvertorProcessor<F, T, D> addCase(final ConvertorCase<?, T, D> processorCase) {
+    public synchronized ConvertorProcessor<F, T, D> addCase(final ConvertorCase<?, T, D> processorCase) {
         if (processorCase.getSupportedVersions().isEmpty()) {
             getCasesForVersion(OFP_VERSION_ALL).putIfAbsent(processorCase.getType(), processorCase);
         } else {
@@ -44,6 +50,7 @@ public class ConvertorProcessor<F extends DataContainer, T, D extends ConvertorD
             }
         }
 
+        compile();
         return this;
     }
 
@@ -76,10 +83,11 @@ public class ConvertorProcessor<F extends DataContainer, T, D extends ConvertorD
         }
 
         final Class<?> clazz = source.implementedInterface();
-        final Optional<ConvertorCase<?, T, D>> caseOptional = Optional
-                .ofNullable(getCasesForVersion(version).get(clazz));
+        final List<Map<Class<?>, ConvertorCase<?, T, D>>> casesByVersion = dispatch;
+        final ConvertorCase<?, T, D> foundCase = version >= 0 && version < casesByVersion.size()
+                ? casesByVersion.get(version).get(clazz) : null;
 
-        final ConvertorCase<?, T, D> processorCase = caseOptional.orElse(defaultCase);
+        final ConvertorCase<?, T, D> processorCase = foundCase != null ? foundCase : defaultCase;
 
         if (processorCase != null) {
             result = processorCase.processRaw(source, data, convertorExecutor);
@@ -106,11 +114,16 @@ public class ConvertorProcessor<F extends DataContainer, T, D extends ConvertorD
     }
 
     private Map<Class<?>, ConvertorCase<?, T, D>> getCasesForVersion(final short version) {
-        final Map<Class<?>, ConvertorCase<?, T, D>> casesForVersion =
-                conversions.getOrDefault(version, new ConcurrentHashMap<>());
-
-        conversions.putIfAbsent(version, casesForVersion);
+        return conversions.computeIfAbsent(version, key -> new HashMap<>());
+    }
 
-        return casesForVersion;
+    private void compile() {
+        final int size = conversions.keySet().stream().mapToInt(Short::intValue).max().orElse(-1) + 1;
+        final ImmutableList.Builder<Map<Class<?>, ConvertorCase<?, T, D>>> builder = ImmutableList.builder();
+        for (short version = 0; version < size; version++) {
+            final Map<Class<?>, ConvertorCase<?, T, D>> cases = conversions.get(version);
+            builder.add(cases != null ? ImmutableMap.copyOf(cases) : ImmutableMap.of());
+        }
+        dispatch = builder.build();
     }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2019 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.common;
+
+import java.util.Optional;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
+import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.data.VersionConvertorData;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.list.Action;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.list.ActionBuilder;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+
+/**
+ * Test for {@link ConvertorProcessor}.
+ */
+public class ConvertorProcessorTest {
+    private final ConvertorProcessor<DataContainer, String, VersionConvertorData> processor =
+            new ConvertorProcessor<DataContainer, String, VersionConvertorData>()
+                    .addCase(new TestCase("v13", OFConstants.OFP_VERSION_1_3))
+                    .addCase(new TestCase("all"))
+                    .setDefaultCase(new TestCase("default"));
+
+    @Test
+    public void testProcess() {
+        final Action source = new ActionBuilder().build();
+
+        Assert.assertEquals("Wrong case", Optional.of("v13"), processor.process(source,
+                new VersionConvertorData(OFConstants.OFP_VERSION_1_3), null));
+        Assert.assertEquals("Wrong case", Optional.of("all"), processor.process(source, null));
+        Assert.assertEquals("Wrong case", Optional.of("default"), processor.process(source,
+                new VersionConvertorData(OFConstants.OFP_VERSION_1_0), null));
+        Assert.assertEquals("Wrong case", Optional.of("default"), processor.process(source,
+                new VersionConvertorData((short) 42), null));
+        Assert.assertEquals("Wrong result", Optional.empty(), processor.process(null, null));
+    }
+
+    private static final class TestCase extends ConvertorCase<Action, String, VersionConvertorData> {
+        private final String result;
+
+        TestCase(final String result, final Short... supportedVersions) {
+            super(Action.class, true, supportedVersions);
+            this.result = result;
+        }
+
+        @Override
+        public Optional<String> process(final Action source, final VersionConvertorData data,
+                                        final ConvertorExecutor convertorExecutor) {
+            return Optional.of(result);
+        }
+    }
+}